@@ -0,0 +1,156 @@
+// benchmarks/src/main/java/starter/benchmarks/ConversionBenchmark.java
+
+package starter.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.util.concurrent.TimeUnit;
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import starter.core.ImageUtils;
+import starter.core.SyntheticFrames;
+import starter.processing.ImageProcessor;
+import starter.processing.Resampler;
+
+/**
+ * ConversionBenchmark, kare başına yapılan görüntü dönüşümlerini ölçer:
+ * kamera Mat'inden BufferedImage'e dönüşüm ("Original Prep"), ölçekleme
+ * ve JavaFX gösterimi için piksel hazırlığı.
+ *
+ * Gösterim karşılaştırması:
+ * - legacyFxConversion: Eski convertToFxImage'in piksel döngüsü (kare
+ *   başına yeni byte[] ve piksel başına BGR → BGRA açma); WritableImage
+ *   oluşturma FX toolkit gerektirdiği için ölçüme dahil değildir
+ * - pixelBufferCopy: LatestFramePresenter'ın PixelBuffer dizisine yaptığı
+ *   kopya (ImageUtils.toIntRgb, kalıcı hedef dizi)
+ *
+ * Ölçekleme karşılaştırması (640x360 kutusuna):
+ * - legacyScaledInstance: Eski getScaledImage (Image.getScaledInstance
+ *   SCALE_SMOOTH ve yeni TYPE_INT_RGB görüntüye çizim)
+ * - getScaledImage: Resampler ile alan ortalaması, havuzdan alınan çıktı
+ * - resizeArea/Bilinear/Lanczos: int[] pikseller üzerinde çekirdek başına
+ *   Resampler maliyeti (kalıcı hedef dizi)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class ConversionBenchmark {
+
+    @Param({SyntheticFrames.VGA, SyntheticFrames.HD, SyntheticFrames.FULL_HD, SyntheticFrames.UHD})
+    public String resolution;
+
+    private static final int SCALED_WIDTH = 640;
+    private static final int SCALED_HEIGHT = 360;
+
+    private Mat mat;
+    private BufferedImage frame;
+    private BufferedImage reusedImage;
+    private int[] displayPixels;
+    private int[] framePixels;
+    private int[] scaledPixels;
+    private int[] scaledSize;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] size = SyntheticFrames.parse(resolution);
+        mat = SyntheticFrames.matFrame(size[0], size[1], 42);
+        frame = SyntheticFrames.bgrFrame(size[0], size[1], 42);
+        reusedImage = ImageUtils.matToBufferedImage(mat);
+        displayPixels = new int[size[0] * size[1]];
+        framePixels = ImageUtils.toIntRgb(frame, null);
+        scaledSize = Resampler.fit(size[0], size[1], SCALED_WIDTH, SCALED_HEIGHT);
+        scaledPixels = new int[scaledSize[0] * scaledSize[1]];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mat.close();
+        ImageProcessor.shutdownPool();
+    }
+
+    @Benchmark
+    public BufferedImage matToBufferedImage() {
+        return ImageUtils.matToBufferedImage(mat);
+    }
+
+    @Benchmark
+    public BufferedImage matToBufferedImageReused() {
+        return ImageUtils.matToBufferedImage(mat, reusedImage);
+    }
+
+    @Benchmark
+    public BufferedImage getScaledImage() {
+        BufferedImage scaled = ImageUtils.getScaledImage(frame, SCALED_WIDTH, SCALED_HEIGHT);
+        ImageProcessor.recycle(scaled);
+        return scaled;
+    }
+
+    @Benchmark
+    public BufferedImage legacyScaledInstance() {
+        Image tmp = frame.getScaledInstance(scaledSize[0], scaledSize[1], Image.SCALE_SMOOTH);
+        BufferedImage scaled = new BufferedImage(scaledSize[0], scaledSize[1], BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.drawImage(tmp, 0, 0, null);
+        g2d.dispose();
+        return scaled;
+    }
+
+    @Benchmark
+    public int[] resizeArea() {
+        return resize(Resampler.Kernel.AREA);
+    }
+
+    @Benchmark
+    public int[] resizeBilinear() {
+        return resize(Resampler.Kernel.BILINEAR);
+    }
+
+    @Benchmark
+    public int[] resizeLanczos() {
+        return resize(Resampler.Kernel.LANCZOS);
+    }
+
+    private int[] resize(Resampler.Kernel kernel) {
+        Resampler.resize(framePixels, frame.getWidth(), frame.getHeight(),
+                scaledPixels, scaledSize[0], scaledSize[1], kernel);
+        return scaledPixels;
+    }
+
+    @Benchmark
+    public byte[] legacyFxConversion() {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        byte[] bgraPixels = new byte[width * height * 4];
+        byte[] bgrData = ((DataBufferByte) frame.getRaster().getDataBuffer()).getData();
+        int bgrIndex = 0;
+        for (int i = 0; i < bgraPixels.length; i += 4) {
+            bgraPixels[i]     = bgrData[bgrIndex++]; // Blue
+            bgraPixels[i + 1] = bgrData[bgrIndex++]; // Green
+            bgraPixels[i + 2] = bgrData[bgrIndex++]; // Red
+            bgraPixels[i + 3] = (byte) 0xFF;         // Alpha
+        }
+        return bgraPixels;
+    }
+
+    @Benchmark
+    public int[] pixelBufferCopy() {
+        return ImageUtils.toIntRgb(frame, displayPixels);
+    }
+}
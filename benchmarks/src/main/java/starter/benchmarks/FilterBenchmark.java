@@ -0,0 +1,80 @@
+// benchmarks/src/main/java/starter/benchmarks/FilterBenchmark.java
+
+package starter.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import starter.core.SyntheticFrames;
+import starter.filters.Filter;
+import starter.filters.FilterParams;
+import starter.filters.FilterRegistry;
+import starter.filters.KernelBackend;
+
+/**
+ * FilterBenchmark, starter.filters içindeki her filtrenin tek başına,
+ * tüm kare üzerinde tek thread'de çalışma süresini ölçer. Filtre
+ * doğrudan int[] raster üzerinde çağrılır; dönüşüm ve thread maliyeti
+ * ölçüme girmez.
+ *
+ * Parametreler:
+ * - filter: FilterRegistry'deki filtre adı
+ * - resolution: Kare çözünürlüğü (VGA'dan 4K'ya)
+ * - backend: Filtre çekirdeği arka ucu (SCALAR | VECTOR)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Djava.awt.headless=true"})
+public class FilterBenchmark {
+
+    @Param({"Grayscale", "Edge Detection", "Sobel Edge Detection", "Gaussian Blur", "ASCII Art", "Contrast"})
+    public String filter;
+
+    @Param({SyntheticFrames.VGA, SyntheticFrames.HD, SyntheticFrames.FULL_HD, SyntheticFrames.UHD})
+    public String resolution;
+
+    @Param({"SCALAR", "VECTOR"})
+    public String backend;
+
+    private Filter instance;
+    private FilterParams params;
+    private int[] src;
+    private int[] dst;
+    private int width;
+    private int height;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        KernelBackend requested = KernelBackend.valueOf(backend);
+        if (KernelBackend.select(requested) != requested) {
+            System.err.println("Vector API not available, measuring scalar kernels");
+        }
+
+        int[] size = SyntheticFrames.parse(resolution);
+        width = size[0];
+        height = size[1];
+        instance = FilterRegistry.get(filter);
+        params = new FilterParams(130);
+        src = SyntheticFrames.argbFrame(width, height, 42);
+        dst = new int[width * height];
+    }
+
+    @Benchmark
+    public int[] apply() {
+        instance.apply(src, dst, width, height, 0, height, params);
+        return dst;
+    }
+}
@@ -0,0 +1,92 @@
+// benchmarks/src/main/java/starter/benchmarks/ProcessorBenchmark.java
+
+package starter.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import starter.core.SyntheticFrames;
+import starter.filters.ContrastAdjustmentFilter;
+import starter.filters.EdgeDetectionFilter;
+import starter.filters.GaussianBlurFilter;
+import starter.filters.GrayscaleFilter;
+import starter.filters.SobelEdgeDetectionFilter;
+import starter.processing.ImageProcessor;
+
+/**
+ * ProcessorBenchmark, ImageProcessor'ın işleme modlarını uçtan uca
+ * (BufferedImage girdi → BufferedImage çıktı) karşılaştırır. Kare
+ * dönüşümü, zincir planlama ve thread koordinasyonu ölçüme dahildir.
+ *
+ * Parametreler:
+ * - mode: SEQUENTIAL (runFiltersSequentially), TILES (runFiltersInParallel)
+ *   veya STRIPS (runFiltersInStrips)
+ * - resolution: Kare çözünürlüğü (VGA'dan 4K'ya)
+ * - chainLength: CHAIN listesinin ilk kaç filtresinin uygulanacağı
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Djava.awt.headless=true"})
+public class ProcessorBenchmark {
+
+    /** Noktasal ve komşuluk filtrelerini karıştıran örnek zincir */
+    static final List<String> CHAIN = List.of(
+            GrayscaleFilter.NAME,
+            GaussianBlurFilter.NAME,
+            SobelEdgeDetectionFilter.NAME,
+            ContrastAdjustmentFilter.NAME,
+            EdgeDetectionFilter.NAME);
+
+    @Param({"SEQUENTIAL", "TILES", "STRIPS"})
+    public String mode;
+
+    @Param({SyntheticFrames.VGA, SyntheticFrames.HD, SyntheticFrames.FULL_HD, SyntheticFrames.UHD})
+    public String resolution;
+
+    @Param({"1", "2", "3", "5"})
+    public int chainLength;
+
+    private List<String> operations;
+    private BufferedImage input;
+    private BufferedImage output;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] size = SyntheticFrames.parse(resolution);
+        operations = CHAIN.subList(0, chainLength);
+        input = SyntheticFrames.bgrFrame(size[0], size[1], 42);
+        output = new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_RGB);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ImageProcessor.shutdownPool();
+    }
+
+    @Benchmark
+    public BufferedImage process() {
+        switch (mode) {
+            case "SEQUENTIAL" -> ImageProcessor.runFiltersSequentially(input, output, operations, 130);
+            case "TILES" -> ImageProcessor.runFiltersInParallel(input, output, operations, 130);
+            case "STRIPS" -> ImageProcessor.runFiltersInStrips(input, output, operations, 130);
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+        return output;
+    }
+}
@@ -10,6 +10,9 @@ module starter {
     requires org.kordamp.ikonli.javafx;
     requires org.kordamp.ikonli.materialdesign2;
     requires java.desktop;
+    requires jdk.httpserver;
+    requires jdk.management;
+    requires jdk.incubator.vector;
     requires org.bytedeco.opencv;
     requires org.bytedeco.javacv;
 
@@ -10,6 +10,10 @@ import atlantafx.base.controls.ToggleSwitch;
 import atlantafx.base.theme.PrimerDark;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -23,22 +27,23 @@ import javafx.scene.control.Label;
 import javafx.scene.control.Separator;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.image.PixelFormat;
-import javafx.scene.image.WritableImage;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import org.bytedeco.javacv.OpenCVFrameConverter;
 import org.bytedeco.javacv.OpenCVFrameGrabber;
-import org.bytedeco.opencv.opencv_core.Mat;
+import starter.core.FrameTracer;
 import starter.core.ImageUtils;
 import starter.core.PerformanceMetrics;
 import starter.filters.*; 
 import java.awt.image.BufferedImage;
-import java.awt.image.DataBufferByte; 
 import javafx.scene.control.Alert; 
 import java.awt.Color;
+import starter.display.LatestFramePresenter;
+import starter.metrics.MetricsServer;
+import starter.metrics.PipelineMetrics;
+import starter.pipeline.CameraSource;
+import starter.pipeline.FramePipeline;
 import starter.processing.ImageProcessor;
 import org.opencv.videoio.VideoCapture;
 
@@ -67,8 +72,9 @@ public class Launcher extends Application {
     /** Uygulama özellikleri dosya yolu */
     static final String APP_PROPERTIES_PATH = "/application.properties";
 
-    private OpenCVFrameGrabber grabber;
-    private OpenCVFrameConverter.ToMat converter = new OpenCVFrameConverter.ToMat();
+    /** "Save Trace" ile dışa aktarılan zaman penceresi (ns) */
+    static final long TRACE_WINDOW_NANOS = 10_000_000_000L;
+
     private volatile boolean running = false;
     private ImageView cameraView;
     private ImageView processedView;
@@ -83,6 +89,7 @@ public class Launcher extends Application {
     private VBox controlsVBox;
     private PerformanceMetrics sequentialMetrics = new PerformanceMetrics();
     private PerformanceMetrics parallelMetrics = new PerformanceMetrics();
+    private MetricsServer metricsServer;
 
     /**
      * Uygulamanın giriş noktası.
@@ -102,6 +109,7 @@ public class Launcher extends Application {
     public void start(Stage stage) {
         Application.setUserAgentStylesheet(new PrimerDark().getUserAgentStylesheet());
         loadApplicationProperties();
+        metricsServer = MetricsServer.startIfConfigured();
 
         var scene = new Scene(createWelcomePane(), 1280, 900);
         scene.getStylesheets().add(Objects.requireNonNull(Launcher.class.getResource(ASSETS_DIR + "index.css")).toExternalForm());
@@ -115,6 +123,9 @@ public class Launcher extends Application {
         }
         stage.setOnCloseRequest(t -> {
             stopCameraFeed();
+            if (metricsServer != null) {
+                metricsServer.close();
+            }
             Platform.exit();
             System.exit(0);
         });
@@ -264,6 +275,30 @@ public class Launcher extends Application {
         parallelSwitchContainer.setAlignment(Pos.CENTER);
         parallelSwitchContainer.getChildren().add(parallelProcessingSwitch);
 
+        // SIMD çekirdekleri işleme modundan bağımsızdır; sıralı ve paralel modda da kullanılabilir
+        var simdSwitch = new ToggleSwitch("SIMD Kernels");
+        simdSwitch.setSelected(KernelBackend.current() == KernelBackend.VECTOR);
+        simdSwitch.setDisable(!KernelBackend.isVectorAvailable());
+        simdSwitch.selectedProperty().addListener((obs, oldVal, newVal) ->
+                KernelBackend.select(newVal ? KernelBackend.VECTOR : KernelBackend.SCALAR));
+        parallelSwitchContainer.getChildren().add(simdSwitch);
+
+        // Sabit sahnelerde yalnızca değişen karolar işlenir; diğerleri önceki kareden kopyalanır
+        var incrementalSwitch = new ToggleSwitch("Skip Unchanged Tiles");
+        incrementalSwitch.setSelected(ImageProcessor.isIncremental());
+        incrementalSwitch.selectedProperty().addListener((obs, oldVal, newVal) -> ImageProcessor.setIncremental(newVal));
+        parallelSwitchContainer.getChildren().add(incrementalSwitch);
+
+        // Mod ve işçi sayısı zincir ve çözünürlük başına ölçülerek seçilir; elle seçim devre dışı kalır
+        var autoTuneSwitch = new ToggleSwitch("Auto-Tune Processing");
+        autoTuneSwitch.setSelected(ImageProcessor.isAdaptive());
+        parallelProcessingSwitch.setDisable(ImageProcessor.isAdaptive());
+        autoTuneSwitch.selectedProperty().addListener((obs, oldVal, newVal) -> {
+            ImageProcessor.setAdaptive(newVal);
+            parallelProcessingSwitch.setDisable(newVal);
+        });
+        parallelSwitchContainer.getChildren().add(autoTuneSwitch);
+
         controlsVBox = new VBox(15);
         controlsVBox.setPadding(new Insets(20));
         controlsVBox.setAlignment(Pos.TOP_CENTER);
@@ -360,6 +395,11 @@ public class Launcher extends Application {
             }
         });
 
+        var traceButton = new Button("Save Trace (last 10s)");
+        traceButton.setMaxWidth(Double.MAX_VALUE);
+        traceButton.setDisable(!FrameTracer.isEnabled());
+        traceButton.setOnAction(e -> saveTrace());
+
         metricsLabel = new Label("Performance Metrics: Not Available");
         metricsLabel.getStyleClass().add("metrics-label");
         metricsLabel.setWrapText(true);
@@ -383,6 +423,7 @@ public class Launcher extends Application {
                 new Spacer(10),
                 parallelSwitchContainer,
                 recordButton,
+                traceButton,
                 new Spacer(10),
                 metricsScrollPane
         );
@@ -461,7 +502,7 @@ public class Launcher extends Application {
         // Find max speedup
         double maxSpeedup = 1.0;
         for (String filter : filters) {
-            double speedup = (double) seq.get(filter).totalTime / par.get(filter).totalTime;
+            double speedup = seq.get(filter).getTotalTimeMillis() / par.get(filter).getTotalTimeMillis();
             if (Double.isFinite(speedup)) maxSpeedup = Math.max(maxSpeedup, speedup);
         }
         maxSpeedup = Math.ceil(maxSpeedup * 1.1); // add 10% headroom
@@ -487,7 +528,7 @@ public class Launcher extends Application {
         double x = margin + spacing;
         gc.setFont(javafx.scene.text.Font.font("Monospaced", 11));
         for (String filter : filters) {
-            double speedup = (double) seq.get(filter).totalTime / par.get(filter).totalTime;
+            double speedup = seq.get(filter).getTotalTimeMillis() / par.get(filter).getTotalTimeMillis();
             double barHeight = speedup * scale;
             // Bar
             gc.setFill(javafx.scene.paint.Color.DODGERBLUE);
@@ -533,14 +574,14 @@ public class Launcher extends Application {
 
         // Sequential bar
         gc.setFill(javafx.scene.paint.Color.RED);
-        gc.fillRect(startX, chartArea.getHeight() - 30 - (seq.totalTime / 1000.0), barWidth, seq.totalTime / 1000.0);
+        gc.fillRect(startX, chartArea.getHeight() - 30 - (seq.getTotalTimeMillis() / 1000.0), barWidth, seq.getTotalTimeMillis() / 1000.0);
         gc.setFill(javafx.scene.paint.Color.WHITE);
         gc.fillText("Seq", startX, chartArea.getHeight() - 10);
 
         // Parallel bar
         gc.setFill(javafx.scene.paint.Color.GREEN);
-        gc.fillRect(startX + barWidth + spacing, chartArea.getHeight() - 30 - (par.totalTime / 1000.0), 
-                   barWidth, par.totalTime / 1000.0);
+        gc.fillRect(startX + barWidth + spacing, chartArea.getHeight() - 30 - (par.getTotalTimeMillis() / 1000.0), 
+                   barWidth, par.getTotalTimeMillis() / 1000.0);
         gc.setFill(javafx.scene.paint.Color.WHITE);
         gc.fillText("Par", startX + barWidth + spacing, chartArea.getHeight() - 10);
 
@@ -565,8 +606,8 @@ public class Launcher extends Application {
         gc.strokeLine(50, 20, 50, chartArea.getHeight() - 30);
 
         // Calculate FPS
-        double seqFPS = (seq.totalFrames * 1000.0) / seq.totalTime;
-        double parFPS = (par.totalFrames * 1000.0) / par.totalTime;
+        double seqFPS = seq.getFps();
+        double parFPS = par.getFps();
 
         // Draw line chart
         gc.setStroke(javafx.scene.paint.Color.YELLOW);
@@ -616,32 +657,25 @@ public class Launcher extends Application {
             
             PerformanceMetrics seq = new PerformanceMetrics();
             PerformanceMetrics par = new PerformanceMetrics();
-            long seqTotal = 0;
-            long parTotal = 0;
 
+            BufferedImage tmp = null;
             for (BufferedImage frame : recordedFrames) {
-                BufferedImage tmp = new BufferedImage(frame.getWidth(), frame.getHeight(), frame.getType());
-                
+                // Çıktı buffer'ı yalnızca çözünürlük değiştiğinde yeniden oluşturulur
+                if (tmp == null || tmp.getWidth() != frame.getWidth() || tmp.getHeight() != frame.getHeight()) {
+                    tmp = new BufferedImage(frame.getWidth(), frame.getHeight(), BufferedImage.TYPE_INT_RGB);
+                }
+
                 // Sequential test
                 long start = System.nanoTime();
                 ImageProcessor.runFiltersSequentially(frame, tmp, List.of(filter), contrastValue);
-                long ms = (System.nanoTime() - start) / 1_000_000;
-                seq.frameTimes.add(ms);
-                seqTotal += ms;
+                seq.record(System.nanoTime() - start);
 
                 // Parallel test
                 start = System.nanoTime();
                 ImageProcessor.runFiltersInParallel(frame, tmp, List.of(filter), contrastValue);
-                ms = (System.nanoTime() - start) / 1_000_000;
-                par.frameTimes.add(ms);
-                parTotal += ms;
+                par.record(System.nanoTime() - start);
             }
 
-            seq.totalFrames = recordedFrames.size();
-            seq.totalTime = seqTotal;
-            par.totalFrames = recordedFrames.size();
-            par.totalTime = parTotal;
-
             sequentialFilterMetrics.put(filter, seq);
             parallelFilterMetrics.put(filter, par);
         }
@@ -652,33 +686,25 @@ public class Launcher extends Application {
         // Calculate overall metrics
         PerformanceMetrics seqOverall = new PerformanceMetrics();
         PerformanceMetrics parOverall = new PerformanceMetrics();
-        long seqTotal = 0;
-        long parTotal = 0;
 
+        BufferedImage tmp = null;
         for (BufferedImage frame : recordedFrames) {
-            BufferedImage tmp = new BufferedImage(frame.getWidth(), frame.getHeight(), frame.getType());
-            
+            if (tmp == null || tmp.getWidth() != frame.getWidth() || tmp.getHeight() != frame.getHeight()) {
+                tmp = new BufferedImage(frame.getWidth(), frame.getHeight(), BufferedImage.TYPE_INT_RGB);
+            }
+
             // Sequential overall
             long start = System.nanoTime();
             ImageProcessor.runFiltersSequentially(frame, tmp, filtersToTest, contrastValue);
-            long ms = (System.nanoTime() - start) / 1_000_000;
-            seqOverall.frameTimes.add(ms);
-            seqTotal += ms;
+            seqOverall.record(System.nanoTime() - start);
 
             // Parallel overall
             start = System.nanoTime();
             ImageProcessor.runFiltersInParallel(frame, tmp, filtersToTest, contrastValue);
-            ms = (System.nanoTime() - start) / 1_000_000;
-            parOverall.frameTimes.add(ms);
-            parTotal += ms;
+            parOverall.record(System.nanoTime() - start);
         }
 
-        seqOverall.totalFrames = recordedFrames.size();
-        seqOverall.totalTime = seqTotal;
-        parOverall.totalFrames = recordedFrames.size();
-        parOverall.totalTime = parTotal;
-
-        double speedup = seqOverall.totalTime > 0 ? (double) seqOverall.totalTime / parOverall.totalTime : 1.0;
+        double speedup = parOverall.getTotalTimeMillis() > 0 ? seqOverall.getTotalTimeMillis() / parOverall.getTotalTimeMillis() : 1.0;
 
         // Update progress
         Platform.runLater(() -> metricsLabel.setText("Generating final report..."));
@@ -707,12 +733,12 @@ public class Launcher extends Application {
         for (String filter : filtersToTest) {
             PerformanceMetrics seq = sequentialFilterMetrics.get(filter);
             PerformanceMetrics par = parallelFilterMetrics.get(filter);
-            double filterSpeedup = seq.totalTime > 0 ? (double) seq.totalTime / par.totalTime : 1.0;
+            double filterSpeedup = par.getTotalTimeMillis() > 0 ? seq.getTotalTimeMillis() / par.getTotalTimeMillis() : 1.0;
             
-            metricsText.append(String.format("│ %-20s │ %-14d │ %-12d │ %-14.2f │\n",
+            metricsText.append(String.format("│ %-20s │ %-14.2f │ %-12.2f │ %-14.2f │\n",
                     filter,
-                    seq.totalTime,
-                    par.totalTime,
+                    seq.getTotalTimeMillis(),
+                    par.getTotalTimeMillis(),
                     filterSpeedup));
         }
         metricsText.append("└─────────────────────────────────────────────────────────────────────────┘\n\n");
@@ -722,14 +748,31 @@ public class Launcher extends Application {
         metricsText.append("┌─────────────────────────────────────────────────────────────────────────┐\n");
         metricsText.append("│ Processing Mode      │ Total Time (ms) │ Avg Time (ms) │ FPS            │\n");
         metricsText.append("├─────────────────────────────────────────────────────────────────────────┤\n");
-        metricsText.append(String.format("│ Sequential          │ %-14d │ %-12.2f │ %-14.2f │\n",
-                seqOverall.totalTime,
-                seqOverall.frameTimes.stream().mapToLong(Long::longValue).average().orElse(0),
-                (seqOverall.totalFrames * 1000.0) / seqOverall.totalTime));
-        metricsText.append(String.format("│ Parallel            │ %-14d │ %-12.2f │ %-14.2f │\n",
-                parOverall.totalTime,
-                parOverall.frameTimes.stream().mapToLong(Long::longValue).average().orElse(0),
-                (parOverall.totalFrames * 1000.0) / parOverall.totalTime));
+        metricsText.append(String.format("│ Sequential          │ %-14.2f │ %-12.2f │ %-14.2f │\n",
+                seqOverall.getTotalTimeMillis(),
+                seqOverall.getAverageMillis(),
+                seqOverall.getFps()));
+        metricsText.append(String.format("│ Parallel            │ %-14.2f │ %-12.2f │ %-14.2f │\n",
+                parOverall.getTotalTimeMillis(),
+                parOverall.getAverageMillis(),
+                parOverall.getFps()));
+        metricsText.append("└─────────────────────────────────────────────────────────────────────────┘\n\n");
+
+        // Tail latency of the whole chain
+        metricsText.append("=== Frame Time Percentiles (All Filters) ===\n");
+        metricsText.append("┌─────────────────────────────────────────────────────────────────────────┐\n");
+        metricsText.append("│ Processing Mode      │ P50 (ms)  │ P90 (ms)  │ P99 (ms)  │ P99.9 (ms)    │\n");
+        metricsText.append("├─────────────────────────────────────────────────────────────────────────┤\n");
+        metricsText.append(String.format("│ Sequential           │ %-9.3f │ %-9.3f │ %-9.3f │ %-13.3f │\n",
+                seqOverall.getPercentileMillis(50),
+                seqOverall.getPercentileMillis(90),
+                seqOverall.getPercentileMillis(99),
+                seqOverall.getPercentileMillis(99.9)));
+        metricsText.append(String.format("│ Parallel             │ %-9.3f │ %-9.3f │ %-9.3f │ %-13.3f │\n",
+                parOverall.getPercentileMillis(50),
+                parOverall.getPercentileMillis(90),
+                parOverall.getPercentileMillis(99),
+                parOverall.getPercentileMillis(99.9)));
         metricsText.append("└─────────────────────────────────────────────────────────────────────────┘\n\n");
 
         // Performance comparison with visual indicators
@@ -737,7 +780,7 @@ public class Launcher extends Application {
         metricsText.append("┌─────────────────────────────────────────────────────────────────────────┐\n");
         metricsText.append(String.format("│ Overall Speedup: %-8.2fx │ Time Saved: %-8.2f%% │ CPU Cores: %-8d │\n",
                 speedup,
-                ((seqOverall.totalTime - parOverall.totalTime) * 100.0) / seqOverall.totalTime,
+                ((seqOverall.getTotalTimeMillis() - parOverall.getTotalTimeMillis()) * 100.0) / seqOverall.getTotalTimeMillis(),
                 Runtime.getRuntime().availableProcessors()));
         metricsText.append("└─────────────────────────────────────────────────────────────────────────┘\n");
 
@@ -761,55 +804,6 @@ public class Launcher extends Application {
         updateCharts(sequentialFilterMetrics, parallelFilterMetrics, seqOverall, parOverall);
     }
 
-    /**
-     * Java BufferedImage'i JavaFX Image'e dönüştürür.
-     * Farklı görüntü formatlarını (BGR, Gri ton) destekler.
-     * 
-     * @param image Dönüştürülecek BufferedImage
-     * @return JavaFX Image nesnesi
-     */
-    private Image convertToFxImage(BufferedImage image) {
-        if (image == null) return null;
-
-        WritableImage wr = new WritableImage(image.getWidth(), image.getHeight());
-        int width = image.getWidth();
-        int height = image.getHeight();
-        byte[] bgraPixels = new byte[width * height * 4];
-
-        if (image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
-            byte[] bgrData = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
-            int bgrIndex = 0;
-            for (int i = 0; i < bgraPixels.length; i += 4) {
-                bgraPixels[i]     = bgrData[bgrIndex++];   // Blue
-                bgraPixels[i + 1] = bgrData[bgrIndex++]; // Green
-                bgraPixels[i + 2] = bgrData[bgrIndex++]; // Red
-                bgraPixels[i + 3] = (byte) 0xFF;         // Alpha
-            }
-        } else if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
-            byte[] grayData = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
-            int grayIndex = 0;
-            for (int i = 0; i < bgraPixels.length; i += 4) {
-                byte grayValue = grayData[grayIndex++];
-                bgraPixels[i]     = grayValue;
-                bgraPixels[i + 1] = grayValue;
-                bgraPixels[i + 2] = grayValue;
-                bgraPixels[i + 3] = (byte) 0xFF;
-            }
-        } else {
-            int[] argbPixels = new int[width * height];
-            image.getRGB(0, 0, width, height, argbPixels, 0, width);
-            for (int i = 0; i < argbPixels.length; i++) {
-                int pixel = argbPixels[i];
-                bgraPixels[i * 4]     = (byte) (pixel & 0xFF);
-                bgraPixels[i * 4 + 1] = (byte) ((pixel >> 8)  & 0xFF);
-                bgraPixels[i * 4 + 2] = (byte) ((pixel >> 16) & 0xFF);
-                bgraPixels[i * 4 + 3] = (byte) ((pixel >> 24) & 0xFF);
-            }
-        }
-        wr.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getByteBgraInstance(), bgraPixels, 0, width * 4);
-        return wr;
-    }
-
     /**
      * Seçili filtreleri görüntüye uygular. ImageProcessor sınıfını
      * kullanarak sıralı veya paralel işleme modunu seçer.
@@ -824,87 +818,24 @@ public class Launcher extends Application {
 
     /**
      * Kamera görüntüsünü yakalamaya başlar. 30 FPS hızında
-     * görüntü yakalar ve işler. Her kare için performans
-     * metriklerini hesaplar.
+     * görüntü yakalar ve işler. Yakalama, dönüştürme, filtreleme ve
+     * gösterim FramePipeline ile ayrı thread'lerde, birbiriyle örtüşerek
+     * çalışır; kamera thread'i yalnızca yakalama aşamasını yürütür.
+     * Kareler ekrana LatestFramePresenter ile ekran yenilemesi hızında
+     * aktarılır; FX thread'i geride kalırsa bayat kareler düşürülür.
      */
     private void startCameraFeed() {
         running = true;
+        LatestFramePresenter presenter = new LatestFramePresenter(this::showFrame);
+        presenter.start();
         new Thread(() -> {
+            CameraSource camera = new CameraSource(0, 640, 480, 30);
             try {
-                System.out.println("Initializing camera...");
-                grabber = new OpenCVFrameGrabber(0);
-                grabber.setFormat("MJPG");
-                grabber.setImageWidth(640);
-                grabber.setImageHeight(480);
-                grabber.setFrameRate(30);
-
-                System.out.println("Starting camera...");
-                grabber.start();
-                System.out.println("Camera started successfully");
-
-                long lastFrameTime = System.nanoTime();
-                long targetFrameTime = 1_000_000_000 / 30; // 30 FPS
-
-                while (running) {
-                    long currentTime = System.nanoTime();
-                    long elapsedTime = currentTime - lastFrameTime;
-
-                    if (elapsedTime >= targetFrameTime) {
-                        org.bytedeco.javacv.Frame frame = grabber.grab();
-                        if (frame == null || frame.image == null) {
-                            System.err.println("Failed to grab frame or frame.image is null");
-                            continue;
-                        }
-
-                        long frameGrabTime = System.nanoTime();
-                        Mat mat = converter.convert(frame);
-                        if (mat == null || mat.empty()) {
-                            System.err.println("Failed to convert frame to Mat or Mat is empty");
-                            continue;
-                        }
+                camera.start();
 
-                        BufferedImage original = ImageUtils.matToBufferedImage(mat);
-                        if (original == null) {
-                            System.err.println("Failed to convert Mat to BufferedImage");
-                            continue;
-                        }
-                        long originalConvertTime = System.nanoTime() - frameGrabTime;
-
-                        long filterStartTime = System.nanoTime();
-                        BufferedImage processed = applyFilters(original);
-                        long filterProcessingTime = System.nanoTime() - filterStartTime;
-
-                        final BufferedImage finalOriginal = original;
-                        final BufferedImage finalProcessed = processed;
-                        final long finalOriginalTimeMs = originalConvertTime / 1_000_000;
-                        final long finalFilterTimeMs = filterProcessingTime / 1_000_000;
-
-                        Platform.runLater(() -> {
-                            try {
-                                Image fxOriginalImage = convertToFxImage(finalOriginal);
-                                Image fxProcessedImage = convertToFxImage(finalProcessed);
-
-                                if (fxOriginalImage != null) cameraView.setImage(fxOriginalImage);
-                                if (fxProcessedImage != null) processedView.setImage(fxProcessedImage);
-
-                                originalTimeLabel.setText(String.format("Original Prep: %d ms", finalOriginalTimeMs));
-                                processedTimeLabel.setText(String.format("Filter Time: %d ms", finalFilterTimeMs));
-                            } catch (Exception e) {
-                                System.err.println("Error updating UI: " + e.getMessage());
-                                e.printStackTrace();
-                            }
-                        });
-                        lastFrameTime = currentTime; // Her başarılı kareden sonra güncelle
-                    } else {
-                        // CPU'yu boşa yormamak için kısa bir uyku
-                        try {
-                            Thread.sleep(Math.max(0, (targetFrameTime - elapsedTime) / 1_000_000 -1 ));
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            running = false; // Kesinti durumunda döngüden çık
-                        }
-                    }
-                }
+                FramePipeline pipeline = new FramePipeline(camera, this::applyFilters, presenter);
+                MetricsServer.register("pipeline", new PipelineMetrics(pipeline, presenter));
+                pipeline.run(() -> running);
             } catch (OpenCVFrameGrabber.Exception e) {
                 System.err.println("Camera start error: " + e.getMessage());
                 e.printStackTrace();
@@ -920,19 +851,18 @@ public class Launcher extends Application {
                 e.printStackTrace();
             }
             finally {
-                if (grabber != null) {
-                    try {
-                        System.out.println("Stopping camera...");
-                        grabber.stop();
-                        grabber.release();
-                        System.out.println("Camera stopped successfully");
-                    } catch (OpenCVFrameGrabber.Exception ex) {
-                        System.err.println("Error stopping camera: " + ex.getMessage());
-                        ex.printStackTrace();
-                    }
+                try {
+                    camera.close();
+                } catch (OpenCVFrameGrabber.Exception ex) {
+                    System.err.println("Error stopping camera: " + ex.getMessage());
+                    ex.printStackTrace();
                 }
                 running = false;
+                MetricsServer.unregister("pipeline");
+                // Son kare işlendikten sonra işçi havuzunu kapat
+                ImageProcessor.shutdownPool();
                 Platform.runLater(() -> {
+                    presenter.stop();
                     // Kamera durduğunda butonu güncelle (eğer başlat butonuysa)
                     var startButton = (Button) controlsVBox.getChildren().get(0); // Varsayım: ilk eleman başlat butonu
                     if (startButton.getText().equals("Stop Camera")) {
@@ -940,11 +870,48 @@ public class Launcher extends Application {
                     }
                 });
             }
-        }).start();
+        }, "camera-capture").start();
+    }
+
+    /**
+     * İzleme buffer'ındaki son 10 saniyenin olaylarını çalışma dizinine
+     * Chrome trace-event JSON dosyası olarak yazar. Dosya chrome://tracing
+     * veya ui.perfetto.dev ile açılabilir.
+     */
+    private void saveTrace() {
+        String name = "trace-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        Path file = Path.of(name).toAbsolutePath();
+        try (var out = Files.newBufferedWriter(file, UTF_8)) {
+            FrameTracer.writeChromeTrace(out, TRACE_WINDOW_NANOS);
+            System.out.println("Trace written to " + file);
+            var alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("Trace Saved");
+            alert.setHeaderText("Trace written");
+            alert.setContentText(file + "\nOpen it in chrome://tracing or ui.perfetto.dev.");
+            alert.show();
+        } catch (IOException e) {
+            System.err.println("Failed to write trace: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gösterici tarafından seçilen en yeni kareyi arayüze yerleştirir.
+     * AnimationTimer darbesinde, FX thread'inde çağrılır.
+     *
+     * @param frame Gösterilecek kare
+     */
+    private void showFrame(LatestFramePresenter.Frame frame) {
+        if (frame.original() != null) cameraView.setImage(frame.original());
+        if (frame.processed() != null) processedView.setImage(frame.processed());
+
+        originalTimeLabel.setText(String.format("Original Prep: %d ms", frame.convertNanos() / 1_000_000));
+        processedTimeLabel.setText(String.format("Filter Time: %d ms", frame.filterNanos() / 1_000_000));
     }
 
     /**
      * Kamera görüntüsünü yakalamayı durdurur ve kaynakları temizler.
+     * Kamera thread'i döngüden çıktığında kamerayı serbest bırakır ve
+     * ImageProcessor'ın işleme havuzunu kapatır.
      */
     private void stopCameraFeed() {
         running = false;
@@ -952,7 +919,8 @@ public class Launcher extends Application {
 
     /**
      * Uygulama özelliklerini yükler. application.properties
-     * dosyasından yapılandırma ayarlarını okur.
+     * dosyasından yapılandırma ayarlarını okur. Komut satırında -D ile
+     * verilen özellikler dosyadaki değerlerle ezilmez.
      */
     private void loadApplicationProperties() {
         try {
@@ -964,10 +932,11 @@ public class Launcher extends Application {
                 return;
             }
             properties.load(new InputStreamReader(resource, UTF_8));
-            properties.forEach((key, value) -> System.setProperty(
-                    String.valueOf(key),
-                    String.valueOf(value)
-            ));
+            properties.forEach((key, value) -> {
+                if (System.getProperty(String.valueOf(key)) == null) {
+                    System.setProperty(String.valueOf(key), String.valueOf(value));
+                }
+            });
         } catch (IOException e) {
             System.err.println("Failed to load application properties: " + e.getMessage());
             // throw new RuntimeException(e); // Uygulamanın çökmesini önle
@@ -0,0 +1,341 @@
+// src/main/java/starter/core/FrameTracer.java
+
+package starter.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * FrameTracer, kare başına aşama, filtre, bölüm ve işçi sürelerini önceden
+ * ayrılmış bir halka buffer'a kaydeden düşük maliyetli bir izleyicidir.
+ * Son N saniyenin olayları Chrome/Perfetto trace-event JSON formatında
+ * (chrome://tracing, ui.perfetto.dev) dışa aktarılabilir; her thread ayrı
+ * bir zaman çizelgesinde görünür, böylece paralel bölümlerdeki yük
+ * dengesizliği doğrudan görülür.
+ *
+ * Kullanım:
+ * <pre>
+ * long start = FrameTracer.begin();
+ * ... iş ...
+ * FrameTracer.end(FrameTracer.FILTER, "Grayscale", start);
+ * </pre>
+ *
+ * Olaylar bittiklerinde tek kayıt olarak (başlangıç + süre) yazılır. Buffer
+ * dolduğunda en eski olayların üzerine yazılır. Kayıt yolu kilitsizdir ve
+ * bellek ayırmaz; izleme kapalıyken begin() 0 döndürür ve end() hiçbir şey
+ * yapmaz.
+ *
+ * Yapılandırma: "trace.enabled" izlemeyi açar, "trace.capacity" buffer'daki
+ * olay sayısını belirler (2'nin kuvvetine yuvarlanır).
+ */
+public final class FrameTracer {
+
+    /** İzlemeyi açan sistem özelliği adı */
+    public static final String ENABLED_PROPERTY = "trace.enabled";
+
+    /** Buffer kapasitesi için sistem özelliği adı */
+    public static final String CAPACITY_PROPERTY = "trace.capacity";
+
+    /** Varsayılan buffer kapasitesi (olay) */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** Kamera ve pipeline aşamaları (yakalama, dönüştürme, filtre, gösterim) */
+    public static final String PIPELINE = "pipeline";
+    /** Zincirdeki tek bir filtre veya karo bölümü */
+    public static final String FILTER = "filter";
+    /** İşçi thread'inde çalışan bir satır/karo parçası */
+    public static final String WORKER = "worker";
+    /** Arayüz thread'ine aktarım */
+    public static final String DISPLAY = "display";
+
+    private static final int NO_VALUE = -1;
+
+    private static volatile boolean enabled;
+    private static final int mask;
+    private static final long[] starts;
+    private static final long[] durations;
+    private static final long[] threads;
+    private static final long[] frames;
+    private static final int[] names;
+    private static final int[] categories;
+    private static final int[] froms;
+    private static final int[] tos;
+    // Slot'a en son yazılan olayın sıra numarası; yazım sürerken -1
+    private static final AtomicLongArray published;
+    private static final AtomicLong cursor = new AtomicLong();
+    // clear() anındaki sıra numarası; öncesindeki olaylar dışa aktarılmaz
+    private static volatile long clearedAt;
+
+    // Olay adları ve kategorileri dizin olarak saklanır
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static final List<String> strings = new ArrayList<>();
+
+    private static final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    private static final ThreadLocal<long[]> currentFrame = ThreadLocal.withInitial(() -> {
+        Thread thread = Thread.currentThread();
+        threadNames.put(thread.threadId(), thread.getName());
+        return new long[] {NO_VALUE};
+    });
+
+    static {
+        int capacity = Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+        int size = Integer.highestOneBit((Math.max(1024, capacity) - 1) << 1);
+        starts = new long[size];
+        durations = new long[size];
+        threads = new long[size];
+        frames = new long[size];
+        names = new int[size];
+        categories = new int[size];
+        froms = new int[size];
+        tos = new int[size];
+        published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        mask = size - 1;
+        enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    private FrameTracer() {
+    }
+
+    /**
+     * İzlemeyi açar veya kapatır. Kapatmak kayıtlı olayları silmez.
+     *
+     * @param on İzleme açık mı
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * İzlemenin açık olup olmadığını döndürür.
+     *
+     * @return Açıksa true
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Bir olayın başlangıç zamanını döndürür.
+     *
+     * @return System.nanoTime() veya izleme kapalıysa 0
+     */
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Çağıran thread'in üzerinde çalıştığı kareyi belirler. Bu thread'de
+     * sonraki olaylar bu kare numarasıyla kaydedilir.
+     *
+     * @param frame Kare sıra numarası veya bilinmiyorsa -1
+     */
+    public static void setFrame(long frame) {
+        if (enabled) {
+            currentFrame.get()[0] = frame;
+        }
+    }
+
+    /**
+     * Çağıran thread'in setFrame() ile belirlenen karesini döndürür.
+     *
+     * @return Kare sıra numarası veya bilinmiyorsa -1
+     */
+    public static long getFrame() {
+        return enabled ? currentFrame.get()[0] : NO_VALUE;
+    }
+
+    /**
+     * begin() ile başlatılan bir olayı kaydeder.
+     *
+     * @param category Kategori (PIPELINE, FILTER, WORKER, DISPLAY)
+     * @param name Olay adı
+     * @param start begin() değeri
+     */
+    public static void end(String category, String name, long start) {
+        end(category, name, start, NO_VALUE, NO_VALUE);
+    }
+
+    /**
+     * begin() ile başlatılan, bir aralığı (satırlar veya karolar) işleyen
+     * bir olayı kaydeder.
+     *
+     * @param category Kategori
+     * @param name Olay adı
+     * @param start begin() değeri
+     * @param from Aralık başlangıcı (dahil)
+     * @param to Aralık sonu (hariç)
+     */
+    public static void end(String category, String name, long start, int from, int to) {
+        if (!enabled || start == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long frame = currentFrame.get()[0];
+        int nameId = id(name);
+        int categoryId = id(category);
+
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        published.set(slot, -1);
+        // Alan yazımları -1 işaretinin önüne geçmemeli; yoksa okuyucu yarım
+        // yazılmış olayı eski sıra numarasıyla geçerli sanabilir
+        VarHandle.storeStoreFence();
+        starts[slot] = start;
+        durations[slot] = now - start;
+        threads[slot] = Thread.currentThread().threadId();
+        frames[slot] = frame;
+        names[slot] = nameId;
+        categories[slot] = categoryId;
+        froms[slot] = from;
+        tos[slot] = to;
+        published.set(slot, sequence);
+    }
+
+    private static int id(String value) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        synchronized (strings) {
+            return ids.computeIfAbsent(value, v -> {
+                strings.add(v);
+                return strings.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Buffer'daki olay sayısını döndürür.
+     *
+     * @return Olay sayısı (en fazla kapasite kadar)
+     */
+    public static int size() {
+        return (int) Math.min(cursor.get() - clearedAt, mask + 1);
+    }
+
+    /**
+     * Kayıtlı tüm olayları siler.
+     */
+    public static void clear() {
+        clearedAt = cursor.get();
+    }
+
+    /**
+     * Son windowNanos içinde biten olayları Chrome trace-event JSON
+     * formatında yazar. Thread adları meta olay olarak eklenir.
+     *
+     * @param out Hedef
+     * @param windowNanos Zaman penceresi (ns); 0 veya negatifse tüm buffer
+     * @throws IOException Yazılamazsa
+     */
+    public static void writeChromeTrace(Writer out, long windowNanos) throws IOException {
+        long now = System.nanoTime();
+        long end = cursor.get();
+        long first = Math.max(clearedAt, end - (mask + 1));
+        String[] labels;
+        synchronized (strings) {
+            labels = strings.toArray(new String[0]);
+        }
+
+        // Olaylar bittikleri sırada yazıldığı için zaman ekseni başlangıca göre hizalanır
+        long origin = Long.MAX_VALUE;
+        List<long[]> events = new ArrayList<>();
+        for (long sequence = first; sequence < end; sequence++) {
+            int slot = (int) (sequence & mask);
+            if (published.get(slot) != sequence) {
+                continue;
+            }
+            long[] event = {starts[slot], durations[slot], threads[slot], frames[slot],
+                    names[slot], categories[slot], froms[slot], tos[slot]};
+            // Okuma sırasında üzerine yazılan olayları atla; alan okumaları
+            // yeniden kontrolün arkasına kaymamalı
+            VarHandle.loadLoadFence();
+            if (published.get(slot) != sequence) {
+                continue;
+            }
+            if (windowNanos > 0 && now - (event[0] + event[1]) > windowNanos) {
+                continue;
+            }
+            origin = Math.min(origin, event[0]);
+            events.add(event);
+        }
+
+        out.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+        boolean firstEvent = true;
+        Map<Long, String> seenThreads = new TreeMap<>();
+        for (long[] event : events) {
+            seenThreads.put(event[2], threadNames.getOrDefault(event[2], "thread-" + event[2]));
+        }
+        for (Map.Entry<Long, String> thread : seenThreads.entrySet()) {
+            firstEvent = separator(out, firstEvent);
+            out.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread.getKey()
+                    + ",\"args\":{\"name\":" + quote(thread.getValue()) + "}}");
+        }
+        for (long[] event : events) {
+            firstEvent = separator(out, firstEvent);
+            StringBuilder sb = new StringBuilder(160);
+            sb.append("{\"name\":").append(quote(labels[(int) event[4]]))
+                    .append(",\"cat\":").append(quote(labels[(int) event[5]]))
+                    .append(",\"ph\":\"X\",\"ts\":").append(micros(event[0] - origin))
+                    .append(",\"dur\":").append(micros(event[1]))
+                    .append(",\"pid\":1,\"tid\":").append(event[2])
+                    .append(",\"args\":{");
+            boolean firstArg = true;
+            if (event[3] != NO_VALUE) {
+                sb.append("\"frame\":").append(event[3]);
+                firstArg = false;
+            }
+            if (event[6] != NO_VALUE) {
+                sb.append(firstArg ? "" : ",").append("\"from\":").append(event[6])
+                        .append(",\"to\":").append(event[7]);
+            }
+            sb.append("}}");
+            out.write(sb.toString());
+        }
+        out.write("\n]}\n");
+        out.flush();
+    }
+
+    private static boolean separator(Writer out, boolean first) throws IOException {
+        if (!first) {
+            out.write(",\n");
+        }
+        return false;
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e3);
+    }
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
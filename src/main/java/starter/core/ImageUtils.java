@@ -2,12 +2,20 @@
 
 package starter.core;
 
-import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
 import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.nio.ByteBuffer;
 
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.opencv.global.opencv_core;
 import org.bytedeco.opencv.opencv_core.Mat;
+import starter.processing.Resampler;
 
 /**
  * ImageUtils sınıfı, görüntü işleme için yardımcı fonksiyonlar sağlar.
@@ -16,6 +24,10 @@ import org.bytedeco.opencv.opencv_core.Mat;
  */
 public class ImageUtils {
 
+    // TYPE_INT_RGB ile aynı kanal maskeleri
+    private static final int[] RGB_MASKS = {0x00FF0000, 0x0000FF00, 0x000000FF};
+    private static final DirectColorModel RGB_COLOR_MODEL = new DirectColorModel(24, RGB_MASKS[0], RGB_MASKS[1], RGB_MASKS[2]);
+
     /**
      * Bir OpenCV Mat nesnesini Java BufferedImage'e dönüştürür.
      * Bu dönüşüm, OpenCV ile işlenen görüntülerin Swing GUI bileşenlerinde
@@ -26,65 +38,258 @@ public class ImageUtils {
      * @return Mat nesnesinden oluşturulan BufferedImage
      */
     public static BufferedImage matToBufferedImage(Mat mat) {
-        int type = BufferedImage.TYPE_3BYTE_BGR;
-        if (mat.channels() == 1) {
+        return matToBufferedImage(mat, null);
+    }
+
+    /**
+     * Bir OpenCV Mat nesnesini, verilen görüntünün rasterına doğrudan
+     * kopyalar. Ara byte[] kullanılmaz: Mat'in yerel belleği tek bir
+     * kopyayla rastera aktarılır. Hedef görüntü Mat ile aynı boyutta ve
+     * uyumlu türdeyse yeniden kullanılır; değilse yeni bir görüntü
+     * oluşturulur. Kareler arasında aynı hedefi vermek, kararlı durumda
+     * dönüşümü bellek ayırmasız bir memcpy'ye indirger.
+     *
+     * Desteklenen Formatlar:
+     * - CV_8UC3 (BGR) → TYPE_3BYTE_BGR
+     * - CV_8UC1 (Gri) → TYPE_BYTE_GRAY
+     *
+     * Sürekli olmayan Mat'ler (ör. bir ROI) ve satır sonu dolgusu olan
+     * Mat'ler satır satır, Mat'in satır adımı (step) dikkate alınarak
+     * kopyalanır.
+     *
+     * @param mat Dönüştürülecek OpenCV Mat nesnesi
+     * @param reuse Yeniden kullanılacak hedef görüntü (null olabilir)
+     * @return Mat piksellerini içeren görüntü (reuse veya yeni görüntü);
+     *         Mat boşsa veya formatı desteklenmiyorsa null
+     */
+    public static BufferedImage matToBufferedImage(Mat mat, BufferedImage reuse) {
+        if (mat == null || mat.empty() || mat.depth() != opencv_core.CV_8U) {
+            return null;
+        }
+        int channels = mat.channels();
+        int type;
+        if (channels == 3) {
+            type = BufferedImage.TYPE_3BYTE_BGR;
+        } else if (channels == 1) {
             type = BufferedImage.TYPE_BYTE_GRAY;
+        } else {
+            return null;
+        }
+
+        int width = mat.cols();
+        int height = mat.rows();
+        BufferedImage image = reuse;
+        byte[] targetPixels = image != null && image.getType() == type
+                && image.getWidth() == width && image.getHeight() == height ? byteRasterData(image, width * channels) : null;
+        if (targetPixels == null) {
+            image = new BufferedImage(width, height, type);
+            targetPixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        }
+
+        int rowBytes = width * channels;
+        long step = mat.step();
+        BytePointer data = mat.data();
+        if (mat.isContinuous() && step == rowBytes) {
+            data.get(targetPixels, 0, rowBytes * height);
+        } else {
+            for (int y = 0; y < height; y++) {
+                data.position(y * step).get(targetPixels, y * rowBytes, rowBytes);
+            }
         }
-        
-        int bufferSize = mat.channels() * mat.cols() * mat.rows();
-        byte[] b = new byte[bufferSize];
-        mat.data().get(b);
-        BufferedImage image = new BufferedImage(mat.cols(), mat.rows(), type);
-        final byte[] targetPixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
-        System.arraycopy(b, 0, targetPixels, 0, b.length);
         return image;
     }
 
+    /**
+     * Mat'in piksel belleğini kopyalamadan doğrudan bir ByteBuffer olarak
+     * sunar. Mat'i yerinde okuyabilen filtreler için dönüşüm maliyetini
+     * tamamen ortadan kaldırır.
+     *
+     * Dikkat Edilmesi Gerekenler:
+     * - Buffer Mat'in yerel belleğini paylaşır; Mat serbest bırakıldıktan
+     *   veya yeniden ayrıldıktan sonra kullanılmamalıdır
+     * - Satırlar arası mesafe genişlik * kanal değil, mat.step() bayttır;
+     *   sürekli olmayan Mat'lerde satır sonlarında dolgu bulunabilir
+     * - Piksel sırası OpenCV'ninkidir (ör. BGR)
+     *
+     * @param mat Görüntü matrisi
+     * @return Mat belleğini gösteren doğrudan (direct) ByteBuffer; Mat boşsa null
+     */
+    public static ByteBuffer matByteBuffer(Mat mat) {
+        if (mat == null || mat.empty()) {
+            return null;
+        }
+        // Son satırda dolgu olmayabilir; buffer yalnızca gerçekten okunabilir baytları kapsar
+        long span = (mat.rows() - 1) * mat.step() + (long) mat.cols() * mat.elemSize();
+        return mat.data().capacity(span).asByteBuffer();
+    }
+
     /**
      * Verilen bir BufferedImage'i, en-boy oranını koruyarak belirtilen
      * maksimum genişlik ve yüksekliğe sığacak şekilde ölçeklendirir.
      * Bu, görüntülerin GUI'deki sabit boyutlu alanlara düzgün bir
-     * şekilde yerleştirilmesi için kullanılır.
+     * şekilde yerleştirilmesi için kullanılır. Görüntü büyütülmez.
+     *
+     * Ölçekleme, alan ortalamasıyla doğrudan int[] pikseller üzerinde ve
+     * işleme havuzunda satır aralıklarıyla yapılır (bkz. Resampler).
      *
      * @param img Ölçeklendirilecek orijinal görüntü
      * @param maxW Ölçeklenmiş görüntünün maksimum genişliği
      * @param maxH Ölçeklenmiş görüntünün maksimum yüksekliği
-     * @return Ölçeklendirilmiş yeni bir BufferedImage
+     * @return FrameBufferPool'dan alınan TYPE_INT_RGB görüntü; işi bitince
+     *         ImageProcessor.recycle() ile havuza geri verilebilir
      */
     public static BufferedImage getScaledImage(BufferedImage img, int maxW, int maxH) {
-        int originalW = img.getWidth();
-        int originalH = img.getHeight();
-        double aspectRatio = (double) originalW / originalH;
-
-        int newW = maxW;
-        int newH = maxH;
-
-        if (originalW > maxW || originalH > maxH) {
-            if (aspectRatio >= 1) { 
-                newH = (int) (maxW / aspectRatio);
-                if (newH > maxH) {
-                    newH = maxH;
-                    newW = (int) (maxH * aspectRatio);
+        int[] size = Resampler.fit(img.getWidth(), img.getHeight(), maxW, maxH);
+        return Resampler.resize(img, size[0], size[1], Resampler.Kernel.AREA, null);
+    }
+
+    /**
+     * Bir BufferedImage'in piksellerini 0xAARRGGBB formatında düz bir int[]
+     * diziye kopyalar. TYPE_INT_RGB/ARGB, TYPE_3BYTE_BGR ve TYPE_BYTE_GRAY
+     * görüntüler doğrudan arka plandaki veri dizisinden okunur; diğer
+     * türler için toplu getRGB çağrısına geri dönülür. Çıktıdaki tüm
+     * pikseller opaktır (alfa = 0xFF).
+     *
+     * @param image Kaynak görüntü
+     * @param dst Hedef dizi; null veya yetersiz boyuttaysa yenisi oluşturulur
+     * @return Piksellerin yazıldığı dizi (width * height)
+     */
+    public static int[] toIntRgb(BufferedImage image, int[] dst) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int size = width * height;
+        if (dst == null || dst.length < size) {
+            dst = new int[size];
+        }
+
+        Raster raster = image.getRaster();
+        boolean unshifted = raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0;
+
+        switch (image.getType()) {
+            case BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB -> {
+                int[] data = intRgbData(image);
+                if (data != null) {
+                    for (int i = 0; i < size; i++) {
+                        dst[i] = data[i] | 0xFF000000;
+                    }
+                    return dst;
+                }
+            }
+            case BufferedImage.TYPE_3BYTE_BGR -> {
+                if (unshifted && raster.getDataBuffer() instanceof DataBufferByte buffer
+                        && raster.getSampleModel() instanceof ComponentSampleModel model
+                        && model.getScanlineStride() == width * 3 && buffer.getOffset() == 0) {
+                    byte[] data = buffer.getData();
+                    for (int i = 0, j = 0; i < size; i++, j += 3) {
+                        dst[i] = 0xFF000000
+                                | ((data[j + 2] & 0xFF) << 16) // Red
+                                | ((data[j + 1] & 0xFF) << 8)  // Green
+                                | (data[j] & 0xFF);            // Blue
+                    }
+                    return dst;
                 }
-            } else { 
-                newW = (int) (maxH * aspectRatio);
-                 if (newW > maxW) {
-                    newW = maxW;
-                    newH = (int) (maxW / aspectRatio);
+            }
+            case BufferedImage.TYPE_BYTE_GRAY -> {
+                if (unshifted && raster.getDataBuffer() instanceof DataBufferByte buffer
+                        && raster.getSampleModel() instanceof ComponentSampleModel model
+                        && model.getScanlineStride() == width && buffer.getOffset() == 0) {
+                    byte[] data = buffer.getData();
+                    for (int i = 0; i < size; i++) {
+                        int gray = data[i] & 0xFF;
+                        dst[i] = 0xFF000000 | (gray << 16) | (gray << 8) | gray;
+                    }
+                    return dst;
                 }
             }
-        } else { 
-            newW = originalW;
-            newH = originalH;
+            default -> {
+                // Aşağıdaki genel yola düşülür
+            }
+        }
+
+        image.getRGB(0, 0, width, height, dst, 0, width);
+        for (int i = 0; i < size; i++) {
+            dst[i] |= 0xFF000000;
+        }
+        return dst;
+    }
+
+    /**
+     * 0xAARRGGBB formatındaki pikselleri bir BufferedImage'e yazar.
+     * TYPE_INT_RGB/ARGB hedeflere doğrudan dizi kopyası yapılır; diğer
+     * türler için toplu setRGB kullanılır.
+     *
+     * @param src Kaynak pikseller (width * height)
+     * @param image Hedef görüntü
+     */
+    public static void writeIntRgb(int[] src, BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        int[] data = intRgbData(image);
+        if (data != null) {
+            if (data != src) {
+                System.arraycopy(src, 0, data, 0, width * height);
+            }
+            return;
         }
 
-        Image tmp = img.getScaledInstance(newW, newH, Image.SCALE_SMOOTH);
-        BufferedImage scaled = new BufferedImage(newW, newH, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, width, height, src, 0, width);
+    }
 
-        Graphics2D g2d = scaled.createGraphics();
-        g2d.drawImage(tmp, 0, 0, null);
-        g2d.dispose();
+    /**
+     * TYPE_INT_RGB/ARGB bir görüntünün piksellerini tutan diziyi, görüntü
+     * satırları boşluksuz (satır adımı = genişlik) ve sıfır ofsetle
+     * saklıyorsa doğrudan döndürür. Böylece filtreler görüntüye kopyasız
+     * okuyup yazabilir. TYPE_INT_RGB dizilerinde üst bayt (alfa) anlamsızdır.
+     *
+     * @param image Görüntü
+     * @return Arka plandaki piksel dizisi veya doğrudan erişilemiyorsa null
+     */
+    public static int[] intRgbData(BufferedImage image) {
+        if (image.getType() != BufferedImage.TYPE_INT_RGB && image.getType() != BufferedImage.TYPE_INT_ARGB) {
+            return null;
+        }
+        WritableRaster raster = image.getRaster();
+        if (raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0
+                && raster.getDataBuffer() instanceof DataBufferInt buffer
+                && raster.getSampleModel() instanceof SinglePixelPackedSampleModel model
+                && model.getScanlineStride() == image.getWidth() && buffer.getOffset() == 0
+                && buffer.getData().length == image.getWidth() * image.getHeight()) {
+            return buffer.getData();
+        }
+        return null;
+    }
 
-        return scaled;
+    /**
+     * TYPE_3BYTE_BGR/TYPE_BYTE_GRAY bir görüntünün bayt dizisini, satırlar
+     * boşluksuz (satır adımı = rowBytes) ve sıfır ofsetle saklanıyorsa
+     * döndürür.
+     */
+    private static byte[] byteRasterData(BufferedImage image, int rowBytes) {
+        WritableRaster raster = image.getRaster();
+        if (raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0
+                && raster.getDataBuffer() instanceof DataBufferByte buffer
+                && raster.getSampleModel() instanceof ComponentSampleModel model
+                && model.getScanlineStride() == rowBytes && buffer.getOffset() == 0
+                && buffer.getData().length == rowBytes * image.getHeight()) {
+            return buffer.getData();
+        }
+        return null;
+    }
+
+    /**
+     * Var olan bir int[] diziyi, kopyalamadan TYPE_INT_RGB bir BufferedImage
+     * olarak sarar. Dizideki değişiklikler görüntüye doğrudan yansır; bu
+     * sayede Graphics2D ile dizinin üzerine çizim yapılabilir.
+     *
+     * @param data Piksel dizisi (en az width * height)
+     * @param width Görüntü genişliği
+     * @param height Görüntü yüksekliği
+     * @return Diziyi paylaşan BufferedImage
+     */
+    public static BufferedImage wrapIntRgb(int[] data, int width, int height) {
+        DataBufferInt buffer = new DataBufferInt(data, width * height);
+        WritableRaster raster = Raster.createPackedRaster(buffer, width, height, width, RGB_MASKS, null);
+        return new BufferedImage(RGB_COLOR_MODEL, raster, false, null);
     }
-}
\ No newline at end of file
+}
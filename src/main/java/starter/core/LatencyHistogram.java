@@ -0,0 +1,315 @@
+// src/main/java/starter/core/LatencyHistogram.java
+
+package starter.core;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram, nanosaniye çözünürlüğünde gecikme değerlerini sabit
+ * bellekle tutan, logaritmik kovalı (HdrHistogram tarzı) bir histogramdır.
+ *
+ * Kova Yapısı:
+ * - 0-127 ns arasındaki değerlerin her biri kendi kovasındadır
+ * - Daha büyük değerlerde her ikinin kuvveti aralığı (oktav) 64 eşit
+ *   kovaya bölünür; böylece bağıl hata her büyüklükte %1,6'nın altındadır
+ * - En büyük değer MAX_TRACKABLE_NANOS'tur (~68 s); daha büyük değerler bu
+ *   değere kırpılır. Toplam kova sayısı sabittir (~16 KB)
+ *
+ * Eşzamanlılık:
+ * - record() kilitsiz ve bellek ayırmasızdır; birden çok thread aynı
+ *   histograma yazabilir
+ * - snapshot() kayıtlar sürerken de çağrılabilir; o anda yazılan bir
+ *   değer bu görüntüde veya bir sonrakinde yer alır, kaybolmaz
+ *
+ * Aralık Görüntüleri:
+ * intervalSnapshot() yalnızca bir önceki intervalSnapshot() çağrısından
+ * bu yana kaydedilen değerleri döndürür; kümülatif değerler silinmez.
+ */
+public final class LatencyHistogram {
+
+    /** Kaydedilebilen en büyük değer (ns); daha büyük değerler kırpılır */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    // Doğrudan (doğrusal) kovalanan değerler: 0 .. 2^7 - 1
+    private static final int LINEAR_BITS = 7;
+    private static final int LINEAR_COUNT = 1 << LINEAR_BITS;
+    // Oktav başına kova sayısı
+    private static final int SUB_BUCKET_BITS = LINEAR_BITS - 1;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    // Son aralık görüntüsündeki kümülatif durum
+    private Snapshot intervalStart = Snapshot.EMPTY;
+
+    /**
+     * Bir gecikme değeri kaydeder. Negatif değerler 0, MAX_TRACKABLE_NANOS'tan
+     * büyük değerler MAX_TRACKABLE_NANOS olarak kaydedilir.
+     *
+     * @param nanos Gecikme (ns)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE_NANOS));
+        counts.incrementAndGet(indexOf(value));
+        totalNanos.addAndGet(value);
+
+        long min = minNanos.get();
+        while (value < min && !minNanos.compareAndSet(min, value)) {
+            min = minNanos.get();
+        }
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Bir görüntüdeki tüm değerleri bu histograma ekler (ör. thread başına
+     * histogramları birleştirmek için).
+     *
+     * @param snapshot Eklenecek görüntü
+     */
+    public void add(Snapshot snapshot) {
+        if (snapshot.getCount() == 0) {
+            return;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = snapshot.counts[i];
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalNanos.addAndGet(snapshot.totalNanos);
+        minNanos.accumulateAndGet(snapshot.minNanos, Math::min);
+        maxNanos.accumulateAndGet(snapshot.maxNanos, Math::max);
+    }
+
+    /**
+     * Kaydedilen tüm değerlerin değişmez bir görüntüsünü döndürür.
+     *
+     * @return Kümülatif görüntü
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, totalNanos.get(), minNanos.get(), maxNanos.get());
+    }
+
+    /**
+     * Bir önceki intervalSnapshot() çağrısından (ilk çağrıda başlangıçtan)
+     * bu yana kaydedilen değerlerin görüntüsünü döndürür.
+     *
+     * @return Aralık görüntüsü
+     */
+    public synchronized Snapshot intervalSnapshot() {
+        Snapshot current = snapshot();
+        Snapshot interval = current.since(intervalStart);
+        intervalStart = current;
+        return interval;
+    }
+
+    /**
+     * Tüm kayıtları siler. Eşzamanlı kayıtlarla atomik değildir; ölçümler
+     * arasında çağrılmalıdır.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalNanos.set(0);
+        minNanos.set(Long.MAX_VALUE);
+        maxNanos.set(0);
+        intervalStart = Snapshot.EMPTY;
+    }
+
+    /**
+     * Bir değerin kova indeksini hesaplar.
+     */
+    static int indexOf(long value) {
+        if (value < LINEAR_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_COUNT + ((shift - 1) << SUB_BUCKET_BITS) + mantissa;
+    }
+
+    /**
+     * Kovadaki en küçük değeri döndürür.
+     */
+    static long lowestValue(int index) {
+        if (index < LINEAR_COUNT) {
+            return index;
+        }
+        int offset = index - LINEAR_COUNT;
+        int shift = (offset >>> SUB_BUCKET_BITS) + 1;
+        long mantissa = (offset & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        return mantissa << shift;
+    }
+
+    /**
+     * Kovadaki en büyük değeri döndürür.
+     */
+    static long highestValue(int index) {
+        if (index < LINEAR_COUNT) {
+            return index;
+        }
+        return lowestValue(index + 1) - 1;
+    }
+
+    /**
+     * Histogramın değişmez görüntüsü. Yüzdelik sorguları ve birleştirme
+     * bu nesne üzerinden yapılır.
+     */
+    public static final class Snapshot {
+
+        /** Hiç değer içermeyen görüntü */
+        public static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0, Long.MAX_VALUE, 0);
+
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long minNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] counts, long totalNanos, long minNanos, long maxNanos) {
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.counts = counts;
+            this.count = sum;
+            this.totalNanos = totalNanos;
+            this.minNanos = minNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Kaydedilen değer sayısını döndürür.
+         *
+         * @return Değer sayısı
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Kaydedilen değerlerin toplamını döndürür.
+         *
+         * @return Toplam (ns)
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Ortalama değeri döndürür.
+         *
+         * @return Ortalama (ns) veya değer yoksa 0
+         */
+        public double getMeanNanos() {
+            return count > 0 ? (double) totalNanos / count : 0;
+        }
+
+        /**
+         * En küçük değeri döndürür.
+         *
+         * @return En küçük değer (ns) veya değer yoksa 0
+         */
+        public long getMinNanos() {
+            return count > 0 ? minNanos : 0;
+        }
+
+        /**
+         * En büyük değeri döndürür.
+         *
+         * @return En büyük değer (ns) veya değer yoksa 0
+         */
+        public long getMaxNanos() {
+            return count > 0 ? maxNanos : 0;
+        }
+
+        /**
+         * Verilen yüzdelikteki değeri döndürür. Sonuç, değerin bulunduğu
+         * kovanın üst sınırıdır (en fazla %1,6 yukarı yuvarlanır) ve
+         * gerçek en küçük/en büyük değerle sınırlanır.
+         *
+         * @param percentile Yüzdelik (0-100), ör. 99.9
+         * @return Değer (ns) veya değer yoksa 0
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            double clamped = Math.max(0, Math.min(100, percentile));
+            long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return Math.max(minNanos, Math.min(maxNanos, highestValue(i)));
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * Bu görüntü ile başka bir görüntünün birleşimini döndürür.
+         *
+         * @param other Diğer görüntü
+         * @return Birleşik görüntü
+         */
+        public Snapshot merge(Snapshot other) {
+            long[] merged = counts.clone();
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += other.counts[i];
+            }
+            return new Snapshot(merged, totalNanos + other.totalNanos,
+                    Math.min(minNanos, other.minNanos), Math.max(maxNanos, other.maxNanos));
+        }
+
+        /**
+         * Daha önce alınmış bir kümülatif görüntüden bu yana eklenen
+         * değerleri döndürür. Aralığın en küçük/en büyük değeri kova
+         * sınırlarından hesaplanır.
+         */
+        Snapshot since(Snapshot earlier) {
+            long[] delta = new long[counts.length];
+            int first = -1;
+            int last = -1;
+            for (int i = 0; i < delta.length; i++) {
+                delta[i] = counts[i] - earlier.counts[i];
+                if (delta[i] > 0) {
+                    if (first < 0) {
+                        first = i;
+                    }
+                    last = i;
+                }
+            }
+            if (first < 0) {
+                return EMPTY;
+            }
+            return new Snapshot(delta, totalNanos - earlier.totalNanos,
+                    Math.max(minNanos, lowestValue(first)), Math.min(maxNanos, highestValue(last)));
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "count=%d, mean=%.3f ms, p50=%.3f ms, p90=%.3f ms, p99=%.3f ms, p99.9=%.3f ms, max=%.3f ms",
+                    count, getMeanNanos() / 1e6,
+                    getValueAtPercentile(50) / 1e6, getValueAtPercentile(90) / 1e6,
+                    getValueAtPercentile(99) / 1e6, getValueAtPercentile(99.9) / 1e6,
+                    getMaxNanos() / 1e6);
+        }
+    }
+}
@@ -2,19 +2,105 @@
 
 package starter.core;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Görüntü işleme performans metriklerini (toplam kare sayısı, toplam süre,
- * ortalama, min, maks kare işleme süresi ve FPS) depolamak ve formatlamak için
- * kullanılan bir sınıftır.
+ * ortalama, min, maks ve yüzdelik kare işleme süreleri ile FPS) depolamak ve
+ * formatlamak için kullanılan bir sınıftır.
+ *
+ * Kare süreleri nanosaniye çözünürlüğünde, sabit bellekli bir
+ * LatencyHistogram'a kaydedilir: milisaniyenin altındaki süreler 0'a
+ * yuvarlanmaz, kayıt sayısı arttıkça bellek büyümez ve kuyruk gecikmeleri
+ * (p99, p99.9) sorgulanabilir. record() thread güvenlidir ve bellek ayırmaz.
  */
 public class PerformanceMetrics {
-    public List<Long> frameTimes = new ArrayList<>();
-    public long totalTime;
-    public int totalFrames;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Bir karenin işleme süresini kaydeder.
+     *
+     * @param nanos Kare süresi (ns)
+     */
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    /**
+     * Kaydedilen kare sayısını döndürür.
+     *
+     * @return Kare sayısı
+     */
+    public long getTotalFrames() {
+        return histogram.snapshot().getCount();
+    }
+
+    /**
+     * Kaydedilen kare sürelerinin toplamını milisaniye olarak döndürür.
+     *
+     * @return Toplam süre (ms)
+     */
+    public double getTotalTimeMillis() {
+        return histogram.snapshot().getTotalNanos() / 1e6;
+    }
+
+    /**
+     * Ortalama kare süresini milisaniye olarak döndürür.
+     *
+     * @return Ortalama süre (ms)
+     */
+    public double getAverageMillis() {
+        return histogram.snapshot().getMeanNanos() / 1e6;
+    }
+
+    /**
+     * Verilen yüzdelikteki kare süresini milisaniye olarak döndürür.
+     *
+     * @param percentile Yüzdelik (0-100), ör. 99.9
+     * @return Süre (ms)
+     */
+    public double getPercentileMillis(double percentile) {
+        return histogram.snapshot().getValueAtPercentile(percentile) / 1e6;
+    }
+
+    /**
+     * Kaydedilen kare sürelerine göre saniyede işlenebilecek kare sayısını
+     * döndürür.
+     *
+     * @return FPS veya kayıt yoksa 0
+     */
+    public double getFps() {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        return snapshot.getTotalNanos() > 0 ? snapshot.getCount() * 1e9 / snapshot.getTotalNanos() : 0;
+    }
+
+    /**
+     * Kaydedilen tüm kare sürelerinin görüntüsünü döndürür.
+     *
+     * @return Kümülatif görüntü
+     */
+    public LatencyHistogram.Snapshot snapshot() {
+        return histogram.snapshot();
+    }
+
+    /**
+     * Bir önceki çağrıdan bu yana kaydedilen kare sürelerinin görüntüsünü
+     * döndürür (ör. saniyede bir canlı akış raporu için).
+     *
+     * @return Aralık görüntüsü
+     */
+    public LatencyHistogram.Snapshot intervalSnapshot() {
+        return histogram.intervalSnapshot();
+    }
+
+    /**
+     * Başka bir thread'de veya ölçümde toplanan kare sürelerini bu
+     * metriklere ekler.
+     *
+     * @param other Eklenecek metrikler
+     */
+    public void merge(PerformanceMetrics other) {
+        histogram.add(other.snapshot());
+    }
 
     /**
      * Toplanan performans metriklerini okunabilir bir string formatında döndürür.
@@ -24,26 +110,32 @@ public class PerformanceMetrics {
      */
     @Override
     public String toString() {
-        if (frameTimes.isEmpty()) return "No frames processed";
-        
-        long min = Collections.min(frameTimes);
-        long max = Collections.max(frameTimes);
-        double avg = frameTimes.stream().mapToLong(Long::longValue).average().orElse(0);
-        double fps = (totalFrames > 0 && totalTime > 0) ? (totalFrames * 1000.0) / totalTime : 0;
-        
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        if (snapshot.getCount() == 0) return "No frames processed";
+
+        double fps = snapshot.getTotalNanos() > 0 ? snapshot.getCount() * 1e9 / snapshot.getTotalNanos() : 0;
+
         return String.format(
             "Total Frames: %d\n" +
-            "Total Time: %d ms\n" +
-            "Average Frame Time: %.2f ms\n" +
-            "Min Frame Time: %d ms\n" +
-            "Max Frame Time: %d ms\n" +
+            "Total Time: %.2f ms\n" +
+            "Average Frame Time: %.3f ms\n" +
+            "Min Frame Time: %.3f ms\n" +
+            "P50 Frame Time: %.3f ms\n" +
+            "P90 Frame Time: %.3f ms\n" +
+            "P99 Frame Time: %.3f ms\n" +
+            "P99.9 Frame Time: %.3f ms\n" +
+            "Max Frame Time: %.3f ms\n" +
             "FPS: %.2f",
-            totalFrames,
-            totalTime,
-            avg,
-            min,
-            max,
+            snapshot.getCount(),
+            snapshot.getTotalNanos() / 1e6,
+            snapshot.getMeanNanos() / 1e6,
+            snapshot.getMinNanos() / 1e6,
+            snapshot.getValueAtPercentile(50) / 1e6,
+            snapshot.getValueAtPercentile(90) / 1e6,
+            snapshot.getValueAtPercentile(99) / 1e6,
+            snapshot.getValueAtPercentile(99.9) / 1e6,
+            snapshot.getMaxNanos() / 1e6,
             fps
         );
     }
-}
\ No newline at end of file
+}
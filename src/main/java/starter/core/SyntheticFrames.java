@@ -0,0 +1,107 @@
+// src/main/java/starter/core/SyntheticFrames.java
+
+package starter.core;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.util.Locale;
+import org.bytedeco.opencv.global.opencv_core;
+import org.bytedeco.opencv.opencv_core.Mat;
+
+/**
+ * SyntheticFrames, benchmark'lar ve komut satırı ölçümleri için kamera
+ * gerektirmeyen, tekrarlanabilir test kareleri üretir. Kareler yumuşak gradyanlar, keskin kenarlar ve
+ * sabit tohumlu gürültü içerir; böylece eşikleme ve kenar filtreleri
+ * gerçekçi dallanma davranışı gösterir ve her çalıştırmada aynı girdi
+ * kullanılır.
+ */
+public final class SyntheticFrames {
+
+    /** Benchmark'larda kullanılan çözünürlükler (VGA'dan 4K'ya) */
+    public static final String VGA = "640x480";
+    public static final String HD = "1280x720";
+    public static final String FULL_HD = "1920x1080";
+    public static final String UHD = "3840x2160";
+
+    private SyntheticFrames() {
+    }
+
+    /**
+     * "GENİŞLİKxYÜKSEKLİK" biçimindeki çözünürlüğü ayrıştırır.
+     *
+     * @param resolution Çözünürlük (ör. "1920x1080")
+     * @return {genişlik, yükseklik}
+     */
+    public static int[] parse(String resolution) {
+        String[] parts = resolution.toLowerCase(Locale.ROOT).split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid resolution: " + resolution);
+        }
+        return new int[] {Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+    }
+
+    /**
+     * Kameradan gelen karelerle aynı türde (TYPE_3BYTE_BGR) bir test karesi üretir.
+     *
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param seed Gürültü tohumu
+     * @return Test karesi
+     */
+    public static BufferedImage bgrFrame(int width, int height, long seed) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        byte[] data = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        long state = seed * 0x9E3779B97F4A7C15L + 1;
+
+        for (int y = 0, i = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, i += 3) {
+                state ^= state << 13;
+                state ^= state >>> 7;
+                state ^= state << 17;
+                int noise = (int) (state & 0x1F) - 16;
+
+                // Yatay/dikey gradyanlar ve kenar oluşturan dama deseni
+                int checker = (((x >> 5) ^ (y >> 5)) & 1) * 96;
+                int b = (x * 255 / Math.max(1, width - 1)) ^ checker;
+                int g = (y * 255 / Math.max(1, height - 1)) + noise;
+                int r = ((x + y) & 0xFF) + checker / 2 + noise;
+
+                data[i] = (byte) clamp(b);
+                data[i + 1] = (byte) clamp(g);
+                data[i + 2] = (byte) clamp(r);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Test karesini filtrelerin kullandığı 0xAARRGGBB int[] biçiminde üretir.
+     *
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param seed Gürültü tohumu
+     * @return Piksel dizisi (width * height)
+     */
+    public static int[] argbFrame(int width, int height, long seed) {
+        return ImageUtils.toIntRgb(bgrFrame(width, height, seed), null);
+    }
+
+    /**
+     * Test karesini kameranın verdiği biçimde (CV_8UC3, BGR) bir Mat olarak üretir.
+     *
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param seed Gürültü tohumu
+     * @return Sürekli (continuous) BGR Mat
+     */
+    public static Mat matFrame(int width, int height, long seed) {
+        byte[] data = ((DataBufferByte) bgrFrame(width, height, seed).getRaster().getDataBuffer()).getData();
+        Mat mat = new Mat(height, width, opencv_core.CV_8UC3);
+        mat.data().put(data);
+        return mat;
+    }
+
+    private static int clamp(int value) {
+        return Math.min(255, Math.max(0, value));
+    }
+}
@@ -0,0 +1,326 @@
+// src/main/java/starter/display/AsciiTextSink.java
+
+package starter.display;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import starter.core.ImageUtils;
+import starter.filters.ASCIIArtFilter;
+import starter.pipeline.FramePacket;
+
+/**
+ * AsciiTextSink, kareleri piksel çizmeden ASCII karakter ızgarasına
+ * çevirir ve metni bir veya daha fazla izleyiciye (stdout, dosya, boru,
+ * TCP bağlantısı) akıtır. Terminal ve log panoları için görüntü yerine
+ * yalnızca karakterler üretilir.
+ *
+ * Tek Hesaplama, Çok İzleyici:
+ * Her kare için metin bir kez, yeniden kullanılan tek bir bayt buffer'ına
+ * üretilir (bkz. ASCIIArtFilter.toText). Her izleyicinin kendi thread'i
+ * vardır; yeni kare yayımlandığında metni kendi buffer'ına kopyalar ve
+ * akışına yazar. Kopyalama StampedLock'un iyimser okumasıyla kilitsiz
+ * yapılır. Yavaş bir izleyici yayıncıyı veya diğer izleyicileri
+ * bekletmez; yalnızca aradaki kareleri atlar ("son kare kazanır").
+ *
+ * Çerçeveleme:
+ * ANSI açıksa ilk kareden önce ekran temizlenir ve imleç gizlenir, her
+ * kare imleci sol üst köşeye alan "ESC[H" ile başlar; böylece terminal
+ * kareyi yerinde yeniler. Dosyaya yazılan akış "cat" ile yeniden
+ * oynatılabilir.
+ *
+ * Eşzamanlılık Kuralları:
+ * - publish() ve accept() tek bir üretici thread'den çağrılmalıdır
+ * - addViewer() ve close() herhangi bir thread'den çağrılabilir
+ */
+public final class AsciiTextSink implements Consumer<FramePacket>, AutoCloseable {
+
+    private static final byte[] CLEAR_SCREEN = "\u001b[?25l\u001b[2J".getBytes(US_ASCII);
+    private static final byte[] CURSOR_HOME = "\u001b[H".getBytes(US_ASCII);
+    private static final byte[] SHOW_CURSOR = "\u001b[?25h".getBytes(US_ASCII);
+
+    private final int cellWidth;
+    private final int cellHeight;
+    private final boolean ansi;
+
+    // Yayımlanan kare; yazım kilidi altında değişir, izleyiciler iyimser okur
+    private final StampedLock lock = new StampedLock();
+    private byte[] text = new byte[0];
+    private int length;
+    private volatile long frameCount;
+
+    // Üretici thread'in yeniden kullandığı buffer'lar
+    private int[] pixels;
+    private byte[] back = new byte[0];
+
+    private final Object signal = new Object();
+    private final List<Viewer> viewers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger viewerIds = new AtomicInteger();
+    private volatile boolean closed;
+
+    // Kapanan izleyicilerin yazdığı ve atladığı kare sayılarının toplamı
+    private final AtomicLong writtenFrames = new AtomicLong();
+    private final AtomicLong skippedFrames = new AtomicLong();
+
+    /**
+     * @param cellWidth Bir karakterin kapladığı piksel genişliği
+     * @param cellHeight Bir karakterin kapladığı piksel yüksekliği
+     * @param ansi Kareler ANSI imleç komutlarıyla çerçevelensin mi
+     */
+    public AsciiTextSink(int cellWidth, int cellHeight, boolean ansi) {
+        if (cellWidth <= 0 || cellHeight <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellWidth + "x" + cellHeight);
+        }
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.ansi = ansi;
+    }
+
+    /**
+     * ASCIIArtFilter'ın hücre boyutunu (4x8) kullanan, ANSI çerçeveli bir
+     * sink oluşturur.
+     */
+    public AsciiTextSink() {
+        this(ASCIIArtFilter.CHAR_WIDTH, ASCIIArtFilter.CHAR_HEIGHT, true);
+    }
+
+    /**
+     * Pipeline'dan gelen işlenmiş kareyi yayımlar.
+     *
+     * @param packet Kare
+     */
+    @Override
+    public void accept(FramePacket packet) {
+        publish(packet.getProcessed());
+    }
+
+    /**
+     * Bir görüntüyü metne çevirip yayımlar.
+     *
+     * @param image Görüntü
+     */
+    public void publish(BufferedImage image) {
+        pixels = ImageUtils.toIntRgb(image, pixels);
+        publish(pixels, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Pikselleri metne çevirip yayımlar. Metin önce üreticinin arka
+     * buffer'ına yazılır, ardından kısa bir yazım kilidiyle ön buffer'la
+     * yer değiştirilir.
+     *
+     * @param src Pikseller (width * height)
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     */
+    public void publish(int[] src, int width, int height) {
+        int required = ASCIIArtFilter.textLength(width, height, cellWidth, cellHeight);
+        if (back.length < required) {
+            back = new byte[required];
+        }
+        int written = ASCIIArtFilter.toText(src, width, height, cellWidth, cellHeight, back);
+
+        long stamp = lock.writeLock();
+        try {
+            byte[] front = text;
+            text = back;
+            length = written;
+            back = front;
+            frameCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+    }
+
+    /**
+     * Bir izleyici ekler. İzleyici kendi daemon thread'inde en yeni kareleri
+     * akışa yazar; yazım hatası alırsa (ör. bağlantı koptu) akışı kapatıp
+     * kendini kaldırır.
+     *
+     * @param name İzleyici adı (loglar için)
+     * @param out Hedef akış; sink kapanınca veya hata alınca kapatılır
+     */
+    public void addViewer(String name, OutputStream out) {
+        if (closed) {
+            throw new IllegalStateException("Sink is closed");
+        }
+        Viewer viewer = new Viewer(name, out);
+        viewers.add(viewer);
+        Thread thread = new Thread(viewer, "ascii-viewer-" + viewerIds.incrementAndGet());
+        thread.setDaemon(true);
+        viewer.thread = thread;
+        thread.start();
+    }
+
+    /**
+     * Yayımlanan kare sayısını döndürür.
+     *
+     * @return Kare sayısı
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Bağlı izleyici sayısını döndürür.
+     *
+     * @return İzleyici sayısı
+     */
+    public int getViewerCount() {
+        return viewers.size();
+    }
+
+    /**
+     * Kapanan izleyicilerin yazdığı kare sayılarının toplamını döndürür.
+     * close() sonrasında tüm izleyicileri kapsar.
+     *
+     * @return Yazılan kare sayısı
+     */
+    public long getWrittenFrames() {
+        return writtenFrames.get();
+    }
+
+    /**
+     * Kapanan izleyicilerin geride kaldığı için atladığı kare sayılarının
+     * toplamını döndürür. close() sonrasında tüm izleyicileri kapsar.
+     *
+     * @return Atlanan kare sayısı
+     */
+    public long getSkippedFrames() {
+        return skippedFrames.get();
+    }
+
+    /**
+     * İzleyicileri durdurur ve akışlarını kapatır. Her izleyici son
+     * yayımlanan kareyi yazmayı bitirir.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+        for (Viewer viewer : viewers) {
+            try {
+                viewer.thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "frames=" + frameCount + ", viewers=" + viewers.size();
+    }
+
+    /**
+     * Kendi thread'inde en yeni kareyi bir akışa yazan izleyici.
+     */
+    private final class Viewer implements Runnable {
+        private final String name;
+        private final OutputStream out;
+        private Thread thread;
+        private byte[] copy = new byte[0];
+        private long written;
+        private long skipped;
+
+        Viewer(String name, OutputStream out) {
+            this.name = name;
+            this.out = out;
+        }
+
+        @Override
+        public void run() {
+            long lastFrame = 0;
+            try {
+                if (ansi) {
+                    out.write(CLEAR_SCREEN);
+                }
+                while (true) {
+                    long frame = awaitFrame(lastFrame);
+                    if (frame == lastFrame) {
+                        break; // Sink kapandı ve yeni kare yok
+                    }
+                    skipped += frame - lastFrame - 1;
+                    lastFrame = frame;
+
+                    int size = copyFrame();
+                    if (ansi) {
+                        out.write(CURSOR_HOME);
+                    }
+                    out.write(copy, 0, size);
+                    out.flush();
+                    written++;
+                }
+                if (ansi) {
+                    out.write(SHOW_CURSOR);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                System.err.println("ASCII viewer '" + name + "' disconnected: " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                viewers.remove(this);
+                try {
+                    out.close();
+                } catch (IOException ignored) {
+                    // Akış zaten kapalı
+                }
+                writtenFrames.addAndGet(written);
+                skippedFrames.addAndGet(skipped);
+            }
+        }
+
+        private long awaitFrame(long lastFrame) throws InterruptedException {
+            synchronized (signal) {
+                while (frameCount == lastFrame && !closed) {
+                    signal.wait();
+                }
+                return frameCount;
+            }
+        }
+
+        /**
+         * Yayımlanan metni izleyicinin buffer'ına kopyalar. Kopya sırasında
+         * yeni kare yayımlanırsa iyimser okuma geçersiz olur ve okuma
+         * kilidiyle yinelenir.
+         */
+        private int copyFrame() {
+            long stamp = lock.tryOptimisticRead();
+            byte[] source = text;
+            int size = length;
+            if (copy.length < source.length) {
+                copy = new byte[source.length];
+            }
+            System.arraycopy(source, 0, copy, 0, Math.min(size, source.length));
+            if (lock.validate(stamp)) {
+                return size;
+            }
+
+            stamp = lock.readLock();
+            try {
+                if (copy.length < text.length) {
+                    copy = new byte[text.length];
+                }
+                System.arraycopy(text, 0, copy, 0, length);
+                return length;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+// src/main/java/starter/display/LatestFramePresenter.java
+
+package starter.display;
+
+import java.awt.image.BufferedImage;
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import javafx.animation.AnimationTimer;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import starter.core.FrameTracer;
+import starter.core.ImageUtils;
+import starter.core.SyntheticFrames;
+import starter.pipeline.FramePacket;
+import starter.pipeline.SpscRingBuffer;
+import starter.processing.Resampler;
+
+/**
+ * LatestFramePresenter, pipeline'ın gösterim aşaması ile JavaFX thread'i
+ * arasında "son kare kazanır" ilkesiyle çalışan bir köprüdür.
+ *
+ * Her kare için Platform.runLater çağırmak yerine gösterim aşaması hazır
+ * kareyi tek bir atomik yuvaya yazar; yuvada henüz gösterilmemiş bir kare
+ * varsa o kare bayatlamıştır ve düşürülür. Ekran yenilemesiyle eşzamanlı
+ * çalışan AnimationTimer her darbede yuvadaki en yeni kareyi alır ve
+ * gösterir.
+ *
+ * Böylece:
+ * - FX thread'i geride kalsa bile bekleyen kare sayısı en fazla birdir;
+ *   bellek ve gecikme işleme dalgalanmalarından bağımsız olarak sınırlıdır
+ * - Gösterilen ve düşürülen kareler sayılır
+ *
+ * Kopyasız Gösterim:
+ * Kareler her seferinde yeni bir WritableImage'e dönüştürülmez. Gösterici,
+ * PixelBuffer&lt;IntBuffer&gt; (INT_ARGB_PRE) ile desteklenen kalıcı
+ * görüntülerden oluşan küçük bir buffer kümesini döndürür: gösterim
+ * thread'i pikselleri doğrudan boştaki buffer'ın int[] dizisine yazar,
+ * FX thread'i yalnızca updateBuffer ile dokunun yenilenmesini ister.
+ * FX thread'inde piksel döngüsü veya kare boyutunda bellek ayırma yoktur.
+ *
+ * Gösterim Boyutu:
+ * "display.maxSize" verildiyse (ör. 960x540) daha büyük kareler buffer'a
+ * kopyalanırken bu boyuta küçültülür (Resampler); böylece FX thread'i ve
+ * ekran kartı 4K kareler yerine yalnızca gösterilecek pikselleri taşır.
+ *
+ * Buffer Döngüsü:
+ * - Bir buffer aynı anda yalnızca bir yerde bulunur: yazılan (gösterim
+ *   thread'i), yuvada bekleyen, ekranda olan, bir önceki darbede ekranda
+ *   olan veya boş kuyruğunda
+ * - Ekrandan inen buffer bir darbe daha bekletilir; böylece render
+ *   thread'i son yüklemesini bitirmeden üzerine yazılmaz
+ *
+ * Eşzamanlılık Kuralları:
+ * - accept() yalnızca pipeline'ın gösterim thread'inden çağrılmalıdır
+ * - start(), stop() ve handle() JavaFX thread'inde çalışır
+ */
+public final class LatestFramePresenter extends AnimationTimer implements Consumer<FramePacket> {
+
+    /**
+     * Arayüze yerleştirilecek kare.
+     *
+     * @param original Orijinal görüntü
+     * @param processed İşlenmiş görüntü
+     * @param convertNanos Mat → BufferedImage dönüşüm süresi (ns)
+     * @param filterNanos Filtreleme süresi (ns)
+     * @param captureTime Yakalanma zamanı (System.nanoTime)
+     */
+    public record Frame(Image original, Image processed, long convertNanos, long filterNanos, long captureTime) {
+    }
+
+    /** Gösterilecek karelerin sığdırılacağı en büyük boyut (GENİŞLİKxYÜKSEKLİK) için sistem özelliği */
+    public static final String MAX_SIZE_PROPERTY = "display.maxSize";
+
+    // Yazılan + yuvadaki + ekrandaki + bir önceki ekrandaki
+    private static final int BUFFER_COUNT = 4;
+
+    private final Consumer<Frame> display;
+
+    private final AtomicReference<DisplayBuffer> latest = new AtomicReference<>();
+    private final SpscRingBuffer<DisplayBuffer> freeBuffers = new SpscRingBuffer<>(BUFFER_COUNT);
+    private final AtomicLong displayedFrames = new AtomicLong();
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private volatile long lastLatencyNanos;
+
+    // null: kareler kendi boyutunda gösterilir
+    private final int[] maxSize;
+    private final Resampler.Kernel kernel = Resampler.Kernel.configured();
+
+    // Yalnızca gösterim thread'i kullanır
+    private DisplayBuffer back;
+    private int[] pixels;
+
+    // Yalnızca FX thread'i kullanır
+    private DisplayBuffer front;
+    private DisplayBuffer retired;
+
+    /**
+     * Yeni bir gösterici oluşturur.
+     *
+     * @param display Kareyi arayüze yerleştiren fonksiyon; FX thread'inde çağrılır.
+     *                Aynı görüntü nesneleri sonraki karelerde yeniden kullanılır.
+     */
+    public LatestFramePresenter(Consumer<Frame> display) {
+        this.display = display;
+        String size = System.getProperty(MAX_SIZE_PROPERTY, "").trim();
+        this.maxSize = size.isEmpty() ? null : SyntheticFrames.parse(size);
+    }
+
+    /**
+     * Pipeline'dan gelen kareyi boştaki buffer'a kopyalar ve yuvaya yazar.
+     * Yuvada gösterilmemiş bir kare varsa yenisiyle değiştirilir ve onun
+     * buffer'ı sonraki kare için kullanılır.
+     *
+     * @param packet İşlenmiş kare
+     */
+    @Override
+    public void accept(FramePacket packet) {
+        BufferedImage original = packet.getOriginal();
+        BufferedImage processed = packet.getProcessed();
+        int sourceWidth = original.getWidth();
+        int sourceHeight = original.getHeight();
+        int[] size = maxSize != null
+                ? Resampler.fit(sourceWidth, sourceHeight, maxSize[0], maxSize[1])
+                : new int[] {sourceWidth, sourceHeight};
+        int width = size[0];
+        int height = size[1];
+
+        DisplayBuffer target = back;
+        back = null;
+        while (target == null || !target.fits(width, height)) {
+            target = freeBuffers.poll();
+            if (target == null) {
+                // İlk kareler veya çözünürlük değişimi; eski boyuttaki buffer'lar bırakılır
+                target = new DisplayBuffer(width, height);
+            }
+        }
+
+        copy(original, target.originalPixels, width, height);
+        copy(processed, target.processedPixels, width, height);
+        target.convertNanos = packet.getConvertNanos();
+        target.filterNanos = packet.getFilterNanos();
+        target.captureTime = packet.getCaptureTime();
+        target.sequence = packet.getSequence();
+
+        DisplayBuffer stale = latest.getAndSet(target);
+        if (stale != null) {
+            droppedFrames.incrementAndGet();
+            back = stale;
+        }
+    }
+
+    /**
+     * Görüntüyü buffer dizisine kopyalar; gösterim boyutu daha küçükse
+     * kopyalarken küçültür.
+     */
+    private void copy(BufferedImage image, int[] target, int width, int height) {
+        if (image.getWidth() == width && image.getHeight() == height) {
+            ImageUtils.toIntRgb(image, target);
+            return;
+        }
+        int[] source = ImageUtils.intRgbData(image);
+        if (source == null) {
+            pixels = ImageUtils.toIntRgb(image, pixels);
+            source = pixels;
+        }
+        Resampler.resize(source, image.getWidth(), image.getHeight(), target, width, height, kernel);
+    }
+
+    /**
+     * Her ekran darbesinde yuvadaki en yeni kareyi alır ve gösterir.
+     * Yeni kare yoksa hiçbir şey yapılmaz.
+     *
+     * @param now Darbe zamanı (ns)
+     */
+    @Override
+    public void handle(long now) {
+        DisplayBuffer next = latest.getAndSet(null);
+        if (next == null) {
+            return;
+        }
+
+        FrameTracer.setFrame(next.sequence);
+        long start = FrameTracer.begin();
+        // Tüm buffer yazıldı; dokunun tamamı yenilenir
+        next.originalBuffer.updateBuffer(buffer -> null);
+        next.processedBuffer.updateBuffer(buffer -> null);
+        display.accept(new Frame(next.originalImage, next.processedImage,
+                next.convertNanos, next.filterNanos, next.captureTime));
+
+        if (retired != null) {
+            freeBuffers.offer(retired);
+        }
+        retired = front;
+        front = next;
+
+        displayedFrames.incrementAndGet();
+        lastLatencyNanos = System.nanoTime() - next.captureTime;
+        FrameTracer.end(FrameTracer.DISPLAY, "fx handoff", start);
+    }
+
+    /**
+     * Zamanlayıcıyı durdurur ve gösterilmemiş kareyi bırakır.
+     */
+    @Override
+    public void stop() {
+        super.stop();
+        latest.set(null);
+    }
+
+    /**
+     * Ekrana aktarılan kare sayısını döndürür.
+     *
+     * @return Gösterilen kare sayısı
+     */
+    public long getDisplayedFrames() {
+        return displayedFrames.get();
+    }
+
+    /**
+     * Gösterilmeden yenisiyle değiştirilen kare sayısını döndürür.
+     *
+     * @return Düşürülen kare sayısı
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Son gösterilen karenin yakalanmasından ekrana aktarılmasına kadar
+     * geçen süreyi döndürür.
+     *
+     * @return Yakalama → gösterim gecikmesi (ns)
+     */
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "displayed=" + displayedFrames.get() + ", dropped=" + droppedFrames.get();
+    }
+
+    /**
+     * Orijinal ve işlenmiş görüntü için PixelBuffer destekli kalıcı
+     * görüntü çifti. Pikseller doğrudan int[] dizilere yazılır; diziler
+     * INT_ARGB_PRE formatındaki PixelBuffer'ların arka planıdır. Tüm
+     * pikseller opak olduğu için ön çarpımlı format ek dönüşüm gerektirmez.
+     */
+    private static final class DisplayBuffer {
+        final int[] originalPixels;
+        final int[] processedPixels;
+        final PixelBuffer<IntBuffer> originalBuffer;
+        final PixelBuffer<IntBuffer> processedBuffer;
+        final WritableImage originalImage;
+        final WritableImage processedImage;
+
+        long convertNanos;
+        long filterNanos;
+        long captureTime;
+        long sequence;
+
+        DisplayBuffer(int width, int height) {
+            PixelFormat<IntBuffer> format = PixelFormat.getIntArgbPreInstance();
+            originalPixels = new int[width * height];
+            processedPixels = new int[width * height];
+            originalBuffer = new PixelBuffer<>(width, height, IntBuffer.wrap(originalPixels), format);
+            processedBuffer = new PixelBuffer<>(width, height, IntBuffer.wrap(processedPixels), format);
+            originalImage = new WritableImage(originalBuffer);
+            processedImage = new WritableImage(processedBuffer);
+        }
+
+        boolean fits(int width, int height) {
+            return originalBuffer.getWidth() == width && originalBuffer.getHeight() == height;
+        }
+    }
+}
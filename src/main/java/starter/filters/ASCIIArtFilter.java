@@ -2,25 +2,112 @@
 
 package starter.filters; // Paket adını projenize göre güncelleyin
 
-import java.awt.Color;
 import java.awt.Font;
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import starter.core.ImageUtils;
 
 /**
  * ASCIIArtFilter sınıfı, bir görüntüyü ASCII karakterleri kullanarak
  * metin tabanlı bir sanata dönüştürür. Görüntüyü küçük bloklara böler
  * ve her bloğun ortalama parlaklığına göre uygun bir ASCII karakteri
  * seçer. Bu, görüntünün metin tabanlı bir temsilini oluşturur.
+ *
+ * Karakterler kare başına drawString ile çizilmez: glifler bir kez
+ * GlyphAtlas'a rasterleştirilir ve hücrelere doğrudan piksel dizisine
+ * kopyalanır. Hücre parlaklığı tamsayı toplamlarla hesaplanır ve bir
+ * tablo ile karakter indeksine çevrilir; böylece hücre satırları
+ * işçiler arasında bölündüğünde her işçi yalnızca kendi satırlarını
+ * işler.
  */
-public class ASCIIArtFilter {
+public class ASCIIArtFilter implements Filter {
+
+    /** Filtrenin kayıt adı */
+    public static final String NAME = "ASCII Art";
+
     // Parlaklık değerlerine göre ASCII karakterleri (koyudan açığa)
     private static final String ASCII_CHARS = " .'`^\",:;Il!i><~+_-?][}{1)(|\\/tfjrxnuvczXYUJCLQ0OZmwqpdbkhao*#MW&8%B@$";
-    // Her ASCII karakteri için piksel genişliği
-    private static final int CHAR_WIDTH = 4;
-    // Her ASCII karakteri için piksel yüksekliği
-    private static final int CHAR_HEIGHT = 8;
+    /** Her ASCII karakteri için piksel genişliği */
+    public static final int CHAR_WIDTH = 4;
+    /** Her ASCII karakteri için piksel yüksekliği */
+    public static final int CHAR_HEIGHT = 8;
+
+    // Karakteri dikeyde biraz daha iyi konumlandırmak için taban çizgisi CHAR_HEIGHT - (CHAR_HEIGHT / 5)
+    private static final int BASELINE = CHAR_HEIGHT - (CHAR_HEIGHT / 5);
+
+    private static final int BLACK = 0xFF000000;
+
+    // Ortalama parlaklık (0-255) → karakter indeksi
+    private static final byte[] CHAR_FOR_BRIGHTNESS = new byte[256];
+
+    static {
+        for (int brightness = 0; brightness < 256; brightness++) {
+            CHAR_FOR_BRIGHTNESS[brightness] = (byte) ((brightness / 255.0) * (ASCII_CHARS.length() - 1));
+        }
+    }
+
+    private static final GlyphAtlas ATLAS = GlyphAtlas.of(
+            new Font("Monospaced", Font.PLAIN, CHAR_HEIGHT), CHAR_WIDTH, CHAR_HEIGHT, BASELINE, ASCII_CHARS);
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Bir satırın sonucu, o satırı içeren hücrenin tamamına ve komşu hücre
+     * satırlarından taşan karakter uzantılarına bağlıdır; bu nedenle yarıçap
+     * iki hücre yüksekliği kadardır.
+     */
+    @Override
+    public int getRadius(FilterParams params) {
+        return 2 * CHAR_HEIGHT;
+    }
+
+    /**
+     * Karakter hücreleri karenin sol üst köşesine hizalıdır ve kalan
+     * kenar pikselleri siyah bırakılır; bu yüzden filtre karolara
+     * bölünemez, tüm kare üzerinde çalıştırılır.
+     */
+    @Override
+    public boolean isTileable() {
+        return false;
+    }
+
+    /**
+     * [startY, endY) aralığıyla kesişen karakter hücrelerini hedef diziye
+     * çizer. Hücre parlaklığı her zaman hücrenin tamamından (kaynak dizinin
+     * aralık dışındaki satırları dahil) hesaplanır; çizim ise yalnızca
+     * aralıktaki satırlara kırpılır. Böylece satır aralıklarına bölünmüş
+     * paralel çalışma, tüm karenin tek seferde işlenmesiyle aynı sonucu verir.
+     */
+    @Override
+    public void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params) {
+        Arrays.fill(dst, startY * width, endY * width, BLACK);
+
+        int asciiWidth = width / CHAR_WIDTH;
+        int asciiHeight = height / CHAR_HEIGHT;
+        if (asciiWidth == 0 || asciiHeight == 0) {
+            return; // Görüntü ASCII dönüşümü için çok küçük, siyah bırak
+        }
+
+        // Karakterlerin alt/üst uzantıları komşu hücre satırına taşabildiği için
+        // aralığın bir hücre satırı ötesi de çizilir; fazlası kırpma ile atılır.
+        int firstCellRow = Math.max(0, startY / CHAR_HEIGHT - 1);
+        int lastCellRow = Math.min(asciiHeight, (endY + CHAR_HEIGHT - 1) / CHAR_HEIGHT + 1);
+        if (firstCellRow >= lastCellRow) {
+            return;
+        }
+
+        for (int yAscii = firstCellRow; yAscii < lastCellRow; yAscii++) {
+            int cellY = yAscii * CHAR_HEIGHT;
+            for (int xAscii = 0; xAscii < asciiWidth; xAscii++) {
+                ATLAS.draw(glyphForCell(src, width, xAscii, yAscii), dst, width,
+                        xAscii * CHAR_WIDTH, cellY, startY, endY);
+            }
+        }
+    }
 
     /**
      * Verilen bir görüntüyü ASCII sanatına dönüştürür. Görüntüyü CHAR_WIDTH x CHAR_HEIGHT
@@ -30,70 +117,92 @@ public class ASCIIArtFilter {
      *
      * @param input Dönüştürülecek orijinal görüntü
      * @return ASCII karakterlerinden oluşan, orijinal görüntüyle aynı boyutlarda
-     *         yeni bir görüntü. Girdi null ise veya çok küçükse, siyah bir görüntü döndürür.
+     *         yeni bir görüntü. Girdi null ise null, çok küçükse siyah bir görüntü döndürür.
      */
     public static BufferedImage convertToASCIIImage(BufferedImage input) {
         if (input == null) {
             System.err.println("ASCIIArtFilter (Sequential): Input image is null.");
-            return null; // veya boş bir görüntü
+            return null;
         }
 
         int width = input.getWidth();
         int height = input.getHeight();
+        int[] src = ImageUtils.toIntRgb(input, null);
+        int[] dst = new int[width * height];
+        new ASCIIArtFilter().apply(src, dst, width, height, 0, height, FilterParams.DEFAULT);
+        return ImageUtils.wrapIntRgb(dst, width, height);
+    }
 
-        int asciiWidth = width / CHAR_WIDTH;
-        int asciiHeight = height / CHAR_HEIGHT;
+    /**
+     * Karenin ASCII karşılığının metin olarak kaç bayt tuttuğunu döndürür:
+     * her hücre satırı için bir karakter satırı ve satır sonu ('\n').
+     *
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param cellWidth Hücre genişliği (piksel)
+     * @param cellHeight Hücre yüksekliği (piksel)
+     * @return Metin uzunluğu (bayt)
+     */
+    public static int textLength(int width, int height, int cellWidth, int cellHeight) {
+        return (height / cellHeight) * (width / cellWidth + 1);
+    }
 
-        if (asciiWidth == 0 || asciiHeight == 0) {
-            System.err.println("ASCIIArtFilter (Sequential): Image is too small for ASCII conversion.");
-            // Uygun bir çıktı döndür, örneğin boş siyah bir görüntü
-            BufferedImage emptyOutput = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-            Graphics2D g = emptyOutput.createGraphics();
-            g.setColor(Color.BLACK);
-            g.fillRect(0,0, width, height);
-            g.dispose();
-            return emptyOutput;
+    /**
+     * Karenin ASCII karakter ızgarasını piksel çizmeden metin olarak
+     * üretir. Karakterler görüntü filtresiyle aynı parlaklık eşlemesiyle
+     * seçilir; ASCII_CHARS yalnızca ASCII karakterler içerdiği için her
+     * karakter tek bayttır. Satırlar '\n' ile biter.
+     *
+     * @param src Kaynak pikseller (width * height)
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param cellWidth Hücre genişliği (piksel)
+     * @param cellHeight Hücre yüksekliği (piksel)
+     * @param out Hedef; en az textLength(...) uzunluğunda olmalı
+     * @return Yazılan bayt sayısı
+     */
+    public static int toText(int[] src, int width, int height, int cellWidth, int cellHeight, byte[] out) {
+        int columns = width / cellWidth;
+        int rows = height / cellHeight;
+        int position = 0;
+        for (int yAscii = 0; yAscii < rows; yAscii++) {
+            for (int xAscii = 0; xAscii < columns; xAscii++) {
+                int glyph = glyphForCell(src, width, xAscii * cellWidth, yAscii * cellHeight, cellWidth, cellHeight);
+                out[position++] = (byte) ASCII_CHARS.charAt(glyph);
+            }
+            out[position++] = '\n';
         }
+        return position;
+    }
 
-        BufferedImage output = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g2d = output.createGraphics();
-        g2d.setColor(Color.BLACK);
-        g2d.fillRect(0, 0, width, height);
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Monospaced", Font.PLAIN, CHAR_HEIGHT));
+    private static int glyphForCell(int[] src, int width, int xAscii, int yAscii) {
+        return glyphForCell(src, width, xAscii * CHAR_WIDTH, yAscii * CHAR_HEIGHT, CHAR_WIDTH, CHAR_HEIGHT);
+    }
 
-        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    /**
+     * Bir karakter hücresinin ortalama parlaklığına karşılık gelen ASCII
+     * karakterinin indeksini seçer.
+     *
+     * @param src Kaynak pikseller
+     * @param width Kare genişliği
+     * @param x0 Hücrenin sol kenarı
+     * @param y0 Hücrenin üst kenarı
+     * @param cellWidth Hücre genişliği
+     * @param cellHeight Hücre yüksekliği
+     * @return Hücreyi temsil eden karakterin ASCII_CHARS içindeki indeksi
+     */
+    private static int glyphForCell(int[] src, int width, int x0, int y0, int cellWidth, int cellHeight) {
+        int totalBrightness = 0;
+        int offset = y0 * width + x0;
 
-        for (int yAscii = 0; yAscii < asciiHeight; yAscii++) {
-            for (int xAscii = 0; xAscii < asciiWidth; xAscii++) {
-                long totalBrightness = 0;
-                int pixelCount = 0;
-
-                for (int py = yAscii * CHAR_HEIGHT; py < (yAscii + 1) * CHAR_HEIGHT && py < height; py++) {
-                    for (int px = xAscii * CHAR_WIDTH; px < (xAscii + 1) * CHAR_WIDTH && px < width; px++) {
-                        Color color = new Color(input.getRGB(px, py));
-                        totalBrightness += (color.getRed() + color.getGreen() + color.getBlue());
-                        pixelCount++;
-                    }
-                }
-
-                int avgBrightness = 0;
-                if (pixelCount > 0) {
-                    avgBrightness = (int) (totalBrightness / (pixelCount * 3.0));
-                }
-
-                int charIndex = (int) ((avgBrightness / 255.0) * (ASCII_CHARS.length() - 1));
-                char asciiChar = ASCII_CHARS.charAt(charIndex);
-
-                // Karakteri dikeyde biraz daha iyi konumlandırmak için CHAR_HEIGHT - (CHAR_HEIGHT / 5) kullanılıyor.
-                g2d.drawString(String.valueOf(asciiChar),
-                        xAscii * CHAR_WIDTH,
-                        (yAscii * CHAR_HEIGHT) + CHAR_HEIGHT - (CHAR_HEIGHT / 5));
+        for (int py = 0; py < cellHeight; py++) {
+            int row = offset + py * width;
+            for (int px = 0; px < cellWidth; px++) {
+                int rgb = src[row + px];
+                totalBrightness += ((rgb >> 16) & 0xFF) + ((rgb >> 8) & 0xFF) + (rgb & 0xFF);
             }
         }
 
-        g2d.dispose();
-        return output;
+        return CHAR_FOR_BRIGHTNESS[totalBrightness / (cellWidth * cellHeight * 3)];
     }
-}
\ No newline at end of file
+}
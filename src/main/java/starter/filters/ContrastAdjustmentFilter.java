@@ -2,31 +2,59 @@
 
 package starter.filters;
 
-import java.awt.Color;
-import java.awt.image.BufferedImage;
-
 /**
  * ContrastAdjustmentFilter sınıfı, bir görüntünün kontrastını ayarlar.
  * Kontrast değeri, görüntüdeki parlaklık değerlerinin dağılımını
  * etkiler. Yüksek kontrast, parlak ve koyu bölgeler arasındaki
  * farkı artırırken, düşük kontrast bu farkı azaltır.
  */
-public class ContrastAdjustmentFilter {
+public class ContrastAdjustmentFilter implements PointwiseFilter {
+
+    /** Filtrenin kayıt adı */
+    public static final String NAME = "Contrast";
+
+    private static final int[] VECTOR_OPS = {VectorKernels.CONTRAST};
+
+    // Vektör çekirdeğine verilen katsayı için thread başına dizi; çağrı başına dizi oluşturulmaz
+    private static final ThreadLocal<float[]> VECTOR_FACTORS = ThreadLocal.withInitial(() -> new float[1]);
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean averagesChannels() {
+        return false;
+    }
 
     /**
-     * Belirtilen (x, y) koordinatındaki pikselin kontrastını ayarlar.
-     * Kontrast değeri, pikselin RGB bileşenlerinin parlaklık değerlerini
-     * etkiler. 100 değeri nötr (kontrast değişikliği yok) anlamına gelir.
-     *
-     * @param input Girdi görüntüsü
-     * @param x İşlenecek pikselin x koordinatı
-     * @param y İşlenecek pikselin y koordinatı
-     * @param contrastValue Kontrast değeri (0-200 arası, 100 nötr)
-     * @return Kontrastı ayarlanmış pikselin RGB değeri
+     * Tek bir kanal değerine kontrast ayarı uygular. Tablo oluşturmak için
+     * kullanılır; katsayı her çağrıda yeniden hesaplanır.
+     */
+    @Override
+    public int mapValue(int value, FilterParams params) {
+        return adjustChannel(value, factor(params.contrastValue()));
+    }
+
+    /**
+     * [startY, endY) aralığındaki her pikselin kontrastını ayarlar.
+     * Kontrast katsayısı piksel başına değil, çağrı başına bir kez hesaplanır.
+     * VECTOR arka ucunda döngünün büyük kısmı VectorKernels'e devredilir.
      */
-    public static int apply(BufferedImage input, int x, int y, int contrastValue) {
-        Color color = new Color(input.getRGB(x, y));
-        return applyContrast(color.getRed(), color.getGreen(), color.getBlue(), contrastValue);
+    @Override
+    public void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params) {
+        double factor = factor(params.contrastValue());
+        int i = startY * width;
+        int end = endY * width;
+        if (KernelBackend.useVector()) {
+            float[] factors = VECTOR_FACTORS.get();
+            factors[0] = (float) factor;
+            i = VectorKernels.pointwise(VECTOR_OPS, factors, src, dst, i, end);
+        }
+        for (; i < end; i++) {
+            dst[i] = applyContrast(src[i], factor);
+        }
     }
 
     /**
@@ -39,43 +67,46 @@ public class ContrastAdjustmentFilter {
      * @return Kontrastı ayarlanmış renk değeri
      */
     public static int apply(int rgb, int contrastValue) {
-        Color color = new Color(rgb);
-        return applyContrast(color.getRed(), color.getGreen(), color.getBlue(), contrastValue);
+        return applyContrast(rgb, factor(contrastValue));
     }
 
     /**
-     * RGB bileşenlerine kontrast ayarı uygular.
-     * Her bileşen için parlaklık değeri, kontrast değerine göre
-     * ayarlanır. 100 değeri nötr (kontrast değişikliği yok) anlamına gelir.
+     * Kontrast değerinden ölçekleme katsayısını hesaplar.
      *
-     * @param r Kırmızı bileşen (0-255)
-     * @param g Yeşil bileşen (0-255)
-     * @param b Mavi bileşen (0-255)
      * @param contrastValue Kontrast değeri (0-200 arası, 100 nötr)
+     * @return Kontrast katsayısı
+     */
+    static double factor(int contrastValue) {
+        // contrastValue (0-200), 100 nötr. -100 ile +100 arasına map edelim.
+        double adjustedContrast = contrastValue - 100.0;
+
+        // Wikipedia'daki formül: factor = (259 * (C + 255)) / (255 * (259 - C))
+        return (259.0 * (adjustedContrast + 255.0)) / (255.0 * (259.0 - adjustedContrast));
+    }
+
+    /**
+     * RGB bileşenlerine kontrast ayarı uygular.
+     * Her bileşen 128 etrafında katsayı ile ölçeklenir ve 0-255
+     * aralığına kırpılır.
+     *
+     * @param rgb Orijinal renk değeri
+     * @param factor Kontrast katsayısı
      * @return Kontrastı ayarlanmış rengin RGB değeri
      */
-    private static int applyContrast(int r, int g, int b, int contrastValue) {
-        // contrastValue (0-200), 100 nötr.
-        // Formül için -128 ile +127 arasında bir değere map edebiliriz veya direkt formülü adapte edebiliriz.
-        // Önceki gibi -100 ile +100 arasına map edelim.
-        double adjustedContrast = contrastValue - 100.0; // Şimdi -100.0 ile +100.0 arasında
-
-        // Standart kontrast formülü: factor = (259 * (C + 255)) / (255 * (259 - C))
-        // Burada C -255 ile 255 arasında olmalı.
-        // adjustedContrast'ı bu aralığa ölçekleyebiliriz. Ya da daha basit bir yaklaşım.
-        // Daha basit bir yaklaşım (Photoshop benzeri):
-        // Eğer adjustedContrast > 0: C = adjustedContrast / 100.0; F = 1/(1-C) -1 ; (Bu F'yi kullanmak karmaşık)
-        // Wikipedia'daki formül:
-        double factor = (259.0 * (adjustedContrast + 255.0)) / (255.0 * (259.0 - adjustedContrast));
-
-        int newR = (int) (factor * (r - 128) + 128);
-        int newG = (int) (factor * (g - 128) + 128);
-        int newB = (int) (factor * (b - 128) + 128);
-
-        newR = Math.min(255, Math.max(0, newR));
-        newG = Math.min(255, Math.max(0, newG));
-        newB = Math.min(255, Math.max(0, newB));
-
-        return new Color(newR, newG, newB).getRGB();
+    private static int applyContrast(int rgb, double factor) {
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+
+        int newR = adjustChannel(r, factor);
+        int newG = adjustChannel(g, factor);
+        int newB = adjustChannel(b, factor);
+
+        return 0xFF000000 | (newR << 16) | (newG << 8) | newB;
+    }
+
+    private static int adjustChannel(int value, double factor) {
+        int adjusted = (int) (factor * (value - 128) + 128);
+        return Math.min(255, Math.max(0, adjusted));
     }
-}
\ No newline at end of file
+}
@@ -2,38 +2,60 @@
 
 package starter.filters;
 
-import java.awt.Color;
-import java.awt.image.BufferedImage;
-
 /**
  * EdgeDetectionFilter sınıfı, basit bir eşikleme yöntemiyle kenar tespiti yapar.
  * Görüntü önce gri tonlamalı yapılır, ardından parlaklık değeri bir eşik
  * değere göre siyah veya beyaza dönüştürülür. Bu, görüntüdeki ani parlaklık
  * değişimlerini belirgin hale getirir.
  */
-public class EdgeDetectionFilter {
+public class EdgeDetectionFilter implements PointwiseFilter {
+
+    /** Filtrenin kayıt adı */
+    public static final String NAME = "Edge Detection";
+
+    private static final int[] VECTOR_OPS = {VectorKernels.THRESHOLD};
+
+    // İşlemin kontrast katsayısı yoktur; çekirdek diziyi yalnızca okuduğu için tek bir dizi paylaşılır
+    private static final float[] VECTOR_FACTORS = new float[1];
 
     // Kenar tespiti için eşik değeri (0-255 arası)
     private static final int THRESHOLD = 128;
 
+    private static final int WHITE = 0xFFFFFFFF;
+    private static final int BLACK = 0xFF000000;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean averagesChannels() {
+        return true;
+    }
+
     /**
-     * Belirtilen (x, y) koordinatındaki piksele basit kenar tespiti uygular.
-     * Önce piksel gri tonlamalı yapılır, sonra parlaklık değeri eşik değere
-     * göre siyah (0) veya beyaz (255) olarak belirlenir.
-     *
-     * @param input Girdi görüntüsü
-     * @param x İşlenecek pikselin x koordinatı
-     * @param y İşlenecek pikselin y koordinatı
-     * @return Kenar tespiti uygulanmış pikselin RGB değeri (siyah veya beyaz)
+     * Kanal ortalamasını eşik değerine göre siyah (0) veya beyaza (255) çevirir.
      */
-    public static int apply(BufferedImage input, int x, int y) {
-        Color color = new Color(input.getRGB(x, y));
-        int r = color.getRed();
-        int g = color.getGreen();
-        int b = color.getBlue();
-        int gray = (r + g + b) / 3; // Önce gri tonlama
-        int edgePixelValue = gray > THRESHOLD ? 255 : 0; // Eşikleme
-        return new Color(edgePixelValue, edgePixelValue, edgePixelValue).getRGB();
+    @Override
+    public int mapValue(int value, FilterParams params) {
+        return value > THRESHOLD ? 255 : 0;
+    }
+
+    /**
+     * [startY, endY) aralığındaki her piksele eşikleme uygular.
+     * VECTOR arka ucunda döngünün büyük kısmı VectorKernels'e devredilir.
+     */
+    @Override
+    public void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params) {
+        int i = startY * width;
+        int end = endY * width;
+        if (KernelBackend.useVector()) {
+            i = VectorKernels.pointwise(VECTOR_OPS, VECTOR_FACTORS, src, dst, i, end);
+        }
+        for (; i < end; i++) {
+            dst[i] = apply(src[i]);
+        }
     }
 
     /**
@@ -45,12 +67,10 @@ public class EdgeDetectionFilter {
      * @return Kenar tespiti uygulanmış renk değeri (siyah veya beyaz)
      */
     public static int apply(int rgb) {
-        Color color = new Color(rgb);
-        int r = color.getRed();
-        int g = color.getGreen();
-        int b = color.getBlue();
-        int gray = (r + g + b) / 3;
-        int edgePixelValue = gray > THRESHOLD ? 255 : 0;
-        return new Color(edgePixelValue, edgePixelValue, edgePixelValue).getRGB();
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+        int gray = (r + g + b) / 3; // Önce gri tonlama
+        return gray > THRESHOLD ? WHITE : BLACK; // Eşikleme
     }
-}
\ No newline at end of file
+}
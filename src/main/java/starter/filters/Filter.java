@@ -0,0 +1,62 @@
+// src/main/java/starter/filters/Filter.java
+
+package starter.filters;
+
+/**
+ * Filter arayüzü, bir filtrenin tüm kareyi (veya karenin bir satır aralığını)
+ * doğrudan ilkel int[] raster üzerinde işlemesini tanımlar. Pikseller
+ * 0xAARRGGBB formatında, satır satır ve aralarında boşluk olmadan
+ * (satır adımı = genişlik) tutulur.
+ *
+ * Piksel başına getRGB/setRGB çağrısı ve Color nesnesi oluşturma maliyeti
+ * ortadan kalkar. Paralel işlemede her iş parçacığı aynı kaynak ve hedef
+ * dizileri üzerinde yalnızca kendi satır aralığını işler.
+ */
+public interface Filter {
+
+    /**
+     * Filtrenin arayüzde ve filtre zincirlerinde kullanılan adını döndürür.
+     *
+     * @return Filtre adı (ör. "Grayscale")
+     */
+    String getName();
+
+    /**
+     * Filtrenin bir çıktı pikselini hesaplamak için ihtiyaç duyduğu komşuluk
+     * yarıçapını döndürür. Noktasal (piksel bazlı) filtreler için 0'dır.
+     *
+     * @param params Filtre parametreleri
+     * @return Komşuluk yarıçapı (piksel)
+     */
+    default int getRadius(FilterParams params) {
+        return 0;
+    }
+
+    /**
+     * Filtrenin karolara (tile) bölünerek, her karo kendi küçük karesiymiş
+     * gibi işlenip işlenemeyeceğini döndürür. Sonucu yalnızca komşuluk
+     * yarıçapı içindeki piksellere bağlı olan filtreler için true'dur;
+     * mutlak koordinatlara hizalı çalışan filtreler (ör. ASCII Art) tüm
+     * kare üzerinde çalıştırılmalıdır.
+     *
+     * @return Filtre karolar üzerinde çalıştırılabiliyorsa true
+     */
+    default boolean isTileable() {
+        return true;
+    }
+
+    /**
+     * Filtreyi [startY, endY) satır aralığına uygular. Kaynak dizinin tamamı
+     * okunabilir; hedef diziye yalnızca bu aralıktaki satırlar yazılır.
+     * Kaynak ve hedef aynı dizi olmamalıdır.
+     *
+     * @param src Kaynak pikseller (width * height)
+     * @param dst Hedef pikseller (width * height)
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param startY İşlenecek ilk satır (dahil)
+     * @param endY İşlenecek son satır (hariç)
+     * @param params Filtre parametreleri
+     */
+    void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params);
+}
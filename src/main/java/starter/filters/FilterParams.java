@@ -0,0 +1,33 @@
+// src/main/java/starter/filters/FilterParams.java
+
+package starter.filters;
+
+/**
+ * FilterParams, bir kare işlenirken filtrelere aktarılan ayarları taşır.
+ * Değişmez (immutable) olduğu için aynı nesne tüm iş parçacıkları
+ * arasında güvenle paylaşılabilir.
+ *
+ * @param contrastValue Kontrast değeri (0-200 arası, 100 nötr)
+ * @param blurRadius Gaussian bulanıklaştırma yarıçapı (piksel)
+ */
+public record FilterParams(int contrastValue, int blurRadius) {
+
+    /** Bulanıklaştırma yarıçapını belirleyen sistem özelliği */
+    public static final String BLUR_RADIUS_PROPERTY = "filters.blurRadius";
+
+    /** Varsayılan bulanıklaştırma yarıçapı (5x5 çekirdek) */
+    public static final int DEFAULT_BLUR_RADIUS = 2;
+
+    /** Varsayılan (nötr) filtre ayarları */
+    public static final FilterParams DEFAULT = new FilterParams(100, DEFAULT_BLUR_RADIUS);
+
+    /**
+     * Verilen kontrast değeri ve "filters.blurRadius" özelliğindeki
+     * (tanımsızsa varsayılan) bulanıklaştırma yarıçapıyla ayarlar oluşturur.
+     *
+     * @param contrastValue Kontrast değeri (0-200 arası, 100 nötr)
+     */
+    public FilterParams(int contrastValue) {
+        this(contrastValue, Integer.getInteger(BLUR_RADIUS_PROPERTY, DEFAULT_BLUR_RADIUS));
+    }
+}
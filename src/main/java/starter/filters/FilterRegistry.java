@@ -0,0 +1,81 @@
+// src/main/java/starter/filters/FilterRegistry.java
+
+package starter.filters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FilterRegistry, filtre adlarını Filter örnekleriyle eşleştirir.
+ * ImageProcessor içindeki filtre adına göre yapılan switch yerine
+ * kullanılır; yeni bir filtre eklemek için yalnızca register() çağrısı
+ * yeterlidir.
+ */
+public final class FilterRegistry {
+
+    // Kayıt sırası korunur, böylece names() arayüzdeki sırayla döner
+    private static final Map<String, Filter> FILTERS = new LinkedHashMap<>();
+
+    static {
+        register(new GrayscaleFilter());
+        register(new EdgeDetectionFilter());
+        register(new SobelEdgeDetectionFilter());
+        register(new GaussianBlurFilter());
+        register(new ASCIIArtFilter());
+        register(new ContrastAdjustmentFilter());
+    }
+
+    private FilterRegistry() {
+    }
+
+    /**
+     * Bir filtreyi adıyla kaydeder. Aynı adla kayıtlı bir filtre varsa
+     * yenisiyle değiştirilir.
+     *
+     * @param filter Kaydedilecek filtre
+     */
+    public static synchronized void register(Filter filter) {
+        FILTERS.put(filter.getName(), filter);
+    }
+
+    /**
+     * Verilen ada kayıtlı filtreyi döndürür.
+     *
+     * @param name Filtre adı
+     * @return Kayıtlı filtre
+     * @throws IllegalArgumentException Bu adla kayıtlı bir filtre yoksa
+     */
+    public static synchronized Filter get(String name) {
+        Filter filter = FILTERS.get(name);
+        if (filter == null) {
+            throw new IllegalArgumentException("Unknown filter: " + name);
+        }
+        return filter;
+    }
+
+    /**
+     * Filtre adlarından oluşan bir listeyi, aynı sırada Filter örneklerine
+     * dönüştürür.
+     *
+     * @param names Filtre adları
+     * @return Filtre zinciri
+     */
+    public static synchronized List<Filter> resolve(List<String> names) {
+        List<Filter> chain = new ArrayList<>(names.size());
+        for (String name : names) {
+            chain.add(get(name));
+        }
+        return chain;
+    }
+
+    /**
+     * Kayıtlı tüm filtre adlarını kayıt sırasıyla döndürür.
+     *
+     * @return Filtre adları
+     */
+    public static synchronized List<String> names() {
+        return List.copyOf(FILTERS.keySet());
+    }
+}
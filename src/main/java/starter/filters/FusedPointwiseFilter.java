@@ -0,0 +1,149 @@
+// src/main/java/starter/filters/FusedPointwiseFilter.java
+
+package starter.filters;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * FusedPointwiseFilter, ardışık noktasal filtreleri (Grayscale, Contrast,
+ * Edge Detection) tek bir filtrede birleştirir. Zincirdeki her filtre için
+ * ayrı bir bellek geçişi yerine kare tek geçişte, arama tablolarıyla işlenir.
+ *
+ * Tablo Yapısı:
+ * - channelLut: ilk gri karışımlı filtreye kadar olan kanal bağımsız
+ *   filtrelerin bileşimi (256 giriş)
+ * - bySum: zincirde gri karışım varsa, üç kanalın channelLut sonrası
+ *   toplamından (0-765) doğrudan çıktı pikseline giden tablo; ortalama
+ *   alma ve sonraki tüm filtreler bu tabloya gömülüdür
+ *
+ * Tablolar parametreler (ör. kontrast değeri) değiştiğinde yeniden
+ * hesaplanır; aynı parametrelerle gelen karelerde önceki tablolar kullanılır.
+ * Sonuç, filtrelerin tek tek uygulanmasıyla bit düzeyinde aynıdır.
+ *
+ * VECTOR arka ucu seçiliyken tablolar yerine VectorKernels kullanılır:
+ * tüm aşamalar vektör yazmaçlarında art arda uygulanır ve yalnızca
+ * vektöre sığmayan kalan pikseller tablolarla işlenir.
+ */
+public final class FusedPointwiseFilter implements Filter {
+
+    private final List<PointwiseFilter> stages;
+    private final String name;
+
+    // Son kullanılan parametreler için tablolar; tek bir volatile referansla yayınlanır
+    private volatile Tables tables;
+
+    /**
+     * Verilen noktasal filtrelerden birleşik bir filtre oluşturur.
+     *
+     * @param stages Zincirdeki sırasıyla noktasal filtreler
+     */
+    public FusedPointwiseFilter(List<PointwiseFilter> stages) {
+        this.stages = List.copyOf(stages);
+        this.name = stages.stream().map(Filter::getName).collect(Collectors.joining(" + "));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Birleştirilen filtreleri zincirdeki sırasıyla döndürür.
+     *
+     * @return Noktasal filtreler
+     */
+    public List<PointwiseFilter> getStages() {
+        return stages;
+    }
+
+    @Override
+    public void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params) {
+        Tables t = tablesFor(params);
+        int[] lut = t.channelLut;
+        int start = startY * width;
+        int end = endY * width;
+
+        if (t.vectorOps != null && KernelBackend.useVector()) {
+            start = VectorKernels.pointwise(t.vectorOps, t.vectorFactors, src, dst, start, end);
+        }
+
+        if (t.bySum == null) {
+            for (int i = start; i < end; i++) {
+                int rgb = src[i];
+                dst[i] = 0xFF000000
+                        | (lut[(rgb >> 16) & 0xFF] << 16)
+                        | (lut[(rgb >> 8) & 0xFF] << 8)
+                        | lut[rgb & 0xFF];
+            }
+        } else {
+            int[] bySum = t.bySum;
+            for (int i = start; i < end; i++) {
+                int rgb = src[i];
+                dst[i] = bySum[lut[(rgb >> 16) & 0xFF] + lut[(rgb >> 8) & 0xFF] + lut[rgb & 0xFF]];
+            }
+        }
+    }
+
+    private Tables tablesFor(FilterParams params) {
+        Tables t = tables;
+        if (t == null || !t.params.equals(params)) {
+            t = buildTables(params);
+            tables = t;
+        }
+        return t;
+    }
+
+    private Tables buildTables(FilterParams params) {
+        int[] channelLut = new int[256];
+        for (int v = 0; v < 256; v++) {
+            channelLut[v] = v;
+        }
+
+        // İlk gri karışımlı filtreye kadar kanal tablosunu oluştur
+        int i = 0;
+        for (; i < stages.size() && !stages.get(i).averagesChannels(); i++) {
+            PointwiseFilter stage = stages.get(i);
+            for (int v = 0; v < 256; v++) {
+                channelLut[v] = stage.mapValue(channelLut[v], params);
+            }
+        }
+        if (i == stages.size()) {
+            return withVectorOps(params, channelLut, null);
+        }
+
+        // Karışımdan sonra piksel gri tonludur; kalan filtreler tek bir gri değeri dönüştürür
+        int[] grayLut = new int[256];
+        for (int v = 0; v < 256; v++) {
+            grayLut[v] = v;
+        }
+        for (; i < stages.size(); i++) {
+            PointwiseFilter stage = stages.get(i);
+            // Gri bir pikselin ortalaması kendisidir; karışım yapan filtreler de aynı dönüşümü uygular
+            for (int v = 0; v < 256; v++) {
+                grayLut[v] = stage.mapValue(grayLut[v], params);
+            }
+        }
+
+        int[] bySum = new int[3 * 255 + 1];
+        for (int sum = 0; sum < bySum.length; sum++) {
+            int gray = grayLut[sum / 3];
+            bySum[sum] = 0xFF000000 | (gray << 16) | (gray << 8) | gray;
+        }
+        return withVectorOps(params, channelLut, bySum);
+    }
+
+    private Tables withVectorOps(FilterParams params, int[] channelLut, int[] bySum) {
+        int[] ops = null;
+        float[] factors = null;
+        // Vektör sınıfı yalnızca platform destekliyorsa yüklenir
+        if (KernelBackend.isVectorAvailable()) {
+            ops = VectorKernels.ops(stages);
+            factors = ops != null ? VectorKernels.factors(ops, params) : null;
+        }
+        return new Tables(params, channelLut, bySum, ops, factors);
+    }
+
+    private record Tables(FilterParams params, int[] channelLut, int[] bySum, int[] vectorOps, float[] vectorFactors) {
+    }
+}
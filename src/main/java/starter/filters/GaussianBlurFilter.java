@@ -2,57 +2,210 @@
 
 package starter.filters;
 
-import java.awt.Color;
-import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * GaussianBlurFilter sınıfı, bir görüntüye Gaussian bulanıklaştırma uygular.
- * 5x5 Gaussian çekirdeği kullanarak her pikselin değerini komşu piksellerin
- * ağırlıklı ortalaması olarak hesaplar. Bu, görüntüdeki gürültüyü azaltır
- * ve yumuşak geçişler sağlar.
+ * Her pikselin değeri komşu piksellerin ağırlıklı ortalaması olarak
+ * hesaplanır. Bu, görüntüdeki gürültüyü azaltır ve yumuşak geçişler sağlar.
+ *
+ * Uygulama Detayları:
+ * - Gaussian çekirdeği ayrılabilir olduğu için 2B evrişim yerine önce yatay,
+ *   sonra dikey 1B geçiş yapılır; piksel başına maliyet (2r+1)² yerine 2(2r+1)
+ * - Ağırlıklar 16 bit sabit noktalı tamsayılardır (toplamları tam 65536),
+ *   böylece double işlem ve son kırpma gerekmez
+ * - Kenar kırpması yalnızca kenar döngülerinde yapılır; iç bölge döngüsü
+ *   kırpma içermez
+ * - Yarıçap FilterParams.blurRadius ile ayarlanır (sigma = yarıçap / 2);
+ *   çekirdekler yarıçap başına bir kez hesaplanıp önbelleğe alınır
  */
-public class GaussianBlurFilter {
-    // 5x5 Gaussian çekirdeği
-    private static final double[][] KERNEL = {
-        {0.003, 0.013, 0.022, 0.013, 0.003},
-        {0.013, 0.059, 0.097, 0.059, 0.013},
-        {0.022, 0.097, 0.159, 0.097, 0.022},
-        {0.013, 0.059, 0.097, 0.059, 0.013},
-        {0.003, 0.013, 0.022, 0.013, 0.003}
-    };
+public class GaussianBlurFilter implements Filter {
+
+    /** Filtrenin kayıt adı */
+    public static final String NAME = "Gaussian Blur";
+
+    /** Desteklenen en büyük yarıçap */
+    public static final int MAX_RADIUS = 64;
+
+    // Sabit noktalı ağırlıkların kesir bit sayısı
+    private static final int SHIFT = 16;
+    private static final int ONE = 1 << SHIFT;
+    private static final int HALF = ONE >> 1;
+
+    // Yarıçapa göre önbelleğe alınmış 1B çekirdekler
+    private static final Map<Integer, int[]> KERNELS = new ConcurrentHashMap<>();
+
+    // Yatay geçiş sonuçları için thread başına ara buffer
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[0]);
+
+    // Dikey geçişte okunacak ara satırların konumları için thread başına dizi
+    private static final ThreadLocal<int[]> ROW_OFFSETS = ThreadLocal.withInitial(() -> new int[0]);
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getRadius(FilterParams params) {
+        return clampRadius(params.blurRadius());
+    }
 
     /**
-     * Belirtilen (x, y) koordinatındaki piksele 5x5 Gaussian çekirdeğini uygular.
-     * Her piksel için, 5x5'lik komşuluk bölgesindeki piksellerin ağırlıklı
-     * ortalaması hesaplanır. Görüntü sınırlarında, sınır dışındaki pikseller
-     * için en yakın geçerli piksel değeri kullanılır.
+     * [startY, endY) aralığındaki satırları bulanıklaştırır.
      *
-     * @param input Girdi görüntüsü
-     * @param x İşlenecek pikselin x koordinatı
-     * @param y İşlenecek pikselin y koordinatı
-     * @return Gaussian bulanıklaştırma uygulanmış pikselin RGB değeri
+     * İşlem Adımları:
+     * 1. Yatay geçiş: aralığın yarıçap kadar üstü ve altı dahil her satır
+     *    1B çekirdekle ara buffer'a işlenir
+     * 2. Dikey geçiş: her çıktı satırı için kullanılacak 2r+1 ara satır bir
+     *    kez belirlenir (kenarlarda kırpılarak) ve 1B çekirdekle birleştirilir
+     */
+    @Override
+    public void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params) {
+        int radius = clampRadius(params.blurRadius());
+        if (radius == 0) {
+            System.arraycopy(src, startY * width, dst, startY * width, (endY - startY) * width);
+            return;
+        }
+        if (startY >= endY) {
+            return;
+        }
+        int[] kernel = kernel(radius);
+
+        int firstRow = Math.max(0, startY - radius);
+        int lastRow = Math.min(height, endY + radius);
+        int size = (lastRow - firstRow) * width;
+        int[] temp = SCRATCH.get();
+        if (temp.length < size) {
+            temp = new int[size];
+            SCRATCH.set(temp);
+        }
+
+        for (int y = firstRow; y < lastRow; y++) {
+            horizontalPass(src, y * width, temp, (y - firstRow) * width, width, kernel, radius);
+        }
+
+        int[] rowOffsets = ROW_OFFSETS.get();
+        if (rowOffsets.length < kernel.length) {
+            rowOffsets = new int[kernel.length];
+            ROW_OFFSETS.set(rowOffsets);
+        }
+        for (int y = startY; y < endY; y++) {
+            for (int k = 0; k < kernel.length; k++) {
+                int sourceRow = Math.min(Math.max(y + k - radius, 0), height - 1);
+                rowOffsets[k] = (sourceRow - firstRow) * width;
+            }
+            verticalPass(temp, rowOffsets, dst, y * width, width, kernel);
+        }
+    }
+
+    /**
+     * Verilen yarıçap için 1B sabit noktalı Gaussian çekirdeğini döndürür.
+     * Çekirdek ilk istekte hesaplanır ve önbelleğe alınır.
+     *
+     * @param radius Çekirdek yarıçapı (1 - MAX_RADIUS)
+     * @return 2r+1 uzunluğunda, toplamı 65536 olan ağırlık dizisi
+     */
+    static int[] kernel(int radius) {
+        return KERNELS.computeIfAbsent(radius, GaussianBlurFilter::buildKernel);
+    }
+
+    private static int[] buildKernel(int radius) {
+        double sigma = Math.max(0.5, radius / 2.0);
+        double[] weights = new double[2 * radius + 1];
+        double sum = 0;
+        for (int i = -radius; i <= radius; i++) {
+            weights[i + radius] = Math.exp(-(i * i) / (2 * sigma * sigma));
+            sum += weights[i + radius];
+        }
+
+        int[] kernel = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            kernel[i] = (int) Math.round(weights[i] / sum * ONE);
+            total += kernel[i];
+        }
+        // Yuvarlama farkını merkeze ekle; ağırlıklar toplamı tam olarak ONE olmalı
+        kernel[radius] += ONE - total;
+        return kernel;
+    }
+
+    private static int clampRadius(int radius) {
+        return Math.min(MAX_RADIUS, Math.max(0, radius));
+    }
+
+    /**
+     * Bir satıra yatay 1B çekirdeği uygular. İç bölgede kırpma yapılmaz;
+     * yalnızca ilk ve son yarıçap kadar sütunda kenar pikseli tekrarlanır.
      */
-    public static int apply(BufferedImage input, int x, int y) {
-        double sumR = 0, sumG = 0, sumB = 0;
-        
-        for (int ky = -2; ky <= 2; ky++) {
-            for (int kx = -2; kx <= 2; kx++) {
-                int pixelX = Math.min(Math.max(x + kx, 0), input.getWidth() - 1);
-                int pixelY = Math.min(Math.max(y + ky, 0), input.getHeight() - 1);
-                
-                Color color = new Color(input.getRGB(pixelX, pixelY));
-                double weight = KERNEL[ky + 2][kx + 2];
-                
-                sumR += color.getRed() * weight;
-                sumG += color.getGreen() * weight;
-                sumB += color.getBlue() * weight;
+    private static void horizontalPass(int[] src, int srcOffset, int[] out, int outOffset,
+                                       int width, int[] kernel, int radius) {
+        int interiorStart = Math.min(radius, width);
+        int interiorEnd = Math.max(interiorStart, width - radius);
+
+        for (int x = 0; x < interiorStart; x++) {
+            out[outOffset + x] = borderPixel(src, srcOffset, width, x, kernel, radius);
+        }
+
+        for (int x = interiorStart; x < interiorEnd; x++) {
+            int base = srcOffset + x - radius;
+            int r = 0, g = 0, b = 0;
+            for (int k = 0; k < kernel.length; k++) {
+                int rgb = src[base + k];
+                int weight = kernel[k];
+                r += ((rgb >> 16) & 0xFF) * weight;
+                g += ((rgb >> 8) & 0xFF) * weight;
+                b += (rgb & 0xFF) * weight;
             }
+            out[outOffset + x] = pack(r, g, b);
+        }
+
+        for (int x = interiorEnd; x < width; x++) {
+            out[outOffset + x] = borderPixel(src, srcOffset, width, x, kernel, radius);
         }
-        
-        return new Color(
-            (int) Math.min(255, Math.max(0, sumR)),
-            (int) Math.min(255, Math.max(0, sumG)),
-            (int) Math.min(255, Math.max(0, sumB))
-        ).getRGB();
     }
-}
\ No newline at end of file
+
+    private static int borderPixel(int[] src, int srcOffset, int width, int x, int[] kernel, int radius) {
+        int r = 0, g = 0, b = 0;
+        for (int k = 0; k < kernel.length; k++) {
+            int pixelX = Math.min(Math.max(x + k - radius, 0), width - 1);
+            int rgb = src[srcOffset + pixelX];
+            int weight = kernel[k];
+            r += ((rgb >> 16) & 0xFF) * weight;
+            g += ((rgb >> 8) & 0xFF) * weight;
+            b += (rgb & 0xFF) * weight;
+        }
+        return pack(r, g, b);
+    }
+
+    /**
+     * Bir çıktı satırını, önceden belirlenmiş ara satırların ağırlıklı
+     * toplamı olarak hesaplar.
+     */
+    private static void verticalPass(int[] temp, int[] rowOffsets, int[] dst, int dstOffset,
+                                     int width, int[] kernel) {
+        for (int x = 0; x < width; x++) {
+            int r = 0, g = 0, b = 0;
+            for (int k = 0; k < kernel.length; k++) {
+                int rgb = temp[rowOffsets[k] + x];
+                int weight = kernel[k];
+                r += ((rgb >> 16) & 0xFF) * weight;
+                g += ((rgb >> 8) & 0xFF) * weight;
+                b += (rgb & 0xFF) * weight;
+            }
+            dst[dstOffset + x] = pack(r, g, b);
+        }
+    }
+
+    /**
+     * Sabit noktalı kanal toplamlarını yuvarlayıp opak bir piksel olarak
+     * paketler. Ağırlıklar toplamı ONE olduğundan sonuç 0-255 aralığındadır.
+     */
+    private static int pack(int r, int g, int b) {
+        return 0xFF000000
+                | (((r + HALF) >>> SHIFT) << 16)
+                | (((g + HALF) >>> SHIFT) << 8)
+                | ((b + HALF) >>> SHIFT);
+    }
+}
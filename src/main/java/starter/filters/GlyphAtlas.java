@@ -0,0 +1,173 @@
+// src/main/java/starter/filters/GlyphAtlas.java
+
+package starter.filters;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GlyphAtlas, bir karakter kümesinin gliflerini bir kez Java2D ile
+ * rasterleştirip kapsama (coverage) bitmap'leri olarak saklar. Glifler
+ * daha sonra Graphics2D kullanılmadan doğrudan int[] piksel dizisine
+ * kopyalanır (blit); böylece kare başına binlerce drawString çağrısı
+ * yerine yalnızca dizi yazımları yapılır.
+ *
+ * Her glif, hücrenin sol üst köşesine göre konumlandırılmış mürekkep
+ * kutusuyla saklanır; kutu hücre dışına (komşu hücrelere) taşabilir.
+ * Beyaz glif, hedef piksele kapsama oranında "üzerine" (SrcOver)
+ * karıştırılır; bu, drawString'in kenar yumuşatmalı gri tonlu çıktısıyla
+ * aynıdır.
+ *
+ * Atlaslar yazı tipi, hücre boyutu, taban çizgisi ve karakter kümesine
+ * göre önbelleğe alınır ve thread güvenlidir (oluşturulduktan sonra
+ * değişmez).
+ */
+final class GlyphAtlas {
+
+    private record Key(String fontName, int fontStyle, int fontSize, int cellWidth, int cellHeight,
+                       int baseline, String chars) {
+    }
+
+    private static final Map<Key, GlyphAtlas> CACHE = new ConcurrentHashMap<>();
+
+    private final int[] left;
+    private final int[] top;
+    private final int[] glyphWidth;
+    private final int[] glyphHeight;
+    // Glif başına satır satır kapsama değerleri (0-255)
+    private final byte[][] coverage;
+
+    private GlyphAtlas(Font font, int cellWidth, int cellHeight, int baseline, String chars) {
+        int count = chars.length();
+        left = new int[count];
+        top = new int[count];
+        glyphWidth = new int[count];
+        glyphHeight = new int[count];
+        coverage = new byte[count][];
+
+        // Taşan mürekkebi yakalamak için her yönde birkaç hücre pay bırakılır
+        int padX = 2 * cellWidth;
+        int padY = cellHeight;
+        int canvasWidth = cellWidth + 2 * padX + font.getSize();
+        int canvasHeight = cellHeight + 2 * padY;
+        BufferedImage canvas = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_RGB);
+
+        for (int i = 0; i < count; i++) {
+            Graphics2D g2d = canvas.createGraphics();
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(0, 0, canvasWidth, canvasHeight);
+            g2d.setColor(Color.WHITE);
+            g2d.setFont(font);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawString(String.valueOf(chars.charAt(i)), padX, padY + baseline);
+            g2d.dispose();
+            store(i, canvas, padX, padY);
+        }
+    }
+
+    /**
+     * Verilen yazı tipi ve hücre düzeni için önbellekteki atlası döndürür;
+     * yoksa oluşturur.
+     *
+     * @param font Yazı tipi
+     * @param cellWidth Hücre genişliği (piksel)
+     * @param cellHeight Hücre yüksekliği (piksel)
+     * @param baseline Taban çizgisinin hücre üstüne uzaklığı (piksel)
+     * @param chars Karakter kümesi; glif indeksleri bu dizideki sıradır
+     * @return Glif atlası
+     */
+    static GlyphAtlas of(Font font, int cellWidth, int cellHeight, int baseline, String chars) {
+        Key key = new Key(font.getName(), font.getStyle(), font.getSize(), cellWidth, cellHeight, baseline, chars);
+        return CACHE.computeIfAbsent(key, k -> new GlyphAtlas(font, cellWidth, cellHeight, baseline, chars));
+    }
+
+    private void store(int glyph, BufferedImage canvas, int originX, int originY) {
+        int width = canvas.getWidth();
+        int height = canvas.getHeight();
+        int[] pixels = canvas.getRGB(0, 0, width, height, null, 0, width);
+
+        int minX = width;
+        int minY = height;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if ((pixels[y * width + x] & 0xFF) != 0) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (maxX < 0) {
+            // Boşluk gibi mürekkepsiz karakter
+            coverage[glyph] = new byte[0];
+            return;
+        }
+
+        int w = maxX - minX + 1;
+        int h = maxY - minY + 1;
+        byte[] alpha = new byte[w * h];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                // Siyah zemin üzerine beyaz: mavi kanal doğrudan kapsama değeridir
+                alpha[y * w + x] = (byte) pixels[(minY + y) * width + minX + x];
+            }
+        }
+        left[glyph] = minX - originX;
+        top[glyph] = minY - originY;
+        glyphWidth[glyph] = w;
+        glyphHeight[glyph] = h;
+        coverage[glyph] = alpha;
+    }
+
+    /**
+     * Bir glifi hücre köşesi (cellX, cellY) olan konuma, [clipStartY,
+     * clipEndY) satırlarına ve karenin yatay sınırlarına kırparak beyaz
+     * olarak hedef diziye karıştırır.
+     *
+     * @param glyph Glif indeksi
+     * @param dst Hedef pikseller (gri tonlu: üç kanal eşit)
+     * @param width Kare genişliği
+     * @param cellX Hücrenin sol kenarı
+     * @param cellY Hücrenin üst kenarı
+     * @param clipStartY Yazılabilecek ilk satır (dahil)
+     * @param clipEndY Yazılabilecek son satır (hariç)
+     */
+    void draw(int glyph, int[] dst, int width, int cellX, int cellY, int clipStartY, int clipEndY) {
+        byte[] alpha = coverage[glyph];
+        if (alpha.length == 0) {
+            return;
+        }
+        int w = glyphWidth[glyph];
+        int x0 = cellX + left[glyph];
+        int y0 = cellY + top[glyph];
+        int fromY = Math.max(y0, clipStartY);
+        int toY = Math.min(y0 + glyphHeight[glyph], clipEndY);
+        int fromX = Math.max(x0, 0);
+        int toX = Math.min(x0 + w, width);
+
+        for (int y = fromY; y < toY; y++) {
+            int row = y * width;
+            int glyphRow = (y - y0) * w - x0;
+            for (int x = fromX; x < toX; x++) {
+                int a = alpha[glyphRow + x] & 0xFF;
+                if (a == 0) {
+                    continue;
+                }
+                // Siyah zemine yalnızca beyaz çizildiği için kanallar eşittir; biri yeterli
+                int index = row + x;
+                int gray = dst[index] & 0xFF;
+                gray += ((255 - gray) * a + 127) / 255;
+                dst[index] = 0xFF000000 | gray * 0x010101;
+            }
+        }
+    }
+}
@@ -2,50 +2,69 @@
 
 package starter.filters;
 
-import java.awt.Color;
-import java.awt.image.BufferedImage;
-
 /**
  * GrayscaleFilter sınıfı, bir görüntüyü gri tonlamalı hale getirir.
  * Her pikselin RGB değerlerinin ortalaması alınarak gri ton değeri
  * hesaplanır. Bu, görüntüyü tek kanallı (gri ton) hale getirir.
  */
-public class GrayscaleFilter {
+public class GrayscaleFilter implements PointwiseFilter {
+
+    /** Filtrenin kayıt adı */
+    public static final String NAME = "Grayscale";
+
+    private static final int[] VECTOR_OPS = {VectorKernels.GRAYSCALE};
+
+    // İşlemin kontrast katsayısı yoktur; çekirdek diziyi yalnızca okuduğu için tek bir dizi paylaşılır
+    private static final float[] VECTOR_FACTORS = new float[1];
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean averagesChannels() {
+        return true;
+    }
 
     /**
-     * Belirtilen (x, y) koordinatındaki pikseli gri tonlamalı yapar.
-     * Pikselin RGB değerlerinin ortalaması alınarak gri ton değeri
-     * hesaplanır. Bu değer, yeni bir renk nesnesi oluşturmak için
-     * kullanılır.
-     *
-     * @param input Girdi görüntüsü
-     * @param x İşlenecek pikselin x koordinatı
-     * @param y İşlenecek pikselin y koordinatı
-     * @return Gri tonlamalı pikselin RGB değeri
+     * Gri ton, kanal ortalamasının kendisidir.
      */
-    public static int apply(BufferedImage input, int x, int y) {
-        Color color = new Color(input.getRGB(x, y));
-        int r = color.getRed();
-        int g = color.getGreen();
-        int b = color.getBlue();
-        int gray = (r + g + b) / 3;
-        return new Color(gray, gray, gray).getRGB();
+    @Override
+    public int mapValue(int value, FilterParams params) {
+        return value;
+    }
+
+    /**
+     * [startY, endY) aralığındaki her pikseli gri tonlamalı yapar.
+     * Filtre noktasal olduğu için satırlar tek bir düz döngüde işlenir;
+     * VECTOR arka ucunda döngünün büyük kısmı VectorKernels'e devredilir.
+     */
+    @Override
+    public void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params) {
+        int i = startY * width;
+        int end = endY * width;
+        if (KernelBackend.useVector()) {
+            i = VectorKernels.pointwise(VECTOR_OPS, VECTOR_FACTORS, src, dst, i, end);
+        }
+        for (; i < end; i++) {
+            dst[i] = apply(src[i]);
+        }
     }
 
     /**
      * Verilen renk değerini gri tonlamalı yapar.
-     * RGB değerlerinin ortalaması alınarak gri ton değeri hesaplanır.
-     * Bu değer, yeni bir renk nesnesi oluşturmak için kullanılır.
+     * RGB değerlerinin ortalaması alınarak gri ton değeri hesaplanır
+     * ve opak bir ARGB değeri olarak paketlenir.
      *
      * @param rgb Orijinal renk değeri
      * @return Gri tonlamalı renk değeri
      */
     public static int apply(int rgb) {
-        Color color = new Color(rgb);
-        int r = color.getRed();
-        int g = color.getGreen();
-        int b = color.getBlue();
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
         int gray = (r + g + b) / 3;
-        return new Color(gray, gray, gray).getRGB();
+        return 0xFF000000 | (gray << 16) | (gray << 8) | gray;
     }
-}
\ No newline at end of file
+}
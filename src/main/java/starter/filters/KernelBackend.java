@@ -0,0 +1,92 @@
+// src/main/java/starter/filters/KernelBackend.java
+
+package starter.filters;
+
+import java.util.Locale;
+
+/**
+ * KernelBackend, piksel döngülerinin hangi uygulamayla çalışacağını
+ * belirler. Sıralı/paralel işleme modundan bağımsızdır: her iki modda da
+ * filtre çekirdekleri skaler veya vektör (SIMD) olarak çalışabilir.
+ *
+ * Arka Uçlar:
+ * - SCALAR: Piksel başına düz Java döngüleri (varsayılan)
+ * - VECTOR: jdk.incubator.vector ile yazılmış çekirdekler; Grayscale,
+ *   Contrast, Edge Detection (birleşik noktasal zincirler dahil) ve Sobel
+ *   için bir seferde birden çok piksel işlenir. Sonuçlar skaler
+ *   çekirdeklerle bit düzeyinde aynıdır.
+ *
+ * Başlangıç değeri "filters.backend" özelliğiyle (scalar | vector)
+ * belirlenir ve çalışma zamanında select() ile değiştirilebilir. Platform
+ * vektör işlemlerini desteklemiyorsa (modül yok veya tercih edilen vektör
+ * 4 int'ten dar) VECTOR seçimi yok sayılır ve skaler çekirdekler kullanılır.
+ */
+public enum KernelBackend {
+    SCALAR,
+    VECTOR;
+
+    /** Başlangıç arka ucu için sistem özelliği adı */
+    public static final String BACKEND_PROPERTY = "filters.backend";
+
+    private static final boolean VECTOR_AVAILABLE = probeVectorSupport();
+
+    private static volatile KernelBackend current = initialBackend();
+
+    /**
+     * Etkin arka ucu döndürür.
+     *
+     * @return Etkin arka uç
+     */
+    public static KernelBackend current() {
+        return current;
+    }
+
+    /**
+     * Etkin arka ucu değiştirir. Değişiklik bir sonraki filtre çağrısından
+     * itibaren geçerlidir.
+     *
+     * @param backend İstenen arka uç
+     * @return Gerçekten seçilen arka uç (VECTOR desteklenmiyorsa SCALAR)
+     */
+    public static KernelBackend select(KernelBackend backend) {
+        current = backend == VECTOR && !VECTOR_AVAILABLE ? SCALAR : backend;
+        return current;
+    }
+
+    /**
+     * Platformun vektör çekirdeklerini destekleyip desteklemediğini döndürür.
+     *
+     * @return VECTOR seçilebiliyorsa true
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Filtrelerin vektör çekirdeklerini kullanıp kullanmayacağını döndürür.
+     */
+    static boolean useVector() {
+        return current == VECTOR;
+    }
+
+    private static KernelBackend initialBackend() {
+        String configured = System.getProperty(BACKEND_PROPERTY, "scalar");
+        if (configured.trim().toLowerCase(Locale.ROOT).equals("vector")) {
+            if (!VECTOR_AVAILABLE) {
+                System.err.println("Vector API not available, using scalar filter kernels");
+                return SCALAR;
+            }
+            return VECTOR;
+        }
+        return SCALAR;
+    }
+
+    private static boolean probeVectorSupport() {
+        try {
+            return VectorKernels.lanes() >= 4;
+        } catch (LinkageError e) {
+            // jdk.incubator.vector modülü çalışma zamanında bulunamadı
+            return false;
+        }
+    }
+}
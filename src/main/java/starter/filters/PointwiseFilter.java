@@ -0,0 +1,39 @@
+// src/main/java/starter/filters/PointwiseFilter.java
+
+package starter.filters;
+
+/**
+ * PointwiseFilter, her çıktı pikselinin yalnızca aynı konumdaki girdi
+ * pikseline bağlı olduğu (noktasal) filtreleri tanımlar.
+ *
+ * Bu filtrelerin tümü iki biçimden birine uyar:
+ * - Kanal bağımsız: her kanal aynı 0-255 → 0-255 dönüşümünden geçer
+ *   (ör. Contrast)
+ * - Gri karışımlı: önce (r + g + b) / 3 ortalaması alınır, bu değer
+ *   dönüştürülür ve sonuç gri tonlu bir piksel olarak yazılır
+ *   (ör. Grayscale, Edge Detection)
+ *
+ * Bu yapı sayesinde ardışık noktasal filtreler, 256 girişlik arama
+ * tablolarıyla (LUT) tek bir geçişte birleştirilebilir
+ * (bkz. FusedPointwiseFilter).
+ */
+public interface PointwiseFilter extends Filter {
+
+    /**
+     * Filtrenin önce kanalların ortalamasını alıp gri tonlu bir sonuç
+     * üretip üretmediğini döndürür.
+     *
+     * @return Gri karışımlı filtreler için true, kanal bağımsız filtreler için false
+     */
+    boolean averagesChannels();
+
+    /**
+     * Tek bir kanal değerini (gri karışımlı filtrelerde kanal ortalamasını)
+     * dönüştürür.
+     *
+     * @param value Girdi değeri (0-255)
+     * @param params Filtre parametreleri
+     * @return Çıktı değeri (0-255)
+     */
+    int mapValue(int value, FilterParams params);
+}
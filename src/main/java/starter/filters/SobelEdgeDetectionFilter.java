@@ -2,60 +2,94 @@
 
 package starter.filters;
 
-import java.awt.Color;
-import java.awt.image.BufferedImage;
-
 /**
  * SobelEdgeDetectionFilter sınıfı, bir görüntüde Sobel operatörlerini kullanarak
  * kenar tespiti yapar. Yatay ve dikey yönlerdeki gradyanları hesaplayarak
  * kenarları belirler. Bu, görüntüdeki ani yoğunluk değişimlerini tespit
  * etmek için kullanılır.
+ *
+ * Çekirdekler:
+ * <pre>
+ *   SOBEL_X = [-1 0 1; -2 0 2; -1 0 1]
+ *   SOBEL_Y = [-1 -2 -1; 0 0 0; 1 2 1]
+ * </pre>
+ * Görüntü sınırlarında, sınır dışındaki pikseller için en yakın geçerli
+ * piksel değeri kullanılır.
  */
-public class SobelEdgeDetectionFilter {
-    // Yatay yöndeki Sobel çekirdeği
-    private static final int[][] SOBEL_X = {
-        {-1, 0, 1},
-        {-2, 0, 2},
-        {-1, 0, 1}
-    };
-
-    // Dikey yöndeki Sobel çekirdeği
-    private static final int[][] SOBEL_Y = {
-        {-1, -2, -1},
-        {0, 0, 0},
-        {1, 2, 1}
-    };
+public class SobelEdgeDetectionFilter implements Filter {
+
+    /** Filtrenin kayıt adı */
+    public static final String NAME = "Sobel Edge Detection";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getRadius(FilterParams params) {
+        return 1;
+    }
 
     /**
-     * Belirtilen (x, y) koordinatındaki piksele Sobel operatörlerini uygular.
-     * Önce piksel gri tonlamalı yapılır, sonra yatay ve dikey gradyanlar
-     * hesaplanır. Gradyan büyüklüğü, kenar tespiti için kullanılır.
-     *
-     * @param input Girdi görüntüsü
-     * @param x İşlenecek pikselin x koordinatı
-     * @param y İşlenecek pikselin y koordinatı
-     * @return Kenar tespiti uygulanmış pikselin RGB değeri (gri tonlamalı)
+     * [startY, endY) aralığındaki her piksele Sobel operatörlerini uygular.
+     * Komşu satırlar (y-1, y, y+1) kenarlarda kırpılarak bir kez belirlenir;
+     * iç döngüde yalnızca sütun indeksleri kırpılır. VECTOR arka ucunda
+     * iş VectorKernels.sobel'e devredilir.
      */
-    public static int apply(BufferedImage input, int x, int y) {
-        int gx = 0;
-        int gy = 0;
-
-        for (int ky = -1; ky <= 1; ky++) {
-            for (int kx = -1; kx <= 1; kx++) {
-                int pixelX = Math.min(Math.max(x + kx, 0), input.getWidth() - 1);
-                int pixelY = Math.min(Math.max(y + ky, 0), input.getHeight() - 1);
-                
-                Color color = new Color(input.getRGB(pixelX, pixelY));
-                int gray = (color.getRed() + color.getGreen() + color.getBlue()) / 3;
-                
-                gx += gray * SOBEL_X[ky + 1][kx + 1];
-                gy += gray * SOBEL_Y[ky + 1][kx + 1];
+    @Override
+    public void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params) {
+        if (KernelBackend.useVector()) {
+            VectorKernels.sobel(src, dst, width, height, startY, endY);
+            return;
+        }
+        for (int y = startY; y < endY; y++) {
+            int above = Math.max(y - 1, 0) * width;
+            int row = y * width;
+            int below = Math.min(y + 1, height - 1) * width;
+
+            for (int x = 0; x < width; x++) {
+                int left = Math.max(x - 1, 0);
+                int right = Math.min(x + 1, width - 1);
+
+                int tl = gray(src[above + left]);
+                int tc = gray(src[above + x]);
+                int tr = gray(src[above + right]);
+                int ml = gray(src[row + left]);
+                int mr = gray(src[row + right]);
+                int bl = gray(src[below + left]);
+                int bc = gray(src[below + x]);
+                int br = gray(src[below + right]);
+
+                int gx = (tr - tl) + 2 * (mr - ml) + (br - bl);
+                int gy = (bl - tl) + 2 * (bc - tc) + (br - tr);
+
+                dst[row + x] = magnitudeToRgb(gx, gy);
             }
         }
+    }
 
+    /**
+     * Bir pikselin gri ton değerini (RGB ortalaması) hesaplar.
+     *
+     * @param rgb Piksel değeri
+     * @return Gri ton değeri (0-255)
+     */
+    static int gray(int rgb) {
+        return (((rgb >> 16) & 0xFF) + ((rgb >> 8) & 0xFF) + (rgb & 0xFF)) / 3;
+    }
+
+    /**
+     * Gradyan bileşenlerinden büyüklüğü hesaplar ve gri tonlu opak bir
+     * piksel değerine dönüştürür.
+     *
+     * @param gx Yatay gradyan
+     * @param gy Dikey gradyan
+     * @return Gradyan büyüklüğünü gösteren piksel değeri
+     */
+    static int magnitudeToRgb(int gx, int gy) {
         int magnitude = (int) Math.sqrt(gx * gx + gy * gy);
         magnitude = Math.min(255, Math.max(0, magnitude));
-
-        return new Color(magnitude, magnitude, magnitude).getRGB();
+        return 0xFF000000 | (magnitude << 16) | (magnitude << 8) | magnitude;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,263 @@
+// src/main/java/starter/filters/VectorKernels.java
+
+package starter.filters;
+
+import java.util.List;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorKernels, filtre çekirdeklerinin jdk.incubator.vector ile yazılmış
+ * SIMD uygulamalarını içerir. Platformun tercih ettiği vektör genişliği
+ * kadar piksel (ör. AVX2'de 8, AVX-512'de 16) tek seferde işlenir.
+ *
+ * Tüm çekirdekler skaler karşılıklarıyla bit düzeyinde aynı sonucu verir:
+ * - Kanal ortalaması (r + g + b) / 3, 0-765 aralığında tam olan
+ *   (s * 43691) >>> 17 çarpımıyla hesaplanır
+ * - Kontrast ve Sobel büyüklüğü float ile hesaplanır; 0-255 kanal
+ *   değerleri ve olası tüm gradyanlar için double sonuçla aynı tam
+ *   sayıya kesildiği doğrulanmıştır
+ *
+ * Vektör döngüsüne sığmayan kalan pikseller çağıran tarafından skaler
+ * olarak işlenir. Sınıf yalnızca KernelBackend platformun vektör desteğini
+ * doğruladıktan sonra kullanılır.
+ */
+final class VectorKernels {
+
+    /** Noktasal işlem kodları */
+    static final int GRAYSCALE = 0;
+    static final int THRESHOLD = 1;
+    static final int CONTRAST = 2;
+
+    // Float dönüşümleri aynı bit genişliğinde yapıldığı için şerit sayısı korunur
+    private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+
+    // 0 <= s <= 765 için s / 3 == (s * DIV3_MUL) >>> DIV3_SHIFT
+    private static final int DIV3_MUL = 43691;
+    private static final int DIV3_SHIFT = 17;
+
+    private static final int EDGE_THRESHOLD = 128;
+
+    // Birleşik noktasal zincirde bir bloğun piksel sayısı (16 KB, L1'e sığar)
+    private static final int BLOCK_PIXELS = 4096;
+
+    // Sobel için son hesaplanan üç satırın gri tonları; satır r, r % 3 yuvasında tutulur
+    private static final ThreadLocal<GrayRows> GRAY_ROWS = ThreadLocal.withInitial(GrayRows::new);
+
+    private VectorKernels() {
+    }
+
+    /**
+     * Bir vektördeki int şeridi sayısını döndürür.
+     *
+     * @return Şerit sayısı
+     */
+    static int lanes() {
+        return INT.length();
+    }
+
+    /**
+     * Noktasal filtre zincirini işlem kodlarına çevirir.
+     *
+     * @param stages Noktasal filtreler
+     * @return İşlem kodları veya zincirde vektör karşılığı olmayan bir filtre varsa null
+     */
+    static int[] ops(List<PointwiseFilter> stages) {
+        int[] ops = new int[stages.size()];
+        for (int i = 0; i < ops.length; i++) {
+            PointwiseFilter stage = stages.get(i);
+            if (stage instanceof GrayscaleFilter) {
+                ops[i] = GRAYSCALE;
+            } else if (stage instanceof EdgeDetectionFilter) {
+                ops[i] = THRESHOLD;
+            } else if (stage instanceof ContrastAdjustmentFilter) {
+                ops[i] = CONTRAST;
+            } else {
+                return null;
+            }
+        }
+        return ops;
+    }
+
+    /**
+     * İşlem kodlarına karşılık gelen kontrast katsayılarını hesaplar.
+     *
+     * @param ops İşlem kodları
+     * @param params Filtre parametreleri
+     * @return Her işlem için katsayı (kontrast dışındaki işlemler için 0)
+     */
+    static float[] factors(int[] ops, FilterParams params) {
+        float[] factors = new float[ops.length];
+        for (int i = 0; i < ops.length; i++) {
+            if (ops[i] == CONTRAST) {
+                factors[i] = (float) ContrastAdjustmentFilter.factor(params.contrastValue());
+            }
+        }
+        return factors;
+    }
+
+    /**
+     * [start, end) aralığındaki piksellere noktasal işlemleri sırasıyla
+     * uygular. Aralık L1 önbelleğine sığan bloklara bölünür; her blokta
+     * ilk işlem src'den dst'ye, sonraki işlemler dst üzerinde yerinde
+     * çalışır. Böylece ara sonuçlar ana belleğe gitmez ve her işlemin
+     * döngüsü dallanmasız tek bir vektör döngüsü olarak kalır.
+     *
+     * @param ops İşlem kodları
+     * @param factors İşlem başına kontrast katsayıları
+     * @param src Girdi pikselleri
+     * @param dst Çıktı pikselleri
+     * @param start İlk piksel indeksi (dahil)
+     * @param end Son piksel indeksi (hariç)
+     * @return İşlenen son indeks; [dönüş, end) aralığı skaler işlenmelidir
+     */
+    static int pointwise(int[] ops, float[] factors, int[] src, int[] dst, int start, int end) {
+        int upper = start + INT.loopBound(end - start);
+
+        for (int block = start; block < upper; block += BLOCK_PIXELS) {
+            int blockEnd = Math.min(upper, block + BLOCK_PIXELS);
+            int[] from = src;
+            for (int s = 0; s < ops.length; s++) {
+                switch (ops[s]) {
+                    case GRAYSCALE -> grayscale(from, dst, block, blockEnd);
+                    case THRESHOLD -> threshold(from, dst, block, blockEnd);
+                    case CONTRAST -> contrast(from, dst, block, blockEnd, factors[s]);
+                    default -> throw new IllegalStateException("Unknown op: " + ops[s]);
+                }
+                from = dst;
+            }
+        }
+        return upper;
+    }
+
+    private static void grayscale(int[] src, int[] dst, int start, int end) {
+        for (int i = start; i < end; i += INT.length()) {
+            IntVector gray = average(IntVector.fromArray(INT, src, i));
+            pack(gray, gray, gray).intoArray(dst, i);
+        }
+    }
+
+    private static void threshold(int[] src, int[] dst, int start, int end) {
+        IntVector black = IntVector.broadcast(INT, 0xFF000000);
+        for (int i = start; i < end; i += INT.length()) {
+            IntVector gray = average(IntVector.fromArray(INT, src, i));
+            black.blend(0xFFFFFFFF, gray.compare(VectorOperators.GT, EDGE_THRESHOLD)).intoArray(dst, i);
+        }
+    }
+
+    private static void contrast(int[] src, int[] dst, int start, int end, float factor) {
+        for (int i = start; i < end; i += INT.length()) {
+            IntVector rgb = IntVector.fromArray(INT, src, i);
+            pack(contrast(rgb.lanewise(VectorOperators.LSHR, 16).and(0xFF), factor),
+                    contrast(rgb.lanewise(VectorOperators.LSHR, 8).and(0xFF), factor),
+                    contrast(rgb.and(0xFF), factor)).intoArray(dst, i);
+        }
+    }
+
+    /**
+     * [startY, endY) satırlarına Sobel operatörünü uygular. Her kaynak
+     * satırın gri tonu bir kez vektörel hesaplanır ve ardışık üç çıktı
+     * satırı tarafından paylaşılır. İç sütunlar vektörel, ilk ve son
+     * sütun ile vektöre sığmayan kalan sütunlar skaler işlenir.
+     */
+    static void sobel(int[] src, int[] dst, int width, int height, int startY, int endY) {
+        GrayRows rows = GRAY_ROWS.get();
+        rows.reset(width);
+        int interiorEnd = 1 + INT.loopBound(Math.max(0, width - 2));
+
+        for (int y = startY; y < endY; y++) {
+            int[] a = rows.row(src, width, Math.max(y - 1, 0));
+            int[] m = rows.row(src, width, y);
+            int[] b = rows.row(src, width, Math.min(y + 1, height - 1));
+            int row = y * width;
+
+            for (int x = 1; x < interiorEnd; x += INT.length()) {
+                IntVector tl = IntVector.fromArray(INT, a, x - 1);
+                IntVector tc = IntVector.fromArray(INT, a, x);
+                IntVector tr = IntVector.fromArray(INT, a, x + 1);
+                IntVector ml = IntVector.fromArray(INT, m, x - 1);
+                IntVector mr = IntVector.fromArray(INT, m, x + 1);
+                IntVector bl = IntVector.fromArray(INT, b, x - 1);
+                IntVector bc = IntVector.fromArray(INT, b, x);
+                IntVector br = IntVector.fromArray(INT, b, x + 1);
+
+                IntVector gx = tr.sub(tl).add(mr.sub(ml).lanewise(VectorOperators.LSHL, 1)).add(br.sub(bl));
+                IntVector gy = bl.sub(tl).add(bc.sub(tc).lanewise(VectorOperators.LSHL, 1)).add(br.sub(tr));
+
+                FloatVector squared = (FloatVector) gx.mul(gx).add(gy.mul(gy)).convert(VectorOperators.I2F, 0);
+                IntVector magnitude = ((IntVector) squared.sqrt().convert(VectorOperators.F2I, 0)).min(255);
+                pack(magnitude, magnitude, magnitude).intoArray(dst, row + x);
+            }
+
+            sobelScalar(a, m, b, dst, row, width, 0, Math.min(1, width));
+            sobelScalar(a, m, b, dst, row, width, Math.max(1, interiorEnd), width);
+        }
+    }
+
+    private static void sobelScalar(int[] a, int[] m, int[] b, int[] dst, int row, int width, int fromX, int toX) {
+        for (int x = fromX; x < toX; x++) {
+            int left = Math.max(x - 1, 0);
+            int right = Math.min(x + 1, width - 1);
+            int gx = (a[right] - a[left]) + 2 * (m[right] - m[left]) + (b[right] - b[left]);
+            int gy = (b[left] - a[left]) + 2 * (b[x] - a[x]) + (b[right] - a[right]);
+            dst[row + x] = SobelEdgeDetectionFilter.magnitudeToRgb(gx, gy);
+        }
+    }
+
+    private static IntVector average(IntVector rgb) {
+        IntVector sum = rgb.lanewise(VectorOperators.LSHR, 16).and(0xFF)
+                .add(rgb.lanewise(VectorOperators.LSHR, 8).and(0xFF))
+                .add(rgb.and(0xFF));
+        return sum.mul(DIV3_MUL).lanewise(VectorOperators.LSHR, DIV3_SHIFT);
+    }
+
+    private static IntVector contrast(IntVector channel, float factor) {
+        FloatVector centered = (FloatVector) channel.sub(128).convert(VectorOperators.I2F, 0);
+        IntVector adjusted = (IntVector) centered.mul(factor).add(128f).convert(VectorOperators.F2I, 0);
+        return adjusted.max(0).min(255);
+    }
+
+    private static IntVector pack(IntVector r, IntVector g, IntVector b) {
+        return r.lanewise(VectorOperators.LSHL, 16)
+                .or(g.lanewise(VectorOperators.LSHL, 8))
+                .or(b)
+                .or(0xFF000000);
+    }
+
+    /**
+     * Sobel için thread başına gri ton satırı önbelleği.
+     */
+    private static final class GrayRows {
+        private final int[][] rows = new int[3][0];
+        private final int[] tags = new int[3];
+
+        void reset(int width) {
+            for (int i = 0; i < 3; i++) {
+                if (rows[i].length < width) {
+                    rows[i] = new int[width];
+                }
+                tags[i] = -1;
+            }
+        }
+
+        int[] row(int[] src, int width, int y) {
+            int slot = y % 3;
+            int[] gray = rows[slot];
+            if (tags[slot] != y) {
+                int offset = y * width;
+                int upper = INT.loopBound(width);
+                int x = 0;
+                for (; x < upper; x += INT.length()) {
+                    average(IntVector.fromArray(INT, src, offset + x)).intoArray(gray, x);
+                }
+                for (; x < width; x++) {
+                    gray[x] = SobelEdgeDetectionFilter.gray(src[offset + x]);
+                }
+                tags[slot] = y;
+            }
+            return gray;
+        }
+    }
+}
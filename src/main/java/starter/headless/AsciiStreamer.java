@@ -0,0 +1,262 @@
+// src/main/java/starter/headless/AsciiStreamer.java
+
+package starter.headless;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.bytedeco.opencv.opencv_core.Mat;
+import starter.core.ImageUtils;
+import starter.core.PerformanceMetrics;
+import starter.core.SyntheticFrames;
+import starter.display.AsciiTextSink;
+import starter.filters.ASCIIArtFilter;
+import starter.pipeline.CameraSource;
+import starter.pipeline.FrameClock;
+
+/**
+ * AsciiStreamer, kamera veya dosya karelerini ASCII metin olarak
+ * terminale, dosyaya, boruya ve TCP izleyicilerine akıtan komut satırı
+ * giriş noktasıdır. Pikseller görüntüye çizilmez; her kare için yalnızca
+ * karakter ızgarası üretilir (bkz. AsciiTextSink). Tüm iş tek bir thread'de
+ * yapılır; izleyiciler aynı metni kendi thread'lerinde yazar.
+ *
+ * Çıktılar:
+ * - "-"          stdout
+ * - dosya yolu   Kareler ANSI çerçevesiyle art arda yazılır ("cat" ile oynatılır)
+ * - tcp:PORT     Her bağlantı ayrı bir izleyicidir (ör. "nc localhost PORT")
+ *
+ * Örnek:
+ *   --source camera:0 --columns 120 --output -,tcp:7000
+ */
+public final class AsciiStreamer {
+
+    private static final String USAGE = """
+            Usage: AsciiStreamer [options]
+              --source <type:value>   camera:<index> | image:<file> | dir:<directory> | video:<file>
+                                      | synthetic:<WxH> (default camera:0)
+              --size <WxH>            requested camera resolution (default 640x480)
+              --frames <n>            frames to load from file and synthetic sources; they loop (default 300)
+              --fps <n>               frame rate: requested from the camera, paced for other sources (default 30)
+              --columns <n>           characters per line (default: frame width / 4)
+              --output <o,...>        - (stdout), a file, or tcp:<port> for network viewers (default -)
+              --ansi <true|false>     frame output with ANSI cursor-home sequences (default true)
+              --duration <seconds>    stop after this many seconds (default 0: run until interrupted)
+            """;
+
+    // Kameradan art arda bu kadar kare alınamazsa akış sonlandırılır
+    private static final int MAX_GRAB_ATTEMPTS = 30;
+
+    private AsciiStreamer() {
+    }
+
+    /**
+     * Komut satırı giriş noktası.
+     *
+     * @param args Seçenekler (bkz. USAGE)
+     */
+    public static void main(String[] args) {
+        CommandLine.loadApplicationProperties();
+
+        Map<String, String> values;
+        try {
+            values = CommandLine.parse(args, Set.of("source", "size", "frames", "fps", "columns", "output",
+                    "ansi", "duration"));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (values == null) {
+            System.out.print(USAGE);
+            return;
+        }
+
+        try {
+            run(values);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+        } catch (Exception e) {
+            System.err.println("ASCII stream failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void run(Map<String, String> values) throws Exception {
+        String source = values.getOrDefault("source", "camera:0");
+        int fps = CommandLine.positive("fps", values.getOrDefault("fps", "30"));
+        long durationNanos = CommandLine.integer("duration", values.getOrDefault("duration", "0")) * 1_000_000_000L;
+        boolean ansi = Boolean.parseBoolean(values.getOrDefault("ansi", "true"));
+        Integer columns = values.containsKey("columns") ? CommandLine.positive("columns", values.get("columns")) : null;
+        List<String> outputs = CommandLine.split(values.getOrDefault("output", "-"));
+
+        FrameFeed feed = source.toLowerCase(Locale.ROOT).startsWith("camera:")
+                ? cameraFeed(source, values.getOrDefault("size", SyntheticFrames.VGA), fps)
+                : fileFeed(source, CommandLine.positive("frames", values.getOrDefault("frames", "300")));
+
+        PerformanceMetrics textTimes = new PerformanceMetrics();
+        List<ServerSocket> servers = new ArrayList<>();
+        AsciiTextSink sink = null;
+        try {
+            BufferedImage first = feed.next();
+            if (first == null) {
+                throw new IOException("Source produced no frames: " + source);
+            }
+            int cellWidth = columns != null ? Math.max(1, first.getWidth() / columns) : ASCIIArtFilter.CHAR_WIDTH;
+            // Terminal karakterleri yaklaşık iki kat yüksek olduğu için hücre de öyle seçilir
+            int cellHeight = 2 * cellWidth;
+            sink = new AsciiTextSink(cellWidth, cellHeight, ansi);
+            for (String output : outputs) {
+                open(sink, output, servers);
+            }
+            System.err.println("Streaming " + first.getWidth() / cellWidth + "x" + first.getHeight() / cellHeight
+                    + " characters from " + source);
+
+            AsciiTextSink target = sink;
+            Runtime.getRuntime().addShutdownHook(new Thread(target::close, "ascii-shutdown"));
+
+            long startTime = System.nanoTime();
+            // Geride kalındığında birikmiş kareler atlanır
+            FrameClock clock = new FrameClock(fps);
+            BufferedImage image = first;
+            while (image != null && (durationNanos == 0 || System.nanoTime() - startTime < durationNanos)) {
+                if (feed.paced() && !clock.await()) {
+                    break;
+                }
+                long start = System.nanoTime();
+                sink.publish(image);
+                textTimes.record(System.nanoTime() - start);
+                image = feed.next();
+            }
+        } finally {
+            for (ServerSocket server : servers) {
+                server.close();
+            }
+            if (sink != null) {
+                sink.close();
+                System.err.println("Viewers: written=" + sink.getWrittenFrames() + ", skipped=" + sink.getSkippedFrames());
+            }
+            feed.close();
+            System.err.println("Text frames: " + textTimes.snapshot());
+        }
+    }
+
+    private static void open(AsciiTextSink sink, String output, List<ServerSocket> servers) throws IOException {
+        if (output.equals("-")) {
+            sink.addViewer("stdout", new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16));
+        } else if (output.toLowerCase(Locale.ROOT).startsWith("tcp:")) {
+            int port = CommandLine.positive("output", output.substring(4));
+            ServerSocket server = new ServerSocket(port);
+            servers.add(server);
+            Thread acceptor = new Thread(() -> accept(sink, server), "ascii-accept-" + port);
+            acceptor.setDaemon(true);
+            acceptor.start();
+            System.err.println("ASCII viewers can connect to tcp port " + server.getLocalPort());
+        } else {
+            Path file = Path.of(output);
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            sink.addViewer(file.toString(), new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        }
+    }
+
+    private static void accept(AsciiTextSink sink, ServerSocket server) {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                String name = String.valueOf(socket.getRemoteSocketAddress());
+                System.err.println("ASCII viewer connected: " + name);
+                sink.addViewer(name, new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+            } catch (IOException | IllegalStateException e) {
+                if (!server.isClosed()) {
+                    System.err.println("Failed to accept ASCII viewer: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Akıtılacak karelerin kaynağı.
+     */
+    private interface FrameFeed extends AutoCloseable {
+        /** Sonraki kare veya kaynak bittiyse null */
+        BufferedImage next() throws Exception;
+
+        /** Karelerin --fps'e göre bekletilmesi gerekiyor mu (kamera kendi hızında verir) */
+        boolean paced();
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static FrameFeed cameraFeed(String source, String size, int fps) throws Exception {
+        int index = CommandLine.integer("source", source.substring(source.indexOf(':') + 1));
+        int[] resolution = SyntheticFrames.parse(size);
+        CameraSource camera = new CameraSource(index, resolution[0], resolution[1], fps);
+        camera.start();
+        return new FrameFeed() {
+            private BufferedImage image;
+
+            @Override
+            public BufferedImage next() throws Exception {
+                Mat mat = camera.grab();
+                for (int attempt = 1; mat == null; attempt++) {
+                    if (attempt == MAX_GRAB_ATTEMPTS) {
+                        return null; // Kamera kare vermiyor; akışı bitir
+                    }
+                    mat = camera.grab();
+                }
+                image = ImageUtils.matToBufferedImage(mat, image);
+                return image;
+            }
+
+            @Override
+            public boolean paced() {
+                return false;
+            }
+
+            @Override
+            public void close() throws IOException {
+                camera.close();
+            }
+        };
+    }
+
+    private static FrameFeed fileFeed(String source, int maxFrames) throws IOException {
+        List<BufferedImage> frames = FrameLoader.load(source, maxFrames);
+        return new FrameFeed() {
+            private int index;
+
+            @Override
+            public BufferedImage next() {
+                return frames.get(index++ % frames.size());
+            }
+
+            @Override
+            public boolean paced() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
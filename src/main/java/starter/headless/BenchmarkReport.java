@@ -0,0 +1,270 @@
+// src/main/java/starter/headless/BenchmarkReport.java
+
+package starter.headless;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * BenchmarkReport, komut satırı benchmark'ının sonuçlarını toplar ve
+ * makinece okunabilir biçimde (JSON veya CSV) yazar.
+ *
+ * Rapor İçeriği:
+ * - Ortam: Java sürümü, işletim sistemi, işlemci sayısı, çekirdek arka ucu
+ * - Yapılandırma: kaynak, kare sayısı, çözünürlükler, tekrar sayıları
+ * - Sonuçlar: her senaryo (tek filtre veya tüm zincir), mod ve thread
+ *   sayısı için kare başına gecikme dağılımı, verim ve sıralı moda göre
+ *   hızlanma
+ *
+ * CSV yalnızca sonuç satırlarını içerir; ortam ve yapılandırma JSON'da yer alır.
+ */
+public final class BenchmarkReport {
+
+    /** CSV başlık satırı */
+    static final String CSV_HEADER = "scenario,filters,mode,threads,samples,mean_ms,p50_ms,p90_ms,p99_ms,min_ms,max_ms,fps,megapixels_per_second,speedup";
+
+    /**
+     * Bir senaryo/mod/thread sayısı ölçümünün sonucu.
+     *
+     * @param scenario Senaryo adı (filtre adı veya "chain")
+     * @param filters Uygulanan filtreler
+     * @param mode İşleme modu
+     * @param threads İşçi thread sayısı (sıralı modda 1)
+     * @param samples Kare başına süreler (ns), küçükten büyüğe sıralı
+     * @param pixelsPerSample Ölçülen karelerin ortalama piksel sayısı
+     * @param speedup Aynı senaryonun sıralı ortalamasına oranı (yoksa NaN)
+     */
+    public record Result(String scenario, List<String> filters, String mode, int threads,
+                         long[] samples, double pixelsPerSample, double speedup) {
+
+        /**
+         * Ortalama kare süresini döndürür.
+         *
+         * @return Ortalama süre (ns)
+         */
+        public double meanNanos() {
+            return Arrays.stream(samples).average().orElse(0);
+        }
+
+        /**
+         * En yakın sıra (nearest-rank) yöntemiyle yüzdelik değeri döndürür.
+         *
+         * @param percentile Yüzdelik (0-100)
+         * @return Süre (ns)
+         */
+        public long percentileNanos(double percentile) {
+            if (samples.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * samples.length);
+            return samples[Math.max(0, Math.min(samples.length - 1, rank - 1))];
+        }
+
+        /**
+         * Saniyede işlenen kare sayısını döndürür.
+         *
+         * @return FPS
+         */
+        public double framesPerSecond() {
+            double mean = meanNanos();
+            return mean > 0 ? 1e9 / mean : 0;
+        }
+
+        /**
+         * Saniyede işlenen megapiksel sayısını döndürür.
+         *
+         * @return Megapiksel/s
+         */
+        public double megapixelsPerSecond() {
+            return framesPerSecond() * pixelsPerSample / 1e6;
+        }
+    }
+
+    private final Map<String, Object> environment = new LinkedHashMap<>();
+    private final Map<String, Object> configuration = new LinkedHashMap<>();
+    private final List<Result> results = new ArrayList<>();
+
+    /**
+     * Ortam bilgisi ekler.
+     *
+     * @param key Anahtar
+     * @param value Değer (String, Number, Boolean veya bunların listesi)
+     */
+    public void environment(String key, Object value) {
+        environment.put(key, value);
+    }
+
+    /**
+     * Yapılandırma bilgisi ekler.
+     *
+     * @param key Anahtar
+     * @param value Değer (String, Number, Boolean veya bunların listesi)
+     */
+    public void configuration(String key, Object value) {
+        configuration.put(key, value);
+    }
+
+    /**
+     * Bir ölçüm sonucu ekler.
+     *
+     * @param result Sonuç
+     */
+    public void add(Result result) {
+        results.add(result);
+    }
+
+    /**
+     * Eklenen sonuçları ekleme sırasıyla döndürür.
+     *
+     * @return Sonuçlar
+     */
+    public List<Result> getResults() {
+        return List.copyOf(results);
+    }
+
+    /**
+     * Raporun tamamını JSON olarak yazar.
+     *
+     * @param out Hedef
+     * @throws IOException Yazılamazsa
+     */
+    public void writeJson(Writer out) throws IOException {
+        List<Object> rows = new ArrayList<>(results.size());
+        for (Result result : results) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("scenario", result.scenario());
+            row.put("filters", result.filters());
+            row.put("mode", result.mode());
+            row.put("threads", result.threads());
+            row.put("samples", result.samples().length);
+            row.put("meanMs", millis(result.meanNanos()));
+            row.put("p50Ms", millis(result.percentileNanos(50)));
+            row.put("p90Ms", millis(result.percentileNanos(90)));
+            row.put("p99Ms", millis(result.percentileNanos(99)));
+            row.put("minMs", millis(result.percentileNanos(0)));
+            row.put("maxMs", millis(result.percentileNanos(100)));
+            row.put("fps", result.framesPerSecond());
+            row.put("megapixelsPerSecond", result.megapixelsPerSecond());
+            row.put("speedup", result.speedup());
+            rows.add(row);
+        }
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("environment", environment);
+        root.put("configuration", configuration);
+        root.put("results", rows);
+
+        StringBuilder sb = new StringBuilder();
+        appendJson(sb, root, 0);
+        sb.append('\n');
+        out.write(sb.toString());
+    }
+
+    /**
+     * Sonuç satırlarını CSV olarak yazar. Süreler milisaniyedir; birden çok
+     * filtre "+" ile birleştirilir.
+     *
+     * @param out Hedef
+     * @throws IOException Yazılamazsa
+     */
+    public void writeCsv(Writer out) throws IOException {
+        StringBuilder sb = new StringBuilder(CSV_HEADER).append('\n');
+        for (Result result : results) {
+            sb.append(csv(result.scenario())).append(',')
+                    .append(csv(String.join("+", result.filters()))).append(',')
+                    .append(result.mode()).append(',')
+                    .append(result.threads()).append(',')
+                    .append(result.samples().length).append(',')
+                    .append(number(millis(result.meanNanos()))).append(',')
+                    .append(number(millis(result.percentileNanos(50)))).append(',')
+                    .append(number(millis(result.percentileNanos(90)))).append(',')
+                    .append(number(millis(result.percentileNanos(99)))).append(',')
+                    .append(number(millis(result.percentileNanos(0)))).append(',')
+                    .append(number(millis(result.percentileNanos(100)))).append(',')
+                    .append(number(result.framesPerSecond())).append(',')
+                    .append(number(result.megapixelsPerSecond())).append(',')
+                    .append(Double.isNaN(result.speedup()) ? "" : number(result.speedup()))
+                    .append('\n');
+        }
+        out.write(sb.toString());
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1e6;
+    }
+
+    private static String number(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void appendJson(StringBuilder sb, Object value, int indent) {
+        if (value instanceof Map<?, ?> map) {
+            sb.append('{');
+            int i = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                sb.append(i++ == 0 ? "\n" : ",\n").append("  ".repeat(indent + 1));
+                appendString(sb, String.valueOf(entry.getKey()));
+                sb.append(": ");
+                appendJson(sb, entry.getValue(), indent + 1);
+            }
+            sb.append(map.isEmpty() ? "" : "\n" + "  ".repeat(indent)).append('}');
+        } else if (value instanceof List<?> list) {
+            boolean scalars = list.stream().noneMatch(e -> e instanceof Map || e instanceof List);
+            sb.append('[');
+            for (int i = 0; i < list.size(); i++) {
+                if (scalars) {
+                    sb.append(i == 0 ? "" : ", ");
+                } else {
+                    sb.append(i == 0 ? "\n" : ",\n").append("  ".repeat(indent + 1));
+                }
+                appendJson(sb, list.get(i), indent + 1);
+            }
+            sb.append(scalars || list.isEmpty() ? "" : "\n" + "  ".repeat(indent)).append(']');
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            // JSON'da NaN/Infinity yoktur
+            sb.append(Double.isFinite(d) ? number(d) : "null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+        } else if (value == null) {
+            sb.append("null");
+        } else {
+            appendString(sb, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
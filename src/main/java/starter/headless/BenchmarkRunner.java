@@ -0,0 +1,461 @@
+// src/main/java/starter/headless/BenchmarkRunner.java
+
+package starter.headless;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import starter.core.FrameTracer;
+import starter.filters.FilterRegistry;
+import starter.filters.KernelBackend;
+import starter.metrics.MetricsServer;
+import starter.processing.FrameParallelProcessor;
+import starter.processing.ImageProcessor;
+import starter.processing.TileScheduler;
+
+/**
+ * BenchmarkRunner, ImageProcessor'ı ekran ve kamera olmadan ölçen komut
+ * satırı giriş noktasıdır. Arayüzdeki "Record 5s Video" akışının yaptığı
+ * filtre başına ve tüm zincir ölçümlerini sunucularda çalıştırmak için
+ * kullanılır; sonuçları metin tablosu yerine JSON veya CSV olarak yazar.
+ *
+ * Ölçüm Akışı:
+ * 1. Kaynaktaki tüm kareler belleğe yüklenir (bkz. FrameLoader)
+ * 2. Her senaryo (seçili filtrelerin her biri tek başına, birden fazla
+ *    filtre varsa tüm zincir) için önce sıralı mod ölçülür
+ * 3. Her thread sayısı için işleme havuzu o sayıda işçiyle yeniden
+ *    oluşturulur ve paralel modlar ölçülür
+ * 4. Her ölçümde tüm kareler önce ısınma turlarında, sonra ölçüm
+ *    turlarında işlenir; her kare ayrı bir örnektir
+ *
+ * Paralel modların hızlanması aynı senaryonun sıralı ortalamasına göre
+ * hesaplanır. Kare düzeyinde paralel modda (frames) tek bir karenin süresi
+ * anlamlı olmadığı için örnekler, sırayla teslim edilen ardışık kareler
+ * arasındaki sürelerdir; ortalaması tur süresinin kare sayısına oranıdır.
+ * İlerleme mesajları stderr'e yazılır; rapor --output verilmediyse
+ * stdout'a yazılır.
+ *
+ * Örnek:
+ *   --source synthetic:1920x1080 --filters grayscale,sobel-edge-detection
+ *   --modes sequential,parallel --threads 1,2,4 --format csv --output out.csv
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Ölçülebilen işleme modları.
+     */
+    enum Mode {
+        SEQUENTIAL,
+        PARALLEL,
+        STRIPS,
+        INCREMENTAL,
+        /** Her kare sıralı zincirle, birden çok kare aynı anda (bkz. FrameParallelProcessor) */
+        FRAMES,
+        /** Strateji ve işçi sayısı ölçülerek seçilir (bkz. AutoTuner); keşif kareleri ölçüme dahildir */
+        ADAPTIVE;
+
+        /**
+         * Tek bir kareyi bu modda işler. FRAMES modunda kare tek başına
+         * sıralı zincirle işlenir; kareler arası paralellik çağıranın işidir.
+         */
+        void run(BufferedImage input, BufferedImage output, List<String> filters, int contrast) {
+            switch (this) {
+                case SEQUENTIAL -> ImageProcessor.runFiltersSequentially(input, output, filters, contrast);
+                case PARALLEL -> ImageProcessor.runFiltersInParallel(input, output, filters, contrast);
+                case STRIPS -> ImageProcessor.runFiltersInStrips(input, output, filters, contrast);
+                case INCREMENTAL -> ImageProcessor.runFiltersIncrementally(input, output, filters, contrast);
+                case FRAMES -> ImageProcessor.runFiltersSequentially(input, output, filters, contrast);
+                case ADAPTIVE -> ImageProcessor.runFiltersAdaptively(input, output, filters, contrast);
+            }
+        }
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Komut satırı seçenekleri.
+     */
+    record Options(String source, int frames, List<String> filters, List<Mode> modes, List<Integer> threads,
+                   int inFlight, int warmup, int iterations, int contrast, KernelBackend backend, String format, Path output,
+                   Path trace) {
+    }
+
+    /** Tüm zincir senaryosunun adı */
+    static final String CHAIN_SCENARIO = "chain";
+
+    private static final String USAGE = """
+            Usage: BenchmarkRunner [options]
+              --source <type:value>   image:<file> | dir:<directory> | video:<file> | synthetic:<WxH>
+                                      (default synthetic:640x480)
+              --frames <n>            frames to read from a directory/video or to generate (default 30)
+              --filters <a,b,...>     filter chain in order, e.g. grayscale,sobel-edge-detection
+                                      (default: all registered filters)
+              --modes <m,...>         sequential, parallel, strips, incremental, frames, adaptive
+                                      (default: sequential, parallel, strips)
+              --in-flight <n>         frames processed at once in frames mode (default: 2 x threads)
+              --threads <n,...>       worker counts for the parallel modes (default: 1 and CPU count)
+              --warmup <n>            warmup passes over all frames (default 2)
+              --iterations <n>        measured passes over all frames (default 5)
+              --contrast <n>          contrast value 0-200 (default 100)
+              --backend <b>           scalar or vector filter kernels (default: filters.backend)
+              --format <f>            json or csv (default: from the output extension, else json)
+              --output <file>         report file (default: stdout)
+              --trace <file>          record trace events and write the most recent ones as
+                                      Chrome/Perfetto trace JSON
+            """;
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Komut satırı giriş noktası.
+     *
+     * @param args Seçenekler (bkz. USAGE)
+     */
+    public static void main(String[] args) {
+        CommandLine.loadApplicationProperties();
+
+        Options options;
+        try {
+            options = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options == null) {
+            System.out.print(USAGE);
+            return;
+        }
+
+        MetricsServer metricsServer = MetricsServer.startIfConfigured();
+        if (options.trace() != null) {
+            FrameTracer.setEnabled(true);
+        }
+        try {
+            BenchmarkReport report = run(options);
+            write(report, options);
+            if (options.trace() != null) {
+                writeTrace(options.trace());
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Benchmark failed: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            ImageProcessor.shutdownPool();
+            if (metricsServer != null) {
+                metricsServer.close();
+            }
+        }
+    }
+
+    /**
+     * Seçeneklerdeki tüm senaryo, mod ve thread sayısı bileşimlerini ölçer.
+     *
+     * @param options Seçenekler
+     * @return Rapor
+     * @throws IOException Kaynak okunamazsa
+     */
+    static BenchmarkReport run(Options options) throws IOException {
+        KernelBackend backend = options.backend() != null ? KernelBackend.select(options.backend()) : KernelBackend.current();
+
+        System.err.println("Loading frames from " + options.source() + "...");
+        List<BufferedImage> frames = FrameLoader.load(options.source(), options.frames());
+
+        BenchmarkReport report = new BenchmarkReport();
+        report.environment("javaVersion", System.getProperty("java.version"));
+        report.environment("vm", System.getProperty("java.vm.name"));
+        report.environment("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        report.environment("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.environment("kernelBackend", backend.name().toLowerCase(Locale.ROOT));
+        report.environment("tileSize", Integer.getInteger(ImageProcessor.TILE_SIZE_PROPERTY, TileScheduler.DEFAULT_TILE_SIZE));
+
+        report.configuration("source", options.source());
+        report.configuration("frames", frames.size());
+        report.configuration("resolutions", resolutions(frames));
+        report.configuration("filters", options.filters());
+        report.configuration("modes", options.modes().stream().map(Mode::label).toList());
+        report.configuration("threads", options.threads());
+        if (options.modes().contains(Mode.FRAMES)) {
+            report.configuration("framesInFlight", options.inFlight() > 0 ? options.inFlight() : "2 x threads");
+        }
+        report.configuration("warmupPasses", options.warmup());
+        report.configuration("measuredPasses", options.iterations());
+        report.configuration("contrast", options.contrast());
+
+        // Senaryo adı → filtre listesi; tek filtreli zincirde ayrı bir "chain" senaryosu gerekmez
+        Map<String, List<String>> scenarios = new LinkedHashMap<>();
+        for (String filter : options.filters()) {
+            scenarios.put(filter, List.of(filter));
+        }
+        if (options.filters().size() > 1) {
+            scenarios.put(CHAIN_SCENARIO, options.filters());
+        }
+
+        double pixels = frames.stream().mapToDouble(f -> (double) f.getWidth() * f.getHeight()).average().orElse(0);
+        Map<String, Double> baselines = new HashMap<>();
+
+        if (options.modes().contains(Mode.SEQUENTIAL)) {
+            for (Map.Entry<String, List<String>> scenario : scenarios.entrySet()) {
+                long[] samples = measure(Mode.SEQUENTIAL, 1, scenario, frames, options);
+                BenchmarkReport.Result result = new BenchmarkReport.Result(scenario.getKey(), scenario.getValue(),
+                        Mode.SEQUENTIAL.label(), 1, samples, pixels, 1.0);
+                baselines.put(scenario.getKey(), result.meanNanos());
+                report.add(result);
+            }
+        }
+
+        for (int threads : options.threads()) {
+            ImageProcessor.resizePool(threads);
+            for (Map.Entry<String, List<String>> scenario : scenarios.entrySet()) {
+                for (Mode mode : options.modes()) {
+                    if (mode == Mode.SEQUENTIAL) {
+                        continue;
+                    }
+                    long[] samples = measure(mode, threads, scenario, frames, options);
+                    double mean = Arrays.stream(samples).average().orElse(0);
+                    Double baseline = baselines.get(scenario.getKey());
+                    double speedup = baseline != null && mean > 0 ? baseline / mean : Double.NaN;
+                    report.add(new BenchmarkReport.Result(scenario.getKey(), scenario.getValue(),
+                            mode.label(), threads, samples, pixels, speedup));
+                }
+            }
+        }
+        ImageProcessor.shutdownPool();
+        return report;
+    }
+
+    /**
+     * Bir senaryoyu verilen modda ölçer.
+     *
+     * @return Kare başına süreler (ns), küçükten büyüğe sıralı
+     */
+    private static long[] measure(Mode mode, int threads, Map.Entry<String, List<String>> scenario,
+                                  List<BufferedImage> frames, Options options) {
+        System.err.printf("Measuring %s [%s, %d thread(s)]...%n", scenario.getKey(), mode.label(), threads);
+        List<String> filters = scenario.getValue();
+        if (mode == Mode.FRAMES) {
+            return measureFrames(options.inFlight() > 0 ? options.inFlight() : 2 * threads, filters, frames, options);
+        }
+        BufferedImage output = null;
+
+        for (int pass = 0; pass < options.warmup(); pass++) {
+            for (BufferedImage frame : frames) {
+                output = outputFor(frame, output);
+                mode.run(frame, output, filters, options.contrast());
+            }
+        }
+
+        long[] samples = new long[options.iterations() * frames.size()];
+        int index = 0;
+        for (int pass = 0; pass < options.iterations(); pass++) {
+            for (BufferedImage frame : frames) {
+                output = outputFor(frame, output);
+                long start = System.nanoTime();
+                mode.run(frame, output, filters, options.contrast());
+                samples[index++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    /**
+     * Kareleri FrameParallelProcessor ile aynı anda işler ve sırayla teslim
+     * edilen ardışık kareler arasındaki süreleri ölçer.
+     *
+     * @return Kareler arası süreler (ns), küçükten büyüğe sıralı
+     */
+    private static long[] measureFrames(int inFlight, List<String> filters, List<BufferedImage> frames, Options options) {
+        FrameParallelProcessor<Integer> processor = new FrameParallelProcessor<>(ImageProcessor.getPool(), inFlight);
+        // Yoldaki her kare kendi çıktısına yazar
+        BufferedImage[] outputs = new BufferedImage[frames.size()];
+        for (int i = 0; i < outputs.length; i++) {
+            outputs[i] = outputFor(frames.get(i), null);
+        }
+        Consumer<Integer> work = i -> Mode.FRAMES.run(frames.get(i), outputs[i], filters, options.contrast());
+
+        for (int pass = 0; pass < options.warmup(); pass++) {
+            for (int i = 0; i < frames.size(); i++) {
+                while (!processor.trySubmit(i, work)) {
+                    processor.take();
+                }
+            }
+            while (processor.take() != null) {
+                // Turun son karelerini bekle
+            }
+        }
+
+        long[] samples = new long[options.iterations() * frames.size()];
+        int index = 0;
+        for (int pass = 0; pass < options.iterations(); pass++) {
+            long previous = System.nanoTime();
+            for (int i = 0; i < frames.size(); i++) {
+                while (!processor.trySubmit(i, work)) {
+                    processor.take();
+                    long now = System.nanoTime();
+                    samples[index++] = now - previous;
+                    previous = now;
+                }
+            }
+            while (processor.take() != null) {
+                long now = System.nanoTime();
+                samples[index++] = now - previous;
+                previous = now;
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    // Çıktı buffer'ı yalnızca çözünürlük değiştiğinde yeniden oluşturulur
+    private static BufferedImage outputFor(BufferedImage frame, BufferedImage current) {
+        if (current == null || current.getWidth() != frame.getWidth() || current.getHeight() != frame.getHeight()) {
+            return new BufferedImage(frame.getWidth(), frame.getHeight(), BufferedImage.TYPE_INT_RGB);
+        }
+        return current;
+    }
+
+    private static List<String> resolutions(List<BufferedImage> frames) {
+        Set<String> sizes = new LinkedHashSet<>();
+        for (BufferedImage frame : frames) {
+            sizes.add(frame.getWidth() + "x" + frame.getHeight());
+        }
+        return List.copyOf(sizes);
+    }
+
+    private static void write(BenchmarkReport report, Options options) throws IOException {
+        if (options.output() == null) {
+            Writer out = new OutputStreamWriter(System.out, UTF_8);
+            writeFormat(report, options.format(), out);
+            out.flush();
+            return;
+        }
+        Path parent = options.output().toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer out = Files.newBufferedWriter(options.output(), UTF_8)) {
+            writeFormat(report, options.format(), out);
+        }
+        System.err.println("Report written to " + options.output());
+    }
+
+    private static void writeTrace(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer out = Files.newBufferedWriter(file, UTF_8)) {
+            FrameTracer.writeChromeTrace(out, 0);
+        }
+        System.err.println("Trace (" + FrameTracer.size() + " events) written to " + file);
+    }
+
+    private static void writeFormat(BenchmarkReport report, String format, Writer out) throws IOException {
+        if (format.equals("csv")) {
+            report.writeCsv(out);
+        } else {
+            report.writeJson(out);
+        }
+    }
+
+    /**
+     * Komut satırı argümanlarını ayrıştırır.
+     *
+     * @param args Argümanlar
+     * @return Seçenekler veya --help istendiyse null
+     * @throws IllegalArgumentException Bir seçenek geçersizse
+     */
+    static Options parse(String[] args) {
+        Map<String, String> values = CommandLine.parse(args, Set.of("source", "frames", "filters", "modes", "threads",
+                "in-flight", "warmup", "iterations", "contrast", "backend", "format", "output", "trace"));
+        if (values == null) {
+            return null;
+        }
+
+        List<String> filters = FilterRegistry.names();
+        if (values.containsKey("filters")) {
+            filters = CommandLine.split(values.get("filters")).stream().map(CommandLine::filterName).toList();
+        }
+
+        List<Mode> modes = new ArrayList<>();
+        for (String mode : CommandLine.split(values.getOrDefault("modes", "sequential,parallel,strips"))) {
+            try {
+                modes.add(Mode.valueOf(mode.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown mode: " + mode);
+            }
+        }
+
+        List<Integer> threads = new ArrayList<>();
+        if (values.containsKey("threads")) {
+            for (String count : CommandLine.split(values.get("threads"))) {
+                threads.add(CommandLine.positive("threads", count));
+            }
+        } else {
+            threads.add(1);
+            int cores = Runtime.getRuntime().availableProcessors();
+            if (cores > 1) {
+                threads.add(cores);
+            }
+        }
+
+        KernelBackend backend = null;
+        if (values.containsKey("backend")) {
+            try {
+                backend = KernelBackend.valueOf(values.get("backend").trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown backend: " + values.get("backend"));
+            }
+        }
+
+        Path output = values.containsKey("output") ? Path.of(values.get("output")) : null;
+        String format = values.get("format");
+        if (format == null) {
+            format = output != null && output.toString().toLowerCase(Locale.ROOT).endsWith(".csv") ? "csv" : "json";
+        }
+        format = format.toLowerCase(Locale.ROOT);
+        if (!format.equals("json") && !format.equals("csv")) {
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+
+        int contrast = CommandLine.integer("contrast", values.getOrDefault("contrast", "100"));
+        if (contrast < 0 || contrast > 200) {
+            throw new IllegalArgumentException("Contrast must be between 0 and 200: " + contrast);
+        }
+
+        return new Options(
+                values.getOrDefault("source", "synthetic:640x480"),
+                CommandLine.positive("frames", values.getOrDefault("frames", "30")),
+                filters,
+                modes,
+                threads,
+                CommandLine.integer("in-flight", values.getOrDefault("in-flight", "0")),
+                CommandLine.integer("warmup", values.getOrDefault("warmup", "2")),
+                CommandLine.positive("iterations", values.getOrDefault("iterations", "5")),
+                contrast,
+                backend,
+                format,
+                output,
+                values.containsKey("trace") ? Path.of(values.get("trace")) : null);
+    }
+}
@@ -0,0 +1,142 @@
+// src/main/java/starter/headless/CommandLine.java
+
+package starter.headless;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import starter.filters.FilterRegistry;
+
+/**
+ * CommandLine, headless giriş noktalarının ortak komut satırı ve
+ * yapılandırma yardımcılarını içerir. Seçenekler "--ad değer" veya
+ * "--ad=değer" biçimindedir.
+ */
+final class CommandLine {
+
+    private CommandLine() {
+    }
+
+    /**
+     * Seçenekleri ayrıştırır.
+     *
+     * @param args Argümanlar
+     * @param known Geçerli seçenek adları ("--" olmadan)
+     * @return Seçenek adı → değer veya --help istendiyse null
+     * @throws IllegalArgumentException Bir argüman geçersizse
+     */
+    static Map<String, String> parse(String[] args, Set<String> known) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--help") || arg.equals("-h")) {
+                return null;
+            }
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            String key = arg.substring(2);
+            String value;
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                value = key.substring(eq + 1);
+                key = key.substring(0, eq);
+            } else if (i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("Missing value for --" + key);
+            }
+            values.put(key, value);
+        }
+
+        for (String key : values.keySet()) {
+            if (!known.contains(key)) {
+                throw new IllegalArgumentException("Unknown option: --" + key);
+            }
+        }
+        return values;
+    }
+
+    static List<String> split(String value) {
+        List<String> parts = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.isBlank()) {
+                parts.add(part.trim());
+            }
+        }
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("Empty list: " + value);
+        }
+        return parts;
+    }
+
+    static int integer(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed < 0) {
+                throw new IllegalArgumentException("--" + name + " must not be negative: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number: " + value);
+        }
+    }
+
+    static int positive(String name, String value) {
+        int parsed = integer(name, value);
+        if (parsed == 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive: " + value);
+        }
+        return parsed;
+    }
+
+    /**
+     * Komut satırındaki filtre adını kayıtlı ada çevirir. Büyük/küçük harf,
+     * boşluk ve tire farkları yok sayılır; böylece boşluk içeren adlar
+     * tırnaksız yazılabilir (ör. "sobel-edge-detection").
+     */
+    static String filterName(String name) {
+        String key = normalize(name);
+        for (String registered : FilterRegistry.names()) {
+            if (normalize(registered).equals(key)) {
+                return registered;
+            }
+        }
+        throw new IllegalArgumentException("Unknown filter: " + name + " (available: " + String.join(", ", FilterRegistry.names()) + ")");
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    /**
+     * application.properties dosyasını sistem özelliklerine yükler. Komut
+     * satırında -D ile verilen özellikler dosyadaki değerlerin önüne geçer.
+     */
+    static void loadApplicationProperties() {
+        try (InputStream resource = CommandLine.class.getResourceAsStream("/application.properties")) {
+            if (resource == null) {
+                System.err.println("Application properties not found, using defaults");
+                return;
+            }
+            Properties properties = new Properties();
+            properties.load(new InputStreamReader(resource, UTF_8));
+            properties.forEach((key, value) -> {
+                if (System.getProperty(String.valueOf(key)) == null) {
+                    System.setProperty(String.valueOf(key), String.valueOf(value));
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Failed to load application properties: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+// src/main/java/starter/headless/FrameLoader.java
+
+package starter.headless;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.bytedeco.javacv.FFmpegFrameGrabber;
+import org.bytedeco.javacv.Frame;
+import org.bytedeco.javacv.OpenCVFrameConverter;
+import starter.core.ImageUtils;
+import starter.core.SyntheticFrames;
+
+/**
+ * FrameLoader, komut satırı benchmark'ı için test karelerini belleğe
+ * yükler. Ölçüm sırasında disk veya çözücü (decoder) maliyeti olmaması
+ * için tüm kareler önceden okunur.
+ *
+ * Kaynak Biçimleri ("tür:değer"):
+ * - image:yol          Tek bir görüntü dosyası (ImageIO'nun okuyabildiği her format)
+ * - dir:yol            Bir klasördeki görüntü dosyaları, ad sırasıyla
+ * - video:yol          FFmpeg ile çözülen bir video dosyası
+ * - synthetic:GxY      SyntheticFrames ile üretilen tekrarlanabilir kareler
+ *
+ * Video ve sentetik kaynaklar kameradan gelen karelerle aynı türde
+ * (TYPE_3BYTE_BGR) görüntü üretir; dosyalar ImageIO'nun verdiği türde kalır.
+ */
+public final class FrameLoader {
+
+    private static final List<String> IMAGE_EXTENSIONS = List.of(".png", ".jpg", ".jpeg", ".bmp", ".gif");
+
+    private FrameLoader() {
+    }
+
+    /**
+     * Kaynak tanımındaki kareleri yükler.
+     *
+     * @param source Kaynak tanımı (ör. "dir:frames", "synthetic:1920x1080")
+     * @param maxFrames Video ve klasörlerden okunacak, sentetik kaynaktan
+     *                  üretilecek en fazla kare sayısı
+     * @return Yüklenen kareler (en az bir kare)
+     * @throws IOException Kaynak okunamazsa
+     * @throws IllegalArgumentException Kaynak tanımı geçersizse veya kaynakta kare yoksa
+     */
+    public static List<BufferedImage> load(String source, int maxFrames) throws IOException {
+        int separator = source.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid source (expected type:value): " + source);
+        }
+        String type = source.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+        String value = source.substring(separator + 1).trim();
+
+        List<BufferedImage> frames = switch (type) {
+            case "image" -> List.of(readImage(Path.of(value)));
+            case "dir" -> readDirectory(Path.of(value), maxFrames);
+            case "video" -> readVideo(value, maxFrames);
+            case "synthetic" -> synthetic(value, maxFrames);
+            default -> throw new IllegalArgumentException("Unknown source type: " + type);
+        };
+        if (frames.isEmpty()) {
+            throw new IllegalArgumentException("No frames found in source: " + source);
+        }
+        return frames;
+    }
+
+    private static BufferedImage readImage(Path file) throws IOException {
+        BufferedImage image = ImageIO.read(file.toFile());
+        if (image == null) {
+            throw new IOException("Unsupported image format: " + file);
+        }
+        return image;
+    }
+
+    private static List<BufferedImage> readDirectory(Path directory, int maxFrames) throws IOException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.filter(Files::isRegularFile)
+                    .filter(FrameLoader::isImageFile)
+                    .sorted()
+                    .limit(maxFrames)
+                    .toList();
+        }
+
+        List<BufferedImage> frames = new ArrayList<>(files.size());
+        for (Path file : files) {
+            frames.add(readImage(file));
+        }
+        return frames;
+    }
+
+    private static boolean isImageFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return IMAGE_EXTENSIONS.stream().anyMatch(name::endsWith);
+    }
+
+    private static List<BufferedImage> readVideo(String path, int maxFrames) throws IOException {
+        if (!new File(path).isFile()) {
+            throw new IOException("Video file not found: " + path);
+        }
+
+        List<BufferedImage> frames = new ArrayList<>();
+        try (FFmpegFrameGrabber grabber = new FFmpegFrameGrabber(path);
+             OpenCVFrameConverter.ToMat converter = new OpenCVFrameConverter.ToMat()) {
+            grabber.start();
+            Frame frame;
+            while (frames.size() < maxFrames && (frame = grabber.grabImage()) != null) {
+                // Dönüştürücü Mat'i yeniden kullanır; her kare kendi görüntüsüne kopyalanır
+                BufferedImage image = ImageUtils.matToBufferedImage(converter.convert(frame));
+                if (image != null) {
+                    frames.add(image);
+                }
+            }
+        }
+        return frames;
+    }
+
+    private static List<BufferedImage> synthetic(String resolution, int maxFrames) {
+        int[] size = SyntheticFrames.parse(resolution);
+        List<BufferedImage> frames = new ArrayList<>(maxFrames);
+        for (int i = 0; i < maxFrames; i++) {
+            frames.add(SyntheticFrames.bgrFrame(size[0], size[1], i));
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,333 @@
+// src/main/java/starter/headless/StreamHost.java
+
+package starter.headless;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import starter.core.LatencyHistogram;
+import starter.core.SyntheticFrames;
+import starter.filters.FilterRegistry;
+import starter.metrics.MetricsServer;
+import starter.metrics.StreamMetrics;
+import starter.pipeline.CameraSource;
+import starter.pipeline.FrameSource;
+import starter.pipeline.ManagedStream;
+import starter.pipeline.SocketSource;
+import starter.pipeline.StreamScheduler;
+import starter.pipeline.SyntheticSource;
+import starter.pipeline.VideoFileSink;
+import starter.pipeline.VideoFileSource;
+import starter.processing.ImageProcessor;
+
+/**
+ * StreamHost, çok sayıda kamera, video dosyası, soket ve sentetik akışı tek bir
+ * JVM'de StreamScheduler ile işleyen komut satırı giriş noktasıdır.
+ * Akışlar ortak, sınırlı sayıda işçiyi ağırlıklarına göre paylaşır; her
+ * akışın kendi filtre zinciri, kare bütçesi ve isteğe bağlı video çıkışı
+ * vardır. Akış başına kare hızı, işlemci payı ve gecikme düzenli
+ * aralıklarla stderr'e, metrics.port ayarlıysa Prometheus'a yazılır.
+ *
+ * Akış dosyası (--config) bir properties dosyasıdır:
+ *   streams=front,lobby
+ *   stream.front.source=camera:0
+ *   stream.front.size=640x480
+ *   stream.front.filters=grayscale,sobel-edge-detection
+ *   stream.front.weight=2
+ *   stream.lobby.source=video:lobby.mp4
+ *   stream.lobby.budget=10
+ *   stream.lobby.output=lobby-edges.mp4
+ * Akış anahtarları: source, size, filters, contrast, weight, fps, budget,
+ * queue, output. Verilmeyen değerler komut satırındaki seçeneklerden alınır.
+ *
+ * Kaynaklar sanal thread'lerde okunur (bkz. StreamScheduler); soket
+ * kaynakları kare gelene kadar işlemci ve platform thread'i harcamadığı
+ * için çoğu zaman boşta duran çok sayıda akış ucuza barındırılabilir.
+ *
+ * Örnek (yük testi):
+ *   --synthetic 24 --size 320x240 --filters gaussian-blur --budget 15
+ */
+public final class StreamHost {
+
+    private static final String USAGE = """
+            Usage: StreamHost [options]
+              --config <file>         stream definitions (properties file, see below)
+              --synthetic <n>         add n synthetic streams named synthetic-1..n (default 0)
+              --size <WxH>            synthetic frame size and requested camera resolution (default 320x240)
+              --filters <a,b,...>     default filter chain in order (default: all registered filters)
+              --contrast <n>          default contrast value 0-200 (default 100)
+              --fps <n>               default frame rate: requested from cameras, paced for files and
+                                      synthetic sources, written to outputs (default 30)
+              --budget <n>            default most frames per second processed per stream, 0 = unlimited
+                                      (default 0)
+              --queue <n>             default frames a stream may have waiting (default: streams.queueDepth)
+              --threads <n>           worker threads shared by all streams (default: processing.threads)
+              --duration <seconds>    stop after this long, 0 = when every stream has finished (default 0)
+              --report <seconds>      per-stream report interval, 0 to disable (default 5)
+
+            Stream file keys (stream.<name>.<key>, names listed in "streams"):
+              source                  camera:<index> | video:<file> | synthetic:<WxH> | socket:<host>:<port>
+                                      (required; socket frames: width and height as big-endian ints,
+                                      then width x height x 3 BGR bytes)
+              size, filters, contrast, fps, budget, queue
+                                      as the options above
+              weight                  fair-share weight; a stream of weight 2 gets twice the worker time
+                                      of a stream of weight 1 when workers are saturated (default 1)
+              output                  video file the processed frames are written to (default: none)
+            """;
+
+    /** İşlenmeyi bekleyebilecek varsayılan kare sayısını ayarlayan sistem özelliği */
+    public static final String QUEUE_DEPTH_PROPERTY = "streams.queueDepth";
+
+    private StreamHost() {
+    }
+
+    /**
+     * Komut satırı giriş noktası.
+     *
+     * @param args Seçenekler (bkz. USAGE)
+     */
+    public static void main(String[] args) {
+        CommandLine.loadApplicationProperties();
+
+        Map<String, String> values;
+        try {
+            values = CommandLine.parse(args, Set.of("config", "synthetic", "size", "filters", "contrast", "fps", "budget",
+                    "queue", "threads", "duration", "report"));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (values == null) {
+            System.out.print(USAGE);
+            return;
+        }
+
+        try {
+            run(values);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+        } catch (Exception e) {
+            System.err.println("Stream host failed: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            ImageProcessor.shutdownPool();
+        }
+    }
+
+    private static void run(Map<String, String> defaults) throws Exception {
+        List<StreamDefinition> definitions = new ArrayList<>();
+        if (defaults.containsKey("config")) {
+            definitions.addAll(readConfig(Path.of(defaults.get("config")), defaults));
+        }
+        int synthetic = CommandLine.integer("synthetic", defaults.getOrDefault("synthetic", "0"));
+        for (int i = 1; i <= synthetic; i++) {
+            definitions.add(define("synthetic-" + i, Map.of("source", "synthetic:" + defaults.getOrDefault("size", "320x240")),
+                    defaults));
+        }
+        if (definitions.isEmpty()) {
+            throw new IllegalArgumentException("No streams: give --config and/or --synthetic");
+        }
+        long durationNanos = CommandLine.integer("duration", defaults.getOrDefault("duration", "0")) * 1_000_000_000L;
+        long reportNanos = CommandLine.integer("report", defaults.getOrDefault("report", "5")) * 1_000_000_000L;
+        int threads = defaults.containsKey("threads")
+                ? CommandLine.positive("threads", defaults.get("threads"))
+                : Integer.getInteger("processing.threads", 0);
+
+        MetricsServer metricsServer = MetricsServer.startIfConfigured();
+        try (StreamScheduler scheduler = new StreamScheduler(threads)) {
+            MetricsServer.register("streams", new StreamMetrics(scheduler));
+            System.err.println("Hosting " + definitions.size() + " streams on " + scheduler.getWorkerCount() + " workers");
+            for (int i = 0; i < definitions.size(); i++) {
+                StreamDefinition definition = definitions.get(i);
+                VideoFileSink sink = definition.output() != null
+                        ? new VideoFileSink(definition.output(), definition.fps(), null, 0) : null;
+                scheduler.add(definition.config(), definition.source(i), sink);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(scheduler::close, "streams-shutdown"));
+
+            long startTime = System.nanoTime();
+            Report report = new Report(scheduler.getStreams());
+            while (true) {
+                long remaining = durationNanos > 0 ? durationNanos - (System.nanoTime() - startTime) : Long.MAX_VALUE;
+                long wait = Math.min(remaining, reportNanos > 0 ? reportNanos : Long.MAX_VALUE);
+                if (wait <= 0 || scheduler.awaitFinished(wait, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                if (reportNanos > 0) {
+                    report.print();
+                }
+            }
+
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+            System.err.println(String.format(Locale.ROOT, "Ran %d streams for %.1f s", definitions.size(), seconds));
+            for (ManagedStream stream : scheduler.getStreams()) {
+                System.err.println("  " + stream + String.format(Locale.ROOT, ", %.1f fps, cpu %.1f s",
+                        stream.getProcessedFrames() / seconds, stream.getCpuNanos() / 1e9));
+                System.err.println("    latency: " + stream.getLatencies().snapshot());
+                if (stream.getFailure() != null) {
+                    System.err.println("    failed: " + stream.getFailure().getMessage());
+                }
+            }
+        } finally {
+            MetricsServer.unregister("streams");
+            if (metricsServer != null) {
+                metricsServer.close();
+            }
+        }
+    }
+
+    private static List<StreamDefinition> readConfig(Path file, Map<String, String> defaults) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        String names = properties.getProperty("streams");
+        if (names == null) {
+            throw new IllegalArgumentException("Stream file has no \"streams\" list: " + file);
+        }
+        List<StreamDefinition> definitions = new ArrayList<>();
+        for (String name : CommandLine.split(names)) {
+            Map<String, String> keys = new HashMap<>();
+            String prefix = "stream." + name + ".";
+            for (String key : properties.stringPropertyNames()) {
+                if (key.startsWith(prefix)) {
+                    keys.put(key.substring(prefix.length()), properties.getProperty(key).trim());
+                }
+            }
+            definitions.add(define(name, keys, defaults));
+        }
+        return definitions;
+    }
+
+    // Akış anahtarlarını, eksik olanları komut satırı seçeneklerinden alarak doğrular
+    private static StreamDefinition define(String name, Map<String, String> keys, Map<String, String> defaults) {
+        Set<String> known = Set.of("source", "size", "filters", "contrast", "weight", "fps", "budget", "queue", "output");
+        for (String key : keys.keySet()) {
+            if (!known.contains(key)) {
+                throw new IllegalArgumentException("Unknown key for stream " + name + ": " + key);
+            }
+        }
+        String source = keys.get("source");
+        if (source == null) {
+            throw new IllegalArgumentException("Stream " + name + " has no source");
+        }
+        String filterList = keys.getOrDefault("filters", defaults.get("filters"));
+        List<String> filters = filterList != null
+                ? CommandLine.split(filterList).stream().map(CommandLine::filterName).toList()
+                : FilterRegistry.names();
+        int contrast = CommandLine.integer("contrast", keys.getOrDefault("contrast", defaults.getOrDefault("contrast", "100")));
+        if (contrast > 200) {
+            throw new IllegalArgumentException("Contrast must be between 0 and 200: " + contrast);
+        }
+        int weight = CommandLine.positive("weight", keys.getOrDefault("weight", "1"));
+        int fps = CommandLine.positive("fps", keys.getOrDefault("fps", defaults.getOrDefault("fps", "30")));
+        int budget = CommandLine.integer("budget", keys.getOrDefault("budget", defaults.getOrDefault("budget", "0")));
+        int queue = CommandLine.positive("queue", keys.getOrDefault("queue",
+                defaults.getOrDefault("queue", String.valueOf(Integer.getInteger(QUEUE_DEPTH_PROPERTY, 2)))));
+        int[] size = SyntheticFrames.parse(keys.getOrDefault("size", defaults.getOrDefault("size", "320x240")));
+
+        int separator = source.indexOf(':');
+        String type = separator < 0 ? "" : source.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+        String value = separator < 0 ? "" : source.substring(separator + 1).trim();
+        if (!Set.of("camera", "video", "synthetic", "socket").contains(type)) {
+            throw new IllegalArgumentException("Invalid source for stream " + name + ": " + source);
+        }
+        if (type.equals("camera")) {
+            CommandLine.integer("source", value);
+        } else if (type.equals("synthetic")) {
+            SyntheticFrames.parse(value);
+        } else if (type.equals("socket")) {
+            int colon = value.lastIndexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("Invalid socket source for stream " + name + " (expected socket:host:port): " + source);
+            }
+            CommandLine.positive("source", value.substring(colon + 1));
+        }
+        // Kamera ve soket kendi hızında kare verir; dosya ve sentetik kaynaklar fps'e göre okunur
+        boolean live = type.equals("camera") || type.equals("socket");
+        ManagedStream.Config config = new ManagedStream.Config(name, filters, contrast, weight, budget,
+                live ? 0 : fps, queue);
+        return new StreamDefinition(config, type, value, size, fps, keys.get("output"));
+    }
+
+    /**
+     * Bir akışın ayarları ve kaynağı.
+     */
+    private record StreamDefinition(ManagedStream.Config config, String type, String value, int[] size, int fps,
+                                    String output) {
+
+        FrameSource source(int index) {
+            return switch (type) {
+                case "camera" -> new CameraSource(Integer.parseInt(value), size[0], size[1], fps);
+                case "video" -> new VideoFileSource(value);
+                case "socket" -> {
+                    int colon = value.lastIndexOf(':');
+                    yield new SocketSource(value.substring(0, colon), Integer.parseInt(value.substring(colon + 1)));
+                }
+                default -> {
+                    int[] frame = SyntheticFrames.parse(value);
+                    yield new SyntheticSource(frame[0], frame[1], index);
+                }
+            };
+        }
+    }
+
+    /**
+     * Akış başına, bir önceki rapordan bu yana kare hızını, işlemci payını
+     * ve gecikmeyi yazar.
+     */
+    private static final class Report {
+        private final List<ManagedStream> streams;
+        private final long[] processed;
+        private final long[] dropped;
+        private final long[] cpu;
+        private long time = System.nanoTime();
+
+        Report(List<ManagedStream> streams) {
+            this.streams = streams;
+            this.processed = new long[streams.size()];
+            this.dropped = new long[streams.size()];
+            this.cpu = new long[streams.size()];
+        }
+
+        void print() {
+            long now = System.nanoTime();
+            double seconds = (now - time) / 1e9;
+            time = now;
+            long totalCpu = 0;
+            long[] cpuDelta = new long[streams.size()];
+            for (int i = 0; i < streams.size(); i++) {
+                long value = streams.get(i).getCpuNanos();
+                cpuDelta[i] = value - cpu[i];
+                cpu[i] = value;
+                totalCpu += cpuDelta[i];
+            }
+            for (int i = 0; i < streams.size(); i++) {
+                ManagedStream stream = streams.get(i);
+                long processedNow = stream.getProcessedFrames();
+                long droppedNow = stream.getDroppedFrames() + stream.getSkippedFrames();
+                LatencyHistogram.Snapshot latency = stream.getLatencies().intervalSnapshot();
+                System.err.println(String.format(Locale.ROOT, "  %-16s %6.1f fps  %5.1f%% cpu  %5d dropped  p95 %6.1f ms%s",
+                        stream.getName(), (processedNow - processed[i]) / seconds,
+                        totalCpu > 0 ? 100.0 * cpuDelta[i] / totalCpu : 0, droppedNow - dropped[i],
+                        latency.getValueAtPercentile(95) / 1e6, stream.isFinished() ? "  (finished)" : ""));
+                processed[i] = processedNow;
+                dropped[i] = droppedNow;
+            }
+        }
+    }
+}
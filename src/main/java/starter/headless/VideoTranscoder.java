@@ -0,0 +1,221 @@
+// src/main/java/starter/headless/VideoTranscoder.java
+
+package starter.headless;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import starter.filters.FilterRegistry;
+import starter.pipeline.FramePipeline;
+import starter.pipeline.VideoFileSink;
+import starter.pipeline.VideoFileSource;
+import starter.processing.FrameBufferPool;
+import starter.processing.ImageProcessor;
+
+/**
+ * VideoTranscoder, bir video dosyasını filtre zincirinden geçirip yeni bir
+ * video dosyasına yazan komut satırı giriş noktasıdır. Kareler gerçek
+ * zamanda değil, okunabildiği kadar hızlı işlenir.
+ *
+ * Çözme, filtreleme ve kodlama aynı anda çalışır: kareler arayüzdeki kamera
+ * akışının kullandığı FramePipeline'dan kayıpsız modda geçer. Yakalama
+ * thread'i dosyayı çözer, dönüştürme ve filtreleme aşamaları sonraki
+ * kareleri işlerken gösterim aşaması önceki kareyi kodlar (bkz.
+ * VideoFileSink). Pipeline dolu olduğu için kare düşürülmez ve kareler
+ * sırayla yazılır. Bir kare dönüştürülemez, filtrelenemez veya
+ * kodlanamazsa çıktıda kare eksik kalacağı için dönüştürme hatayla durur.
+ * "frames" modunda filtreleme aşaması birden çok kareyi aynı anda, her
+ * birini sıralı zincirle işler; kareler yine yakalama sırasıyla yazılır.
+ * "adaptive" modunda kare içi strateji ve aynı anda işlenecek kare sayısı
+ * AutoTuner tarafından ölçülerek seçilir.
+ *
+ * İlerleme (kare, yüzde, FPS, kalan süre) düzenli aralıklarla stderr'e
+ * yazılır. Ses akışı kopyalanmaz.
+ *
+ * Örnek:
+ *   --input in.mp4 --output out.mp4 --filters grayscale,sobel-edge-detection
+ */
+public final class VideoTranscoder {
+
+    private static final String USAGE = """
+            Usage: VideoTranscoder [options]
+              --input <file>          video file to read (required)
+              --output <file>         video file to write; the container follows the extension (required)
+              --filters <a,b,...>     filter chain in order, e.g. grayscale,sobel-edge-detection
+                                      (default: all registered filters)
+              --mode <m>              sequential, parallel, strips, incremental, frames or adaptive
+                                      (default parallel)
+              --threads <n>           worker count for the parallel modes (default: processing.threads)
+              --in-flight <n>         frames filtered at once in frames mode, or the most the
+                                      adaptive mode may use (default: 2 x threads)
+              --contrast <n>          contrast value 0-200 (default 100)
+              --codec <name>          FFmpeg video codec, e.g. libx264 (default: the container's default)
+              --bitrate <n>           video bitrate in bits per second (default: the codec's default)
+              --max-frames <n>        stop after this many frames (default 0: the whole file)
+              --progress <seconds>    progress report interval, 0 to disable (default 5)
+            """;
+
+    private VideoTranscoder() {
+    }
+
+    /**
+     * Komut satırı giriş noktası.
+     *
+     * @param args Seçenekler (bkz. USAGE)
+     */
+    public static void main(String[] args) {
+        CommandLine.loadApplicationProperties();
+
+        Map<String, String> values;
+        try {
+            values = CommandLine.parse(args, Set.of("input", "output", "filters", "mode", "threads", "in-flight", "contrast",
+                    "codec", "bitrate", "max-frames", "progress"));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (values == null) {
+            System.out.print(USAGE);
+            return;
+        }
+
+        try {
+            run(values);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+        } catch (Exception e) {
+            System.err.println("Transcoding failed: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            ImageProcessor.shutdownPool();
+        }
+    }
+
+    private static void run(Map<String, String> values) throws Exception {
+        String input = values.get("input");
+        String output = values.get("output");
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("--input and --output are required");
+        }
+        List<String> filters = values.containsKey("filters")
+                ? CommandLine.split(values.get("filters")).stream().map(CommandLine::filterName).toList()
+                : FilterRegistry.names();
+        BenchmarkRunner.Mode mode;
+        try {
+            mode = BenchmarkRunner.Mode.valueOf(values.getOrDefault("mode", "parallel").trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown mode: " + values.get("mode"));
+        }
+        int contrast = CommandLine.integer("contrast", values.getOrDefault("contrast", "100"));
+        if (contrast < 0 || contrast > 200) {
+            throw new IllegalArgumentException("Contrast must be between 0 and 200: " + contrast);
+        }
+        int bitrate = CommandLine.integer("bitrate", values.getOrDefault("bitrate", "0"));
+        long maxFrames = CommandLine.integer("max-frames", values.getOrDefault("max-frames", "0"));
+        long progressNanos = CommandLine.integer("progress", values.getOrDefault("progress", "5")) * 1_000_000_000L;
+        if (values.containsKey("threads")) {
+            ImageProcessor.resizePool(CommandLine.positive("threads", values.get("threads")));
+        }
+        int framesInFlight = 1;
+        if (mode == BenchmarkRunner.Mode.ADAPTIVE) {
+            // Pipeline kare düzeyinde paralel kurulur; kare sayısını AutoTuner belirler
+            ImageProcessor.setAdaptive(true);
+        }
+        if (mode == BenchmarkRunner.Mode.FRAMES || mode == BenchmarkRunner.Mode.ADAPTIVE) {
+            framesInFlight = values.containsKey("in-flight")
+                    ? CommandLine.positive("in-flight", values.get("in-flight"))
+                    : 2 * ImageProcessor.getPool().getParallelism();
+        }
+
+        VideoFileSource source = new VideoFileSource(input);
+        source.start();
+        VideoFileSink sink = null;
+        try {
+            double frameRate = source.getFrameRate() > 0 ? source.getFrameRate() : 30;
+            long total = maxFrames > 0 && source.getLengthInFrames() > 0
+                    ? Math.min(maxFrames, source.getLengthInFrames())
+                    : Math.max(maxFrames, source.getLengthInFrames());
+            sink = new VideoFileSink(output, frameRate, values.get("codec"), bitrate);
+            System.err.println("Transcoding " + input + " -> " + output + " (" + String.format(Locale.ROOT, "%.2f", frameRate)
+                    + " fps, " + (total > 0 ? total + " frames" : "unknown length") + ", " + mode.label() + ": "
+                    + String.join(", ", filters) + ")");
+
+            UnaryOperator<BufferedImage> filter = image -> {
+                BufferedImage processed = FrameBufferPool.shared().acquireImage(image.getWidth(), image.getHeight());
+                mode.run(image, processed, filters, contrast);
+                return processed;
+            };
+            VideoFileSink target = sink;
+            FramePipeline pipeline = new FramePipeline(source, Integer.getInteger(FramePipeline.DEPTH_PROPERTY,
+                    FramePipeline.DEFAULT_DEPTH), framesInFlight, true, filter, target);
+
+            long startTime = System.nanoTime();
+            Thread reporter = null;
+            if (progressNanos > 0) {
+                reporter = new Thread(() -> report(target, total, startTime, progressNanos), "transcode-progress");
+                reporter.setDaemon(true);
+                reporter.start();
+            }
+            try {
+                pipeline.run(() -> !source.isFinished() && target.getFailure() == null && pipeline.getFailedFrames() == 0
+                        && (maxFrames == 0 || pipeline.getCapturedFrames() < maxFrames));
+            } finally {
+                if (reporter != null) {
+                    reporter.interrupt();
+                }
+            }
+            if (sink.getFailure() != null) {
+                throw sink.getFailure();
+            }
+            if (pipeline.getFailedFrames() > 0) {
+                throw new IllegalStateException(pipeline.getFailedFrames() + " frame(s) failed to convert or filter after "
+                        + sink.getFrameCount() + " encoded frames; the output is incomplete");
+            }
+
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+            System.err.println(String.format(Locale.ROOT, "Transcoded %d frames in %.1f s (%.1f fps)",
+                    sink.getFrameCount(), seconds, sink.getFrameCount() / seconds));
+            System.err.println("Encode: " + sink.getEncodeTimes().snapshot());
+            if (mode == BenchmarkRunner.Mode.ADAPTIVE) {
+                ImageProcessor.getAutoTuner().getDecisions().forEach((chain, decision) ->
+                        System.err.println("Auto-tuned " + chain + ": " + decision));
+            }
+        } finally {
+            if (sink != null) {
+                sink.close();
+            }
+            source.close();
+        }
+    }
+
+    // Kodlanan kare sayısına göre ilerlemeyi aralıklarla yazar
+    private static void report(VideoFileSink sink, long total, long startTime, long intervalNanos) {
+        try {
+            while (true) {
+                Thread.sleep(intervalNanos / 1_000_000);
+                long frames = sink.getFrameCount();
+                double seconds = (System.nanoTime() - startTime) / 1e9;
+                double fps = frames / seconds;
+                StringBuilder line = new StringBuilder("  ").append(frames);
+                if (total > 0) {
+                    line.append('/').append(total)
+                            .append(String.format(Locale.ROOT, " (%.1f%%)", 100.0 * frames / total));
+                }
+                line.append(String.format(Locale.ROOT, ", %.1f fps", fps));
+                if (total > 0 && fps > 0) {
+                    line.append(String.format(Locale.ROOT, ", ETA %.0f s", Math.max(0, total - frames) / fps));
+                }
+                System.err.println(line);
+            }
+        } catch (InterruptedException e) {
+            // Dönüştürme bitti
+        }
+    }
+}
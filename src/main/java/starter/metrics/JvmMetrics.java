@@ -0,0 +1,40 @@
+// src/main/java/starter/metrics/JvmMetrics.java
+
+package starter.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * JvmMetrics, JVM'in toplam bellek ayırmasını, heap kullanımını ve çöp
+ * toplayıcı istatistiklerini yazar. Bellek ayırma hızı
+ * rate(jvm_allocated_bytes_total) ile hesaplanır.
+ */
+final class JvmMetrics implements MetricsCollector {
+
+    @Override
+    public void collect(PrometheusWriter out) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemoryEnabled()) {
+            out.counter("jvm_allocated_bytes_total", "Bytes allocated on the heap by all threads",
+                    hotspot.getTotalThreadAllocatedBytes());
+        }
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        out.gauge("jvm_heap_used_bytes", "Used heap memory", heap.getUsed());
+        out.gauge("jvm_heap_committed_bytes", "Committed heap memory", heap.getCommitted());
+
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        for (GarbageCollectorMXBean gc : collectors) {
+            out.counter("jvm_gc_collections_total", "Garbage collections", gc.getCollectionCount(), "gc", gc.getName());
+        }
+        for (GarbageCollectorMXBean gc : collectors) {
+            out.counter("jvm_gc_collection_seconds_total", "Time spent in garbage collection",
+                    gc.getCollectionTime() / 1e3, "gc", gc.getName());
+        }
+        out.gauge("jvm_threads_live", "Live threads", threads.getThreadCount());
+    }
+}
@@ -0,0 +1,19 @@
+// src/main/java/starter/metrics/MetricsCollector.java
+
+package starter.metrics;
+
+/**
+ * MetricsCollector, metrik uç noktasına her istekte güncel değerlerini
+ * yazan bir kaynaktır (pipeline, işleme havuzu, JVM vb.). Değerler istek
+ * anında okunur; toplayıcı kendi başına bir şey biriktirmez.
+ */
+@FunctionalInterface
+public interface MetricsCollector {
+
+    /**
+     * Kaynağın güncel metriklerini yazar.
+     *
+     * @param out Prometheus metin formatı yazıcısı
+     */
+    void collect(PrometheusWriter out);
+}
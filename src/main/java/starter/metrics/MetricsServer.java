@@ -0,0 +1,217 @@
+// src/main/java/starter/metrics/MetricsServer.java
+
+package starter.metrics;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import starter.core.FrameTracer;
+
+/**
+ * MetricsServer, canlı metrikleri JDK'nın gömülü HttpServer'ı üzerinden
+ * Prometheus metin formatında sunan küçük bir uç noktadır (GET /metrics).
+ *
+ * İzleme açıksa (FrameTracer) GET /trace?seconds=N son N saniyenin
+ * olaylarını Chrome trace-event JSON olarak indirir (varsayılan 10 s).
+ *
+ * Toplayıcılar (MetricsCollector) ada göre kaydedilir ve her istekte
+ * sırayla çağrılır; kamera akışı gibi geçici kaynaklar başladığında
+ * kaydedilip durduğunda kaldırılabilir. İşleme ve JVM metrikleri her
+ * zaman kayıtlıdır.
+ *
+ * Port "metrics.port" özelliğiyle belirlenir; 0 (varsayılan) uç noktayı
+ * kapatır. İstekler tek bir daemon thread'de işlenir; HttpServer'ın kendi
+ * dağıtıcı thread'i daemon olmadığı için uygulama kapanırken close()
+ * çağrılmalıdır.
+ */
+public final class MetricsServer implements AutoCloseable {
+
+    /** Uç nokta portu için sistem özelliği adı (0: kapalı) */
+    public static final String PORT_PROPERTY = "metrics.port";
+
+    /** Metriklerin sunulduğu yol */
+    public static final String PATH = "/metrics";
+
+    /** İzleme kayıtlarının sunulduğu yol */
+    public static final String TRACE_PATH = "/trace";
+
+    private static final int DEFAULT_TRACE_SECONDS = 10;
+
+    // Ada göre sıralı; çıktı sırası istekten isteğe değişmez
+    private static final Map<String, MetricsCollector> COLLECTORS = new ConcurrentSkipListMap<>();
+
+    static {
+        register("jvm", new JvmMetrics());
+        register("processing", new ProcessingMetrics());
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Verilen portta bir metrik sunucusu başlatır.
+     *
+     * @param port Dinlenecek port (0 değil)
+     * @return Çalışan sunucu
+     * @throws IOException Port açılamazsa
+     */
+    public static MetricsServer start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(PATH, MetricsServer::handle);
+        server.createContext(TRACE_PATH, MetricsServer::handleTrace);
+        server.start();
+        System.err.println("Metrics endpoint listening on http://localhost:" + server.getAddress().getPort() + PATH);
+        return new MetricsServer(server, executor);
+    }
+
+    /**
+     * "metrics.port" özelliği 0'dan büyükse bir metrik sunucusu başlatır.
+     * Port açılamazsa hata yazılır ve uygulama uç noktasız devam eder.
+     *
+     * @return Çalışan sunucu veya uç nokta kapalıysa/açılamadıysa null
+     */
+    public static MetricsServer startIfConfigured() {
+        int port = Integer.getInteger(PORT_PROPERTY, 0);
+        if (port <= 0) {
+            return null;
+        }
+        try {
+            return start(port);
+        } catch (IOException e) {
+            System.err.println("Failed to start metrics endpoint on port " + port + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Bir toplayıcıyı kaydeder. Aynı adla kayıtlı toplayıcı varsa yenisiyle
+     * değiştirilir.
+     *
+     * @param name Toplayıcı adı
+     * @param collector Toplayıcı
+     */
+    public static void register(String name, MetricsCollector collector) {
+        COLLECTORS.put(name, collector);
+    }
+
+    /**
+     * Bir toplayıcıyı kaldırır.
+     *
+     * @param name Toplayıcı adı
+     */
+    public static void unregister(String name) {
+        COLLECTORS.remove(name);
+    }
+
+    /**
+     * Kayıtlı tüm toplayıcıların güncel metriklerini Prometheus metin
+     * formatında döndürür.
+     *
+     * @return Metrik metni
+     */
+    public static String scrape() {
+        PrometheusWriter out = new PrometheusWriter();
+        for (Map.Entry<String, MetricsCollector> entry : COLLECTORS.entrySet()) {
+            try {
+                entry.getValue().collect(out);
+            } catch (RuntimeException e) {
+                // Bir kaynağın hatası diğer metrikleri engellemesin
+                System.err.println("Metrics collector '" + entry.getKey() + "' failed: " + e.getMessage());
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Sunucunun dinlediği portu döndürür.
+     *
+     * @return Port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Sunucuyu durdurur.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET") && !exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusWriter.CONTENT_TYPE);
+            if (exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        }
+    }
+
+    private static void handleTrace(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (!FrameTracer.isEnabled() && FrameTracer.size() == 0) {
+                byte[] body = ("Tracing is disabled; set " + FrameTracer.ENABLED_PROPERTY + "=true\n").getBytes(UTF_8);
+                exchange.sendResponseHeaders(404, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+                return;
+            }
+            int seconds = DEFAULT_TRACE_SECONDS;
+            String query = exchange.getRequestURI().getQuery();
+            if (query != null && query.startsWith("seconds=")) {
+                try {
+                    seconds = Integer.parseInt(query.substring("seconds=".length()));
+                } catch (NumberFormatException e) {
+                    exchange.sendResponseHeaders(400, -1);
+                    return;
+                }
+            }
+            StringWriter trace = new StringWriter(1 << 16);
+            FrameTracer.writeChromeTrace(trace, seconds * 1_000_000_000L);
+            byte[] body = trace.toString().getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Content-Disposition", "attachment; filename=\"trace.json\"");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        }
+    }
+}
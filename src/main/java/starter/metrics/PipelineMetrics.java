@@ -0,0 +1,69 @@
+// src/main/java/starter/metrics/PipelineMetrics.java
+
+package starter.metrics;
+
+import java.util.Locale;
+import starter.display.LatestFramePresenter;
+import starter.pipeline.FramePipeline;
+
+/**
+ * PipelineMetrics, çalışan bir kamera pipeline'ının kare sayaçlarını,
+ * aşama kuyruklarının doluluğunu, aşama gecikmelerini ve göstericinin
+ * gösterdiği/düşürdüğü kareleri yazar. Pipeline başladığında
+ * MetricsServer'a kaydedilip durduğunda kaldırılır.
+ */
+public final class PipelineMetrics implements MetricsCollector {
+
+    private final FramePipeline pipeline;
+    private final LatestFramePresenter presenter;
+
+    /**
+     * @param pipeline İzlenecek pipeline
+     * @param presenter Pipeline'ın göstericisi veya yoksa null
+     */
+    public PipelineMetrics(FramePipeline pipeline, LatestFramePresenter presenter) {
+        this.pipeline = pipeline;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void collect(PrometheusWriter out) {
+        out.counter("pipeline_frames_captured_total", "Frames grabbed and admitted to the pipeline",
+                pipeline.getCapturedFrames());
+        out.counter("pipeline_frames_dropped_total", "Frames dropped at capture because the pipeline was full",
+                pipeline.getDroppedFrames());
+        out.counter("pipeline_frames_failed_total", "Frames not presented because converting, filtering or presenting them failed",
+                pipeline.getFailedFrames());
+
+        FramePipeline.Stage[] stages = FramePipeline.Stage.values();
+        for (FramePipeline.Stage stage : stages) {
+            out.counter("pipeline_stage_frames_total", "Frames processed by a pipeline stage",
+                    pipeline.getProcessedFrames(stage), "stage", label(stage));
+        }
+        for (FramePipeline.Stage stage : stages) {
+            out.gauge("pipeline_queue_depth", "Frames waiting in a stage's input queue",
+                    pipeline.getQueueOccupancy(stage), "stage", label(stage));
+        }
+        for (FramePipeline.Stage stage : stages) {
+            out.gauge("pipeline_queue_peak_depth", "Highest occupancy of a stage's input queue",
+                    pipeline.getPeakQueueOccupancy(stage), "stage", label(stage));
+        }
+        for (FramePipeline.Stage stage : stages) {
+            out.summary("pipeline_stage_latency_seconds",
+                    "Processing time of convert/filter stages; capture-to-present time for present",
+                    pipeline.getLatency(stage).snapshot(), "stage", label(stage));
+        }
+
+        if (presenter != null) {
+            out.counter("presenter_frames_displayed_total", "Frames shown on screen", presenter.getDisplayedFrames());
+            out.counter("presenter_frames_dropped_total", "Frames replaced by a newer frame before being shown",
+                    presenter.getDroppedFrames());
+            out.gauge("presenter_last_latency_seconds", "Capture-to-screen latency of the last shown frame",
+                    presenter.getLastLatencyNanos() / 1e9);
+        }
+    }
+
+    private static String label(FramePipeline.Stage stage) {
+        return stage.name().toLowerCase(Locale.ROOT);
+    }
+}
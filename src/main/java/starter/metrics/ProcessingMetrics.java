@@ -0,0 +1,69 @@
+// src/main/java/starter/metrics/ProcessingMetrics.java
+
+package starter.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import starter.core.LatencyHistogram;
+import starter.processing.AutoTuner;
+import starter.processing.FrameBufferPool;
+import starter.processing.ImageProcessor;
+import starter.processing.ProcessingPool;
+import starter.processing.ProcessingStatistics;
+
+/**
+ * ProcessingMetrics, ImageProcessor'ın mod ve filtre başına sürelerini,
+ * işleme havuzunun durumunu ve kare buffer havuzunun bellek ayırmalarını
+ * yazar.
+ */
+final class ProcessingMetrics implements MetricsCollector {
+
+    @Override
+    public void collect(PrometheusWriter out) {
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : ProcessingStatistics.getChainLatencies().entrySet()) {
+            out.summary("processing_chain_latency_seconds",
+                    "Time to run the whole filter chain on one frame",
+                    entry.getValue(), "mode", entry.getKey());
+        }
+        for (Map.Entry<String, Map<String, LatencyHistogram.Snapshot>> mode : ProcessingStatistics.getFilterLatencies().entrySet()) {
+            for (Map.Entry<String, LatencyHistogram.Snapshot> filter : mode.getValue().entrySet()) {
+                out.summary("processing_filter_latency_seconds",
+                        "Time of one chain stage (filter, fused filters or tile segment) on one frame",
+                        filter.getValue(), "mode", mode.getKey(), "filter", filter.getKey());
+            }
+        }
+
+        out.counter("processing_incremental_tiles_total", "Tiles in incremental mode, by whether they were reprocessed or reused from the previous frame",
+                ProcessingStatistics.getIncrementalTilesProcessed(), "state", "processed");
+        out.counter("processing_incremental_tiles_total", "Tiles in incremental mode, by whether they were reprocessed or reused from the previous frame",
+                ProcessingStatistics.getIncrementalTilesReused(), "state", "reused");
+
+        AutoTuner tuner = ImageProcessor.getActiveAutoTuner();
+        if (tuner != null) {
+            for (Map.Entry<String, Map.Entry<AutoTuner.Strategy, Double>> entry : tuner.getChosenStrategies().entrySet()) {
+                AutoTuner.Strategy strategy = entry.getValue().getKey();
+                out.gauge("processing_autotune_frame_seconds",
+                        "Frame time of the execution mode the auto-tuner chose, per chain and resolution",
+                        entry.getValue().getValue() / 1e9, "chain", entry.getKey(),
+                        "mode", strategy.mode().name().toLowerCase(Locale.ROOT), "workers", String.valueOf(strategy.workers()));
+            }
+        }
+
+        ProcessingPool pool = ImageProcessor.getActivePool();
+        if (pool != null) {
+            out.gauge("processing_pool_threads", "Worker threads in the processing pool", pool.getParallelism());
+            out.gauge("processing_pool_active_threads", "Workers currently running tasks", pool.getActiveThreadCount());
+            out.gauge("processing_pool_queued_tasks", "Tasks waiting in worker queues", pool.getQueuedTaskCount());
+            out.counter("processing_pool_steals_total", "Tasks stolen between workers", pool.getStealCount());
+            out.counter("processing_pool_busy_seconds_total",
+                    "Time workers spent running row/tile chunks; rate / threads = utilization",
+                    pool.getBusyNanos() / 1e9);
+        }
+
+        FrameBufferPool buffers = FrameBufferPool.shared();
+        out.counter("frame_buffer_pool_allocations_total", "Frame-sized buffers allocated because the pool was empty",
+                buffers.getAllocationCount());
+        out.counter("frame_buffer_pool_allocated_bytes_total", "Bytes allocated for frame-sized buffers",
+                buffers.getAllocatedBytes());
+    }
+}
@@ -0,0 +1,131 @@
+// src/main/java/starter/metrics/PrometheusWriter.java
+
+package starter.metrics;
+
+import java.util.HashSet;
+import java.util.Set;
+import starter.core.LatencyHistogram;
+
+/**
+ * PrometheusWriter, metrikleri Prometheus metin formatında (sürüm 0.0.4)
+ * yazar. Her metrik ailesi için # HELP ve # TYPE satırları ilk örnekten
+ * önce bir kez yazılır; aynı aileye farklı etiketlerle birden çok örnek
+ * eklenebilir.
+ *
+ * Bir ailenin tüm örnekleri art arda yazılmalıdır; format, aynı ailenin
+ * örneklerinin başka ailelerle karışmasına izin vermez.
+ *
+ * Etiketler "ad", "değer" çiftleri olarak verilir. Süreler Prometheus
+ * kuralına uygun olarak saniye cinsinden yazılır; gecikme histogramları
+ * p50/p90/p99/p99.9 yüzdelikleriyle summary olarak verilir.
+ */
+public final class PrometheusWriter {
+
+    /** Yanıtın Content-Type değeri */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final StringBuilder out = new StringBuilder(4096);
+    private final Set<String> families = new HashSet<>();
+
+    /**
+     * Bir sayaç (yalnızca artan değer) örneği yazar.
+     *
+     * @param name Metrik adı (_total ile bitmeli)
+     * @param help Açıklama
+     * @param value Değer
+     * @param labels Etiket adı/değer çiftleri
+     */
+    public void counter(String name, String help, double value, String... labels) {
+        family(name, "counter", help);
+        sample(name, labels, null, value);
+    }
+
+    /**
+     * Bir gösterge (artıp azalabilen değer) örneği yazar.
+     *
+     * @param name Metrik adı
+     * @param help Açıklama
+     * @param value Değer
+     * @param labels Etiket adı/değer çiftleri
+     */
+    public void gauge(String name, String help, double value, String... labels) {
+        family(name, "gauge", help);
+        sample(name, labels, null, value);
+    }
+
+    /**
+     * Bir gecikme histogramı görüntüsünü saniye cinsinden summary olarak
+     * yazar: yüzdelikler, _sum ve _count.
+     *
+     * @param name Metrik adı (_seconds ile bitmeli)
+     * @param help Açıklama
+     * @param snapshot Gecikme görüntüsü
+     * @param labels Etiket adı/değer çiftleri
+     */
+    public void summary(String name, String help, LatencyHistogram.Snapshot snapshot, String... labels) {
+        family(name, "summary", help);
+        for (double quantile : QUANTILES) {
+            sample(name, labels, format(quantile), snapshot.getValueAtPercentile(quantile * 100) / 1e9);
+        }
+        sample(name + "_sum", labels, null, snapshot.getTotalNanos() / 1e9);
+        sample(name + "_count", labels, null, snapshot.getCount());
+    }
+
+    private void family(String name, String type, String help) {
+        if (families.add(name)) {
+            out.append("# HELP ").append(name).append(' ')
+                    .append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        }
+    }
+
+    private void sample(String name, String[] labels, String quantile, double value) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        out.append(name);
+        if (labels.length > 0 || quantile != null) {
+            out.append('{');
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                label(labels[i], labels[i + 1]);
+            }
+            if (quantile != null) {
+                if (labels.length > 0) {
+                    out.append(',');
+                }
+                label("quantile", quantile);
+            }
+            out.append('}');
+        }
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    private void label(String name, String value) {
+        out.append(name).append("=\"")
+                .append(value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                .append('"');
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
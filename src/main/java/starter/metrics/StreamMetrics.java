@@ -0,0 +1,69 @@
+// src/main/java/starter/metrics/StreamMetrics.java
+
+package starter.metrics;
+
+import java.util.List;
+import starter.pipeline.ManagedStream;
+import starter.pipeline.StreamScheduler;
+
+/**
+ * StreamMetrics, StreamScheduler'daki her akışın kare sayaçlarını, kuyruk
+ * doluluğunu, işlemci süresini ve gecikmelerini "stream" etiketiyle
+ * yazar. Akışların işlemci payı stream_cpu_seconds_total'ın hızlarının
+ * oranıdır.
+ */
+public final class StreamMetrics implements MetricsCollector {
+
+    private final StreamScheduler scheduler;
+
+    /**
+     * @param scheduler İzlenecek scheduler
+     */
+    public StreamMetrics(StreamScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void collect(PrometheusWriter out) {
+        List<ManagedStream> streams = scheduler.getStreams();
+        out.gauge("stream_workers", "Worker threads shared by all streams", scheduler.getWorkerCount());
+        out.gauge("stream_count", "Streams hosted by the scheduler", streams.size());
+
+        for (ManagedStream stream : streams) {
+            out.counter("stream_frames_total", "Frames of a stream, by what happened to them",
+                    stream.getCapturedFrames(), "stream", stream.getName(), "state", "captured");
+            out.counter("stream_frames_total", "Frames of a stream, by what happened to them",
+                    stream.getSkippedFrames(), "stream", stream.getName(), "state", "skipped");
+            out.counter("stream_frames_total", "Frames of a stream, by what happened to them",
+                    stream.getDroppedFrames(), "stream", stream.getName(), "state", "dropped");
+            out.counter("stream_frames_total", "Frames of a stream, by what happened to them",
+                    stream.getProcessedFrames(), "stream", stream.getName(), "state", "processed");
+            out.counter("stream_frames_total", "Frames of a stream, by what happened to them",
+                    stream.getFailedFrames(), "stream", stream.getName(), "state", "failed");
+        }
+        for (ManagedStream stream : streams) {
+            out.counter("stream_cpu_seconds_total", "Worker time spent on a stream's frames",
+                    stream.getCpuNanos() / 1e9, "stream", stream.getName());
+        }
+        for (ManagedStream stream : streams) {
+            out.gauge("stream_weight", "Fair-share weight of a stream", stream.getConfig().weight(),
+                    "stream", stream.getName());
+        }
+        for (ManagedStream stream : streams) {
+            out.gauge("stream_budget_fps", "Most frames per second a stream may process; 0 = unlimited",
+                    stream.getConfig().maxFps(), "stream", stream.getName());
+        }
+        for (ManagedStream stream : streams) {
+            out.gauge("stream_queue_depth", "Frames of a stream waiting for a worker",
+                    stream.getQueueOccupancy(), "stream", stream.getName());
+        }
+        for (ManagedStream stream : streams) {
+            out.summary("stream_processing_seconds", "Convert and filter time of one frame",
+                    stream.getProcessingTimes().snapshot(), "stream", stream.getName());
+        }
+        for (ManagedStream stream : streams) {
+            out.summary("stream_latency_seconds", "Capture-to-output time of one frame, including queueing",
+                    stream.getLatencies().snapshot(), "stream", stream.getName());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+// src/main/java/starter/pipeline/CameraSource.java
+
+package starter.pipeline;
+
+import org.bytedeco.javacv.Frame;
+import org.bytedeco.javacv.OpenCVFrameConverter;
+import org.bytedeco.javacv.OpenCVFrameGrabber;
+import org.bytedeco.opencv.opencv_core.Mat;
+import starter.core.FrameTracer;
+
+/**
+ * CameraSource, OpenCVFrameGrabber ile bir kameradan MJPG formatında
+ * kare yakalar.
+ */
+public final class CameraSource implements FrameSource {
+
+    private final int deviceIndex;
+    private final int width;
+    private final int height;
+    private final double frameRate;
+    private final OpenCVFrameConverter.ToMat converter = new OpenCVFrameConverter.ToMat();
+    private OpenCVFrameGrabber grabber;
+
+    /**
+     * Yeni bir kamera kaynağı oluşturur. Kamera start() çağrılana kadar açılmaz.
+     *
+     * @param deviceIndex Kamera cihaz indeksi
+     * @param width İstenen kare genişliği
+     * @param height İstenen kare yüksekliği
+     * @param frameRate İstenen kare hızı (FPS)
+     */
+    public CameraSource(int deviceIndex, int width, int height, double frameRate) {
+        this.deviceIndex = deviceIndex;
+        this.width = width;
+        this.height = height;
+        this.frameRate = frameRate;
+    }
+
+    @Override
+    public void start() throws OpenCVFrameGrabber.Exception {
+        System.out.println("Initializing camera...");
+        grabber = new OpenCVFrameGrabber(deviceIndex);
+        grabber.setFormat("MJPG");
+        grabber.setImageWidth(width);
+        grabber.setImageHeight(height);
+        grabber.setFrameRate(frameRate);
+
+        System.out.println("Starting camera...");
+        grabber.start();
+        System.out.println("Camera started successfully");
+    }
+
+    @Override
+    public Mat grab() throws OpenCVFrameGrabber.Exception {
+        long start = FrameTracer.begin();
+        Frame frame = grabber.grab();
+        FrameTracer.end(FrameTracer.PIPELINE, "grab", start);
+        if (frame == null || frame.image == null) {
+            System.err.println("Failed to grab frame or frame.image is null");
+            return null;
+        }
+        start = FrameTracer.begin();
+        Mat mat = converter.convert(frame);
+        FrameTracer.end(FrameTracer.PIPELINE, "converter.convert", start);
+        if (mat == null || mat.empty()) {
+            System.err.println("Failed to convert frame to Mat or Mat is empty");
+            return null;
+        }
+        return mat;
+    }
+
+    /**
+     * OpenCVFrameGrabber bir sonraki kareyi sürücü içinde (native kodda)
+     * bekler; bu süre boyunca sanal thread'in taşıyıcısı serbest kalmaz.
+     *
+     * @return Her zaman true
+     */
+    @Override
+    public boolean needsPlatformThread() {
+        return true;
+    }
+
+    @Override
+    public void close() throws OpenCVFrameGrabber.Exception {
+        if (grabber != null) {
+            System.out.println("Stopping camera...");
+            grabber.stop();
+            grabber.release();
+            grabber = null;
+            System.out.println("Camera stopped successfully");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+// src/main/java/starter/pipeline/FrameClock.java
+
+package starter.pipeline;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * FrameClock, kendi hızı olmayan kaynakların (dosya, sentetik) sabit kare
+ * hızında okunması için sabit aralıklı tikler üretir. Bir sonraki tik
+ * bir önceki tikin zamanına periyot eklenerek hesaplanır; kare başına
+ * "uyu, sonra süreyi ölç" yaklaşımındaki gibi gecikmeler birikip hızı
+ * düşürmez.
+ *
+ * Bekleme LockSupport.parkNanos ile yapılır: sanal thread'ler beklerken
+ * taşıyıcı (carrier) thread'i bırakır, böylece çoğu zaman boşta duran çok
+ * sayıda akış az sayıda platform thread'i paylaşır.
+ *
+ * Geride kalındığında (ör. kaynak bir kareyi geç verdi) kaçırılan tikler
+ * telafi edilmez; atlanır ve sayılır. Bir FrameClock tek bir thread
+ * tarafından kullanılmalıdır.
+ */
+public final class FrameClock {
+
+    private final long periodNanos;
+    private long nextTick;
+    private long missedTicks;
+
+    /**
+     * @param fps Tik hızı (saniyede tik)
+     */
+    public FrameClock(double fps) {
+        if (!(fps > 0)) {
+            throw new IllegalArgumentException("Frame rate must be positive: " + fps);
+        }
+        this.periodNanos = Math.max(1, (long) (1e9 / fps));
+    }
+
+    /**
+     * Bir sonraki tike kadar bekler. İlk çağrı beklemeden döner.
+     *
+     * @return Tik geldiyse true, bekleyen thread kesildiyse (interrupt) false.
+     *         Kesilme bayrağı temizlenmez
+     */
+    public boolean await() {
+        long now = System.nanoTime();
+        if (nextTick == 0) {
+            nextTick = now + periodNanos;
+            return true;
+        }
+        while (now < nextTick) {
+            LockSupport.parkNanos(this, nextTick - now);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            now = System.nanoTime();
+        }
+        long late = now - nextTick;
+        if (late >= periodNanos) {
+            // Kaçırılan tikler birikip art arda kare okutmasın
+            long missed = late / periodNanos;
+            missedTicks += missed;
+            nextTick += missed * periodNanos;
+        }
+        nextTick += periodNanos;
+        return true;
+    }
+
+    /**
+     * Geride kalındığı için atlanan tik sayısını döndürür.
+     *
+     * @return Atlanan tik sayısı
+     */
+    public long getMissedTicks() {
+        return missedTicks;
+    }
+
+    /**
+     * İki tik arasındaki süreyi döndürür.
+     *
+     * @return Periyot (ns)
+     */
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+}
@@ -0,0 +1,114 @@
+// src/main/java/starter/pipeline/FramePacket.java
+
+package starter.pipeline;
+
+import java.awt.image.BufferedImage;
+import org.bytedeco.opencv.opencv_core.Mat;
+
+/**
+ * FramePacket, pipeline aşamaları arasında dolaşan tek bir karenin
+ * taşıyıcısıdır. Paketler pipeline başında bir kez oluşturulur ve
+ * gösterimden sonra yakalama aşamasına geri döner; kare başına yeni
+ * nesne oluşturulmaz.
+ *
+ * Bir paket aynı anda yalnızca bir aşamaya aittir. Aşamalar arası
+ * geçiş SpscRingBuffer üzerinden yapıldığı için alanların ayrıca
+ * senkronize edilmesi gerekmez.
+ */
+public final class FramePacket {
+
+    // Yakalanan karenin kopyası; boyut değişmedikçe yeniden ayrılmaz
+    final Mat mat = new Mat();
+
+    // Mat'in dönüştürüldüğü raster; boyut değişmedikçe kareler arasında yeniden kullanılır
+    BufferedImage converted;
+    // Filtrelere verilen görüntü: işleme boyutuna küçültülmüş kare veya converted'ın kendisi
+    BufferedImage original;
+    BufferedImage processed;
+    boolean failed;
+
+    long sequence;
+    long captureTime;
+    long convertNanos;
+    long filterNanos;
+
+    FramePacket() {
+    }
+
+    /**
+     * Paketi yeni bir kare için hazırlar.
+     */
+    void begin(long sequence, long captureTime) {
+        this.sequence = sequence;
+        this.captureTime = captureTime;
+        this.processed = null;
+        this.failed = false;
+        this.convertNanos = 0;
+        this.filterNanos = 0;
+    }
+
+    /**
+     * İşlenmiş görüntü referansını bırakır; paket boş havuzuna dönerken
+     * çağrılır. Orijinal görüntü bir sonraki karede dönüşüm hedefi olarak
+     * yeniden kullanılmak üzere tutulur.
+     */
+    void clear() {
+        processed = null;
+    }
+
+    /**
+     * Yakalanan karenin BufferedImage karşılığını döndürür. İşleme boyutu
+     * ayarlandıysa (FramePipeline) bu boyuta küçültülmüş karedir.
+     *
+     * @return Orijinal görüntü
+     */
+    public BufferedImage getOriginal() {
+        return original;
+    }
+
+    /**
+     * Filtrelenmiş görüntüyü döndürür. Filtre seçili değilse orijinal
+     * görüntüyle aynı nesnedir.
+     *
+     * @return İşlenmiş görüntü
+     */
+    public BufferedImage getProcessed() {
+        return processed;
+    }
+
+    /**
+     * Karenin yakalanma sırasını döndürür.
+     *
+     * @return Sıra numarası (0'dan başlar)
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Karenin yakalandığı anı System.nanoTime() cinsinden döndürür.
+     *
+     * @return Yakalanma zamanı (ns)
+     */
+    public long getCaptureTime() {
+        return captureTime;
+    }
+
+    /**
+     * Mat → BufferedImage dönüşümünün süresini döndürür.
+     *
+     * @return Dönüşüm süresi (ns)
+     */
+    public long getConvertNanos() {
+        return convertNanos;
+    }
+
+    /**
+     * Filtre zincirinin süresini döndürür.
+     *
+     * @return Filtreleme süresi (ns)
+     */
+    public long getFilterNanos() {
+        return filterNanos;
+    }
+}
@@ -0,0 +1,623 @@
+// src/main/java/starter/pipeline/FramePipeline.java
+
+package starter.pipeline;
+
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import starter.core.ImageUtils;
+import starter.core.FrameTracer;
+import starter.core.PerformanceMetrics;
+import starter.core.SyntheticFrames;
+import starter.processing.AutoTuner;
+import starter.processing.FrameParallelProcessor;
+import starter.processing.ImageProcessor;
+import starter.processing.Resampler;
+
+/**
+ * FramePipeline, kamera akışını birbirini beklemeden çalışan aşamalara
+ * böler. Her aşama kendi thread'inde çalışır ve aşamalar sınırlı, kilitsiz
+ * SPSC halka kuyruklarıyla birbirine bağlanır:
+ *
+ *   yakalama → dönüştürme → filtreleme → gösterim
+ *                                          ↓
+ *   yakalama ←────── boş paketler ─────────┘
+ *
+ * Böylece kare periyodu aşama sürelerinin toplamı değil, en yavaş aşamanın
+ * süresi olur; kamera G/Ç'si ile filtreleme örtüşür.
+ *
+ * Akış Kontrolü:
+ * - Yakalama aşaması kameranın hızında çalışır ve hiç beklemez. Dönüştürme
+ *   kuyruğu doluysa veya boş paket kalmadıysa yeni kare düşürülür
+ *   (sayaç: droppedFrames); kameranın kendi tamponu bayatlamaz
+ * - Dönüştürme ve filtreleme aşamaları sonraki kuyruk doluysa bekler
+ *   (geri basınç)
+ * - Kuyruk derinliği "pipeline.depth" özelliğiyle ayarlanır (varsayılan 2)
+ * - Kayıpsız modda (ör. video dosyası dönüştürme) yakalama da geri basınca
+ *   uyar: kare düşürülmez, boş paket ve kuyrukta yer beklenir. Yakalama
+ *   bittiğinde yoldaki tüm kareler gösterilene kadar beklenir
+ *
+ * Kare Düzeyinde Paralellik:
+ * "pipeline.framesInFlight" (veya kurucu parametresi) 1'den büyükse
+ * filtreleme aşaması kareleri tek tek işlemek yerine bu kadar kareyi
+ * işleme havuzunda aynı anda işler (bkz. FrameParallelProcessor); kareler
+ * gösterime yine yakalama sırasıyla geçer. Filtre fonksiyonu birden çok
+ * thread'den aynı anda çağrılır; kareler arası durum tutan modlar (artımlı
+ * işleme) bu modda her kareyi çoğunlukla tümüyle yeniden işler.
+ *
+ * Otomatik Ayar:
+ * Pipeline oluşturulurken ImageProcessor'ın otomatik ayarı açıksa
+ * filtreleme aşaması kare düzeyinde paralel kurulur (yoldaki kare sınırı
+ * işçi sayısının iki katı) ve aynı anda işlenecek kare sayısını her karede
+ * AutoTuner belirler. Tuner kare kare işlemeyi önerdiğinde kare aşama
+ * thread'inde işlenir; böylece kare içi stratejiler (şerit, karo) de
+ * seçilebilir. Canlı kaynaklarda kaynağın kare aralığı, kayıpsız modda
+ * ise en yüksek işlem hızı hedeflenir.
+ *
+ * İşleme Boyutu:
+ * "pipeline.processingSize" verildiyse (ör. 1280x720) dönüştürme aşaması
+ * daha büyük kareleri en-boy oranını koruyarak bu boyuta küçültür
+ * (Resampler, "resample.kernel" çekirdeği); filtreler ve gösterim
+ * küçültülmüş kareyi kullanır.
+ *
+ * Paketler (FramePacket) önceden oluşturulur ve gösterimden sonra
+ * yakalama aşamasına geri döner; yakalanan Mat paketin kendi Mat'ine
+ * kopyalandığı için kararlı durumda kare başına Mat ayrılmaz.
+ *
+ * Gecikme Ölçümü:
+ * Her aşama kare sürelerini kendi PerformanceMetrics histogramına kaydeder
+ * (bkz. getLatency()): dönüştürme ve filtreleme için işlem süresi, gösterim
+ * için yakalamadan gösterime kadar geçen uçtan uca süre.
+ */
+public final class FramePipeline {
+
+    /** Kuyruk derinliği için sistem özelliği adı */
+    public static final String DEPTH_PROPERTY = "pipeline.depth";
+
+    /** Varsayılan kuyruk derinliği */
+    public static final int DEFAULT_DEPTH = 2;
+
+    /** Filtrelerden önce karelerin sığdırılacağı en büyük boyut (GENİŞLİKxYÜKSEKLİK) için sistem özelliği */
+    public static final String PROCESSING_SIZE_PROPERTY = "pipeline.processingSize";
+
+    /** Filtreleme aşamasında aynı anda işlenecek kare sayısı için sistem özelliği (1: kare kare) */
+    public static final String FRAMES_IN_FLIGHT_PROPERTY = "pipeline.framesInFlight";
+
+    /**
+     * Yakalama dışındaki aşamalar. Her aşamanın önünde bir giriş kuyruğu vardır.
+     */
+    public enum Stage {
+        CONVERT("pipeline-convert"),
+        FILTER("pipeline-filter"),
+        PRESENT("pipeline-present");
+
+        private final String threadName;
+
+        Stage(String threadName) {
+            this.threadName = threadName;
+        }
+    }
+
+    // Boşta bekleyen aşamanın park etmeden önce döneceği tur sayısı
+    private static final int IDLE_SPINS = 64;
+    private static final long IDLE_PARK_NANOS = 200_000;
+
+    // Durdurulurken yoldaki karelerin ve aşama thread'lerinin en fazla beklendiği süre
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final FrameSource source;
+    private final UnaryOperator<BufferedImage> filter;
+    private final Consumer<FramePacket> presenter;
+    private final boolean lossless;
+    private final int framesInFlight;
+    private final boolean adaptive;
+    private final int packetCount;
+    // null: kareler kamera çözünürlüğünde işlenir
+    private final int[] processingSize;
+    private final Resampler.Kernel kernel = Resampler.Kernel.configured();
+
+    private final Map<Stage, SpscRingBuffer<FramePacket>> queues = new EnumMap<>(Stage.class);
+    private final SpscRingBuffer<FramePacket> freePackets;
+    private final Map<Stage, Thread> threads = new EnumMap<>(Stage.class);
+
+    private volatile boolean stopped;
+
+    // Yakalama sayaçlarını yalnızca yakalama thread'i yazar
+    private volatile long capturedFrames;
+    // Canlı kaynağın ardışık kareleri arasındaki süre (ns, üstel ortalama)
+    private volatile long captureIntervalNanos;
+    private volatile long droppedFrames;
+    // Dönüştürülemeyen, filtrelenemeyen veya gösterilemeyen kareler; yalnızca gösterim thread'i yazar
+    private volatile long failedFrames;
+    private final Map<Stage, AtomicLong> processedFrames = new EnumMap<>(Stage.class);
+    private final Map<Stage, PerformanceMetrics> latencies = new EnumMap<>(Stage.class);
+
+    /**
+     * Yeni bir pipeline oluşturur.
+     *
+     * @param source Kare kaynağı (start() çağrılmış olmalıdır)
+     * @param depth Aşamalar arası kuyruk derinliği
+     * @param filter Orijinal görüntüden işlenmiş görüntüyü üreten fonksiyon
+     * @param presenter İşlenmiş paketi gösteren fonksiyon; gösterim thread'inde
+     *                  çağrılır ve dönene kadar paketin görüntülerini kopyalamalıdır
+     */
+    public FramePipeline(FrameSource source, int depth, UnaryOperator<BufferedImage> filter, Consumer<FramePacket> presenter) {
+        this(source, depth, false, filter, presenter);
+    }
+
+    /**
+     * Yeni bir pipeline oluşturur.
+     *
+     * @param source Kare kaynağı (start() çağrılmış olmalıdır)
+     * @param depth Aşamalar arası kuyruk derinliği
+     * @param lossless true ise hiçbir kare düşürülmez; yakalama pipeline'ı bekler
+     * @param filter Orijinal görüntüden işlenmiş görüntüyü üreten fonksiyon
+     * @param presenter İşlenmiş paketi gösteren fonksiyon; gösterim thread'inde
+     *                  çağrılır ve dönene kadar paketin görüntülerini kopyalamalıdır
+     */
+    public FramePipeline(FrameSource source, int depth, boolean lossless, UnaryOperator<BufferedImage> filter,
+                         Consumer<FramePacket> presenter) {
+        this(source, depth, Integer.getInteger(FRAMES_IN_FLIGHT_PROPERTY, 1), lossless, filter, presenter);
+    }
+
+    /**
+     * Yeni bir pipeline oluşturur.
+     *
+     * @param source Kare kaynağı (start() çağrılmış olmalıdır)
+     * @param depth Aşamalar arası kuyruk derinliği
+     * @param framesInFlight Filtreleme aşamasında aynı anda işlenecek kare sayısı (1: kare kare)
+     * @param lossless true ise hiçbir kare düşürülmez; yakalama pipeline'ı bekler
+     * @param filter Orijinal görüntüden işlenmiş görüntüyü üreten fonksiyon; framesInFlight
+     *               1'den büyükse birden çok thread'den aynı anda çağrılır
+     * @param presenter İşlenmiş paketi gösteren fonksiyon; gösterim thread'inde
+     *                  çağrılır ve dönene kadar paketin görüntülerini kopyalamalıdır
+     */
+    public FramePipeline(FrameSource source, int depth, int framesInFlight, boolean lossless,
+                         UnaryOperator<BufferedImage> filter, Consumer<FramePacket> presenter) {
+        this.source = source;
+        this.lossless = lossless;
+        this.adaptive = ImageProcessor.isAdaptive();
+        this.framesInFlight = adaptive && framesInFlight <= 1
+                ? 2 * ImageProcessor.getPool().getParallelism()
+                : Math.max(1, framesInFlight);
+        this.filter = filter;
+        this.presenter = presenter;
+        String size = System.getProperty(PROCESSING_SIZE_PROPERTY, "").trim();
+        this.processingSize = size.isEmpty() ? null : SyntheticFrames.parse(size);
+
+        int capacity = 0;
+        for (Stage stage : Stage.values()) {
+            SpscRingBuffer<FramePacket> queue = new SpscRingBuffer<>(Math.max(1, depth));
+            queues.put(stage, queue);
+            processedFrames.put(stage, new AtomicLong());
+            latencies.put(stage, new PerformanceMetrics());
+            capacity += queue.capacity();
+        }
+
+        // Her kuyruk dolu ve her aşama bir paket işlerken bile yakalamaya paket kalsın;
+        // kare düzeyinde paralel filtreleme, yoldaki karelere ek olarak sıradan çıkmış bir paket tutar
+        int filtering = this.framesInFlight > 1 ? this.framesInFlight + 1 : 1;
+        this.packetCount = capacity + Stage.values().length - 1 + filtering + 1;
+        this.freePackets = new SpscRingBuffer<>(packetCount);
+        for (int i = 0; i < packetCount; i++) {
+            freePackets.offer(new FramePacket());
+        }
+    }
+
+    /**
+     * Sistem özelliklerindeki kuyruk derinliğiyle yeni bir pipeline oluşturur.
+     *
+     * @param source Kare kaynağı
+     * @param filter Orijinal görüntüden işlenmiş görüntüyü üreten fonksiyon
+     * @param presenter İşlenmiş paketi gösteren fonksiyon
+     */
+    public FramePipeline(FrameSource source, UnaryOperator<BufferedImage> filter, Consumer<FramePacket> presenter) {
+        this(source, Integer.getInteger(DEPTH_PROPERTY, DEFAULT_DEPTH), filter, presenter);
+    }
+
+    /**
+     * Aşama thread'lerini başlatır ve yakalama döngüsünü çağıran thread'de
+     * çalıştırır. keepRunning false döndüğünde veya kaynak hata verdiğinde
+     * aşamaları durdurur ve thread'lerin bitmesini bekler.
+     *
+     * @param keepRunning Yakalamanın sürüp sürmeyeceğini belirleyen koşul
+     * @throws Exception Kaynak okunamazsa
+     */
+    public void run(BooleanSupplier keepRunning) throws Exception {
+        stopped = false;
+        startStage(Stage.CONVERT, this::convert);
+        if (framesInFlight > 1 || adaptive) {
+            startFrameParallelFilter();
+        } else {
+            startStage(Stage.FILTER, this::filter);
+        }
+        startStage(Stage.PRESENT, null);
+
+        try {
+            if (lossless) {
+                captureAll(keepRunning);
+            } else {
+                capture(keepRunning);
+            }
+        } finally {
+            stopped = true;
+            long deadline = System.nanoTime() + STOP_TIMEOUT.toNanos();
+            for (Map.Entry<Stage, Thread> entry : threads.entrySet()) {
+                Thread thread = entry.getValue();
+                LockSupport.unpark(thread);
+                if (!thread.join(Duration.ofNanos(deadline - System.nanoTime()))) {
+                    System.err.println("Pipeline " + entry.getKey() + " stage did not stop within "
+                            + STOP_TIMEOUT.toMillis() + " ms");
+                }
+            }
+            threads.clear();
+        }
+    }
+
+    private void capture(BooleanSupplier keepRunning) throws Exception {
+        SpscRingBuffer<FramePacket> out = queues.get(Stage.CONVERT);
+        FramePacket spare = null;
+        long sequence = 0;
+        long previousCapture = 0;
+
+        while (keepRunning.getAsBoolean()) {
+            FrameTracer.setFrame(sequence);
+            var mat = source.grab();
+            if (mat == null) {
+                continue;
+            }
+            long captureTime = System.nanoTime();
+            if (previousCapture != 0) {
+                long interval = captureTime - previousCapture;
+                long average = captureIntervalNanos;
+                captureIntervalNanos = average == 0 ? interval : average + (interval - average) / 8;
+            }
+            previousCapture = captureTime;
+
+            FramePacket packet = spare != null ? spare : freePackets.poll();
+            spare = null;
+            if (packet == null) {
+                // Tüm paketler yolda; kamerayı bekletmemek için kareyi düşür
+                droppedFrames++;
+                continue;
+            }
+
+            long copyStart = FrameTracer.begin();
+            mat.copyTo(packet.mat);
+            FrameTracer.end(FrameTracer.PIPELINE, "copy", copyStart);
+            packet.begin(sequence, captureTime);
+
+            if (out.offer(packet)) {
+                sequence++;
+                capturedFrames++;
+            } else {
+                // Dönüştürme geride kaldı; paketi bir sonraki kare için sakla
+                droppedFrames++;
+                spare = packet;
+            }
+        }
+    }
+
+    /**
+     * Kayıpsız yakalama: her kare için boş paket ve dönüştürme kuyruğunda
+     * yer beklenir. Döngü bittiğinde tüm paketler boş havuzuna dönene
+     * (yani yoldaki son kare gösterilene) kadar, en fazla STOP_TIMEOUT
+     * süresince beklenir; dönmeyen paketler loglanır.
+     */
+    private void captureAll(BooleanSupplier keepRunning) throws Exception {
+        SpscRingBuffer<FramePacket> out = queues.get(Stage.CONVERT);
+        long sequence = 0;
+
+        while (keepRunning.getAsBoolean()) {
+            FrameTracer.setFrame(sequence);
+            var mat = source.grab();
+            if (mat == null) {
+                continue;
+            }
+            long captureTime = System.nanoTime();
+
+            FramePacket packet = freePackets.poll();
+            for (int waits = 0; packet == null; waits++) {
+                idle(waits);
+                packet = freePackets.poll();
+            }
+
+            long copyStart = FrameTracer.begin();
+            mat.copyTo(packet.mat);
+            FrameTracer.end(FrameTracer.PIPELINE, "copy", copyStart);
+            packet.begin(sequence, captureTime);
+
+            for (int waits = 0; !out.offer(packet); waits++) {
+                idle(waits);
+            }
+            sequence++;
+            capturedFrames++;
+        }
+
+        // Bir aşama paketi tutarken öldüyse sonsuza kadar beklenmez
+        long deadline = System.nanoTime() + STOP_TIMEOUT.toNanos();
+        for (int waits = 0; freePackets.size() < packetCount; waits++) {
+            if (System.nanoTime() - deadline > 0) {
+                System.err.println("Pipeline stopped with " + (packetCount - freePackets.size()) + " of "
+                        + packetCount + " frames not returned after " + STOP_TIMEOUT.toMillis() + " ms: " + this);
+                break;
+            }
+            idle(waits);
+        }
+    }
+
+    private void convert(FramePacket packet) {
+        long start = System.nanoTime();
+        // Paketin önceki karedeki görüntüsü hedef olarak yeniden kullanılır
+        packet.converted = ImageUtils.matToBufferedImage(packet.mat, packet.converted);
+        FrameTracer.end(FrameTracer.PIPELINE, "matToBufferedImage", start);
+        if (packet.converted == null) {
+            System.err.println("Failed to convert Mat to BufferedImage");
+            packet.failed = true;
+        } else if (processingSize != null) {
+            BufferedImage image = packet.converted;
+            int[] size = Resampler.fit(image.getWidth(), image.getHeight(), processingSize[0], processingSize[1]);
+            BufferedImage reuse = packet.original != image ? packet.original : null;
+            packet.original = size[0] == image.getWidth() && size[1] == image.getHeight()
+                    ? image : Resampler.resize(image, size[0], size[1], kernel, reuse);
+        } else {
+            packet.original = packet.converted;
+        }
+        packet.convertNanos = System.nanoTime() - start;
+        latencies.get(Stage.CONVERT).record(packet.convertNanos);
+    }
+
+    private void filter(FramePacket packet) {
+        long start = System.nanoTime();
+        packet.processed = filter.apply(packet.original);
+        packet.filterNanos = System.nanoTime() - start;
+        FrameTracer.end(FrameTracer.PIPELINE, "filter", start);
+        latencies.get(Stage.FILTER).record(packet.filterNanos);
+    }
+
+    private void present(FramePacket packet) {
+        try {
+            if (packet.failed) {
+                failedFrames++;
+            } else {
+                long start = FrameTracer.begin();
+                presenter.accept(packet);
+                FrameTracer.end(FrameTracer.PIPELINE, "present", start);
+                latencies.get(Stage.PRESENT).record(System.nanoTime() - packet.captureTime);
+            }
+        } catch (Exception e) {
+            failedFrames++;
+            System.err.println("Error presenting frame: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            // Gösterici görüntüleri kopyaladı; işlenmiş buffer'ı havuza, paketi yakalamaya geri ver
+            if (packet.processed != null && packet.processed != packet.original) {
+                ImageProcessor.recycle(packet.processed);
+            }
+            packet.clear();
+            freePackets.offer(packet);
+        }
+    }
+
+    private void startStage(Stage stage, Consumer<FramePacket> action) {
+        SpscRingBuffer<FramePacket> in = queues.get(stage);
+        SpscRingBuffer<FramePacket> out = stage == Stage.PRESENT ? null : queues.get(Stage.values()[stage.ordinal() + 1]);
+        AtomicLong processed = processedFrames.get(stage);
+
+        startThread(stage, () -> {
+            int idle = 0;
+            while (!stopped) {
+                FramePacket packet = in.poll();
+                if (packet == null) {
+                    idle(idle++);
+                    continue;
+                }
+                idle = 0;
+                FrameTracer.setFrame(packet.sequence);
+
+                if (out == null) {
+                    present(packet);
+                } else {
+                    if (!packet.failed) {
+                        try {
+                            action.accept(packet);
+                        } catch (Exception e) {
+                            System.err.println("Error in " + stage + " stage: " + e.getMessage());
+                            e.printStackTrace();
+                            packet.failed = true;
+                        }
+                    }
+                    // Hatalı paketler de ileri gönderilir; boş havuza yalnızca gösterim aşaması döndürür
+                    int waits = 0;
+                    while (!out.offer(packet) && !stopped) {
+                        idle(waits++);
+                    }
+                }
+                processed.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Filtreleme aşamasını kare düzeyinde paralel çalıştırır: aşama thread'i
+     * giriş kuyruğundaki kareleri işleme havuzuna dağıtır ve biten kareleri
+     * sıralama tamponundan yakalama sırasıyla gösterim kuyruğuna aktarır.
+     * Kuyruklar SPSC olduğu için kuyruklara yalnızca aşama thread'i erişir.
+     */
+    private void startFrameParallelFilter() {
+        SpscRingBuffer<FramePacket> in = queues.get(Stage.FILTER);
+        SpscRingBuffer<FramePacket> out = queues.get(Stage.PRESENT);
+        AtomicLong processed = processedFrames.get(Stage.FILTER);
+        FrameParallelProcessor<FramePacket> frames = new FrameParallelProcessor<>(ImageProcessor.getPool(), framesInFlight);
+
+        // Sınıf kilidini işçilerle paylaşan getAutoTuner() döngü dışında bir kez çağrılır
+        AutoTuner tuner = adaptive ? ImageProcessor.getAutoTuner() : null;
+
+        startThread(Stage.FILTER, () -> {
+            // Sırası gelmiş ama gösterim kuyruğu dolu olduğu için bekleyen paket
+            FramePacket ready = null;
+            int idle = 0;
+            while (!stopped) {
+                boolean busy = false;
+                if (ready == null) {
+                    ready = frames.poll();
+                }
+                if (ready != null && out.offer(ready)) {
+                    ready = null;
+                    processed.incrementAndGet();
+                    busy = true;
+                }
+                // Öneri yalnızca dağıtılacak bir paket varken sorulur
+                if (frames.getInFlight() < framesInFlight && !in.isEmpty()) {
+                    int limit = tuner != null
+                            ? tuner.framesInFlight(framesInFlight, lossless ? 0 : captureIntervalNanos)
+                            : framesInFlight;
+                    FramePacket packet = frames.getInFlight() < limit ? in.poll() : null;
+                    if (packet != null) {
+                        FrameTracer.setFrame(packet.sequence);
+                        if (limit == 1 && ready == null && frames.getInFlight() == 0) {
+                            // Kare kare: kare içi stratejiler havuzu kullanabilsin diye aşama thread'inde işlenir
+                            filterFrame(packet);
+                            ready = packet;
+                        } else {
+                            // Hatalı paketler de sıralarını korumak için tampondan geçer
+                            frames.trySubmit(packet, this::filterFrame);
+                        }
+                        busy = true;
+                    }
+                }
+                if (busy) {
+                    idle = 0;
+                } else {
+                    idle(idle++);
+                }
+            }
+            // Durdurulurken işçilerdeki karelerin bitmesi beklenir; run() döndüğünde paketlere dokunan kalmaz
+            for (FramePacket packet = frames.take(); packet != null; packet = frames.take()) {
+                if (packet.processed != null && packet.processed != packet.original) {
+                    ImageProcessor.recycle(packet.processed);
+                }
+            }
+        });
+    }
+
+    // Bir paketi işçi thread'inde veya (kare kare işlemede) aşama thread'inde filtreler
+    private void filterFrame(FramePacket packet) {
+        if (packet.failed) {
+            return;
+        }
+        try {
+            filter(packet);
+        } catch (Exception e) {
+            System.err.println("Error in " + Stage.FILTER + " stage: " + e.getMessage());
+            e.printStackTrace();
+            packet.failed = true;
+        }
+    }
+
+    private void startThread(Stage stage, Runnable loop) {
+        Thread thread = new Thread(loop, stage.threadName);
+        thread.setDaemon(true);
+        threads.put(stage, thread);
+        thread.start();
+    }
+
+    private static void idle(int attempt) {
+        if (attempt < IDLE_SPINS) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Verilen aşamanın giriş kuyruğundaki anlık kare sayısını döndürür.
+     *
+     * @param stage Aşama
+     * @return Kuyruk doluluğu
+     */
+    public int getQueueOccupancy(Stage stage) {
+        return queues.get(stage).size();
+    }
+
+    /**
+     * Verilen aşamanın giriş kuyruğunun şimdiye kadarki en yüksek doluluğunu döndürür.
+     *
+     * @param stage Aşama
+     * @return En yüksek kuyruk doluluğu
+     */
+    public int getPeakQueueOccupancy(Stage stage) {
+        return queues.get(stage).getPeakOccupancy();
+    }
+
+    /**
+     * Verilen aşamanın işlediği kare sayısını döndürür.
+     *
+     * @param stage Aşama
+     * @return İşlenen kare sayısı
+     */
+    public long getProcessedFrames(Stage stage) {
+        return processedFrames.get(stage).get();
+    }
+
+    /**
+     * Verilen aşamanın kare süresi histogramını döndürür. Dönüştürme ve
+     * filtreleme için aşamanın işlem süresi, gösterim için yakalamadan
+     * gösterici dönene kadar geçen uçtan uca süre kaydedilir.
+     *
+     * @param stage Aşama
+     * @return Kare süresi metrikleri
+     */
+    public PerformanceMetrics getLatency(Stage stage) {
+        return latencies.get(stage);
+    }
+
+    /**
+     * Yakalanıp pipeline'a alınan kare sayısını döndürür.
+     *
+     * @return Yakalanan kare sayısı
+     */
+    public long getCapturedFrames() {
+        return capturedFrames;
+    }
+
+    /**
+     * Pipeline dolu olduğu için yakalamada düşürülen kare sayısını döndürür.
+     *
+     * @return Düşürülen kare sayısı
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Dönüştürme, filtreleme veya gösterim sırasında hata verdiği için
+     * gösterilmeyen kare sayısını döndürür. Kayıpsız modda sıfırdan büyükse
+     * çıktıda kare eksiktir.
+     *
+     * @return Hatalı kare sayısı
+     */
+    public long getFailedFrames() {
+        return failedFrames;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("captured=").append(capturedFrames).append(", dropped=").append(droppedFrames)
+                .append(", failed=").append(failedFrames);
+        for (Stage stage : Stage.values()) {
+            sb.append(", ").append(stage.name().toLowerCase(Locale.ROOT))
+                    .append("[queue ").append(queues.get(stage))
+                    .append(", done ").append(getProcessedFrames(stage)).append(']');
+        }
+        return sb.toString();
+    }
+}
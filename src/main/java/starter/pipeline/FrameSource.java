@@ -0,0 +1,63 @@
+// src/main/java/starter/pipeline/FrameSource.java
+
+package starter.pipeline;
+
+import java.io.IOException;
+import org.bytedeco.opencv.opencv_core.Mat;
+
+/**
+ * FrameSource, pipeline'a kare sağlayan kaynakların (kamera, video dosyası
+ * vb.) ortak arayüzüdür. Kaynaklar kareyi OpenCV Mat olarak verir.
+ *
+ * Döndürülen Mat kaynağa aittir ve yalnızca bir sonraki grab() çağrısına
+ * kadar geçerlidir; kareyi daha uzun tutmak isteyen çağıran onu kendi
+ * Mat'ine kopyalamalıdır.
+ */
+public interface FrameSource extends AutoCloseable {
+
+    /**
+     * Kaynağı açar ve kare üretmeye hazırlar.
+     *
+     * @throws Exception Kaynak açılamazsa
+     */
+    void start() throws Exception;
+
+    /**
+     * Bir sonraki kareyi alır. Kare hazır olana kadar bekleyebilir.
+     *
+     * @return Kare veya kare alınamadıysa null
+     * @throws Exception Kaynak okunamazsa
+     */
+    Mat grab() throws Exception;
+
+    /**
+     * Kaynağın tükenip tükenmediğini döndürür. Kamera gibi canlı kaynaklar
+     * hiçbir zaman tükenmez; dosya kaynakları son kareden sonra true döndürür.
+     *
+     * @return Kaynaktan başka kare gelmeyecekse true
+     */
+    default boolean isFinished() {
+        return false;
+    }
+
+    /**
+     * Kaynağın bir platform thread'inde okunması gerekip gerekmediğini
+     * döndürür. Kareyi Java G/Ç'siyle bekleyen veya hiç beklemeyen
+     * kaynaklar sanal thread'de okunabilir; kareyi native kod içinde
+     * bekleyen kaynaklar (ör. kamera sürücüsü) bekleme boyunca sanal
+     * thread'in taşıyıcısını meşgul ettiği için platform thread ister.
+     *
+     * @return Kaynak platform thread'i gerektiriyorsa true
+     */
+    default boolean needsPlatformThread() {
+        return false;
+    }
+
+    /**
+     * Kaynağı durdurur ve kaynaklarını serbest bırakır.
+     *
+     * @throws IOException Kaynak kapatılamazsa
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,321 @@
+// src/main/java/starter/pipeline/ManagedStream.java
+
+package starter.pipeline;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.function.Consumer;
+import starter.core.FrameTracer;
+import starter.core.ImageUtils;
+import starter.core.PerformanceMetrics;
+import starter.processing.FrameBufferPool;
+import starter.processing.ImageProcessor;
+
+/**
+ * ManagedStream, StreamScheduler'ın barındırdığı tek bir akıştır: kendi
+ * kaynağı, filtre zinciri, kare bütçesi, çıkışı ve sayaçları vardır.
+ * Akışlar scheduler'ın add() metoduyla oluşturulur.
+ *
+ * Kare Bütçesi:
+ * - maxFps: saniyede işlenecek en fazla kare; kaynaktan daha hızlı gelen
+ *   kareler kuyruğa alınmadan atlanır (skipped)
+ * - queueDepth: işlenmeyi bekleyebilecek en fazla kare; kuyruk doluyken
+ *   gelen kare en eski bekleyen karenin yerini alır (dropped). Canlı
+ *   akışlarda eski kareyi işlemek yerine en yeni kare tercih edilir
+ *
+ * Paketler (FramePacket) akış başında queueDepth + 1 adet oluşturulur:
+ * biri işlenirken diğerleri kuyrukta veya boş listede bekler. Kuyruk,
+ * boş liste ve zamanlama alanları scheduler'ın kilidiyle korunur.
+ */
+public final class ManagedStream {
+
+    /**
+     * Bir akışın ayarları.
+     *
+     * @param name Akış adı; metriklerde ve raporlarda etiket olarak kullanılır
+     * @param filters Sırayla uygulanacak filtreler
+     * @param contrast Kontrast değeri (0-200)
+     * @param weight İşlemci payı ağırlığı; ağırlığı 2 olan akış, yük altında
+     *               ağırlığı 1 olan akışın iki katı işlemci süresi alır
+     * @param maxFps Saniyede işlenecek en fazla kare; 0 = sınırsız
+     * @param paceFps Kendi hızı olmayan kaynakların (dosya, sentetik) okunma
+     *                hızı; 0 = kaynağın verebildiği kadar hızlı
+     * @param queueDepth İşlenmeyi bekleyebilecek en fazla kare
+     */
+    public record Config(String name, List<String> filters, int contrast, int weight,
+                         double maxFps, double paceFps, int queueDepth) {
+
+        public Config {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Stream weight must be positive: " + weight);
+            }
+            if (queueDepth < 1) {
+                throw new IllegalArgumentException("Stream queue depth must be positive: " + queueDepth);
+            }
+            if (maxFps < 0 || paceFps < 0) {
+                throw new IllegalArgumentException("Stream frame rates must not be negative");
+            }
+            filters = List.copyOf(filters);
+        }
+    }
+
+    private final Config config;
+    private final FrameSource source;
+    private final Consumer<FramePacket> sink;
+
+    // Scheduler kilidiyle korunan alanlar
+    final ArrayDeque<FramePacket> queued = new ArrayDeque<>();
+    final ArrayDeque<FramePacket> free = new ArrayDeque<>();
+    // Bir işçi bu akışın karesini işliyorsa true; kareler sırayla işlenir
+    boolean busy;
+    // Ağırlıkla ölçeklenmiş işlemci süresi; en küçük olan bekleyen akış sıradaki kareyi alır
+    double virtualTime;
+    boolean readerDone;
+
+    Thread reader;
+    volatile boolean running = true;
+
+    // Okuma thread'inin yazdığı sayaçlar
+    private volatile long capturedFrames;
+    private volatile long skippedFrames;
+    private volatile long droppedFrames;
+    // İşçilerin yazdığı sayaçlar; akışın kareleri aynı anda tek işçide işlendiği için tek yazıcılı
+    private volatile long processedFrames;
+    private volatile long failedFrames;
+    private volatile long cpuNanos;
+    private volatile int queueOccupancy;
+    private volatile boolean finished;
+    private volatile Exception failure;
+
+    private final PerformanceMetrics processingTimes = new PerformanceMetrics();
+    private final PerformanceMetrics latencies = new PerformanceMetrics();
+
+    ManagedStream(Config config, FrameSource source, Consumer<FramePacket> sink) {
+        this.config = config;
+        this.source = source;
+        this.sink = sink;
+        for (int i = 0; i <= config.queueDepth(); i++) {
+            free.add(new FramePacket());
+        }
+    }
+
+    /**
+     * Kareyi BufferedImage'a dönüştürür, filtre zincirinden geçirir ve
+     * çıkışa verir. Bir işçi thread'inde çağrılır.
+     *
+     * @return Karenin işlemci süresi (ns)
+     */
+    long process(FramePacket packet) {
+        long start = System.nanoTime();
+        FrameTracer.setFrame(packet.sequence);
+        BufferedImage processed = null;
+        try {
+            packet.converted = ImageUtils.matToBufferedImage(packet.mat, packet.converted);
+            packet.original = packet.converted;
+            packet.convertNanos = System.nanoTime() - start;
+            if (packet.original == null) {
+                packet.failed = true;
+                failedFrames++;
+            } else {
+                long filterStart = System.nanoTime();
+                if (config.filters().isEmpty()) {
+                    packet.processed = packet.original;
+                } else {
+                    BufferedImage image = packet.original;
+                    processed = FrameBufferPool.shared().acquireImage(image.getWidth(), image.getHeight());
+                    ImageProcessor.runFiltersSequentially(image, processed, config.filters(), config.contrast());
+                    packet.processed = processed;
+                }
+                packet.filterNanos = System.nanoTime() - filterStart;
+                processingTimes.record(System.nanoTime() - start);
+                if (sink != null) {
+                    sink.accept(packet);
+                }
+                processedFrames++;
+                latencies.record(System.nanoTime() - packet.captureTime);
+            }
+        } catch (RuntimeException e) {
+            // Hatalı kare akışı durdurmaz; sayılır ve sonraki kareye geçilir
+            System.err.println("Stream " + config.name() + " failed to process frame " + packet.sequence + ": " + e.getMessage());
+            packet.failed = true;
+            failedFrames++;
+        } finally {
+            packet.clear();
+            if (processed != null) {
+                FrameBufferPool.shared().releaseImage(processed);
+            }
+        }
+        // Dönüştürülemeyen kareler dahil her karenin süresi akışın payına sayılır
+        long elapsed = System.nanoTime() - start;
+        cpuNanos += elapsed;
+        FrameTracer.end(FrameTracer.PIPELINE, "stream", start);
+        return elapsed;
+    }
+
+    FrameSource source() {
+        return source;
+    }
+
+    Consumer<FramePacket> sink() {
+        return sink;
+    }
+
+    void captured() {
+        capturedFrames++;
+    }
+
+    void skipped() {
+        skippedFrames++;
+    }
+
+    void dropped() {
+        droppedFrames++;
+    }
+
+    void updateOccupancy() {
+        queueOccupancy = queued.size();
+    }
+
+    void finish(Exception failure) {
+        if (failure != null && this.failure == null) {
+            this.failure = failure;
+        }
+        finished = true;
+    }
+
+    /**
+     * Akışın okunmasını durdurur; kuyrukta bekleyen kareler yine işlenir.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Akışın adını döndürür.
+     *
+     * @return Ad
+     */
+    public String getName() {
+        return config.name();
+    }
+
+    /**
+     * Akışın ayarlarını döndürür.
+     *
+     * @return Ayarlar
+     */
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Kaynaktan alınan kare sayısını döndürür.
+     *
+     * @return Kare sayısı
+     */
+    public long getCapturedFrames() {
+        return capturedFrames;
+    }
+
+    /**
+     * Kare bütçesini (maxFps) aştığı için atlanan kare sayısını döndürür.
+     *
+     * @return Kare sayısı
+     */
+    public long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    /**
+     * Kuyruk doluyken daha yeni bir kare geldiği için işlenmeden düşürülen
+     * kare sayısını döndürür.
+     *
+     * @return Kare sayısı
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * İşlenip çıkışa verilen kare sayısını döndürür.
+     *
+     * @return Kare sayısı
+     */
+    public long getProcessedFrames() {
+        return processedFrames;
+    }
+
+    /**
+     * Dönüştürülemeyen veya işlenirken hata veren kare sayısını döndürür.
+     *
+     * @return Kare sayısı
+     */
+    public long getFailedFrames() {
+        return failedFrames;
+    }
+
+    /**
+     * İşçilerin bu akışın karelerine harcadığı toplam süreyi döndürür. İki
+     * okuma arasındaki farkların akışlar arasındaki oranı, işlemci
+     * paylarını verir.
+     *
+     * @return Toplam süre (ns)
+     */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * İşlenmeyi bekleyen kare sayısını döndürür.
+     *
+     * @return Kuyruktaki kare sayısı
+     */
+    public int getQueueOccupancy() {
+        return queueOccupancy;
+    }
+
+    /**
+     * Kare başına dönüştürme ve filtreleme sürelerini döndürür.
+     *
+     * @return İşleme süreleri
+     */
+    public PerformanceMetrics getProcessingTimes() {
+        return processingTimes;
+    }
+
+    /**
+     * Yakalamadan çıkışa kadar geçen süreleri (kuyrukta bekleme dahil)
+     * döndürür.
+     *
+     * @return Gecikmeler
+     */
+    public PerformanceMetrics getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Akışın bitip bitmediğini döndürür: kaynak tükendi veya akış durduruldu
+     * ve bekleyen tüm kareler işlendi.
+     *
+     * @return Akış bittiyse true
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Kaynağın açılırken veya okunurken verdiği hatayı döndürür.
+     *
+     * @return Hata veya yoksa null
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return config.name() + ": captured=" + capturedFrames + ", processed=" + processedFrames
+                + ", skipped=" + skippedFrames + ", dropped=" + droppedFrames + ", failed=" + failedFrames;
+    }
+}
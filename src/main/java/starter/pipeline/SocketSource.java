@@ -0,0 +1,111 @@
+// src/main/java/starter/pipeline/SocketSource.java
+
+package starter.pipeline;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import org.bytedeco.opencv.global.opencv_core;
+import org.bytedeco.opencv.opencv_core.Mat;
+import starter.core.FrameTracer;
+
+/**
+ * SocketSource, bir TCP bağlantısından ham BGR kareler okur. Okuma
+ * sıradan, engelleyen (blocking) Java soket G/Ç'siyle yapılır; sanal
+ * thread'de çalıştığında kare beklerken taşıyıcı thread'i meşgul etmez.
+ *
+ * Kare Biçimi:
+ * - Genişlik ve yükseklik: 32 bit, big-endian tamsayılar
+ * - Ardından genişlik × yükseklik × 3 bayt BGR piksel, satır satır
+ *   (kameradan gelen Mat'lerle aynı düzen)
+ *
+ * Karşı taraf bağlantıyı iki kare arasında kapattığında grab() null
+ * döndürür ve isFinished() true olur; kare ortasında kapanırsa hata
+ * fırlatılır.
+ */
+public final class SocketSource implements FrameSource {
+
+    // Hatalı bir başlığın büyük bir bellek ayırmasına yol açmaması için kenar sınırı
+    private static final int MAX_DIMENSION = 8192;
+    private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+
+    private final String host;
+    private final int port;
+    private Socket socket;
+    private DataInputStream in;
+    private byte[] pixels;
+    private Mat mat;
+    private volatile boolean finished;
+
+    /**
+     * Yeni bir soket kaynağı oluşturur. Bağlantı start() çağrılana kadar
+     * açılmaz.
+     *
+     * @param host Kareleri gönderen sunucu
+     * @param port Sunucu portu
+     */
+    public SocketSource(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public void start() throws IOException {
+        Socket opened = new Socket();
+        opened.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+        socket = opened;
+        in = new DataInputStream(new BufferedInputStream(opened.getInputStream(), 1 << 16));
+        finished = false;
+    }
+
+    @Override
+    public Mat grab() throws IOException {
+        int width;
+        try {
+            width = in.readInt();
+        } catch (EOFException e) {
+            finished = true;
+            return null;
+        }
+        int height = in.readInt();
+        if (width <= 0 || height <= 0 || width > MAX_DIMENSION || height > MAX_DIMENSION) {
+            throw new IOException("Invalid frame size from " + host + ":" + port + ": " + width + "x" + height);
+        }
+        long start = FrameTracer.begin();
+        int length = width * height * 3;
+        if (pixels == null || pixels.length != length) {
+            pixels = new byte[length];
+        }
+        in.readFully(pixels);
+        FrameTracer.end(FrameTracer.PIPELINE, "receive", start);
+        if (mat == null || mat.cols() != width || mat.rows() != height) {
+            if (mat != null) {
+                mat.close();
+            }
+            mat = new Mat(height, width, opencv_core.CV_8UC3);
+        }
+        mat.data().put(pixels);
+        return mat;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (socket != null) {
+            socket.close();
+            socket = null;
+            in = null;
+        }
+        if (mat != null) {
+            mat.close();
+            mat = null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+// src/main/java/starter/pipeline/SpscRingBuffer.java
+
+package starter.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SpscRingBuffer, tek üretici ve tek tüketici (single-producer,
+ * single-consumer) arasında kilitsiz çalışan sınırlı bir halka kuyruktur.
+ * Pipeline aşamaları arasında kare taşımak için kullanılır.
+ *
+ * Eşzamanlılık Kuralları:
+ * - offer() yalnızca tek bir üretici thread'den çağrılmalıdır
+ * - poll() yalnızca tek bir tüketici thread'den çağrılmalıdır
+ * - size() ve doluluk sayaçları her thread'den okunabilir (yaklaşık değer)
+ *
+ * Okuma ve yazma indeksleri release/acquire sıralamasıyla yayınlanır;
+ * eleman yazımı, indeksin ilerletilmesinden önce görünür olur. Her taraf
+ * karşı tarafın indeksini önbelleğe alır ve yalnızca kuyruk dolu veya boş
+ * göründüğünde yeniden okur.
+ *
+ * @param <E> Eleman türü
+ */
+public final class SpscRingBuffer<E> {
+
+    private final Object[] buffer;
+    private final int mask;
+
+    // Sonraki okunacak konum; yalnızca tüketici yazar
+    private final AtomicLong head = new AtomicLong();
+    // Sonraki yazılacak konum; yalnızca üretici yazar
+    private final AtomicLong tail = new AtomicLong();
+
+    // Üreticinin gördüğü son head değeri
+    private long cachedHead;
+    // Tüketicinin gördüğü son tail değeri
+    private long cachedTail;
+
+    // Yalnızca üretici yazar
+    private volatile int peakOccupancy;
+    private volatile long rejectedOffers;
+
+    /**
+     * Yeni bir halka kuyruk oluşturur. Kapasite bir sonraki ikinin
+     * kuvvetine yuvarlanır.
+     *
+     * @param capacity İstenen en az kapasite (1 veya daha büyük)
+     */
+    public SpscRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Kuyruğa bir eleman ekler. Yalnızca üretici thread çağırmalıdır.
+     *
+     * @param element Eklenecek eleman (null olamaz)
+     * @return Eklendiyse true, kuyruk doluysa false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long t = tail.getPlain();
+        if (t - cachedHead >= buffer.length) {
+            cachedHead = head.getAcquire();
+            if (t - cachedHead >= buffer.length) {
+                rejectedOffers++;
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = element;
+        tail.setRelease(t + 1);
+
+        int occupancy = (int) (t + 1 - cachedHead);
+        if (occupancy > peakOccupancy) {
+            peakOccupancy = occupancy;
+        }
+        return true;
+    }
+
+    /**
+     * Kuyruğun başındaki elemanı alır. Yalnızca tüketici thread çağırmalıdır.
+     *
+     * @return Eleman veya kuyruk boşsa null
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long h = head.getPlain();
+        if (h >= cachedTail) {
+            cachedTail = tail.getAcquire();
+            if (h >= cachedTail) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        head.setRelease(h + 1);
+        return element;
+    }
+
+    /**
+     * Kuyruktaki eleman sayısını döndürür. Başka bir thread'den
+     * çağrıldığında anlık bir yaklaşık değerdir.
+     *
+     * @return Doluluk
+     */
+    public int size() {
+        long h = head.getAcquire();
+        long t = tail.getAcquire();
+        return (int) Math.max(0, Math.min(buffer.length, t - h));
+    }
+
+    /**
+     * Kuyruğun boş olup olmadığını döndürür.
+     *
+     * @return Boşsa true
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Kuyruğun kapasitesini döndürür.
+     *
+     * @return Kapasite
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Kuyruğun şimdiye kadar ulaştığı en yüksek doluluğu döndürür.
+     *
+     * @return En yüksek doluluk
+     */
+    public int getPeakOccupancy() {
+        return peakOccupancy;
+    }
+
+    /**
+     * Kuyruk dolu olduğu için reddedilen offer() çağrılarının sayısını
+     * döndürür. Tüketici aşamanın darboğaz olduğunu gösterir.
+     *
+     * @return Reddedilen ekleme sayısı
+     */
+    public long getRejectedOffers() {
+        return rejectedOffers;
+    }
+
+    @Override
+    public String toString() {
+        return size() + "/" + capacity() + " (peak " + peakOccupancy + ")";
+    }
+}
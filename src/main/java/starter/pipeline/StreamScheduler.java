@@ -0,0 +1,379 @@
+// src/main/java/starter/pipeline/StreamScheduler.java
+
+package starter.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * StreamScheduler, aynı JVM'de birbirinden bağımsız çok sayıda akışı
+ * (kamera, video dosyası, sentetik kaynak) sabit sayıda işçi thread'iyle
+ * işler. Her akışın kendi filtre zinciri, kare bütçesi ve sayaçları
+ * vardır (bkz. ManagedStream).
+ *
+ * Thread Modeli:
+ * - Her akışın kaynağı kendi okuma thread'inde okunur; okuma thread'i
+ *   yalnızca kareyi akışın paketine kopyalar ve kuyruğa koyar
+ * - Okuma thread'leri sanal thread'dir: kare beklerken (soket G/Ç'si,
+ *   FrameClock tiki) taşıyıcı thread'i bırakırlar, böylece çoğu zaman
+ *   boşta duran yüzlerce akış birkaç platform thread'iyle okunur. Kareyi
+ *   native kodda bekleyen kaynaklar (kamera) platform thread'inde okunur
+ *   (bkz. FrameSource.needsPlatformThread())
+ * - Kendi hızı olmayan kaynaklar (dosya, sentetik) paceFps hızında
+ *   FrameClock ile okunur
+ * - Dönüştürme ve filtreleme gibi işlemci yoğun işler yalnızca işçilerde
+ *   yapılır; akış sayısı ne olursa olsun işlemci kullanımı işçi sayısıyla
+ *   sınırlıdır
+ * - Bir akışın kareleri aynı anda tek işçide, sırayla işlenir; kare içi
+ *   paralellik yoktur (zincir sıralı modda çalışır). Çok sayıda küçük
+ *   akışta paralellik akışlar arasından gelir
+ *
+ * Adil Paylaşım:
+ * - Her akışın sanal zamanı, işlediği karelerin süresinin ağırlığına
+ *   bölünmesiyle ilerler; boşalan işçi, bekleyen karesi olan akışlar
+ *   arasından sanal zamanı en küçük olanı seçer (start-time fair queuing)
+ * - Boşta kalıp yeniden kare alan akışın sanal zamanı en az son seçilen
+ *   akışınki kadar olur; boşta geçen süre biriktirilip sonradan diğer
+ *   akışları bekletmek için kullanılamaz
+ * - Sonuç: işçiler doyduğunda pahalı bir akış ucuz akışları aç bırakmaz;
+ *   akışlar ağırlıklarıyla orantılı işlemci süresi alır
+ */
+public final class StreamScheduler implements AutoCloseable {
+
+    // Okuma thread'lerinin durdurulurken beklenme süresi
+    private static final long READER_JOIN_MILLIS = 2_000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // İşçiler: bekleyen kare var
+    private final Condition ready = lock.newCondition();
+    // remove() ve awaitFinished(): bir kare bitti veya bir akış sona erdi
+    private final Condition changed = lock.newCondition();
+    private final List<ManagedStream> streams = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    // Son seçilen akışın sanal zamanı; yeniden etkinleşen akışların başlangıç değeri
+    private double virtualClock;
+    private boolean closed;
+
+    /**
+     * Verilen sayıda işçiyle yeni bir scheduler başlatır.
+     *
+     * @param workerCount İşçi thread sayısı; 0 veya negatifse işlemci sayısı kullanılır
+     */
+    public StreamScheduler(int workerCount) {
+        int count = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < count; i++) {
+            Thread worker = new Thread(this::work, "stream-worker-" + (i + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * İşçi thread sayısını döndürür.
+     *
+     * @return İşçi sayısı
+     */
+    public int getWorkerCount() {
+        return workers.size();
+    }
+
+    /**
+     * Yeni bir akış ekler ve okumaya başlar. Kaynak okuma thread'inde
+     * açılır; açılamazsa akış hatayla biter (bkz. ManagedStream.getFailure()).
+     *
+     * @param config Akış ayarları
+     * @param source Kaynak; henüz açılmamış olmalıdır
+     * @param sink İşlenen kareleri alan çıkış veya yoksa null. Bir işçi
+     *             thread'inde çağrılır; paket dönüşten sonra yeniden
+     *             kullanıldığı için görüntü saklanacaksa kopyalanmalıdır.
+     *             AutoCloseable ise akış bittiğinde kapatılır
+     * @return Eklenen akış
+     * @throws IllegalStateException Scheduler kapatıldıysa veya aynı adla bir akış varsa
+     */
+    public ManagedStream add(ManagedStream.Config config, FrameSource source, Consumer<FramePacket> sink) {
+        ManagedStream stream = new ManagedStream(config, source, sink);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Scheduler is closed");
+            }
+            for (ManagedStream existing : streams) {
+                if (existing.getName().equals(config.name())) {
+                    throw new IllegalStateException("Duplicate stream name: " + config.name());
+                }
+            }
+            streams.add(stream);
+            stream.virtualTime = virtualClock;
+        } finally {
+            lock.unlock();
+        }
+        Thread.Builder reader = source.needsPlatformThread() ? Thread.ofPlatform().daemon() : Thread.ofVirtual();
+        stream.reader = reader.name("stream-reader-" + config.name()).start(() -> read(stream));
+        return stream;
+    }
+
+    /**
+     * Akışı durdurur, kaynağını ve çıkışını kapatır ve scheduler'dan
+     * çıkarır. Kuyrukta bekleyen kareler atılır.
+     *
+     * @param stream Akış
+     */
+    public void remove(ManagedStream stream) {
+        stopReader(stream);
+        lock.lock();
+        try {
+            stream.queued.clear();
+            stream.updateOccupancy();
+            // İşlenmekte olan kare varsa bitmesini bekle
+            while (stream.busy) {
+                changed.awaitUninterruptibly();
+            }
+            streams.remove(stream);
+            stream.finish(null);
+        } finally {
+            lock.unlock();
+        }
+        closeSink(stream);
+    }
+
+    /**
+     * Eklenen akışları döndürür.
+     *
+     * @return Akışların anlık kopyası
+     */
+    public List<ManagedStream> getStreams() {
+        lock.lock();
+        try {
+            return List.copyOf(streams);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tüm akışlar bitene kadar veya süre dolana kadar bekler.
+     *
+     * @param timeout En fazla bekleme süresi
+     * @param unit Süre birimi
+     * @return Tüm akışlar bittiyse true
+     * @throws InterruptedException Bekleme kesilirse
+     */
+    public boolean awaitFinished(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!streams.stream().allMatch(ManagedStream::isFinished)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                changed.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tüm akışları durdurur, kaynaklarını ve çıkışlarını kapatır ve
+     * işçileri sonlandırır. Kuyrukta bekleyen kareler atılır. Birden çok
+     * kez çağrılabilir (ör. kapatma kancasından).
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            ready.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (ManagedStream stream : getStreams()) {
+            stopReader(stream);
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (ManagedStream stream : getStreams()) {
+            stream.finish(null);
+            closeSink(stream);
+        }
+    }
+
+    // Okuma thread'i: kaynağı açar, kareleri bütçeye göre kuyruğa koyar
+    private void read(ManagedStream stream) {
+        ManagedStream.Config config = stream.getConfig();
+        FrameSource source = stream.source();
+        long budgetInterval = config.maxFps() > 0 ? (long) (1e9 / config.maxFps()) : 0;
+        FrameClock clock = config.paceFps() > 0 ? new FrameClock(config.paceFps()) : null;
+        long nextAdmit = 0;
+        long sequence = 0;
+        Exception failure = null;
+
+        try {
+            source.start();
+            while (stream.running && !source.isFinished()) {
+                if (clock != null && !clock.await()) {
+                    break;
+                }
+                var mat = source.grab();
+                if (mat == null) {
+                    continue;
+                }
+                long captureTime = System.nanoTime();
+                stream.captured();
+
+                if (budgetInterval > 0) {
+                    // Kaynak saatindeki küçük sapmalar bir sonraki kareyi atlatmasın diye çeyrek aralık tolerans
+                    if (captureTime < nextAdmit - budgetInterval / 4) {
+                        stream.skipped();
+                        continue;
+                    }
+                    nextAdmit = Math.max(nextAdmit, captureTime - budgetInterval) + budgetInterval;
+                }
+
+                FramePacket packet;
+                lock.lock();
+                try {
+                    packet = stream.free.poll();
+                    if (packet == null) {
+                        // Kuyruk dolu: en eski bekleyen kare yeni karenin yerini açar
+                        packet = stream.queued.poll();
+                        stream.dropped();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                mat.copyTo(packet.mat);
+                packet.begin(sequence++, captureTime);
+                lock.lock();
+                try {
+                    if (stream.queued.isEmpty() && !stream.busy) {
+                        stream.virtualTime = Math.max(stream.virtualTime, virtualClock);
+                    }
+                    stream.queued.add(packet);
+                    stream.updateOccupancy();
+                    ready.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (Exception e) {
+            if (stream.running) {
+                System.err.println("Stream " + config.name() + " stopped: " + e.getMessage());
+                failure = e;
+            }
+        } finally {
+            try {
+                source.close();
+            } catch (Exception e) {
+                System.err.println("Failed to close source of stream " + config.name() + ": " + e.getMessage());
+            }
+            lock.lock();
+            try {
+                stream.readerDone = true;
+                if (failure != null || (stream.queued.isEmpty() && !stream.busy)) {
+                    stream.finish(failure);
+                    changed.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // İşçi: bekleyen karesi olan akışlardan sanal zamanı en küçük olanın karesini işler
+    private void work() {
+        while (true) {
+            ManagedStream stream;
+            FramePacket packet;
+            lock.lock();
+            try {
+                stream = closed ? null : next();
+                while (stream == null) {
+                    if (closed) {
+                        return;
+                    }
+                    ready.awaitUninterruptibly();
+                    stream = next();
+                }
+                packet = stream.queued.poll();
+                stream.updateOccupancy();
+                stream.busy = true;
+                virtualClock = stream.virtualTime;
+            } finally {
+                lock.unlock();
+            }
+
+            long elapsed = stream.process(packet);
+
+            lock.lock();
+            try {
+                stream.busy = false;
+                stream.virtualTime += (double) elapsed / stream.getConfig().weight();
+                stream.free.add(packet);
+                if (stream.readerDone && stream.queued.isEmpty()) {
+                    stream.finish(null);
+                }
+                if (!stream.queued.isEmpty()) {
+                    // Bu akışın sıradaki karesi başka bir işçiye verilebilir
+                    ready.signal();
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Kilit tutulurken çağrılır
+    private ManagedStream next() {
+        ManagedStream best = null;
+        for (ManagedStream stream : streams) {
+            if (!stream.busy && !stream.queued.isEmpty()
+                    && (best == null || stream.virtualTime < best.virtualTime)) {
+                best = stream;
+            }
+        }
+        return best;
+    }
+
+    private static void stopReader(ManagedStream stream) {
+        stream.stop();
+        Thread reader = stream.reader;
+        if (reader != null) {
+            // Kesilme FrameClock beklemesini bitirir ve sanal thread'deki soket okumasını sonlandırır
+            reader.interrupt();
+            try {
+                reader.join(READER_JOIN_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void closeSink(ManagedStream stream) {
+        if (stream.sink() instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                System.err.println("Failed to close output of stream " + stream.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+// src/main/java/starter/pipeline/SyntheticSource.java
+
+package starter.pipeline;
+
+import org.bytedeco.opencv.opencv_core.Mat;
+import starter.core.SyntheticFrames;
+
+/**
+ * SyntheticSource, kamera veya dosya olmadan yük üretmek için
+ * SyntheticFrames ile oluşturulan sabit sayıda kareyi sırayla ve sonsuz
+ * döngüde verir. Kareler start() sırasında bir kez üretilir; grab() bellek
+ * ayırmaz ve beklemez, hızı çağıran belirler.
+ */
+public final class SyntheticSource implements FrameSource {
+
+    // Ardışık karelerin birbirinden farklı olması için üretilen kare sayısı
+    private static final int FRAME_COUNT = 8;
+
+    private final int width;
+    private final int height;
+    private final long seed;
+    private Mat[] frames;
+    private int next;
+
+    /**
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param seed Gürültü tohumu; aynı tohumlu kaynaklar aynı kareleri verir
+     */
+    public SyntheticSource(int width, int height, long seed) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+    }
+
+    @Override
+    public void start() {
+        frames = new Mat[FRAME_COUNT];
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            frames[i] = SyntheticFrames.matFrame(width, height, seed + i);
+        }
+        next = 0;
+    }
+
+    @Override
+    public Mat grab() {
+        Mat frame = frames[next];
+        next = (next + 1) % frames.length;
+        return frame;
+    }
+
+    @Override
+    public void close() {
+        if (frames != null) {
+            for (Mat frame : frames) {
+                frame.close();
+            }
+            frames = null;
+        }
+    }
+}
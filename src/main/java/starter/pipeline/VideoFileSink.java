@@ -0,0 +1,171 @@
+// src/main/java/starter/pipeline/VideoFileSink.java
+
+package starter.pipeline;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.bytedeco.javacv.FFmpegFrameRecorder;
+import org.bytedeco.javacv.Frame;
+import starter.core.FrameTracer;
+import starter.core.ImageUtils;
+import starter.core.PerformanceMetrics;
+
+/**
+ * VideoFileSink, pipeline'dan gelen işlenmiş kareleri FFmpegFrameRecorder
+ * ile bir video dosyasına kodlar. Pipeline'ın gösterim aşamasında
+ * presenter olarak kullanılır; kareler yakalama sırasıyla gelir.
+ *
+ * Kodlayıcı ilk karede, karenin boyutuyla açılır. Kapsayıcı formatı
+ * dosya uzantısından, kodek verilmediyse formatın varsayılanından
+ * belirlenir. Kareler yeniden kullanılan tek bir BGR24 Frame'e yazılır;
+ * kare başına bellek ayrılmaz.
+ *
+ * Eşzamanlılık Kuralları:
+ * - accept() tek bir thread'den (gösterim aşaması) çağrılmalıdır
+ * - close() pipeline durduktan sonra çağrılmalıdır
+ */
+public final class VideoFileSink implements Consumer<FramePacket>, AutoCloseable {
+
+    private final String path;
+    private final double frameRate;
+    private final String codec;
+    private final int bitrate;
+    private final PerformanceMetrics encodeTimes = new PerformanceMetrics();
+
+    private FFmpegFrameRecorder recorder;
+    private Frame frame;
+    private int[] pixels;
+    private byte[] row;
+    private volatile long frameCount;
+    private volatile Exception failure;
+
+    /**
+     * @param path Çıktı dosyası
+     * @param frameRate Çıktının kare hızı (FPS)
+     * @param codec FFmpeg kodek adı (ör. "libx264") veya formatın varsayılanı için null
+     * @param bitrate Video bit hızı (bit/s) veya kodek varsayılanı için 0
+     */
+    public VideoFileSink(String path, double frameRate, String codec, int bitrate) {
+        this.path = path;
+        this.frameRate = frameRate;
+        this.codec = codec;
+        this.bitrate = bitrate;
+    }
+
+    /**
+     * İşlenmiş kareyi kodlar. Bir kare kodlanamazsa hata saklanır ve
+     * sonraki kareler yok sayılır (bkz. getFailure()).
+     *
+     * @param packet Kare
+     * @throws IllegalStateException Kodlayıcı açılamazsa veya kare yazılamazsa
+     */
+    @Override
+    public void accept(FramePacket packet) {
+        if (failure != null) {
+            return;
+        }
+        BufferedImage image = packet.getProcessed();
+        int width = image.getWidth();
+        int height = image.getHeight();
+        long start = System.nanoTime();
+        try {
+            if (recorder == null) {
+                open(width, height);
+            } else if (width != frame.imageWidth || height != frame.imageHeight) {
+                throw new IllegalStateException("Frame size changed from " + frame.imageWidth + "x"
+                        + frame.imageHeight + " to " + width + "x" + height);
+            }
+            write(image);
+            recorder.record(frame);
+        } catch (FFmpegFrameRecorder.Exception | IllegalStateException e) {
+            failure = e;
+            throw new IllegalStateException("Failed to encode frame " + packet.getSequence() + ": " + e.getMessage(), e);
+        }
+        encodeTimes.record(System.nanoTime() - start);
+        FrameTracer.end(FrameTracer.PIPELINE, "encode", start);
+        frameCount++;
+    }
+
+    private void open(int width, int height) throws FFmpegFrameRecorder.Exception {
+        FFmpegFrameRecorder opened = new FFmpegFrameRecorder(path, width, height, 0);
+        opened.setFrameRate(frameRate);
+        if (codec != null) {
+            opened.setVideoCodecName(codec);
+        }
+        if (bitrate > 0) {
+            opened.setVideoBitrate(bitrate);
+        }
+        opened.start();
+        recorder = opened;
+        frame = new Frame(width, height, Frame.DEPTH_UBYTE, 3);
+        row = new byte[width * 3];
+    }
+
+    // 0xRRGGBB pikselleri Frame'in BGR24 satırlarına yazar
+    private void write(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] src = ImageUtils.intRgbData(image);
+        if (src == null) {
+            pixels = ImageUtils.toIntRgb(image, pixels);
+            src = pixels;
+        }
+        ByteBuffer buffer = (ByteBuffer) frame.image[0];
+        int stride = frame.imageStride;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0, i = y * width, j = 0; x < width; x++, i++, j += 3) {
+                int p = src[i];
+                row[j] = (byte) p;             // Blue
+                row[j + 1] = (byte) (p >> 8);  // Green
+                row[j + 2] = (byte) (p >> 16); // Red
+            }
+            buffer.put(y * stride, row, 0, row.length);
+        }
+    }
+
+    /**
+     * Kodlanan kare sayısını döndürür.
+     *
+     * @return Kare sayısı
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Kodlamayı durduran hatayı döndürür.
+     *
+     * @return Hata veya tüm kareler kodlandıysa null
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * Kare başına kodlama süresi metriklerini döndürür.
+     *
+     * @return Kodlama süreleri
+     */
+    public PerformanceMetrics getEncodeTimes() {
+        return encodeTimes;
+    }
+
+    /**
+     * Kodlayıcıdaki kareleri dosyaya yazar ve dosyayı kapatır.
+     *
+     * @throws FFmpegFrameRecorder.Exception Dosya kapatılamazsa
+     */
+    @Override
+    public void close() throws FFmpegFrameRecorder.Exception {
+        if (recorder != null) {
+            recorder.stop();
+            recorder.release();
+            recorder = null;
+        }
+        if (frame != null) {
+            frame.close();
+            frame = null;
+        }
+    }
+}
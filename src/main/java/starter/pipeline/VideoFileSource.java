@@ -0,0 +1,95 @@
+// src/main/java/starter/pipeline/VideoFileSource.java
+
+package starter.pipeline;
+
+import org.bytedeco.javacv.FFmpegFrameGrabber;
+import org.bytedeco.javacv.Frame;
+import org.bytedeco.javacv.OpenCVFrameConverter;
+import org.bytedeco.opencv.opencv_core.Mat;
+import starter.core.FrameTracer;
+
+/**
+ * VideoFileSource, bir video dosyasının karelerini FFmpegFrameGrabber ile
+ * sırayla çözer. Kareler dosyanın kendi hızında değil, okunabildiği
+ * kadar hızlı verilir; ses akışı okunmaz.
+ *
+ * Dosya bittiğinde grab() null döndürür ve isFinished() true olur.
+ */
+public final class VideoFileSource implements FrameSource {
+
+    private final String path;
+    private final OpenCVFrameConverter.ToMat converter = new OpenCVFrameConverter.ToMat();
+    private FFmpegFrameGrabber grabber;
+    private volatile boolean finished;
+
+    /**
+     * Yeni bir video dosyası kaynağı oluşturur. Dosya start() çağrılana
+     * kadar açılmaz.
+     *
+     * @param path Video dosyası yolu
+     */
+    public VideoFileSource(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public void start() throws FFmpegFrameGrabber.Exception {
+        grabber = new FFmpegFrameGrabber(path);
+        grabber.start();
+        finished = false;
+    }
+
+    @Override
+    public Mat grab() throws FFmpegFrameGrabber.Exception {
+        long start = FrameTracer.begin();
+        Frame frame = grabber.grabImage();
+        FrameTracer.end(FrameTracer.PIPELINE, "decode", start);
+        if (frame == null) {
+            finished = true;
+            return null;
+        }
+        start = FrameTracer.begin();
+        Mat mat = converter.convert(frame);
+        FrameTracer.end(FrameTracer.PIPELINE, "converter.convert", start);
+        return mat == null || mat.empty() ? null : mat;
+    }
+
+    /**
+     * Dosyanın sonuna gelinip gelinmediğini döndürür.
+     *
+     * @return Son kare okunduysa true
+     */
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Video akışının kare hızını döndürür.
+     *
+     * @return Kare hızı (FPS)
+     */
+    public double getFrameRate() {
+        return grabber.getVideoFrameRate() > 0 ? grabber.getVideoFrameRate() : grabber.getFrameRate();
+    }
+
+    /**
+     * Kapsayıcının bildirdiği kare sayısını döndürür. Bazı formatlarda
+     * yaklaşıktır veya bilinmez.
+     *
+     * @return Kare sayısı veya bilinmiyorsa 0
+     */
+    public int getLengthInFrames() {
+        return Math.max(0, grabber.getLengthInVideoFrames());
+    }
+
+    @Override
+    public void close() throws FFmpegFrameGrabber.Exception {
+        if (grabber != null) {
+            grabber.stop();
+            grabber.release();
+            grabber = null;
+        }
+        converter.close();
+    }
+}
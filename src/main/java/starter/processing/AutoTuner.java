@@ -0,0 +1,404 @@
+// src/main/java/starter/processing/AutoTuner.java
+
+package starter.processing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+
+import starter.filters.Filter;
+import starter.filters.FilterParams;
+
+/**
+ * AutoTuner, her filtre zinciri ve çözünürlük için en hızlı yürütme
+ * stratejisini (sıralı, şerit, karo veya kare düzeyinde paralel) ve işçi
+ * sayısını, kareleri işlerken ölçerek seçer. Arayüzde paralel işlemenin
+ * elle açılıp kapatılması ve hızlanma grafiğinin izlenmesi gerekmez.
+ *
+ * Keşif:
+ * - Yeni bir zincir/çözünürlük çifti için adaylar sırayla denenir: sıralı,
+ *   ardından 2, 4, ... ve havuzun tüm işçileriyle şerit ve karo modları.
+ *   Her aday birkaç kare boyunca ölçülür (ilk kare ısınma sayılır) ve en
+ *   düşük ortalama süreli aday seçilir
+ * - Tam havuzdan küçük işçi sayıları için tuner kendi havuzlarını tutar
+ *
+ * Piksel Başına Maliyet:
+ * - Sıralı çalışmalarda her aşamanın piksel başına süresi filtre adına
+ *   göre (üstel ortalamayla) saklanır
+ * - Bir zincirin bu maliyetlerden tahmin edilen sıralı süresi
+ *   MIN_PARALLEL_NANOS'un altındaysa paralel adaylar hiç denenmez: ucuz
+ *   filtrelerde ve küçük karelerde eşitleme maliyeti işi geçer. Bilinen
+ *   filtrelerden oluşan bir zincir yeni bir çözünürlükte de bu tahminle
+ *   keşif yapılmadan sıralı çalıştırılır
+ *
+ * Yeniden Değerlendirme:
+ * - Seçim "processing.autotune.interval" milisaniyede bir (varsayılan
+ *   10000) yeniden keşfedilir
+ * - Seçilen stratejinin son karelerdeki süresi keşifte ölçülenin
+ *   DRIFT_FACTOR katını aşarsa (ör. makinedeki başka yükler) süre
+ *   dolmadan yeniden keşfedilir
+ *
+ * Kare Düzeyinde Paralellik:
+ * Birden çok kareyi aynı anda işleyebilen çağıranlar (FramePipeline)
+ * framesInFlight() ile kaç kare işleneceğini sorar. Kare başına en iyi
+ * süre kaynağın kare aralığına yetişiyorsa gecikmesi en düşük seçenek
+ * olan tek kare önerilir. Yetişmiyorsa veya kaynak bekletilebiliyorsa
+ * (dosya), n karenin işlem hızı sıralı sürenin n katı kabul edilerek en
+ * iyi kare içi stratejiyle karşılaştırılır. Sıralı süre aynı anda işlenen
+ * karelerde de ölçüldüğü için bellek bant genişliği gibi paylaşılan
+ * kaynaklardaki çekişme tahmine yansır. Bir işçi havuzu thread'inde
+ * çağrılan zincirler (kare düzeyinde paralel işler) her zaman sıralı
+ * çalışır.
+ */
+public final class AutoTuner implements AutoCloseable {
+
+    /**
+     * Yürütme modları.
+     */
+    public enum Mode {
+        SEQUENTIAL,
+        STRIPS,
+        TILES,
+        FRAMES;
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Bir yürütme modu ve işçi sayısı.
+     *
+     * @param mode Mod
+     * @param workers İşçi sayısı (sıralı modda 1, kare modunda aynı anda işlenen kare sayısı)
+     */
+    public record Strategy(Mode mode, int workers) {
+        @Override
+        public String toString() {
+            return mode == Mode.SEQUENTIAL ? mode.label() : mode.label() + " x" + workers;
+        }
+    }
+
+    /** Varsayılan yeniden değerlendirme aralığı (ms) */
+    public static final long DEFAULT_INTERVAL_MILLIS = 10_000;
+
+    /** Tahmini sıralı süresi bunun altındaki zincirler için paralel adaylar denenmez (ns) */
+    static final long MIN_PARALLEL_NANOS = 250_000;
+
+    private static final Strategy SEQUENTIAL = new Strategy(Mode.SEQUENTIAL, 1);
+    // Adayın ölçülen kare sayısı; ilk kare ayrıca ısınma olarak çalıştırılır
+    private static final int SAMPLES_PER_CANDIDATE = 4;
+    // Seçilen stratejinin süresi keşifte ölçülenin bu katını aşarsa yeniden keşfedilir
+    private static final double DRIFT_FACTOR = 1.5;
+    // Üstel ortalamalarda yeni örneğin ağırlığı
+    private static final double SMOOTHING = 0.2;
+
+    private final ProcessingPool pool;
+    private final int tileSize;
+    private final long intervalNanos;
+    private final List<Strategy> candidates;
+    // Tam havuzdan küçük işçi sayıları için tuner'ın kendi havuzları
+    private final Map<Integer, ProcessingPool> pools = new ConcurrentHashMap<>();
+    private final Map<Integer, TileScheduler> schedulers = new ConcurrentHashMap<>();
+    // Filtre (aşama) adı → piksel başına süre (ns)
+    private final Map<String, Double> pixelCosts = new ConcurrentHashMap<>();
+    private final Map<Key, Tuning> tunings = new ConcurrentHashMap<>();
+    private volatile Key lastKey;
+
+    /**
+     * @param pool Tam boyutlu işleme havuzu
+     * @param tileSize Karo modunun karo boyutu
+     * @param intervalMillis Seçimlerin yeniden değerlendirilme aralığı (ms)
+     */
+    AutoTuner(ProcessingPool pool, int tileSize, long intervalMillis) {
+        this.pool = pool;
+        this.tileSize = tileSize;
+        this.intervalNanos = Math.max(1, intervalMillis) * 1_000_000L;
+        this.candidates = candidates(pool.getParallelism());
+    }
+
+    private static List<Strategy> candidates(int parallelism) {
+        List<Integer> workers = new ArrayList<>();
+        for (int n = 2; n < parallelism; n *= 2) {
+            workers.add(n);
+        }
+        if (parallelism > 1) {
+            workers.add(parallelism);
+        }
+        List<Strategy> strategies = new ArrayList<>();
+        strategies.add(SEQUENTIAL);
+        for (int n : workers) {
+            strategies.add(new Strategy(Mode.STRIPS, n));
+            strategies.add(new Strategy(Mode.TILES, n));
+        }
+        return List.copyOf(strategies);
+    }
+
+    /**
+     * Tuner'ın tam boyutlu işleme havuzunu döndürür.
+     *
+     * @return İşleme havuzu
+     */
+    ProcessingPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Zinciri bu zincir ve çözünürlük için seçilen (veya keşifte sırası
+     * gelen) stratejiyle çalıştırır ve süresini kaydeder (ImageProcessor.ChainRunner).
+     */
+    void run(List<Filter> chain, FilterParams params, int[] src, int[] out, int[] scratch, int width, int height) {
+        Key key = new Key(chain.stream().map(Filter::getName).toList(), width, height);
+        Tuning tuning = tunings.computeIfAbsent(key, k -> new Tuning());
+
+        // Kare düzeyinde paralel işlerde işçiler zaten dolu; kare içi paralellik yalnızca eşitleme ekler
+        boolean nested = ForkJoinTask.inForkJoinPool();
+        lastKey = key;
+        Strategy strategy = nested ? SEQUENTIAL : tuning.next(predictSequentialNanos(key), System.nanoTime());
+
+        long start = System.nanoTime();
+        long[] stageNanos = null;
+        switch (strategy.mode()) {
+            case STRIPS -> ImageProcessor.runChainInStrips(poolFor(strategy.workers()), chain, params, src, out, scratch,
+                    width, height);
+            case TILES -> schedulerFor(strategy.workers()).run(chain, params, src, out, scratch, width, height);
+            default -> {
+                stageNanos = new long[chain.size()];
+                ImageProcessor.runChainSequentially(chain, params, src, out, scratch, width, height, stageNanos);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (stageNanos != null) {
+            double pixels = (double) width * height;
+            for (int i = 0; i < chain.size(); i++) {
+                pixelCosts.merge(chain.get(i).getName(), stageNanos[i] / pixels, AutoTuner::smooth);
+            }
+            tuning.recordSequential(elapsed);
+        }
+        if (!nested) {
+            tuning.record(strategy, elapsed, System.nanoTime());
+        }
+    }
+
+    /**
+     * En son çalıştırılan zincir için aynı anda işlenmesi gereken kare
+     * sayısını önerir.
+     *
+     * @param capacity Çağıranın aynı anda işleyebileceği en fazla kare sayısı
+     * @param frameIntervalNanos Kaynağın kare aralığı (ns) veya kaynak bekletilebiliyorsa 0
+     * @return 1 (kare kare) ile capacity arasında kare sayısı
+     */
+    public int framesInFlight(int capacity, long frameIntervalNanos) {
+        Key key = lastKey;
+        Tuning tuning = key != null ? tunings.get(key) : null;
+        if (tuning == null || capacity <= 1) {
+            return 1;
+        }
+        return tuning.framesInFlight(Math.min(capacity, 2 * pool.getParallelism()), frameIntervalNanos,
+                System.nanoTime());
+    }
+
+    /**
+     * Zincir ve çözünürlük başına güncel seçimleri döndürür.
+     *
+     * @return "zincir @ GENİŞLİKxYÜKSEKLİK" → seçim açıklaması
+     */
+    public Map<String, String> getDecisions() {
+        Map<String, String> decisions = new LinkedHashMap<>();
+        tunings.forEach((key, tuning) -> decisions.put(key.toString(), tuning.toString()));
+        return decisions;
+    }
+
+    /**
+     * Zincir ve çözünürlük başına seçilen stratejinin kare süresini
+     * döndürür (keşifteki çiftler hariç).
+     *
+     * @return "zincir @ GENİŞLİKxYÜKSEKLİK" → [strateji, ortalama süre (ns)]
+     */
+    public Map<String, Map.Entry<Strategy, Double>> getChosenStrategies() {
+        Map<String, Map.Entry<Strategy, Double>> chosen = new LinkedHashMap<>();
+        tunings.forEach((key, tuning) -> {
+            Map.Entry<Strategy, Double> entry = tuning.chosen();
+            if (entry != null) {
+                chosen.put(key.toString(), entry);
+            }
+        });
+        return chosen;
+    }
+
+    /**
+     * Tuner'ın kendi havuzlarını kapatır; tam boyutlu havuz kapatılmaz.
+     */
+    @Override
+    public void close() {
+        pools.values().forEach(ProcessingPool::close);
+        pools.clear();
+        schedulers.clear();
+    }
+
+    private ProcessingPool poolFor(int workers) {
+        if (workers >= pool.getParallelism()) {
+            return pool;
+        }
+        return pools.computeIfAbsent(workers, ProcessingPool::new);
+    }
+
+    private TileScheduler schedulerFor(int workers) {
+        return schedulers.computeIfAbsent(workers, n -> new TileScheduler(poolFor(n), tileSize));
+    }
+
+    // Zincirin sıralı süresini piksel başına maliyetlerden tahmin eder; bilinmeyen bir aşama varsa -1
+    private double predictSequentialNanos(Key key) {
+        double perPixel = 0;
+        for (String stage : key.chain()) {
+            Double cost = pixelCosts.get(stage);
+            if (cost == null) {
+                return -1;
+            }
+            perPixel += cost;
+        }
+        return perPixel * key.width() * key.height();
+    }
+
+    private static double smooth(double average, double sample) {
+        return average + SMOOTHING * (sample - average);
+    }
+
+    /**
+     * Tuner'ın durum anahtarı: planlanmış zincirdeki aşama adları ve çözünürlük.
+     */
+    private record Key(List<String> chain, int width, int height) {
+        @Override
+        public String toString() {
+            return String.join(", ", chain) + " @ " + width + "x" + height;
+        }
+    }
+
+    /**
+     * Bir zincir/çözünürlük çiftinin keşif ve seçim durumu.
+     */
+    private final class Tuning {
+        private final double[] totals = new double[candidates.size()];
+        private final int[] counts = new int[candidates.size()];
+        // Keşifte sırası gelen aday; -1: seçim kullanılıyor
+        private int exploring = 0;
+        private Strategy chosen;
+        private double chosenNanos;
+        private double recentNanos;
+        private long evaluatedAt;
+        // Sıralı zincir süresi; aynı anda işlenen karelerdekiler dahil
+        private double sequentialNanos;
+        private int framesInFlight = 1;
+
+        synchronized Strategy next(double predictedSequential, long now) {
+            if (exploring == 0 && counts[0] == 0 && predictedSequential >= 0 && predictedSequential < MIN_PARALLEL_NANOS) {
+                // Bilinen ucuz filtreler: ölçmeden sıralı seçilir, süre sapması yine izlenir
+                choose(0, predictedSequential, now);
+            }
+            return exploring >= 0 ? candidates.get(exploring) : chosen;
+        }
+
+        synchronized void record(Strategy strategy, long nanos, long now) {
+            if (exploring >= 0) {
+                if (!strategy.equals(candidates.get(exploring))) {
+                    return;
+                }
+                // İlk çalışma ısınmadır (havuz, buffer ve JIT)
+                if (counts[exploring]++ > 0) {
+                    totals[exploring] += nanos;
+                }
+                if (counts[exploring] > SAMPLES_PER_CANDIDATE) {
+                    double mean = totals[exploring] / SAMPLES_PER_CANDIDATE;
+                    if (exploring == 0 && mean < MIN_PARALLEL_NANOS) {
+                        choose(0, mean, now);
+                    } else if (++exploring == candidates.size()) {
+                        int best = 0;
+                        for (int i = 1; i < candidates.size(); i++) {
+                            if (totals[i] < totals[best]) {
+                                best = i;
+                            }
+                        }
+                        choose(best, totals[best] / SAMPLES_PER_CANDIDATE, now);
+                    }
+                }
+                return;
+            }
+            if (!strategy.equals(chosen)) {
+                return;
+            }
+            recentNanos = smooth(recentNanos, nanos);
+            if (now - evaluatedAt > intervalNanos || recentNanos > DRIFT_FACTOR * chosenNanos) {
+                explore();
+            }
+        }
+
+        synchronized void recordSequential(long nanos) {
+            sequentialNanos = sequentialNanos == 0 ? nanos : smooth(sequentialNanos, nanos);
+        }
+
+        synchronized int framesInFlight(int capacity, long frameIntervalNanos, long now) {
+            if (exploring >= 0) {
+                framesInFlight = 1;
+            } else if (now - evaluatedAt > intervalNanos) {
+                // Kareler işçilerde sıralı çalışırken record() çağrılmaz; süre dolunca kare içi adaylar yeniden ölçülür
+                explore();
+                framesInFlight = 1;
+            } else if (frameIntervalNanos > 0 && chosenNanos <= frameIntervalNanos) {
+                framesInFlight = 1;
+            } else {
+                int workers = Math.max(1, pool.getParallelism());
+                int needed = frameIntervalNanos > 0
+                        ? (int) Math.ceil(sequentialNanos / frameIntervalNanos)
+                        : capacity;
+                int frames = Math.max(1, Math.min(capacity, needed));
+                // n kare aynı anda: kare başına sequential / min(n, işçi) süre
+                double frameNanos = sequentialNanos / Math.min(frames, workers);
+                framesInFlight = frames > 1 && frameNanos < chosenNanos ? frames : 1;
+            }
+            return framesInFlight;
+        }
+
+        synchronized Map.Entry<Strategy, Double> chosen() {
+            if (exploring >= 0) {
+                return null;
+            }
+            if (framesInFlight > 1) {
+                return Map.entry(new Strategy(Mode.FRAMES, framesInFlight),
+                        sequentialNanos / Math.min(framesInFlight, pool.getParallelism()));
+            }
+            return Map.entry(chosen, recentNanos);
+        }
+
+        private void choose(int index, double nanos, long now) {
+            exploring = -1;
+            chosen = candidates.get(index);
+            chosenNanos = nanos;
+            if (chosen == SEQUENTIAL && sequentialNanos == 0) {
+                sequentialNanos = nanos;
+            }
+            recentNanos = nanos;
+            evaluatedAt = now;
+        }
+
+        private void explore() {
+            exploring = 0;
+            Arrays.fill(totals, 0);
+            Arrays.fill(counts, 0);
+        }
+
+        @Override
+        public synchronized String toString() {
+            if (exploring >= 0) {
+                return "exploring " + candidates.get(exploring) + " (" + (exploring + 1) + "/" + candidates.size() + ")";
+            }
+            Map.Entry<Strategy, Double> entry = chosen();
+            return String.format(Locale.ROOT, "%s (%.2f ms/frame)", entry.getKey(), entry.getValue() / 1e6);
+        }
+    }
+}
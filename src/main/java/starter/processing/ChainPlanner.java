@@ -0,0 +1,89 @@
+// src/main/java/starter/processing/ChainPlanner.java
+
+package starter.processing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import starter.filters.Filter;
+import starter.filters.FilterRegistry;
+import starter.filters.FusedPointwiseFilter;
+import starter.filters.PointwiseFilter;
+
+/**
+ * ChainPlanner, bir filtre zincirini çalıştırılmadan önce en iyileştirir.
+ * Ardışık noktasal filtreler (Grayscale, Contrast, Edge Detection) tek bir
+ * FusedPointwiseFilter aşamasında birleştirilir; böylece 2-3 noktasal
+ * filtrelik bir zincir üç yerine tek bir bellek geçişiyle işlenir. Komşusu
+ * olmayan tek bir noktasal filtre birleştirilmez.
+ *
+ * Planlar zincir başına önbelleğe alınır. Birleşik aşamalar da böylece
+ * kareler arasında korunur ve arama tablolarını yalnızca parametreler
+ * (ör. kontrast değeri) değiştiğinde yeniden hesaplar.
+ */
+public final class ChainPlanner {
+
+    // Farklı zincir sayısı küçüktür; sınırı aşarsa önbellek temizlenir
+    private static final int MAX_CACHED_PLANS = 64;
+
+    private static final Map<List<Filter>, List<Filter>> PLANS = new ConcurrentHashMap<>();
+
+    private ChainPlanner() {
+    }
+
+    /**
+     * Filtre adlarını çözer ve zinciri planlar.
+     *
+     * @param operations Filtre adları
+     * @return Çalıştırılacak (birleştirilmiş) filtre zinciri
+     */
+    public static List<Filter> compile(List<String> operations) {
+        return plan(FilterRegistry.resolve(operations));
+    }
+
+    /**
+     * Zincirdeki ardışık noktasal filtreleri birleştirir. Sonuç önbellekten
+     * döndürülebilir ve değiştirilmemelidir.
+     *
+     * @param chain Filtre zinciri
+     * @return Çalıştırılacak (birleştirilmiş) filtre zinciri
+     */
+    public static List<Filter> plan(List<Filter> chain) {
+        List<Filter> plan = PLANS.get(chain);
+        if (plan == null) {
+            if (PLANS.size() >= MAX_CACHED_PLANS) {
+                PLANS.clear();
+            }
+            plan = PLANS.computeIfAbsent(List.copyOf(chain), ChainPlanner::fuse);
+        }
+        return plan;
+    }
+
+    private static List<Filter> fuse(List<Filter> chain) {
+        List<Filter> planned = new ArrayList<>(chain.size());
+        List<PointwiseFilter> run = new ArrayList<>();
+
+        for (Filter filter : chain) {
+            if (filter instanceof PointwiseFilter pointwise) {
+                run.add(pointwise);
+                continue;
+            }
+            flush(run, planned);
+            planned.add(filter);
+        }
+        flush(run, planned);
+        return List.copyOf(planned);
+    }
+
+    private static void flush(List<PointwiseFilter> run, List<Filter> planned) {
+        if (run.size() == 1) {
+            // Tek başına kalan filtre birleştirmeden bir şey kazanmaz; olduğu gibi çalışır
+            planned.add(run.get(0));
+        } else if (!run.isEmpty()) {
+            planned.add(new FusedPointwiseFilter(run));
+        }
+        run.clear();
+    }
+}
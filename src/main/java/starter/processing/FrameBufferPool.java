@@ -0,0 +1,214 @@
+// src/main/java/starter/processing/FrameBufferPool.java
+
+package starter.processing;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FrameBufferPool, kare boyutundaki int[] piksel dizilerini ve TYPE_INT_RGB
+ * görüntüleri çözünürlüğe göre saklayıp yeniden kullanır. Her kare ve her
+ * filtre adımı için yeni raster oluşturmak yerine buffer'lar açıkça
+ * alınır (acquire) ve işi bitince geri verilir (release); böylece sürekli
+ * çalışmada kare işleme bellek ayırmaz ve GC duraklamaları oluşmaz.
+ *
+ * Kullanım Kuralları:
+ * - Alınan buffer'ın içeriği tanımsızdır; tamamı yazılmadan okunmamalıdır
+ * - Bir buffer yalnızca bir kez geri verilmelidir; aynı buffer iki kez
+ *   verilirse ikinci çağrı yok sayılır
+ * - Geri verilmeyen buffer'lar sızıntı oluşturmaz, yalnızca GC'ye kalır
+ * - Çözünürlük başına en fazla maxPerSize buffer saklanır; fazlası bırakılır
+ */
+public final class FrameBufferPool {
+
+    /** Çözünürlük başına saklanan varsayılan en fazla buffer sayısı */
+    public static final int DEFAULT_MAX_PER_SIZE = 8;
+
+    private static final FrameBufferPool SHARED = new FrameBufferPool(DEFAULT_MAX_PER_SIZE);
+
+    private final int maxPerSize;
+    // Çözünürlük sayısı küçük olduğu için doğrusal arama yapılır; yeni çözünürlükte dizi kopyalanır
+    private volatile Bucket[] buckets = new Bucket[0];
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong allocations = new AtomicLong();
+
+    /**
+     * Yeni bir buffer havuzu oluşturur.
+     *
+     * @param maxPerSize Çözünürlük başına saklanacak en fazla buffer sayısı
+     */
+    public FrameBufferPool(int maxPerSize) {
+        this.maxPerSize = Math.max(1, maxPerSize);
+    }
+
+    /**
+     * Uygulama genelinde paylaşılan havuzu döndürür.
+     *
+     * @return Paylaşılan buffer havuzu
+     */
+    public static FrameBufferPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * width * height boyutunda bir piksel dizisi alır.
+     *
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @return Havuzdan alınan veya yeni oluşturulan dizi
+     */
+    public int[] acquireBuffer(int width, int height) {
+        int[] buffer = bucket(width, height).pollBuffer();
+        if (buffer == null) {
+            recordAllocation(width, height);
+            buffer = new int[width * height];
+        }
+        return buffer;
+    }
+
+    /**
+     * Bir piksel dizisini havuza geri verir.
+     *
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param buffer Geri verilecek dizi (null ise yok sayılır)
+     */
+    public void releaseBuffer(int width, int height, int[] buffer) {
+        if (buffer != null && buffer.length == width * height) {
+            bucket(width, height).offerBuffer(buffer);
+        }
+    }
+
+    /**
+     * width x height boyutunda TYPE_INT_RGB bir görüntü alır.
+     *
+     * @param width Görüntü genişliği
+     * @param height Görüntü yüksekliği
+     * @return Havuzdan alınan veya yeni oluşturulan görüntü
+     */
+    public BufferedImage acquireImage(int width, int height) {
+        BufferedImage image = bucket(width, height).pollImage();
+        if (image == null) {
+            recordAllocation(width, height);
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+        return image;
+    }
+
+    /**
+     * Bir görüntüyü havuza geri verir. Yalnızca TYPE_INT_RGB görüntüler
+     * saklanır; diğerleri yok sayılır.
+     *
+     * @param image Geri verilecek görüntü (null ise yok sayılır)
+     */
+    public void releaseImage(BufferedImage image) {
+        if (image != null && image.getType() == BufferedImage.TYPE_INT_RGB) {
+            bucket(image.getWidth(), image.getHeight()).offerImage(image);
+        }
+    }
+
+    /**
+     * Havuzun bugüne kadar yeni oluşturmak zorunda kaldığı buffer'ların
+     * toplam boyutunu döndürür. Sürekli çalışmada bu değer artmamalıdır.
+     *
+     * @return Toplam ayrılan bayt
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    /**
+     * Havuzun bugüne kadar yeni oluşturduğu buffer ve görüntü sayısını döndürür.
+     *
+     * @return Toplam yeni oluşturma sayısı
+     */
+    public long getAllocationCount() {
+        return allocations.get();
+    }
+
+    private void recordAllocation(int width, int height) {
+        allocations.incrementAndGet();
+        allocatedBytes.addAndGet(4L * width * height);
+    }
+
+    private Bucket bucket(int width, int height) {
+        for (Bucket bucket : buckets) {
+            if (bucket.width == width && bucket.height == height) {
+                return bucket;
+            }
+        }
+        synchronized (this) {
+            Bucket[] current = buckets;
+            for (Bucket bucket : current) {
+                if (bucket.width == width && bucket.height == height) {
+                    return bucket;
+                }
+            }
+            Bucket created = new Bucket(width, height, maxPerSize);
+            Bucket[] grown = new Bucket[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[current.length] = created;
+            buckets = grown;
+            return created;
+        }
+    }
+
+    /**
+     * Tek bir çözünürlüğe ait boş buffer ve görüntü yığınları.
+     */
+    private static final class Bucket {
+        final int width;
+        final int height;
+        private final int[][] buffers;
+        private int bufferCount;
+        private final BufferedImage[] images;
+        private int imageCount;
+
+        Bucket(int width, int height, int capacity) {
+            this.width = width;
+            this.height = height;
+            this.buffers = new int[capacity][];
+            this.images = new BufferedImage[capacity];
+        }
+
+        synchronized int[] pollBuffer() {
+            if (bufferCount == 0) {
+                return null;
+            }
+            int[] buffer = buffers[--bufferCount];
+            buffers[bufferCount] = null;
+            return buffer;
+        }
+
+        synchronized void offerBuffer(int[] buffer) {
+            for (int i = 0; i < bufferCount; i++) {
+                if (buffers[i] == buffer) {
+                    return; // Aynı buffer iki kez geri verildi
+                }
+            }
+            if (bufferCount < buffers.length) {
+                buffers[bufferCount++] = buffer;
+            }
+        }
+
+        synchronized BufferedImage pollImage() {
+            if (imageCount == 0) {
+                return null;
+            }
+            BufferedImage image = images[--imageCount];
+            images[imageCount] = null;
+            return image;
+        }
+
+        synchronized void offerImage(BufferedImage image) {
+            for (int i = 0; i < imageCount; i++) {
+                if (images[i] == image) {
+                    return;
+                }
+            }
+            if (imageCount < images.length) {
+                images[imageCount++] = image;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+// src/main/java/starter/processing/FrameParallelProcessor.java
+
+package starter.processing;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * FrameParallelProcessor, kareyi şeritlere veya karolara bölmek yerine
+ * birden çok kareyi aynı anda işler: her kare kendi zincirini (tipik olarak
+ * sıralı mod) tek bir işçide çalıştırır. Küçük karelerde ve ucuz
+ * filtrelerde kare içi paralelliğin bariyer ve eşitleme maliyeti işin
+ * kendisini geçtiği için dosya dönüştürme gibi gecikmenin önemsiz olduğu
+ * işlerde çekirdek sayısıyla neredeyse doğrusal ölçeklenir.
+ *
+ * Sıralama:
+ * - Kareler gönderildikleri sırayla numaralanır
+ * - Biten kareler, numaralarına göre halka biçimli bir sıralama
+ *   tamponunda bekler; poll() ve take() kareleri yalnızca gönderim
+ *   sırasıyla verir. Sonraki kare bitmeden arkasındaki kareler verilmez
+ *
+ * Yoldaki Kare Sınırı:
+ * - Aynı anda en fazla maxInFlight kare işlenir veya sıralama tamponunda
+ *   bekler; sınıra ulaşıldığında trySubmit() false döndürür (geri basınç)
+ * - Sınır, bellek kullanımını ve bir karenin gönderimden çıkışa kadarki
+ *   gecikmesini belirler; işçi sayısının 1-2 katı çoğunlukla yeterlidir
+ *
+ * Eşzamanlılık Kuralları:
+ * - trySubmit(), poll() ve take() aynı (sahip) thread'den çağrılmalıdır
+ * - İşler ProcessingPool işçilerinde çalışır; bir işin kareye yazdıkları,
+ *   kare poll()/take() ile alındığında sahip thread'e görünür
+ *
+ * @param <T> Kare türü
+ */
+public final class FrameParallelProcessor<T> {
+
+    // take() beklerken meşgul beklemeden park etmeye geçmeden önceki deneme sayısı
+    private static final int IDLE_SPINS = 100;
+    private static final long IDLE_PARK_NANOS = 50_000;
+
+    private final ProcessingPool pool;
+    private final int maxInFlight;
+    // Biten kareler; sıra numarası % maxInFlight yuvasında
+    private final AtomicReferenceArray<T> completed;
+    private long submitted;
+    private long emitted;
+
+    /**
+     * @param pool Karelerin işleneceği havuz
+     * @param maxInFlight Aynı anda işlenen veya sıra bekleyen en fazla kare sayısı
+     */
+    public FrameParallelProcessor(ProcessingPool pool, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("In-flight limit must be positive: " + maxInFlight);
+        }
+        this.pool = pool;
+        this.maxInFlight = maxInFlight;
+        this.completed = new AtomicReferenceArray<>(maxInFlight);
+    }
+
+    /**
+     * Kareyi işlenmek üzere havuza gönderir. İş bir istisna fırlatsa da kare
+     * sıradaki yerinde verilir; hatayı kareye işlemek işin sorumluluğundadır.
+     *
+     * @param frame Kare
+     * @param work Kareyi işleyen fonksiyon; bir işçi thread'inde çağrılır
+     * @return Kare gönderildiyse true, yoldaki kare sınırına ulaşıldıysa false
+     */
+    public boolean trySubmit(T frame, Consumer<? super T> work) {
+        if (submitted - emitted >= maxInFlight) {
+            return false;
+        }
+        int slot = (int) (submitted++ % maxInFlight);
+        pool.execute("frame", () -> {
+            try {
+                work.accept(frame);
+            } catch (RuntimeException e) {
+                System.err.println("Error processing frame: " + e.getMessage());
+                e.printStackTrace();
+            } finally {
+                completed.set(slot, frame);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Gönderim sırasındaki bir sonraki kare bittiyse onu döndürür.
+     *
+     * @return Sıradaki kare veya henüz bitmediyse ya da yolda kare yoksa null
+     */
+    public T poll() {
+        if (emitted == submitted) {
+            return null;
+        }
+        int slot = (int) (emitted % maxInFlight);
+        T frame = completed.get(slot);
+        if (frame != null) {
+            completed.set(slot, null);
+            emitted++;
+        }
+        return frame;
+    }
+
+    /**
+     * Gönderim sırasındaki bir sonraki kare bitene kadar bekler.
+     *
+     * @return Sıradaki kare veya yolda kare yoksa null
+     */
+    public T take() {
+        if (emitted == submitted) {
+            return null;
+        }
+        T frame = poll();
+        for (int waits = 0; frame == null; waits++) {
+            if (waits < IDLE_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            frame = poll();
+        }
+        return frame;
+    }
+
+    /**
+     * İşlenen veya sıra bekleyen kare sayısını döndürür.
+     *
+     * @return Yoldaki kare sayısı
+     */
+    public int getInFlight() {
+        return (int) (submitted - emitted);
+    }
+
+    /**
+     * Yoldaki kare sınırını döndürür.
+     *
+     * @return En fazla kare sayısı
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+}
@@ -5,7 +5,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import starter.filters.*; // Import all filters
+import starter.core.FrameTracer;
+import starter.core.ImageUtils;
+import starter.filters.Filter;
+import starter.filters.FilterParams;
 import atlantafx.base.controls.ToggleSwitch; // Import ToggleSwitch from atlantafx
 
 /**
@@ -15,6 +18,31 @@ import atlantafx.base.controls.ToggleSwitch; // Import ToggleSwitch from atlanta
  */
 public class ImageProcessor {
 
+    /** İşçi thread sayısını belirleyen sistem özelliği (0: işlemci sayısı) */
+    public static final String THREADS_PROPERTY = "processing.threads";
+
+    /** Paralel işlemede karo kenar uzunluğunu belirleyen sistem özelliği */
+    public static final String TILE_SIZE_PROPERTY = "processing.tileSize";
+
+    /** Artımlı (yalnızca değişen karoları işleyen) modu açan sistem özelliği */
+    public static final String INCREMENTAL_PROPERTY = "processing.incremental";
+
+    /** Artımlı modda bir pikselin değişmiş sayılacağı kanal farkı eşiği için sistem özelliği */
+    public static final String INCREMENTAL_THRESHOLD_PROPERTY = "processing.incremental.threshold";
+
+    /** Yürütme stratejisini ölçerek seçen modu (AutoTuner) açan sistem özelliği */
+    public static final String AUTOTUNE_PROPERTY = "processing.autotune";
+
+    /** AutoTuner'ın seçimlerini yeniden değerlendirme aralığı (ms) için sistem özelliği */
+    public static final String AUTOTUNE_INTERVAL_PROPERTY = "processing.autotune.interval";
+
+    private static ProcessingPool pool;
+    private static TileScheduler scheduler;
+    private static IncrementalProcessor incrementalProcessor;
+    private static AutoTuner autoTuner;
+    private static volatile boolean incremental = Boolean.getBoolean(INCREMENTAL_PROPERTY);
+    private static volatile boolean adaptive = Boolean.getBoolean(AUTOTUNE_PROPERTY);
+
     /**
      * Seçili filtreleri görüntüye uygular. Paralel veya sıralı işleme seçeneğine
      * göre uygun metodu çağırır. Hiçbir filtre seçili değilse orijinal görüntüyü
@@ -27,16 +55,18 @@ public class ImageProcessor {
      *    - Filtre seçili değilse orijinal görüntü döndürülür
      * 
      * 2. Çıktı Hazırlığı:
-     *    - Orijinal görüntü boyutunda yeni buffer oluşturulur
+     *    - Orijinal görüntü boyutunda bir buffer FrameBufferPool'dan alınır
      *    - RGB renk formatı kullanılır
      * 
      * 3. Filtre Uygulama:
+     *    - Artımlı mod açıksa (setIncremental) runFiltersIncrementally() çağrılır
+     *    - Otomatik ayar açıksa (setAdaptive) runFiltersAdaptively() çağrılır
      *    - Paralel işleme seçiliyse runFiltersInParallel() çağrılır
      *    - Sıralı işleme seçiliyse runFiltersSequentially() çağrılır
      * 
      * 4. Sonuç:
-     *    - İşlenmiş görüntü döndürülür
-     *    - Hata durumunda orijinal görüntü döndürülür
+     *    - İşlenmiş görüntü döndürülür; çağıran, görüntüyle işi bitince
+     *      recycle() ile havuza geri vermelidir
      *
      * @param input İşlenecek orijinal görüntü
      * @param filterSwitches Aktif filtreleri belirleyen ToggleSwitch'lerin haritası
@@ -56,9 +86,13 @@ public class ImageProcessor {
             return input;
         }
 
-        BufferedImage output = new BufferedImage(input.getWidth(), input.getHeight(), BufferedImage.TYPE_INT_RGB);
+        BufferedImage output = FrameBufferPool.shared().acquireImage(input.getWidth(), input.getHeight());
 
-        if (parallelProcessingSelected) {
+        if (incremental) {
+            runFiltersIncrementally(input, output, selectedFilters, contrastValue);
+        } else if (adaptive) {
+            runFiltersAdaptively(input, output, selectedFilters, contrastValue);
+        } else if (parallelProcessingSelected) {
             runFiltersInParallel(input, output, selectedFilters, contrastValue);
         } else {
             runFiltersSequentially(input, output, selectedFilters, contrastValue);
@@ -67,28 +101,30 @@ public class ImageProcessor {
         return output;
     }
 
+    /**
+     * applyFilters() tarafından döndürülen işlenmiş görüntüyü, gösterimi
+     * bittikten sonra tekrar kullanılmak üzere havuza geri verir. Havuzdan
+     * gelmeyen görüntüler (ör. filtre seçili değilken döndürülen orijinal
+     * görüntü) için çağrılmamalıdır.
+     *
+     * @param processed Geri verilecek görüntü
+     */
+    public static void recycle(BufferedImage processed) {
+        FrameBufferPool.shared().releaseImage(processed);
+    }
+
     /**
      * Filtreleri sıralı olarak uygular. Her filtre önceki filtrenin çıktısını
-     * girdi olarak kullanır. Filtreler zincirleme olarak uygulanır ve her
-     * filtre için yeni bir ara buffer oluşturulur.
+     * girdi olarak kullanır. Filtre adları FilterRegistry üzerinden Filter
+     * örneklerine çözülür ve her filtre tüm kareyi tek çağrıda işler.
      * 
      * İşlem Sırası:
-     * 1. Her filtre için yeni bir ara buffer oluşturulur
-     * 2. ASCII Art filtresi için özel işleme:
-     *    - Tüm görüntü üzerinde ASCII dönüşümü yapılır
-     *    - Sonuç ara buffer'a çizilir
-     *    - Dönüşüm başarısız olursa siyah görüntü oluşturulur
-     * 
-     * 3. Diğer filtreler için piksel bazlı işleme:
-     *    - Grayscale: RGB değerlerinin ortalaması
-     *    - Edge Detection: Basit eşikleme
-     *    - Sobel Edge Detection: Gradyan hesaplama
-     *    - Gaussian Blur: 5x5 çekirdek ile bulanıklaştırma
-     *    - Contrast: Parlaklık değerlerinin ayarlanması
-     * 
-     * 4. Sonuçlar:
-     *    - Her filtre sonucu bir sonraki filtrenin girdisi olur
-     *    - Son filtre sonucu ana çıktı buffer'ına kopyalanır
+     * 1. Girdi görüntüsü düz int[] (0xAARRGGBB) diziye dönüştürülür;
+     *    TYPE_INT_RGB girdiler kopyalanmadan okunur
+     * 2. ChainPlanner ardışık noktasal filtreleri (Grayscale, Contrast,
+     *    Edge Detection) tek bir tablo tabanlı geçişte birleştirir
+     * 3. Zincir, çıktı dizisi ile havuzdan alınan bir ara dizi arasında
+     *    dönüşümlü (ping-pong) çalışır; son filtre doğrudan çıktıya yazar
      *
      * @param input Orijinal görüntü
      * @param output İşlenmiş görüntünün yazılacağı buffer
@@ -96,89 +132,57 @@ public class ImageProcessor {
      * @param contrastVal Kontrast değeri
      */
     public static void runFiltersSequentially(BufferedImage input, BufferedImage output, List<String> operations, int contrastVal) {
-        BufferedImage currentImage = input;
-        BufferedImage tempOutput = null;
-
-        for (String operation : operations) {
-            // Create a new intermediate image for each filter to chain them correctly
-            tempOutput = new BufferedImage(currentImage.getWidth(), currentImage.getHeight(), currentImage.getType());
-
-            if ("ASCII Art".equals(operation)) {
-                BufferedImage asciiImage = ASCIIArtFilter.convertToASCIIImage(currentImage);
-                if (asciiImage != null) {
-                    java.awt.Graphics2D g = tempOutput.createGraphics(); // Draw ASCII art onto tempOutput
-                    g.drawImage(asciiImage, 0, 0, null);
-                    g.dispose();
-                } else {
-                    // Handle case where ASCII image conversion failed
-                    java.awt.Graphics2D g = tempOutput.createGraphics();
-                    g.setColor(java.awt.Color.BLACK);
-                    g.fillRect(0, 0, tempOutput.getWidth(), tempOutput.getHeight());
-                    g.dispose();
-                }
-            } else {
-                // Apply other filters pixel by pixel
-                for (int y = 0; y < currentImage.getHeight(); y++) {
-                    for (int x = 0; x < currentImage.getWidth(); x++) {
-                        int rgb = currentImage.getRGB(x, y);
-                        int newRgb = rgb;
-                        switch (operation) {
-                            case "Grayscale":
-                                newRgb = GrayscaleFilter.apply(rgb);
-                                break;
-                            case "Edge Detection":
-                                newRgb = EdgeDetectionFilter.apply(rgb);
-                                break;
-                            case "Sobel Edge Detection":
-                                // Sobel and Gaussian need neighbor access, pass the current image
-                                newRgb = SobelEdgeDetectionFilter.apply(currentImage, x, y);
-                                break;
-                            case "Gaussian Blur":
-                                // Gaussian needs neighbor access, pass the current image
-                                newRgb = GaussianBlurFilter.apply(currentImage, x, y);
-                                break;
-                            case "Contrast":
-                                newRgb = ContrastAdjustmentFilter.apply(rgb, contrastVal);
-                                break;
-                        }
-                        tempOutput.setRGB(x, y, newRgb);
-                    }
-                }
+        execute(input, output, operations, contrastVal, ProcessingStatistics.SEQUENTIAL,
+                (chain, params, src, out, scratch, width, height) ->
+                        runChainSequentially(chain, params, src, out, scratch, width, height, null));
+    }
+
+    /**
+     * Zinciri çağıran thread'de, her filtre tüm kareyi işleyecek şekilde
+     * çalıştırır (runFiltersSequentially ve AutoTuner'ın sıralı stratejisi).
+     *
+     * @param stageNanos null değilse her aşamanın süresi (ns) bu diziye yazılır
+     */
+    static void runChainSequentially(List<Filter> chain, FilterParams params, int[] src, int[] out, int[] scratch,
+                                     int width, int height, long[] stageNanos) {
+        int[] current = src;
+        for (int i = 0; i < chain.size(); i++) {
+            Filter filter = chain.get(i);
+            int[] target = stageTarget(i, chain.size(), out, scratch);
+            long start = System.nanoTime();
+            filter.apply(current, target, width, height, 0, height, params);
+            long elapsed = System.nanoTime() - start;
+            ProcessingStatistics.recordFilter(ProcessingStatistics.SEQUENTIAL, filter.getName(), elapsed);
+            FrameTracer.end(FrameTracer.FILTER, filter.getName(), start);
+            if (stageNanos != null) {
+                stageNanos[i] = elapsed;
             }
-            currentImage = tempOutput; // The output of this filter is the input for the next
+            // Bu filtrenin çıktısı bir sonraki filtrenin girdisi olur
+            current = target;
         }
-        // Copy the final result to the original output buffer
-        java.awt.Graphics2D g = output.createGraphics();
-        g.drawImage(currentImage, 0, 0, null);
-        g.dispose();
     }
 
     /**
-     * Filtreleri paralel olarak uygular. Görüntü dikey olarak bölünür ve her
-     * bölüm ayrı bir thread'de işlenir. Her thread kendi segmentini işler ve
-     * sonuçları ana çıktı buffer'ına yazar.
+     * Filtreleri paralel olarak uygular. Kare 2B karolara bölünür ve her karo
+     * filtre zincirini, komşuluk filtrelerinin yarıçapına göre genişletilmiş
+     * hale bölgesiyle birlikte kendi başına işler (bkz. TileScheduler).
      * 
      * Paralel İşleme Detayları:
      * 1. Thread Yönetimi:
-     *    - Thread sayısı sistemdeki işlemci sayısına göre belirlenir
-     *    - Her thread görüntünün bir segmentini işler
-     *    - Segment boyutu görüntü yüksekliği / thread sayısı olarak hesaplanır
-     * 
-     * 2. Bellek Yönetimi:
-     *    - Her thread için segment boyutunda ara buffer'lar kullanılır
-     *    - Komşu piksel erişimi için tam görüntü kopyası tutulur
-     *    - ASCII Art filtresi için ek buffer'lar oluşturulur
+     *    - Kare başına thread oluşturulmaz; karolar kalıcı işleme havuzunda
+     *      (ProcessingPool) çalışır
+     *    - İşçi sayısı "processing.threads" özelliğiyle ayarlanır
+     *      (0 veya tanımsız: işlemci sayısı)
      * 
-     * 3. Özel Filtre İşlemleri:
-     *    - Komşu piksel erişimi gerektiren filtreler (Sobel, Gaussian) için
-     *      tam görüntüye erişim sağlanır
-     *    - ASCII Art filtresi için özel işleme yapılır ve sonuç segmentlere bölünür
-     *    - Diğer filtreler piksel bazlı olarak uygulanır
+     * 2. Karo Boyutu:
+     *    - "processing.tileSize" özelliğiyle ayarlanır (varsayılan 128)
+     *    - Karonun çalışma alanı zincir boyunca önbellekte kalır
      * 
-     * 4. Senkronizasyon:
-     *    - Her thread kendi segmentini bağımsız olarak işler
-     *    - Sonuçlar ana çıktı buffer'ına thread-safe şekilde yazılır
-     *    - Tüm thread'lerin tamamlanması beklenir
+     * 3. Komşuluk Filtreleri:
+     *    - Grayscale→Gaussian→Sobel gibi zincirlerde her filtre bir öncekinin
+     *      çıktısını okur; sonuç sıralı işlemeyle bit düzeyinde aynıdır
+     *    - Bariyerler yalnızca hale bütçesi aşıldığında veya karolanamayan
+     *      bir filtrede (ASCII Art) kullanılır
      *
      * @param input Orijinal görüntü
      * @param output İşlenmiş görüntünün yazılacağı buffer
@@ -186,139 +190,324 @@ public class ImageProcessor {
      * @param contrastVal Kontrast değeri
      */
     public static void runFiltersInParallel(BufferedImage input, BufferedImage output, List<String> operations, int contrastVal) {
-        int threadsCount = Runtime.getRuntime().availableProcessors();
-        if (threadsCount <= 0) threadsCount = 8;
+        TileScheduler scheduler = getScheduler();
+        execute(input, output, operations, contrastVal, ProcessingStatistics.PARALLEL, scheduler::run);
+    }
+
+    /**
+     * Filtreleri yalnızca bir önceki kareye göre değişen karolara uygular;
+     * değişmeyen karoların çıktısı önceki kareden kopyalanır. Sabit
+     * sahnelerde işlenen piksel sayısını büyük ölçüde azaltır (bkz.
+     * IncrementalProcessor).
+     *
+     * Değişen karolar, komşuluk filtrelerinin halesiyle birlikte paralel
+     * karo yoluyla (TileScheduler) işlenir. Önbellek tek bir akış içindir:
+     * farklı kaynaklardan gelen kareler dönüşümlü işlenirse her kare
+     * çoğunlukla tümüyle yeniden işlenir.
+     *
+     * @param input Orijinal görüntü
+     * @param output İşlenmiş görüntünün yazılacağı buffer
+     * @param operations Uygulanacak filtrelerin listesi
+     * @param contrastVal Kontrast değeri
+     */
+    public static void runFiltersIncrementally(BufferedImage input, BufferedImage output, List<String> operations, int contrastVal) {
+        IncrementalProcessor processor = getIncrementalProcessor();
+        execute(input, output, operations, contrastVal, ProcessingStatistics.INCREMENTAL, processor::run);
+    }
+
+    /**
+     * Artımlı modu açar veya kapatır. Açıkken applyFilters() paralel işleme
+     * seçiminden bağımsız olarak runFiltersIncrementally() kullanır.
+     *
+     * @param on Artımlı mod açık mı
+     */
+    public static void setIncremental(boolean on) {
+        incremental = on;
+    }
+
+    /**
+     * Artımlı modun açık olup olmadığını döndürür.
+     *
+     * @return Açıksa true
+     */
+    public static boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Filtreleri, bu zincir ve çözünürlük için ölçülerek seçilen stratejiyle
+     * (sıralı, şerit veya karo; işçi sayısıyla birlikte) uygular. Seçim
+     * kareler işlendikçe yapılır ve düzenli olarak yeniden değerlendirilir
+     * (bkz. AutoTuner). Bir işçi havuzu thread'inde (kare düzeyinde paralel
+     * işleme) çağrıldığında zincir sıralı çalışır.
+     *
+     * @param input Orijinal görüntü
+     * @param output İşlenmiş görüntünün yazılacağı buffer
+     * @param operations Uygulanacak filtrelerin listesi
+     * @param contrastVal Kontrast değeri
+     */
+    public static void runFiltersAdaptively(BufferedImage input, BufferedImage output, List<String> operations, int contrastVal) {
+        AutoTuner tuner = getAutoTuner();
+        execute(input, output, operations, contrastVal, ProcessingStatistics.ADAPTIVE, tuner::run);
+    }
+
+    /**
+     * Otomatik ayarı açar veya kapatır. Açıkken applyFilters() paralel
+     * işleme seçiminden bağımsız olarak runFiltersAdaptively() kullanır;
+     * artımlı mod açıksa o önceliklidir.
+     *
+     * @param on Otomatik ayar açık mı
+     */
+    public static void setAdaptive(boolean on) {
+        adaptive = on;
+    }
+
+    /**
+     * Otomatik ayarın açık olup olmadığını döndürür.
+     *
+     * @return Açıksa true
+     */
+    public static boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Filtreleri yatay şeritler halinde paralel olarak uygular. Zincirdeki
+     * her filtre için kare satır aralıklarına bölünür ve parçalar kalıcı
+     * işleme havuzunda işlenir. Tüm parçalar aynı kaynak diziden okuyup aynı
+     * hedef diziye kendi satır aralıklarını yazar; bir sonraki filtreye
+     * geçmeden önce hepsi beklenir (filtre başına bir bariyer).
+     * 
+     * Parça Boyutu:
+     * - Satırlar işçi başına birkaç parça düşecek şekilde dinamik bölünür
+     * - Boşta kalan işçiler diğerlerinden iş çalar (work-stealing)
+     *
+     * @param input Orijinal görüntü
+     * @param output İşlenmiş görüntünün yazılacağı buffer
+     * @param operations Uygulanacak filtrelerin listesi
+     * @param contrastVal Kontrast değeri
+     */
+    public static void runFiltersInStrips(BufferedImage input, BufferedImage output, List<String> operations, int contrastVal) {
+        ProcessingPool workers = getPool();
+        execute(input, output, operations, contrastVal, ProcessingStatistics.STRIPS,
+                (chain, params, src, out, scratch, width, height) ->
+                        runChainInStrips(workers, chain, params, src, out, scratch, width, height));
+    }
+
+    /**
+     * Zinciri filtre başına bir bariyerle, satır aralıkları halinde verilen
+     * havuzda çalıştırır (runFiltersInStrips ve AutoTuner'ın şerit stratejisi).
+     */
+    static void runChainInStrips(ProcessingPool workers, List<Filter> chain, FilterParams params, int[] src, int[] out,
+                                 int[] scratch, int width, int height) {
+        int[] current = src;
+        for (int i = 0; i < chain.size(); i++) {
+            Filter filter = chain.get(i);
+            final int[] from = current;
+            final int[] to = stageTarget(i, chain.size(), out, scratch);
+
+            // Parçalar ayrık satır aralıkları olduğu için ortak hedef diziye kilitsiz yazılabilir
+            long start = System.nanoTime();
+            workers.forEachRowRange(height, (startY, endY) ->
+                    filter.apply(from, to, width, height, startY, endY, params));
+            ProcessingStatistics.recordFilter(ProcessingStatistics.STRIPS, filter.getName(), System.nanoTime() - start);
+            FrameTracer.end(FrameTracer.FILTER, filter.getName(), start);
+
+            current = to;
+        }
+    }
+
+    /**
+     * Bir filtre zincirini int[] diziler üzerinde çalıştıran strateji.
+     * Zincir src'den okur ve sonucu out'a yazar; ara sonuçlar için out ve
+     * scratch dönüşümlü kullanılabilir. src hiçbir zaman yazılmaz.
+     */
+    @FunctionalInterface
+    interface ChainRunner {
+        void run(List<Filter> chain, FilterParams params, int[] src, int[] out, int[] scratch, int width, int height);
+    }
+
+    /**
+     * Tüm işleme modlarının ortak iskeleti: zinciri planlar, girdi/çıktı
+     * dizilerini hazırlar, stratejiyi çalıştırır ve ödünç alınan buffer'ları
+     * havuza geri verir.
+     *
+     * Buffer Kullanımı:
+     * - TYPE_INT_RGB girdi doğrudan okunur; diğer türler havuzdan alınan
+     *   bir diziye dönüştürülür
+     * - TYPE_INT_RGB çıktıya doğrudan yazılır; diğer türler için sonuç
+     *   havuzdan alınan bir diziden kopyalanır
+     * - Zincir ara sonuçları için tek bir ara dizi yeterlidir (ping-pong)
+     *
+     * Zincirin toplam süresi mod etiketiyle ProcessingStatistics'e kaydedilir.
+     */
+    private static void execute(BufferedImage input, BufferedImage output, List<String> operations,
+                                int contrastVal, String mode, ChainRunner runner) {
+        List<Filter> chain = ChainPlanner.compile(operations);
+        FilterParams params = new FilterParams(contrastVal);
+        int width = input.getWidth();
         int height = input.getHeight();
-        int chunkSize = Math.max(1, height / threadsCount);
-        Thread[] threads = new Thread[threadsCount];
-
-        for (int i = 0; i < threadsCount; i++) {
-            int startY = i * chunkSize;
-            int endY = (i == threadsCount - 1) ? height : Math.min(height, (i + 1) * chunkSize);
-            if (startY >= endY) continue;
-
-            threads[i] = new Thread(() -> {
-                // Her thread kendi segmentini işler. Segment, görüntünün dikey bir dilimidir.
-                // Thread'ler arası senkronizasyon için thread-safe işlemler kullanılır.
-
-                // Thread'in işleyeceği segment için çıktı buffer'ı oluşturulur
-                // Buffer boyutu: görüntü genişliği x segment yüksekliği
-                BufferedImage threadOutputSegment = new BufferedImage(input.getWidth(), endY - startY, BufferedImage.TYPE_INT_RGB);
-
-                // Thread'in işleyeceği görüntü segmentini al
-                // Bu, orijinal görüntünün bir alt görüntüsüdür
-                BufferedImage intermediate = input.getSubimage(0, startY, input.getWidth(), endY - startY);
-                BufferedImage temp = null;
-
-                // Her filtre için sırayla işlem yap
-                for (String operation : operations) {
-                    // Her filtre için yeni bir ara buffer oluştur
-                    // Bu buffer, filtre zincirindeki her adım için kullanılır
-                    temp = new BufferedImage(intermediate.getWidth(), intermediate.getHeight(), intermediate.getType());
-
-                    if ("ASCII Art".equals(operation)) {
-                        // ASCII Art filtresi özel işlem gerektirir çünkü:
-                        // 1. Tüm görüntü bağlamına ihtiyaç duyar
-                        // 2. Karakter seçimi için global parlaklık bilgisi gerekir
-                        // 3. Segment bazlı işlem yapılamaz
-                        System.err.println("Warning: ASCII Art in parallel filter chain is complex and may not be correctly implemented here.");
-                        
-                        // Tüm görüntü üzerinde ASCII dönüşümü yap
-                        BufferedImage asciiFull = ASCIIArtFilter.convertToASCIIImage(input);
-                        if (asciiFull != null) {
-                            // ASCII dönüşümü başarılıysa, ilgili segmenti al ve ara buffer'a çiz
-                            java.awt.Graphics2D g = temp.createGraphics();
-                            g.drawImage(asciiFull.getSubimage(0, startY, asciiFull.getWidth(), endY - startY), 0, 0, null);
-                            g.dispose();
-                        } else {
-                            // Dönüşüm başarısız olursa siyah segment oluştur
-                            java.awt.Graphics2D g = temp.createGraphics();
-                            g.setColor(java.awt.Color.BLACK);
-                            g.fillRect(0, 0, temp.getWidth(), temp.getHeight());
-                            g.dispose();
-                        }
-                    } else {
-                        // Diğer filtreler için piksel bazlı işlem yap
-                        // Her piksel için seçili filtreyi uygula
-                        for (int y = 0; y < intermediate.getHeight(); y++) {
-                            for (int x = 0; x < intermediate.getWidth(); x++) {
-                                // Orijinal görüntüdeki koordinatları hesapla
-                                // Bu, komşu piksel erişimi gerektiren filtreler için önemli
-                                int originalX = x;
-                                int originalY = y + startY;
-
-                                // Mevcut pikselin RGB değerini al
-                                int rgb = intermediate.getRGB(x, y);
-                                int newRgb = rgb;
-
-                                // Filtre tipine göre işlem yap
-                                switch (operation) {
-                                    case "Grayscale":
-                                        // Gri tonlama: RGB değerlerinin ortalaması
-                                        newRgb = GrayscaleFilter.apply(rgb);
-                                        break;
-                                    case "Edge Detection":
-                                        // Kenar tespiti: Basit eşikleme
-                                        newRgb = EdgeDetectionFilter.apply(rgb);
-                                        break;
-                                    case "Sobel Edge Detection":
-                                        // Sobel kenar tespiti: Gradyan hesaplama
-                                        // Komşu piksellere erişim gerektiği için orijinal koordinatları kullan
-                                        newRgb = SobelEdgeDetectionFilter.apply(input, originalX, originalY);
-                                        break;
-                                    case "Gaussian Blur":
-                                        // Gaussian bulanıklaştırma: 5x5 çekirdek
-                                        // Komşu piksellere erişim gerektiği için orijinal koordinatları kullan
-                                        newRgb = GaussianBlurFilter.apply(input, originalX, originalY);
-                                        break;
-                                    case "Contrast":
-                                        // Kontrast ayarı: Parlaklık değerlerinin ölçeklenmesi
-                                        newRgb = ContrastAdjustmentFilter.apply(rgb, contrastVal);
-                                        break;
-                                }
-                                // İşlenmiş pikseli ara buffer'a yaz
-                                temp.setRGB(x, y, newRgb);
-                            }
-                        }
-                    }
-                    // Bu filtre için ara buffer'ı bir sonraki filtre için girdi olarak kullan
-                    intermediate = temp;
-                }
-
-                // İşlenmiş segmenti ana çıktı buffer'ına kopyala
-                // Graphics2D kullanarak thread-safe çizim yap
-                java.awt.Graphics2D g = output.createGraphics();
-                // Segmenti doğru Y koordinatına yerleştir
-                g.drawImage(intermediate, 0, startY, null);
-                g.dispose();
-            });
-            threads[i].start();
+        FrameBufferPool buffers = FrameBufferPool.shared();
+
+        int[] converted = null;
+        int[] src = ImageUtils.intRgbData(input);
+        if (src == null) {
+            converted = ImageUtils.toIntRgb(input, buffers.acquireBuffer(width, height));
+            src = converted;
+        }
+
+        int[] staged = null;
+        int[] out = ImageUtils.intRgbData(output);
+        if (out == null || out == src) {
+            staged = buffers.acquireBuffer(width, height);
+            out = staged;
+        }
+        int[] scratch = buffers.acquireBuffer(width, height);
+
+        try {
+            if (chain.isEmpty()) {
+                System.arraycopy(src, 0, out, 0, width * height);
+            } else {
+                long start = System.nanoTime();
+                runner.run(chain, params, src, out, scratch, width, height);
+                ProcessingStatistics.recordChain(mode, System.nanoTime() - start);
+                FrameTracer.end(FrameTracer.FILTER, mode, start);
+            }
+            if (staged != null) {
+                ImageUtils.writeIntRgb(staged, output);
+            }
+        } finally {
+            buffers.releaseBuffer(width, height, scratch);
+            buffers.releaseBuffer(width, height, staged);
+            buffers.releaseBuffer(width, height, converted);
         }
-        waitForThreads(threads);
     }
 
     /**
-     * Tüm thread'lerin tamamlanmasını bekler. Herhangi bir thread kesintiye
-     * uğrarsa, ana thread'i de kesintiye uğratır. Bu, uygulamanın düzgün
-     * şekilde sonlandırılmasını sağlar.
-     * 
-     * Thread Yönetimi:
-     * - Her thread için join() çağrısı yapılır
-     * - Kesinti durumunda InterruptedException yakalanır
-     * - Ana thread kesintiye uğratılır ve hata loglanır
+     * n aşamalı bir zincirde i. aşamanın yazacağı diziyi seçer. Hedefler
+     * out ve scratch arasında dönüşümlüdür ve son aşama her zaman out'a
+     * yazar; böylece sonucun ayrıca kopyalanması gerekmez.
+     *
+     * @param stage Aşama indeksi (0'dan başlar)
+     * @param stageCount Toplam aşama sayısı
+     * @param out Çıktı dizisi
+     * @param scratch Ara dizi
+     * @return Aşamanın hedef dizisi
+     */
+    static int[] stageTarget(int stage, int stageCount, int[] out, int[] scratch) {
+        return ((stageCount - 1 - stage) % 2 == 0) ? out : scratch;
+    }
+
+    /**
+     * Paralel işlemede kullanılan kalıcı işleme havuzunu döndürür. Havuz ilk
+     * kullanımda (veya kapatıldıktan sonraki ilk kullanımda) oluşturulur.
+     *
+     * @return İşleme havuzu
+     */
+    public static synchronized ProcessingPool getPool() {
+        if (pool == null || pool.isShutdown()) {
+            pool = new ProcessingPool(Integer.getInteger(THREADS_PROPERTY, 0));
+        }
+        return pool;
+    }
+
+    /**
+     * İşleme havuzunu verilen işçi sayısıyla yeniden oluşturur. Mevcut havuz
+     * kapatılır; "processing.threads" özelliği yerine bu değer, havuz bir
+     * sonraki shutdownPool() çağrısına kadar geçerli kalır. Farklı thread
+     * sayılarının ölçüldüğü benchmark'larda kullanılır.
+     *
+     * @param threads İşçi thread sayısı (0: işlemci sayısı)
+     * @return Yeni işleme havuzu
+     */
+    public static synchronized ProcessingPool resizePool(int threads) {
+        shutdownPool();
+        pool = new ProcessingPool(threads);
+        return pool;
+    }
+
+    /**
+     * İşleme havuzunu oluşturmadan döndürür; metrik toplama gibi havuzun
+     * yalnızca gözlendiği yerlerde kullanılır.
+     *
+     * @return Çalışan işleme havuzu veya henüz oluşturulmadıysa/kapatıldıysa null
+     */
+    public static synchronized ProcessingPool getActivePool() {
+        return pool != null && !pool.isShutdown() ? pool : null;
+    }
+
+    /**
+     * Güncel işleme havuzunu kullanan karo zamanlayıcıyı döndürür. Havuz
+     * yeniden oluşturulduysa zamanlayıcı da yenilenir.
+     *
+     * @return Karo zamanlayıcı
+     */
+    private static synchronized TileScheduler getScheduler() {
+        ProcessingPool current = getPool();
+        if (scheduler == null || scheduler.getPool() != current) {
+            scheduler = new TileScheduler(current, Integer.getInteger(TILE_SIZE_PROPERTY, TileScheduler.DEFAULT_TILE_SIZE));
+        }
+        return scheduler;
+    }
+
+    /**
+     * Güncel karo zamanlayıcıyı kullanan artımlı işlemciyi döndürür.
+     * Zamanlayıcı yenilendiyse önbellek de sıfırlanır.
      *
-     * @param threads Tamamlanması beklenen thread'lerin dizisi
+     * @return Artımlı işlemci
      */
-    public static void waitForThreads(Thread[] threads) {
-        for (Thread t : threads) {
-            if (t != null) {
-                try {
-                    t.join();
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                    Thread.currentThread().interrupt();
-                }
+    private static synchronized IncrementalProcessor getIncrementalProcessor() {
+        TileScheduler current = getScheduler();
+        if (incrementalProcessor == null || incrementalProcessor.getScheduler() != current) {
+            incrementalProcessor = new IncrementalProcessor(current,
+                    Integer.getInteger(INCREMENTAL_THRESHOLD_PROPERTY, IncrementalProcessor.DEFAULT_THRESHOLD));
+        }
+        return incrementalProcessor;
+    }
+
+    /**
+     * Güncel işleme havuzunu kullanan otomatik ayarlayıcıyı döndürür. Havuz
+     * yeniden oluşturulduysa ölçümler de sıfırlanır.
+     *
+     * @return Otomatik ayarlayıcı
+     */
+    public static synchronized AutoTuner getAutoTuner() {
+        ProcessingPool current = getPool();
+        if (autoTuner == null || autoTuner.getPool() != current) {
+            if (autoTuner != null) {
+                autoTuner.close();
             }
+            autoTuner = new AutoTuner(current, Integer.getInteger(TILE_SIZE_PROPERTY, TileScheduler.DEFAULT_TILE_SIZE),
+                    Long.getLong(AUTOTUNE_INTERVAL_PROPERTY, AutoTuner.DEFAULT_INTERVAL_MILLIS));
+        }
+        return autoTuner;
+    }
+
+    /**
+     * Otomatik ayarlayıcıyı oluşturmadan döndürür; metrik toplama gibi
+     * yalnızca gözlendiği yerlerde kullanılır.
+     *
+     * @return Çalışan otomatik ayarlayıcı veya yoksa null
+     */
+    public static synchronized AutoTuner getActiveAutoTuner() {
+        return autoTuner;
+    }
+
+    /**
+     * İşleme havuzunu kapatır ve işçi thread'lerini sonlandırır. Kamera
+     * akışı durdurulduğunda çağrılır; bir sonraki paralel işlemede havuz
+     * yeniden oluşturulur.
+     */
+    public static synchronized void shutdownPool() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+            scheduler = null;
+            incrementalProcessor = null;
+        }
+        if (autoTuner != null) {
+            autoTuner.close();
+            autoTuner = null;
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+// src/main/java/starter/processing/IncrementalProcessor.java
+
+package starter.processing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import starter.filters.Filter;
+import starter.filters.FilterParams;
+
+/**
+ * IncrementalProcessor, çoğunlukla sabit sahnelerde (ör. güvenlik
+ * kameraları) her karede yalnızca değişen bölgeleri filtre zincirinden
+ * geçirir; değişmeyen karoların çıktısı bir önceki kareden kopyalanır.
+ *
+ * Değişim Tespiti:
+ * - Kare, TileScheduler'ın karo ızgarasına bölünür
+ * - Her karo, çıktısı önbellekte olan referans girdiyle piksel piksel
+ *   karşılaştırılır; herhangi bir kanaldaki fark eşiği aşarsa karo
+ *   değişmiş sayılır ve karşılaştırma erken biter
+ * - Eşik, kamera gürültüsünün her karede tüm karoları kirletmesini önler
+ *   ("processing.incremental.threshold", 0: birebir karşılaştırma).
+ *   Referans yalnızca değişen karolarda güncellendiği için yavaş
+ *   kaymalar da birikerek eşiği aşar ve gözden kaçmaz
+ *
+ * Hale:
+ * - Komşuluk filtreleri (Gaussian, Sobel) nedeniyle bir karodaki değişim
+ *   zincirin toplam yarıçapı kadar komşu karoların çıktısını da etkiler;
+ *   bu karolar da yeniden hesaplanır (bkz. TileScheduler.runChanged)
+ *
+ * Önbellek Geçersizleştirme:
+ * Kare boyutu, filtre zinciri veya filtre parametreleri değiştiğinde tüm
+ * karolar işlenir. Karolara bölünemeyen filtreler (ASCII Art) içeren
+ * zincirler her karede tümüyle işlenir.
+ *
+ * Önbellek tek bir akış içindir; run() eşzamanlı çağrılara karşı
+ * senkronizedir.
+ */
+final class IncrementalProcessor {
+
+    /** Varsayılan değişim eşiği (kanal başına 0-255) */
+    static final int DEFAULT_THRESHOLD = 12;
+
+    private final TileScheduler scheduler;
+    private final int threshold;
+
+    private int width;
+    private int height;
+    private List<Filter> chain;
+    private FilterParams params;
+    // Önbellekteki çıktının üretildiği girdi ve çıktının kendisi
+    private int[] reference;
+    private int[] cached;
+    private boolean[] changed;
+    private boolean[] recomputed;
+
+    /**
+     * @param scheduler Değişen karoları işleyecek karo zamanlayıcı
+     * @param threshold Bir pikselin değişmiş sayılması için kanal farkı eşiği
+     */
+    IncrementalProcessor(TileScheduler scheduler, int threshold) {
+        this.scheduler = scheduler;
+        this.threshold = Math.max(0, threshold);
+    }
+
+    /**
+     * İşlemcinin kullandığı karo zamanlayıcıyı döndürür.
+     *
+     * @return Karo zamanlayıcı
+     */
+    TileScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Zinciri değişen karolar için çalıştırır ve değişmeyen karoları
+     * önbellekten out'a kopyalar (ImageProcessor.ChainRunner).
+     */
+    synchronized void run(List<Filter> chain, FilterParams params, int[] src, int[] out, int[] scratch,
+                          int width, int height) {
+        int tileSize = scheduler.getTileSize();
+        int tilesX = (width + tileSize - 1) / tileSize;
+        int tilesY = (height + tileSize - 1) / tileSize;
+        int tileCount = tilesX * tilesY;
+        ProcessingPool pool = scheduler.getPool();
+
+        if (width != this.width || height != this.height || reference == null) {
+            this.width = width;
+            this.height = height;
+            reference = new int[width * height];
+            cached = new int[width * height];
+            changed = new boolean[tileCount];
+            recomputed = new boolean[tileCount];
+            this.chain = null;
+        }
+
+        if (!chain.equals(this.chain) || !params.equals(this.params)) {
+            this.chain = chain;
+            this.params = params;
+            Arrays.fill(changed, true);
+        } else {
+            pool.forEachTile(tileCount, (first, last) -> {
+                for (int tile = first; tile < last; tile++) {
+                    int x0 = (tile % tilesX) * tileSize;
+                    int y0 = (tile / tilesX) * tileSize;
+                    changed[tile] = differs(src, x0, y0, Math.min(width, x0 + tileSize), Math.min(height, y0 + tileSize));
+                }
+            });
+        }
+
+        int processed = scheduler.runChanged(chain, params, src, out, scratch, width, height, changed, recomputed);
+
+        // Yeni sonuçlar önbelleğe, değişmeyen karolar önbellekten çıktıya
+        pool.forEachTile(tileCount, (first, last) -> {
+            for (int tile = first; tile < last; tile++) {
+                int x0 = (tile % tilesX) * tileSize;
+                int y0 = (tile / tilesX) * tileSize;
+                int x1 = Math.min(width, x0 + tileSize);
+                int y1 = Math.min(height, y0 + tileSize);
+                if (recomputed[tile]) {
+                    copyTile(out, cached, x0, y0, x1, y1);
+                } else {
+                    copyTile(cached, out, x0, y0, x1, y1);
+                }
+                if (changed[tile]) {
+                    copyTile(src, reference, x0, y0, x1, y1);
+                }
+            }
+        });
+
+        ProcessingStatistics.recordTiles(processed, tileCount - processed);
+    }
+
+    /**
+     * Karodaki herhangi bir pikselin, referanstan herhangi bir kanalda
+     * eşikten fazla farklı olup olmadığını döndürür.
+     */
+    private boolean differs(int[] src, int x0, int y0, int x1, int y1) {
+        for (int y = y0; y < y1; y++) {
+            int row = y * width;
+            for (int i = row + x0; i < row + x1; i++) {
+                int a = src[i];
+                int b = reference[i];
+                if (a == b) {
+                    continue;
+                }
+                if (Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF)) > threshold
+                        || Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF)) > threshold
+                        || Math.abs((a & 0xFF) - (b & 0xFF)) > threshold) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void copyTile(int[] from, int[] to, int x0, int y0, int x1, int y1) {
+        for (int y = y0; y < y1; y++) {
+            System.arraycopy(from, y * width + x0, to, y * width + x0, x1 - x0);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+// src/main/java/starter/processing/ProcessingPool.java
+
+package starter.processing;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import starter.core.FrameTracer;
+
+/**
+ * ProcessingPool, kare işleme için uzun ömürlü bir iş çalma (work-stealing)
+ * havuzudur. Her kare için yeni thread oluşturup beklemek yerine, satır
+ * aralıkları bu havuza görev olarak gönderilir.
+ *
+ * Satırlar sabit height / threadSayısı parçalarına bölünmez; görev,
+ * işçi başına birkaç parça düşecek şekilde ikiye bölünerek küçültülür.
+ * Boşta kalan işçiler diğerlerinin kuyruğundan iş çaldığı için yavaş bir
+ * parça ya da kalan satırlar tek bir thread'e yığılmaz.
+ */
+public final class ProcessingPool implements AutoCloseable {
+
+    /**
+     * Bir satır (veya karo indeksi) aralığını işleyen görev.
+     */
+    @FunctionalInterface
+    public interface RowTask {
+        /**
+         * [startY, endY) aralığını işler.
+         *
+         * @param startY İlk satır (dahil)
+         * @param endY Son satır (hariç)
+         */
+        void run(int startY, int endY);
+    }
+
+    // İşçi başına hedeflenen parça sayısı; iş çalma için yeterli esneklik sağlar
+    private static final int CHUNKS_PER_WORKER = 4;
+    // Bir parçanın en az satır sayısı; çok küçük görevlerin ek yükünü önler
+    private static final int MIN_ROWS_PER_CHUNK = 8;
+
+    private final ForkJoinPool pool;
+    // İşçilerin parça işleyerek geçirdiği toplam süre; kullanım oranı için
+    private final LongAdder busyNanos = new LongAdder();
+
+    /**
+     * Verilen paralellik düzeyiyle yeni bir havuz oluşturur.
+     *
+     * @param parallelism İşçi thread sayısı; 0 veya negatifse işlemci sayısı kullanılır
+     */
+    public ProcessingPool(int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ForkJoinPool(threads, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("image-worker-" + counter.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Havuzdaki işçi thread sayısını döndürür.
+     *
+     * @return Paralellik düzeyi
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Havuzdaki görevlerin parça işleyerek geçirdiği toplam süreyi döndürür.
+     * İki okuma arasındaki fark, geçen süre ve paralellik düzeyine
+     * bölündüğünde havuzun kullanım oranını verir.
+     *
+     * @return Toplam meşgul süre (ns)
+     */
+    public long getBusyNanos() {
+        return busyNanos.sum();
+    }
+
+    /**
+     * O anda görev çalıştıran işçi sayısını döndürür (yaklaşık değer).
+     *
+     * @return Etkin işçi sayısı
+     */
+    public int getActiveThreadCount() {
+        return pool.getActiveThreadCount();
+    }
+
+    /**
+     * İşçi kuyruklarında bekleyen görev sayısını döndürür (yaklaşık değer).
+     *
+     * @return Bekleyen görev sayısı
+     */
+    public long getQueuedTaskCount() {
+        return pool.getQueuedTaskCount();
+    }
+
+    /**
+     * İşçilerin birbirinden çaldığı görev sayısını döndürür.
+     *
+     * @return Çalınan görev sayısı
+     */
+    public long getStealCount() {
+        return pool.getStealCount();
+    }
+
+    /**
+     * Havuzun kapatılıp kapatılmadığını döndürür.
+     *
+     * @return Havuz kapatıldıysa true
+     */
+    public boolean isShutdown() {
+        return pool.isShutdown();
+    }
+
+    /**
+     * [0, height) satırlarını dinamik boyutlu parçalara bölerek havuzda
+     * işler ve tüm parçalar tamamlanana kadar bekler. Havuz kapatılmışsa
+     * iş çağıran thread'de sıralı olarak yapılır.
+     *
+     * @param height Toplam satır sayısı
+     * @param task Her parça için çağrılacak görev
+     */
+    public void forEachRowRange(int height, RowTask task) {
+        forEachRange(height, MIN_ROWS_PER_CHUNK, "rows", task);
+    }
+
+    /**
+     * [0, tileCount) karo indekslerini havuzda işler ve tümü tamamlanana
+     * kadar bekler. Karolar zaten yeterince büyük iş birimleri olduğu için
+     * parçalar tek karoya kadar bölünebilir.
+     *
+     * @param tileCount Toplam karo sayısı
+     * @param task Her karo aralığı için çağrılacak görev
+     */
+    public void forEachTile(int tileCount, RowTask task) {
+        forEachRange(tileCount, 1, "tiles", task);
+    }
+
+    /**
+     * Bağımsız bir görevi (ör. bir karenin tüm zinciri) havuza gönderir ve
+     * beklemeden döner. Görev gönderenin karesiyle izlenir ve meşgul süreye
+     * eklenir. Havuz kapatılmışsa görev çağıran thread'de çalıştırılır.
+     *
+     * @param unit İz olayının adı
+     * @param task Görev
+     */
+    public void execute(String unit, Runnable task) {
+        long frame = FrameTracer.getFrame();
+        Runnable tracked = () -> {
+            FrameTracer.setFrame(frame);
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                busyNanos.add(System.nanoTime() - start);
+                FrameTracer.end(FrameTracer.WORKER, unit, start);
+            }
+        };
+        try {
+            pool.execute(tracked);
+        } catch (RejectedExecutionException e) {
+            tracked.run();
+        }
+    }
+
+    private void forEachRange(int count, int minChunk, String unit, RowTask task) {
+        if (count <= 0) {
+            return;
+        }
+        int threshold = Math.max(minChunk, count / (getParallelism() * CHUNKS_PER_WORKER));
+        if (count <= threshold) {
+            task.run(0, count);
+            return;
+        }
+        try {
+            // Parçalar çağıranın karesiyle izlenir
+            Job job = new Job(task, threshold, busyNanos, unit, FrameTracer.getFrame());
+            pool.invoke(new RowRangeAction(job, 0, count));
+        } catch (RejectedExecutionException e) {
+            // Havuz kapatılırken gelen son kare: çağıran thread'de bitir
+            task.run(0, count);
+        }
+    }
+
+    /**
+     * Havuzu kapatır; devam eden görevlerin bitmesini kısa bir süre bekler.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(1, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Bir forEach çağrısının tüm parçalarında ortak olan bilgiler.
+     */
+    private record Job(RowTask task, int threshold, LongAdder busyNanos, String unit, long frame) {
+    }
+
+    /**
+     * Satır aralığını eşik değerinin altına inene kadar ikiye bölen görev.
+     * ForkJoinTask Serializable'dır ama bu görev hiçbir zaman serileştirilmez
+     * (Job da serileştirilemez).
+     */
+    @SuppressWarnings("serial")
+    private static final class RowRangeAction extends RecursiveAction {
+        private final Job job;
+        private final int startY;
+        private final int endY;
+
+        RowRangeAction(Job job, int startY, int endY) {
+            this.job = job;
+            this.startY = startY;
+            this.endY = endY;
+        }
+
+        @Override
+        protected void compute() {
+            if (endY - startY <= job.threshold()) {
+                FrameTracer.setFrame(job.frame());
+                long start = System.nanoTime();
+                job.task().run(startY, endY);
+                long end = System.nanoTime();
+                job.busyNanos().add(end - start);
+                if (FrameTracer.isEnabled()) {
+                    FrameTracer.end(FrameTracer.WORKER, job.unit(), start, startY, endY);
+                }
+                return;
+            }
+            int mid = (startY + endY) >>> 1;
+            invokeAll(new RowRangeAction(job, startY, mid),
+                      new RowRangeAction(job, mid, endY));
+        }
+    }
+}
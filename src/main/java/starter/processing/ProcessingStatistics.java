@@ -0,0 +1,118 @@
+// src/main/java/starter/processing/ProcessingStatistics.java
+
+package starter.processing;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import starter.core.LatencyHistogram;
+
+/**
+ * ProcessingStatistics, ImageProcessor'ın işleme modlarına göre zincir ve
+ * filtre sürelerini uygulama ömrü boyunca toplar. Değerler canlı olarak
+ * (ör. metrik uç noktasından) okunabilir.
+ *
+ * Kaydedilen Süreler:
+ * - Zincir: bir karenin tüm filtre zincirinden geçme süresi (mod başına)
+ * - Filtre: zincirdeki bir aşamanın tüm kare için süresi. Sıralı ve şerit
+ *   modlarında aşama tek bir filtredir (birleşik noktasal filtreler
+ *   "Grayscale + Contrast" gibi adlandırılır). Karo modunda filtreler
+ *   karo içinde iç içe çalıştığı için aşama, bariyerler arasındaki karo
+ *   bölümüdür ve bölümdeki filtrelerin adlarıyla kaydedilir
+ * - Karolar: artımlı modda işlenen ve önbellekten kullanılan karo sayıları
+ *
+ * Kayıt yolları kilitsizdir ve mod/filtre çifti ilk görüldükten sonra
+ * bellek ayırmaz.
+ */
+public final class ProcessingStatistics {
+
+    /** Sıralı mod etiketi (runFiltersSequentially) */
+    public static final String SEQUENTIAL = "sequential";
+    /** Karo tabanlı paralel mod etiketi (runFiltersInParallel) */
+    public static final String PARALLEL = "parallel";
+    /** Şerit tabanlı paralel mod etiketi (runFiltersInStrips) */
+    public static final String STRIPS = "strips";
+    /** Yalnızca değişen karoları işleyen mod etiketi (runFiltersIncrementally) */
+    public static final String INCREMENTAL = "incremental";
+    /** Stratejiyi ölçerek seçen mod etiketi (runFiltersAdaptively) */
+    public static final String ADAPTIVE = "adaptive";
+
+    private static final Map<String, LatencyHistogram> CHAINS = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, LatencyHistogram>> FILTERS = new ConcurrentHashMap<>();
+    private static final LongAdder TILES_PROCESSED = new LongAdder();
+    private static final LongAdder TILES_REUSED = new LongAdder();
+
+    private ProcessingStatistics() {
+    }
+
+    static void recordChain(String mode, long nanos) {
+        CHAINS.computeIfAbsent(mode, m -> new LatencyHistogram()).record(nanos);
+    }
+
+    static void recordFilter(String mode, String filter, long nanos) {
+        FILTERS.computeIfAbsent(mode, m -> new ConcurrentHashMap<>())
+                .computeIfAbsent(filter, f -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    static void recordTiles(int processed, int reused) {
+        TILES_PROCESSED.add(processed);
+        TILES_REUSED.add(reused);
+    }
+
+    /**
+     * Mod başına zincir süresi görüntülerini döndürür.
+     *
+     * @return Mod → zincir süresi görüntüsü (mod adına göre sıralı)
+     */
+    public static Map<String, LatencyHistogram.Snapshot> getChainLatencies() {
+        Map<String, LatencyHistogram.Snapshot> result = new TreeMap<>();
+        CHAINS.forEach((mode, histogram) -> result.put(mode, histogram.snapshot()));
+        return result;
+    }
+
+    /**
+     * Mod ve filtre (aşama) başına süre görüntülerini döndürür.
+     *
+     * @return Mod → (filtre → süre görüntüsü), adlara göre sıralı
+     */
+    public static Map<String, Map<String, LatencyHistogram.Snapshot>> getFilterLatencies() {
+        Map<String, Map<String, LatencyHistogram.Snapshot>> result = new TreeMap<>();
+        FILTERS.forEach((mode, filters) -> {
+            Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+            filters.forEach((filter, histogram) -> snapshots.put(filter, histogram.snapshot()));
+            result.put(mode, snapshots);
+        });
+        return result;
+    }
+
+    /**
+     * Artımlı modda filtre zincirinden geçirilen karo sayısını döndürür.
+     *
+     * @return İşlenen karo sayısı
+     */
+    public static long getIncrementalTilesProcessed() {
+        return TILES_PROCESSED.sum();
+    }
+
+    /**
+     * Artımlı modda değişmediği için önbellekteki çıktısı kullanılan karo
+     * sayısını döndürür.
+     *
+     * @return Yeniden kullanılan karo sayısı
+     */
+    public static long getIncrementalTilesReused() {
+        return TILES_REUSED.sum();
+    }
+
+    /**
+     * Tüm kayıtları siler.
+     */
+    public static void reset() {
+        CHAINS.clear();
+        FILTERS.clear();
+        TILES_PROCESSED.reset();
+        TILES_REUSED.reset();
+    }
+}
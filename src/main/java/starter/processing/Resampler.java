@@ -0,0 +1,367 @@
+// src/main/java/starter/processing/Resampler.java
+
+package starter.processing;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import starter.core.FrameTracer;
+import starter.core.ImageUtils;
+
+/**
+ * Resampler, int[] (0xAARRGGBB) rasterleri Java2D kullanmadan yeniden
+ * boyutlandırır. Kareyi gösterim boyutuna veya işleme boyutuna indirmek
+ * her karede, 4K girdide bile yapılabilecek kadar ucuzdur.
+ *
+ * Ayrılabilir Filtre:
+ * - Önce her satır yatayda hedef genişliğe, sonra her sütun dikeyde
+ *   hedef yüksekliğe örneklenir; ara sonuç (hedef genişlik x kaynak
+ *   yükseklik) FrameBufferPool'dan alınan bir dizide tutulur
+ * - Her hedef piksel, sabit sayıda (taps) kaynak pikselin 14 bit sabit
+ *   noktalı ağırlıklı toplamıdır; ağırlıkların toplamı her zaman 1'dir
+ * - Küçültmede BILINEAR ve LANCZOS çekirdekleri ölçek oranında
+ *   genişletilir; böylece atlanan pikseller örtüşme (aliasing) üretmez
+ *
+ * Ağırlık Tabloları:
+ * Her (kaynak uzunluğu, hedef uzunluğu, çekirdek) üçlüsü için başlangıç
+ * indeksleri ve ağırlıklar bir kez hesaplanıp önbelleğe alınır; aynı
+ * boyutlardaki kareler yalnızca tablo aramasıyla ölçeklenir.
+ *
+ * Paralellik:
+ * Her iki geçiş de satır aralıklarına bölünüp kalıcı işleme havuzunda
+ * (ImageProcessor.getPool) çalıştırılır.
+ */
+public final class Resampler {
+
+    /** Varsayılan çekirdeği belirleyen sistem özelliği */
+    public static final String KERNEL_PROPERTY = "resample.kernel";
+
+    /**
+     * Yeniden örnekleme çekirdekleri.
+     */
+    public enum Kernel {
+        /** Alan ortalaması: hedef pikselin kapladığı kaynak alanının ortalaması (küçültme için) */
+        AREA,
+        /** Üçgen (doğrusal) çekirdek; büyütmede klasik çift doğrusal ara değerleme */
+        BILINEAR,
+        /** Lanczos-3: keskin sonuç, hafif halkalanma; en pahalı çekirdek */
+        LANCZOS;
+
+        private final String label = "resize " + name().toLowerCase(Locale.ROOT);
+
+        /**
+         * Çekirdeği adından çözer (büyük/küçük harf duyarsız).
+         *
+         * @param name Çekirdek adı (area, bilinear, lanczos)
+         * @return Çekirdek
+         * @throws IllegalArgumentException Ad tanınmazsa
+         */
+        public static Kernel parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown resample kernel: " + name);
+            }
+        }
+
+        /**
+         * "resample.kernel" özelliğindeki çekirdeği döndürür.
+         *
+         * @return Yapılandırılan çekirdek (varsayılan AREA)
+         */
+        public static Kernel configured() {
+            return parse(System.getProperty(KERNEL_PROPERTY, "area"));
+        }
+
+        // Kaynak piksel cinsinden yarı genişlik
+        double support(double scale) {
+            return switch (this) {
+                case AREA -> scale / 2;
+                case BILINEAR -> Math.max(1, scale);
+                case LANCZOS -> 3 * Math.max(1, scale);
+            };
+        }
+
+        // Hedef piksel merkezine göre kaynak pikselin [from, to) aralığının ağırlığı
+        double weight(double from, double to, double scale) {
+            if (this == AREA) {
+                double half = scale / 2;
+                return Math.max(0, Math.min(to, half) - Math.max(from, -half));
+            }
+            double x = (from + to) / 2 / Math.max(1, scale);
+            return switch (this) {
+                case BILINEAR -> Math.max(0, 1 - Math.abs(x));
+                default -> Math.abs(x) >= 3 ? 0 : sinc(x) * sinc(x / 3);
+            };
+        }
+
+        private static double sinc(double x) {
+            if (x == 0) {
+                return 1;
+            }
+            double px = Math.PI * x;
+            return Math.sin(px) / px;
+        }
+    }
+
+    private static final int WEIGHT_BITS = 14;
+    private static final int WEIGHT_ONE = 1 << WEIGHT_BITS;
+    private static final int ROUNDING = 1 << (WEIGHT_BITS - 1);
+
+    // Farklı boyut sayısı küçüktür; sınırı aşarsa önbellek temizlenir
+    private static final int MAX_CACHED_TABLES = 64;
+
+    private record Key(int srcLength, int dstLength, Kernel kernel) {
+    }
+
+    private static final Map<Key, Weights> TABLES = new ConcurrentHashMap<>();
+
+    // Dikey geçişte her işçi thread'inin kanal toplayıcıları
+    private static final ThreadLocal<int[][]> ACCUMULATORS = ThreadLocal.withInitial(() -> new int[3][0]);
+
+    private Resampler() {
+    }
+
+    /**
+     * Bir görüntünün, en-boy oranı korunarak ve büyütülmeden
+     * maxWidth x maxHeight kutusuna sığan boyutunu hesaplar.
+     *
+     * @param width Görüntü genişliği
+     * @param height Görüntü yüksekliği
+     * @param maxWidth En fazla genişlik
+     * @param maxHeight En fazla yükseklik
+     * @return {genişlik, yükseklik}; görüntü zaten sığıyorsa kendi boyutu
+     */
+    public static int[] fit(int width, int height, int maxWidth, int maxHeight) {
+        if (width <= maxWidth && height <= maxHeight) {
+            return new int[] {width, height};
+        }
+        double ratio = Math.min((double) maxWidth / width, (double) maxHeight / height);
+        return new int[] {
+                Math.max(1, Math.min(maxWidth, (int) Math.round(width * ratio))),
+                Math.max(1, Math.min(maxHeight, (int) Math.round(height * ratio)))
+        };
+    }
+
+    /**
+     * Görüntüyü width x height boyutuna örnekler.
+     *
+     * @param src Kaynak görüntü
+     * @param width Hedef genişlik
+     * @param height Hedef yükseklik
+     * @param kernel Çekirdek
+     * @param reuse Aynı boyutta TYPE_INT_RGB ise hedef olarak kullanılacak görüntü (null olabilir)
+     * @return Örneklenmiş görüntü: reuse veya FrameBufferPool'dan alınan bir görüntü
+     */
+    public static BufferedImage resize(BufferedImage src, int width, int height, Kernel kernel, BufferedImage reuse) {
+        BufferedImage output = reuse;
+        int[] dst = reuse != null && reuse.getWidth() == width && reuse.getHeight() == height
+                ? ImageUtils.intRgbData(reuse) : null;
+        if (dst == null) {
+            output = FrameBufferPool.shared().acquireImage(width, height);
+            dst = ImageUtils.intRgbData(output);
+        }
+
+        FrameBufferPool buffers = FrameBufferPool.shared();
+        int srcWidth = src.getWidth();
+        int srcHeight = src.getHeight();
+        int[] converted = null;
+        int[] pixels = ImageUtils.intRgbData(src);
+        if (pixels == null) {
+            converted = ImageUtils.toIntRgb(src, buffers.acquireBuffer(srcWidth, srcHeight));
+            pixels = converted;
+        }
+        try {
+            resize(pixels, srcWidth, srcHeight, dst, width, height, kernel);
+        } finally {
+            buffers.releaseBuffer(srcWidth, srcHeight, converted);
+        }
+        return output;
+    }
+
+    /**
+     * Pikselleri yeniden örnekler. Kaynak ve hedef aynı dizi olmamalıdır.
+     *
+     * @param src Kaynak pikseller (srcWidth * srcHeight)
+     * @param srcWidth Kaynak genişliği
+     * @param srcHeight Kaynak yüksekliği
+     * @param dst Hedef pikseller (en az dstWidth * dstHeight)
+     * @param dstWidth Hedef genişliği
+     * @param dstHeight Hedef yüksekliği
+     * @param kernel Çekirdek
+     */
+    public static void resize(int[] src, int srcWidth, int srcHeight, int[] dst, int dstWidth, int dstHeight,
+                              Kernel kernel) {
+        if (srcWidth == dstWidth && srcHeight == dstHeight) {
+            System.arraycopy(src, 0, dst, 0, dstWidth * dstHeight);
+            return;
+        }
+        long start = FrameTracer.begin();
+        ProcessingPool pool = ImageProcessor.getPool();
+        FrameBufferPool buffers = FrameBufferPool.shared();
+
+        // Yükseklik değişmiyorsa yatay geçiş doğrudan hedefe, genişlik değişmiyorsa dikey geçiş kaynaktan okur
+        int[] rows = src;
+        int[] staged = null;
+        if (srcWidth != dstWidth) {
+            Weights horizontal = weights(srcWidth, dstWidth, kernel);
+            staged = srcHeight != dstHeight ? buffers.acquireBuffer(dstWidth, srcHeight) : null;
+            rows = staged != null ? staged : dst;
+            int[] target = rows;
+            pool.forEachRowRange(srcHeight, (startY, endY) ->
+                    horizontal(src, srcWidth, target, dstWidth, startY, endY, horizontal));
+        }
+        try {
+            if (srcHeight != dstHeight) {
+                Weights vertical = weights(srcHeight, dstHeight, kernel);
+                int[] from = rows;
+                pool.forEachRowRange(dstHeight, (startY, endY) ->
+                        vertical(from, dst, dstWidth, startY, endY, vertical));
+            }
+        } finally {
+            buffers.releaseBuffer(dstWidth, srcHeight, staged);
+        }
+        FrameTracer.end(FrameTracer.FILTER, kernel.label, start);
+    }
+
+    private static void horizontal(int[] src, int srcWidth, int[] dst, int dstWidth, int startY, int endY,
+                                   Weights weights) {
+        int taps = weights.taps;
+        int[] offsets = weights.offsets;
+        int[] table = weights.values;
+        for (int y = startY; y < endY; y++) {
+            int row = y * srcWidth;
+            int out = y * dstWidth;
+            for (int x = 0; x < dstWidth; x++) {
+                int base = row + offsets[x];
+                int w0 = x * taps;
+                int r = ROUNDING;
+                int g = ROUNDING;
+                int b = ROUNDING;
+                for (int k = 0; k < taps; k++) {
+                    int w = table[w0 + k];
+                    int p = src[base + k];
+                    r += ((p >> 16) & 0xFF) * w;
+                    g += ((p >> 8) & 0xFF) * w;
+                    b += (p & 0xFF) * w;
+                }
+                dst[out + x] = pack(r, g, b);
+            }
+        }
+    }
+
+    private static void vertical(int[] src, int[] dst, int width, int startY, int endY, Weights weights) {
+        int taps = weights.taps;
+        int[][] accumulators = ACCUMULATORS.get();
+        if (accumulators[0].length < width) {
+            for (int c = 0; c < 3; c++) {
+                accumulators[c] = new int[width];
+            }
+        }
+        int[] r = accumulators[0];
+        int[] g = accumulators[1];
+        int[] b = accumulators[2];
+
+        // Satırlar sırayla okunur; her kaynak satır ardışık belleğe erişir
+        for (int y = startY; y < endY; y++) {
+            Arrays.fill(r, 0, width, ROUNDING);
+            Arrays.fill(g, 0, width, ROUNDING);
+            Arrays.fill(b, 0, width, ROUNDING);
+            int first = weights.offsets[y];
+            for (int k = 0; k < taps; k++) {
+                int w = weights.values[y * taps + k];
+                if (w == 0) {
+                    continue;
+                }
+                int row = (first + k) * width;
+                for (int x = 0; x < width; x++) {
+                    int p = src[row + x];
+                    r[x] += ((p >> 16) & 0xFF) * w;
+                    g[x] += ((p >> 8) & 0xFF) * w;
+                    b[x] += (p & 0xFF) * w;
+                }
+            }
+            int out = y * width;
+            for (int x = 0; x < width; x++) {
+                dst[out + x] = pack(r[x], g[x], b[x]);
+            }
+        }
+    }
+
+    private static int pack(int r, int g, int b) {
+        // Lanczos'un negatif lobları nedeniyle toplam [0, 255] dışına çıkabilir
+        r = Math.min(255, Math.max(0, r >> WEIGHT_BITS));
+        g = Math.min(255, Math.max(0, g >> WEIGHT_BITS));
+        b = Math.min(255, Math.max(0, b >> WEIGHT_BITS));
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+
+    private static Weights weights(int srcLength, int dstLength, Kernel kernel) {
+        Key key = new Key(srcLength, dstLength, kernel);
+        Weights weights = TABLES.get(key);
+        if (weights == null) {
+            if (TABLES.size() >= MAX_CACHED_TABLES) {
+                TABLES.clear();
+            }
+            weights = TABLES.computeIfAbsent(key, k -> new Weights(srcLength, dstLength, kernel));
+        }
+        return weights;
+    }
+
+    /**
+     * Bir eksen için önceden hesaplanmış ağırlık tablosu. Hedef piksel i,
+     * offsets[i]'den başlayan taps adet kaynak pikselin values[i * taps ..]
+     * ağırlıklarıyla toplamıdır. Pencereler kaynak içinde kalacak şekilde
+     * kaydırılır; pencerenin dışa taşan ağırlıkları sıfırdır.
+     */
+    private static final class Weights {
+        final int taps;
+        final int[] offsets;
+        final int[] values;
+
+        Weights(int srcLength, int dstLength, Kernel kernel) {
+            double scale = (double) srcLength / dstLength;
+            double support = kernel.support(scale);
+            taps = Math.min(srcLength, (int) Math.ceil(2 * support) + 1);
+            offsets = new int[dstLength];
+            values = new int[dstLength * taps];
+            double[] raw = new double[taps];
+
+            for (int i = 0; i < dstLength; i++) {
+                double center = (i + 0.5) * scale;
+                int first = Math.max(0, (int) Math.floor(center - support));
+                first = Math.min(first, srcLength - taps);
+
+                double sum = 0;
+                for (int k = 0; k < taps; k++) {
+                    int pixel = first + k;
+                    raw[k] = kernel.weight(pixel - center, pixel + 1 - center, scale);
+                    sum += raw[k];
+                }
+                if (sum == 0) {
+                    // Çok küçük pencerede ağırlık kalmadıysa en yakın piksel alınır
+                    int nearest = Math.min(srcLength - 1, (int) center) - first;
+                    raw[nearest] = 1;
+                    sum = 1;
+                }
+
+                // Yuvarlama artığı en büyük ağırlığa eklenir; toplam tam olarak WEIGHT_ONE olur
+                int total = 0;
+                int largest = 0;
+                for (int k = 0; k < taps; k++) {
+                    int value = (int) Math.round(raw[k] / sum * WEIGHT_ONE);
+                    values[i * taps + k] = value;
+                    total += value;
+                    if (value > values[i * taps + largest]) {
+                        largest = k;
+                    }
+                }
+                values[i * taps + largest] += WEIGHT_ONE - total;
+                offsets[i] = first;
+            }
+        }
+    }
+}
@@ -0,0 +1,355 @@
+// src/main/java/starter/processing/TileScheduler.java
+
+package starter.processing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import starter.core.FrameTracer;
+import starter.filters.Filter;
+import starter.filters.FilterParams;
+
+/**
+ * TileScheduler, bir filtre zincirini kareyi 2B karolara (tile) bölerek
+ * paralel çalıştırır. Her karo, zincirin ardışık bir bölümünü kendi küçük
+ * çalışma alanında baştan sona işler; böylece karonun verisi işlem boyunca
+ * önbellekte kalır ve her filtreden sonra tüm thread'lerin beklenmesi
+ * gerekmez.
+ *
+ * Hale (Ghost) Bölgeleri:
+ * - Komşuluk filtreleri (Sobel, Gaussian) karo sınırlarının dışındaki
+ *   piksellere ihtiyaç duyar
+ * - Karo, bölümdeki filtrelerin yarıçapları toplamı kadar genişletilmiş bir
+ *   bölge olarak kopyalanır; her filtre bir öncekinin hale dahil çıktısını okur
+ * - Hale piksellerinin karo kenarındaki hatalı sonuçları her adımda içeriye
+ *   doğru en fazla filtre yarıçapı kadar ilerler ve karo içine ulaşmaz
+ * - Kare kenarına denk gelen karo kenarlarında kırpma, sıralı işlemeyle
+ *   birebir aynıdır; sonuç sıralı yolla bit düzeyinde aynıdır
+ *
+ * Bariyerler:
+ * - Toplam hale, karo boyutuna göre belirlenen bütçeyi aşacaksa zincir
+ *   yeni bir bölüme ayrılır ve bölümler arasında tüm kare beklenir
+ * - Karolara bölünemeyen filtreler (ör. ASCII Art) tek başına, tüm kare
+ *   üzerinde satır aralıklarıyla çalıştırılır
+ */
+public final class TileScheduler {
+
+    /** Varsayılan karo kenar uzunluğu (piksel) */
+    public static final int DEFAULT_TILE_SIZE = 128;
+
+    private final ProcessingPool pool;
+    private final int tileSize;
+    private final int haloBudget;
+
+    // Her işçi thread'inin karo çalışma alanı; karo başına dizi oluşturulmaz
+    private static final ThreadLocal<int[][]> SCRATCH = ThreadLocal.withInitial(() -> new int[2][0]);
+
+    /**
+     * Yeni bir karo zamanlayıcı oluşturur.
+     *
+     * @param pool Karoların çalıştırılacağı işleme havuzu
+     * @param tileSize Karo kenar uzunluğu (piksel)
+     */
+    public TileScheduler(ProcessingPool pool, int tileSize) {
+        this.pool = pool;
+        this.tileSize = Math.max(16, tileSize);
+        // Hale, karo kenarının 1/8'ini aşmazsa yedekli hesaplama en fazla ~%56 olur
+        this.haloBudget = Math.max(2, this.tileSize / 8);
+    }
+
+    /**
+     * Zamanlayıcının kullandığı işleme havuzunu döndürür.
+     *
+     * @return İşleme havuzu
+     */
+    public ProcessingPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Filtre zincirini çalıştırır. Kaynak dizi yalnızca okunur; bölümler
+     * out ve scratch dizileri arasında dönüşümlü yazar ve son bölüm her
+     * zaman out'a yazar.
+     *
+     * @param chain Filtre zinciri
+     * @param params Filtre parametreleri
+     * @param src Girdi pikselleri (width * height)
+     * @param out Sonucun yazılacağı dizi
+     * @param scratch Aynı boyutta ara dizi
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     */
+    public void run(List<Filter> chain, FilterParams params, int[] src, int[] out, int[] scratch, int width, int height) {
+        runSegments(plan(chain, params), null, params, src, out, scratch, width, height, ProcessingStatistics.PARALLEL);
+    }
+
+    /**
+     * Filtre zincirini yalnızca girdisi değişen karoların etkilediği
+     * karolar için çalıştırır (bkz. IncrementalProcessor). Bir karodaki
+     * değişim, zincirin toplam halesi kadar komşu karolara yayılır; bu
+     * karolar çıktıda yeniden hesaplanır. Bölümler arasında ara sonuçlar
+     * yalnızca hesaplanan karolar için geçerli olduğundan, her bölüm bir
+     * sonraki bölümün okuyacağı hale kadar genişletilmiş karo kümesini
+     * işler. Yeniden hesaplanmayan karoların out'taki içeriği tanımsızdır.
+     *
+     * Zincirde karolara bölünemeyen bir filtre varsa tüm kare işlenir.
+     *
+     * @param chain Filtre zinciri
+     * @param params Filtre parametreleri
+     * @param src Girdi pikselleri (width * height)
+     * @param out Sonucun yazılacağı dizi
+     * @param scratch Aynı boyutta ara dizi
+     * @param width Kare genişliği
+     * @param height Kare yüksekliği
+     * @param changed Girdisi değişen karolar (satır sıralı karo ızgarası)
+     * @param recomputed Dönüşte, çıktısı yeniden hesaplanan karolar
+     * @return Yeniden hesaplanan karo sayısı
+     */
+    int runChanged(List<Filter> chain, FilterParams params, int[] src, int[] out, int[] scratch,
+                   int width, int height, boolean[] changed, boolean[] recomputed) {
+        List<Segment> segments = plan(chain, params);
+        int tilesX = (width + tileSize - 1) / tileSize;
+        int tilesY = (height + tileSize - 1) / tileSize;
+
+        int totalHalo = 0;
+        for (Segment segment : segments) {
+            if (!segment.tiled) {
+                Arrays.fill(recomputed, true);
+                runSegments(segments, null, params, src, out, scratch, width, height, ProcessingStatistics.INCREMENTAL);
+                return recomputed.length;
+            }
+            totalHalo += segment.halo;
+        }
+
+        // Son bölüm çıktısı değişen karoları, önceki bölümler bunların halesini üretir
+        boolean[][] masks = new boolean[segments.size()][];
+        masks[segments.size() - 1] = dilate(changed, tilesX, tilesY, tilesFor(totalHalo));
+        for (int s = segments.size() - 1; s > 0; s--) {
+            masks[s - 1] = dilate(masks[s], tilesX, tilesY, tilesFor(segments.get(s).halo));
+        }
+        runSegments(segments, masks, params, src, out, scratch, width, height, ProcessingStatistics.INCREMENTAL);
+
+        boolean[] last = masks[segments.size() - 1];
+        int count = 0;
+        for (int tile = 0; tile < recomputed.length; tile++) {
+            recomputed[tile] = last[tile];
+            if (last[tile]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Bölümleri sırayla çalıştırır. masks verildiyse her karolu bölüm
+     * yalnızca kendi maskesindeki karoları işler.
+     */
+    private void runSegments(List<Segment> segments, boolean[][] masks, FilterParams params, int[] src, int[] out,
+                             int[] scratch, int width, int height, String mode) {
+        int tilesX = (width + tileSize - 1) / tileSize;
+        int tilesY = (height + tileSize - 1) / tileSize;
+        int[] current = src;
+
+        for (int s = 0; s < segments.size(); s++) {
+            Segment segment = segments.get(s);
+            final int[] from = current;
+            final int[] to = ImageProcessor.stageTarget(s, segments.size(), out, scratch);
+            // Bu bölümde işlenecek karo indeksleri; maske yoksa tüm karolar
+            final int[] tiles = masks != null ? selected(masks[s]) : null;
+            int tileCount = tiles != null ? tiles.length : tilesX * tilesY;
+            // Bölümler arası bariyer: sonraki bölüm bu bölümün tam çıktısını okur
+            current = to;
+            if (tileCount == 0) {
+                continue;
+            }
+            long start = System.nanoTime();
+
+            if (segment.tiled) {
+                pool.forEachTile(tileCount, (first, last) -> {
+                    for (int i = first; i < last; i++) {
+                        int tile = tiles != null ? tiles[i] : i;
+                        int x0 = (tile % tilesX) * tileSize;
+                        int y0 = (tile / tilesX) * tileSize;
+                        runTile(segment, params, from, to, width, height,
+                                x0, y0, Math.min(width, x0 + tileSize), Math.min(height, y0 + tileSize));
+                    }
+                });
+            } else {
+                Filter filter = segment.filters.get(0);
+                pool.forEachRowRange(height, (startY, endY) ->
+                        filter.apply(from, to, width, height, startY, endY, params));
+            }
+
+            ProcessingStatistics.recordFilter(mode, segment.name, System.nanoTime() - start);
+            FrameTracer.end(FrameTracer.FILTER, segment.name, start);
+        }
+    }
+
+    /**
+     * Karo kenar uzunluğunu döndürür.
+     *
+     * @return Karo kenarı (piksel)
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    // Bir halenin uzandığı karo sayısı
+    private int tilesFor(int halo) {
+        return (halo + tileSize - 1) / tileSize;
+    }
+
+    private static boolean[] dilate(boolean[] mask, int tilesX, int tilesY, int reach) {
+        if (reach == 0) {
+            return mask.clone();
+        }
+        boolean[] result = new boolean[mask.length];
+        for (int ty = 0; ty < tilesY; ty++) {
+            for (int tx = 0; tx < tilesX; tx++) {
+                if (!mask[ty * tilesX + tx]) {
+                    continue;
+                }
+                for (int y = Math.max(0, ty - reach); y <= Math.min(tilesY - 1, ty + reach); y++) {
+                    for (int x = Math.max(0, tx - reach); x <= Math.min(tilesX - 1, tx + reach); x++) {
+                        result[y * tilesX + x] = true;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int[] selected(boolean[] mask) {
+        int count = 0;
+        for (boolean set : mask) {
+            if (set) {
+                count++;
+            }
+        }
+        int[] tiles = new int[count];
+        for (int tile = 0, i = 0; tile < mask.length; tile++) {
+            if (mask[tile]) {
+                tiles[i++] = tile;
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Zinciri bölümlere ayırır. Karolanabilir filtreler, toplam yarıçapları
+     * hale bütçesini aşmadığı sürece aynı bölümde toplanır.
+     *
+     * @param chain Filtre zinciri
+     * @param params Filtre parametreleri
+     * @return Bölüm listesi
+     */
+    private List<Segment> plan(List<Filter> chain, FilterParams params) {
+        List<Segment> segments = new ArrayList<>();
+        Segment open = null;
+
+        for (Filter filter : chain) {
+            if (!filter.isTileable()) {
+                segments.add(new Segment(List.of(filter), false, new int[] {0}));
+                open = null;
+                continue;
+            }
+            int radius = filter.getRadius(params);
+            if (open == null || (open.halo > 0 && open.halo + radius > haloBudget)) {
+                open = new Segment(new ArrayList<>(), true, null);
+                segments.add(open);
+            }
+            open.filters.add(filter);
+            open.halo += radius;
+        }
+
+        for (Segment segment : segments) {
+            segment.computeTrailingHalos(params);
+            segment.name = segment.filters.size() == 1
+                    ? segment.filters.get(0).getName()
+                    : segment.filters.stream().map(Filter::getName).collect(Collectors.joining(" + "));
+        }
+        return segments;
+    }
+
+    /**
+     * Tek bir karoyu, bölümdeki tüm filtrelerden geçirir.
+     *
+     * Karo [x0, x1) x [y0, y1) bölgesi, bölüm halesi kadar genişletilerek
+     * (kare sınırlarına kırpılarak) yerel bir diziye kopyalanır. Her filtre
+     * yerel diziyi küçük bir kareymiş gibi işler; filtre i yalnızca sonraki
+     * filtrelerin ihtiyaç duyduğu satırları (karo + kalan hale) üretir.
+     */
+    private static void runTile(Segment segment, FilterParams params, int[] src, int[] dst,
+                                int width, int height, int x0, int y0, int x1, int y1) {
+        int halo = segment.halo;
+        int bx0 = Math.max(0, x0 - halo);
+        int by0 = Math.max(0, y0 - halo);
+        int bx1 = Math.min(width, x1 + halo);
+        int by1 = Math.min(height, y1 + halo);
+        int bw = bx1 - bx0;
+        int bh = by1 - by0;
+
+        int[][] scratch = SCRATCH.get();
+        int size = bw * bh;
+        if (scratch[0].length < size) {
+            scratch[0] = new int[size];
+            scratch[1] = new int[size];
+        }
+        int[] a = scratch[0];
+        int[] b = scratch[1];
+
+        for (int y = by0; y < by1; y++) {
+            System.arraycopy(src, y * width + bx0, a, (y - by0) * bw, bw);
+        }
+
+        List<Filter> filters = segment.filters;
+        for (int i = 0; i < filters.size(); i++) {
+            // Bu filtrenin çıktısı, sonraki filtrelerin yarıçapları kadar genişletilmiş karo bölgesini kapsamalı
+            int remaining = segment.trailingHalo[i];
+            int startY = Math.max(0, y0 - remaining - by0);
+            int endY = Math.min(bh, y1 + remaining - by0);
+            filters.get(i).apply(a, b, bw, bh, startY, endY, params);
+            int[] swap = a;
+            a = b;
+            b = swap;
+        }
+
+        int tileWidth = x1 - x0;
+        for (int y = y0; y < y1; y++) {
+            System.arraycopy(a, (y - by0) * bw + (x0 - bx0), dst, y * width + x0, tileWidth);
+        }
+    }
+
+    /**
+     * Zincirin, aralarında bariyer olmadan çalıştırılan ardışık bölümü.
+     */
+    private static final class Segment {
+        final List<Filter> filters;
+        final boolean tiled;
+        // İstatistiklerde kullanılan ad: bölümdeki filtrelerin adları
+        String name;
+        int halo;
+        // trailingHalo[i]: filtre i'den sonraki filtrelerin yarıçapları toplamı
+        int[] trailingHalo;
+
+        Segment(List<Filter> filters, boolean tiled, int[] trailingHalo) {
+            this.filters = filters;
+            this.tiled = tiled;
+            this.trailingHalo = trailingHalo;
+        }
+
+        void computeTrailingHalos(FilterParams params) {
+            if (trailingHalo != null) {
+                return;
+            }
+            trailingHalo = new int[filters.size()];
+            int sum = 0;
+            for (int i = filters.size() - 1; i >= 0; i--) {
+                trailingHalo[i] = sum;
+                sum += filters.get(i).getRadius(params);
+            }
+        }
+    }
+}
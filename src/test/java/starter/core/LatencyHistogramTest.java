@@ -0,0 +1,187 @@
+// src/test/java/starter/core/LatencyHistogramTest.java
+
+package starter.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LatencyHistogram'ın kova sınırlarını, yüzdelik doğruluğunu ve
+ * görüntülerin birleştirme/aralık davranışını sınar.
+ */
+class LatencyHistogramTest {
+
+    // Doğrusal bölgenin üstünde kova genişliğinin kova alt sınırına oranı en fazla 1/64
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 64;
+
+    @Test
+    void bucketsSmallValuesExactly() {
+        for (int value = 0; value < 128; value++) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(index).isEqualTo(value);
+            assertThat(LatencyHistogram.lowestValue(index)).isEqualTo(value);
+            assertThat(LatencyHistogram.highestValue(index)).isEqualTo(value);
+        }
+        assertThat(LatencyHistogram.indexOf(128)).isEqualTo(128);
+        assertThat(LatencyHistogram.lowestValue(128)).isEqualTo(128);
+    }
+
+    @Test
+    void bucketsAreContiguousAndNarrow() {
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT - 1; index++) {
+            long lowest = LatencyHistogram.lowestValue(index);
+            long highest = LatencyHistogram.highestValue(index);
+            assertThat(LatencyHistogram.lowestValue(index + 1)).isEqualTo(highest + 1);
+            assertThat(LatencyHistogram.indexOf(lowest)).isEqualTo(index);
+            assertThat(LatencyHistogram.indexOf(highest)).isEqualTo(index);
+            if (lowest >= 128) {
+                assertThat((double) (highest - lowest + 1) / lowest).isLessThanOrEqualTo(MAX_RELATIVE_ERROR);
+            }
+        }
+        assertThat(LatencyHistogram.indexOf(LatencyHistogram.MAX_TRACKABLE_NANOS))
+                .isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    void clampsValuesOutsideTheTrackableRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getMinNanos()).isZero();
+        assertThat(snapshot.getMaxNanos()).isEqualTo(LatencyHistogram.MAX_TRACKABLE_NANOS);
+    }
+
+    @Test
+    void reportsExactCountMeanMinAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.snapshot().getCount()).isZero();
+        assertThat(histogram.snapshot().getValueAtPercentile(50)).isZero();
+
+        for (long value : new long[] {1_000, 2_000, 3_000, 10_000_000}) {
+            histogram.record(value);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(4);
+        assertThat(snapshot.getTotalNanos()).isEqualTo(10_006_000);
+        assertThat(snapshot.getMeanNanos()).isEqualTo(10_006_000 / 4.0);
+        assertThat(snapshot.getMinNanos()).isEqualTo(1_000);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(10_000_000);
+        // Yüzdelik, değerin kovasının üst sınırıdır
+        assertThat(snapshot.getValueAtPercentile(0))
+                .isBetween(1_000L, LatencyHistogram.highestValue(LatencyHistogram.indexOf(1_000)));
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(10_000_000);
+    }
+
+    @Test
+    void percentilesAreWithinTheBucketErrorOfTheExactValues() {
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            // 10 µs .. ~1 s arası, log-düzgün dağılım
+            values[i] = (long) Math.pow(10, 4 + 5 * random.nextDouble());
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        for (double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = snapshot.getValueAtPercentile(percentile);
+            // Sonuç kovanın üst sınırıdır: gerçek değerden küçük olamaz, en fazla bir kova genişliği büyüktür
+            assertThat(reported).isGreaterThanOrEqualTo(exact);
+            assertThat((double) reported).isCloseTo(exact, within(exact * MAX_RELATIVE_ERROR));
+        }
+    }
+
+    @Test
+    void mergedSnapshotsMatchRecordingEverythingInOneHistogram() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        LatencyHistogram all = new LatencyHistogram();
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            long value = 1 + random.nextInt(5_000_000);
+            (i % 3 == 0 ? first : second).record(value);
+            all.record(value);
+        }
+
+        LatencyHistogram.Snapshot merged = first.snapshot().merge(second.snapshot());
+        LatencyHistogram.Snapshot expected = all.snapshot();
+        assertSameDistribution(merged, expected);
+
+        LatencyHistogram added = new LatencyHistogram();
+        added.add(first.snapshot());
+        added.add(second.snapshot());
+        added.add(LatencyHistogram.Snapshot.EMPTY);
+        assertSameDistribution(added.snapshot(), expected);
+
+        assertSameDistribution(expected.merge(LatencyHistogram.Snapshot.EMPTY), expected);
+    }
+
+    @Test
+    void intervalSnapshotsContainOnlyValuesSinceThePreviousOne() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(2_000);
+
+        LatencyHistogram.Snapshot firstInterval = histogram.intervalSnapshot();
+        assertThat(firstInterval.getCount()).isEqualTo(2);
+        assertThat(firstInterval.getTotalNanos()).isEqualTo(3_000);
+
+        histogram.record(5_000_000);
+        LatencyHistogram.Snapshot secondInterval = histogram.intervalSnapshot();
+        assertThat(secondInterval.getCount()).isEqualTo(1);
+        assertThat(secondInterval.getTotalNanos()).isEqualTo(5_000_000);
+        assertThat(secondInterval.getMinNanos()).isEqualTo(LatencyHistogram.lowestValue(LatencyHistogram.indexOf(5_000_000)));
+        assertThat(secondInterval.getMaxNanos()).isEqualTo(5_000_000);
+
+        assertThat(histogram.intervalSnapshot().getCount()).isZero();
+        // Aralık görüntüleri kümülatif değerleri silmez
+        assertThat(histogram.snapshot().getCount()).isEqualTo(3);
+
+        histogram.reset();
+        assertThat(histogram.snapshot().getCount()).isZero();
+        histogram.record(10);
+        assertThat(histogram.intervalSnapshot().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsEveryValueRecordedConcurrently() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 4;
+        int perThread = 50_000;
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(1_000 + offset);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo((long) threads * perThread);
+        assertThat(snapshot.getMinNanos()).isEqualTo(1_000);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(1_000 + threads - 1);
+    }
+
+    private static void assertSameDistribution(LatencyHistogram.Snapshot actual, LatencyHistogram.Snapshot expected) {
+        assertThat(actual.getCount()).isEqualTo(expected.getCount());
+        assertThat(actual.getTotalNanos()).isEqualTo(expected.getTotalNanos());
+        assertThat(actual.getMinNanos()).isEqualTo(expected.getMinNanos());
+        assertThat(actual.getMaxNanos()).isEqualTo(expected.getMaxNanos());
+        for (double percentile : new double[] {10, 50, 90, 99, 99.9}) {
+            assertThat(actual.getValueAtPercentile(percentile)).isEqualTo(expected.getValueAtPercentile(percentile));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+// src/test/java/starter/filters/GaussianBlurFilterTest.java
+
+package starter.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GaussianBlurFilter'ın ayrılabilir sabit noktalı geçişlerinin, aynı
+ * sigma ile double hassasiyetinde hesaplanan 2B Gaussian evrişiminden
+ * kanal başına en fazla 1 farklı olduğunu ve yarıçap 0/1 ile küçük
+ * karelerdeki kenar durumlarını sınar.
+ */
+class GaussianBlurFilterTest {
+
+    private final GaussianBlurFilter filter = new GaussianBlurFilter();
+
+    @Test
+    void kernelsAreSymmetricAndSumToOne() {
+        for (int radius = 1; radius <= GaussianBlurFilter.MAX_RADIUS; radius++) {
+            int[] kernel = GaussianBlurFilter.kernel(radius);
+            assertThat(kernel).hasSize(2 * radius + 1);
+            assertThat(Arrays.stream(kernel).sum()).isEqualTo(1 << 16);
+            for (int k = 0; k < radius; k++) {
+                assertThat(kernel[k]).isEqualTo(kernel[kernel.length - 1 - k]);
+            }
+        }
+    }
+
+    @Test
+    void staysWithinOneOfTheExactTwoDimensionalBlur() {
+        Random random = new Random(5);
+        int width = 61;
+        int height = 43;
+        int[] src = randomPixels(width * height, random);
+        for (int radius : new int[] {1, 2, 3, 5, 8, 16}) {
+            int[] actual = new int[width * height];
+            filter.apply(src, actual, width, height, 0, height, new FilterParams(100, radius));
+            int[] expected = reference(src, width, height, radius);
+            for (int i = 0; i < actual.length; i++) {
+                assertThat(maxChannelDifference(actual[i], expected[i]))
+                        .as("radius %d at (%d, %d)", radius, i % width, i / width)
+                        .isLessThanOrEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    void radiusZeroCopiesTheRows() {
+        int width = 9;
+        int height = 7;
+        int[] src = randomPixels(width * height, new Random(1));
+        int[] dst = new int[width * height];
+        filter.apply(src, dst, width, height, 2, 5, new FilterParams(100, 0));
+        for (int i = 0; i < dst.length; i++) {
+            int y = i / width;
+            assertThat(dst[i]).isEqualTo(y >= 2 && y < 5 ? src[i] : 0);
+        }
+        // Negatif yarıçap 0'a kırpılır
+        assertThat(filter.getRadius(new FilterParams(100, -3))).isZero();
+    }
+
+    @Test
+    void handlesFramesSmallerThanTheKernel() {
+        Random random = new Random(9);
+        for (int[] size : new int[][] {{1, 1}, {1, 6}, {6, 1}, {2, 3}}) {
+            int width = size[0];
+            int height = size[1];
+            int[] src = randomPixels(width * height, random);
+            for (int radius : new int[] {1, 4}) {
+                int[] actual = new int[width * height];
+                filter.apply(src, actual, width, height, 0, height, new FilterParams(100, radius));
+                int[] expected = reference(src, width, height, radius);
+                for (int i = 0; i < actual.length; i++) {
+                    assertThat(maxChannelDifference(actual[i], expected[i]))
+                            .as("radius %d on %dx%d", radius, width, height)
+                            .isLessThanOrEqualTo(1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void rowRangesMatchTheWholeFrame() {
+        int width = 23;
+        int height = 31;
+        int[] src = randomPixels(width * height, new Random(2));
+        FilterParams params = new FilterParams(100, 3);
+        int[] whole = new int[width * height];
+        filter.apply(src, whole, width, height, 0, height, params);
+
+        int[] pieces = new int[width * height];
+        // Yarıçaptan kısa aralıklar ve boş aralık
+        int[] bounds = {0, 1, 5, 5, 12, 30, 31};
+        for (int i = 0; i < bounds.length - 1; i++) {
+            filter.apply(src, pieces, width, height, bounds[i], bounds[i + 1], params);
+        }
+        assertThat(pieces).isEqualTo(whole);
+    }
+
+    @Test
+    void keepsAConstantImageConstant() {
+        int[] src = new int[17 * 13];
+        Arrays.fill(src, 0xFF3C80F0);
+        for (int radius : new int[] {1, 2, 7}) {
+            int[] dst = new int[src.length];
+            filter.apply(src, dst, 17, 13, 0, 13, new FilterParams(100, radius));
+            assertThat(dst).containsOnly(0xFF3C80F0);
+        }
+    }
+
+    // Kenar pikselleri tekrarlanarak, sigma = yarıçap / 2 ile double hassasiyetinde 2B evrişim
+    private static int[] reference(int[] src, int width, int height, int radius) {
+        double sigma = Math.max(0.5, radius / 2.0);
+        double[] weights = new double[2 * radius + 1];
+        double sum = 0;
+        for (int i = -radius; i <= radius; i++) {
+            weights[i + radius] = Math.exp(-(i * i) / (2 * sigma * sigma));
+            sum += weights[i + radius];
+        }
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] /= sum;
+        }
+
+        int[] out = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                double r = 0, g = 0, b = 0;
+                for (int ky = -radius; ky <= radius; ky++) {
+                    int pixelY = Math.min(Math.max(y + ky, 0), height - 1);
+                    for (int kx = -radius; kx <= radius; kx++) {
+                        int pixelX = Math.min(Math.max(x + kx, 0), width - 1);
+                        int rgb = src[pixelY * width + pixelX];
+                        double weight = weights[ky + radius] * weights[kx + radius];
+                        r += ((rgb >> 16) & 0xFF) * weight;
+                        g += ((rgb >> 8) & 0xFF) * weight;
+                        b += (rgb & 0xFF) * weight;
+                    }
+                }
+                out[y * width + x] = 0xFF000000 | ((int) Math.round(r) << 16)
+                        | ((int) Math.round(g) << 8) | (int) Math.round(b);
+            }
+        }
+        return out;
+    }
+
+    private static int maxChannelDifference(int a, int b) {
+        int difference = 0;
+        for (int shift = 0; shift <= 24; shift += 8) {
+            difference = Math.max(difference, Math.abs(((a >> shift) & 0xFF) - ((b >> shift) & 0xFF)));
+        }
+        return difference;
+    }
+
+    private static int[] randomPixels(int count, Random random) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            pixels[i] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,95 @@
+// src/test/java/starter/filters/VectorKernelsTest.java
+
+package starter.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * VECTOR arka ucunun her vektörleştirilmiş filtrede SCALAR arka uçla bit
+ * düzeyinde aynı sonucu verdiğini sınar. Genişlikler şerit sayısının katı
+ * değildir ve aralıklar satır ortasında biten vektör döngüsünden sonra
+ * skaler olarak işlenen kalan şeritleri de kapsar.
+ */
+class VectorKernelsTest {
+
+    private static final int[] WIDTHS = {1, 3, 7, 17, 33, 100};
+    private static final int HEIGHT = 9;
+
+    private KernelBackend previous;
+
+    @BeforeEach
+    void requireVectorSupport() {
+        assumeTrue(KernelBackend.isVectorAvailable(), "Vector API not available");
+        previous = KernelBackend.current();
+    }
+
+    @AfterEach
+    void restoreBackend() {
+        if (previous != null) {
+            KernelBackend.select(previous);
+        }
+    }
+
+    @Test
+    void pointwiseFiltersMatchScalar() {
+        assertVectorMatchesScalar(new GrayscaleFilter(), FilterParams.DEFAULT);
+        assertVectorMatchesScalar(new EdgeDetectionFilter(), FilterParams.DEFAULT);
+        for (int contrast = 0; contrast <= 200; contrast += 25) {
+            assertVectorMatchesScalar(new ContrastAdjustmentFilter(), new FilterParams(contrast, 2));
+        }
+    }
+
+    @Test
+    void sobelMatchesScalar() {
+        assertVectorMatchesScalar(new SobelEdgeDetectionFilter(), FilterParams.DEFAULT);
+    }
+
+    @Test
+    void fusedPointwiseChainsMatchScalar() {
+        PointwiseFilter grayscale = new GrayscaleFilter();
+        PointwiseFilter contrast = new ContrastAdjustmentFilter();
+        PointwiseFilter edges = new EdgeDetectionFilter();
+        for (List<PointwiseFilter> stages : List.of(
+                List.of(contrast, grayscale),
+                List.of(grayscale, contrast, edges),
+                List.of(contrast, edges, contrast))) {
+            for (int value : new int[] {0, 60, 100, 181, 200}) {
+                assertVectorMatchesScalar(new FusedPointwiseFilter(stages), new FilterParams(value, 2));
+            }
+        }
+    }
+
+    private static void assertVectorMatchesScalar(Filter filter, FilterParams params) {
+        Random random = new Random(17);
+        for (int width : WIDTHS) {
+            int[] src = new int[width * HEIGHT];
+            for (int i = 0; i < src.length; i++) {
+                src[i] = 0xFF000000 | random.nextInt(0x1000000);
+            }
+            // Tüm kare ve kenar satırlarını içermeyen bir aralık
+            for (int[] range : new int[][] {{0, HEIGHT}, {2, 7}, {HEIGHT - 1, HEIGHT}}) {
+                int[] scalar = apply(filter, KernelBackend.SCALAR, src, width, range, params);
+                int[] vector = apply(filter, KernelBackend.VECTOR, src, width, range, params);
+                assertThat(vector)
+                        .as("%s, width %d, rows %d-%d, contrast %d",
+                                filter.getName(), width, range[0], range[1], params.contrastValue())
+                        .isEqualTo(scalar);
+            }
+        }
+    }
+
+    private static int[] apply(Filter filter, KernelBackend backend, int[] src, int width, int[] range,
+                               FilterParams params) {
+        assertThat(KernelBackend.select(backend)).isEqualTo(backend);
+        int[] dst = new int[src.length];
+        filter.apply(src, dst, width, HEIGHT, range[0], range[1], params);
+        return dst;
+    }
+}
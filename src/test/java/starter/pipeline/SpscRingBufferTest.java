@@ -0,0 +1,120 @@
+// src/test/java/starter/pipeline/SpscRingBufferTest.java
+
+package starter.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SpscRingBuffer'ın sınır durumlarını (boş, dolu, sarma) tek thread'de ve
+ * FIFO sırasını bir üretici ile bir tüketici thread'i arasında sınar.
+ */
+class SpscRingBufferTest {
+
+    @Test
+    void roundsCapacityUpToAPowerOfTwo() {
+        assertThat(new SpscRingBuffer<Integer>(1).capacity()).isEqualTo(1);
+        assertThat(new SpscRingBuffer<Integer>(3).capacity()).isEqualTo(4);
+        assertThat(new SpscRingBuffer<Integer>(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new SpscRingBuffer<Integer>(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SpscRingBuffer<Integer>(2).offer(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rejectsOffersWhenFullAndReturnsNullWhenEmpty() {
+        SpscRingBuffer<Integer> queue = new SpscRingBuffer<>(4);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.getRejectedOffers()).isEqualTo(1);
+        assertThat(queue.getPeakOccupancy()).isEqualTo(4);
+
+        assertThat(queue.poll()).isZero();
+        assertThat(queue.offer(4)).isTrue();
+        for (int i = 1; i <= 4; i++) {
+            assertThat(queue.poll()).isEqualTo(i);
+        }
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void keepsOrderWhileWrappingAroundManyTimes() {
+        SpscRingBuffer<Integer> queue = new SpscRingBuffer<>(4);
+        int next = 0;
+        int expected = 0;
+        // Her turda farklı doluluklarla ekleyip alarak indekslerin kapasiteyi defalarca aşmasını sağla
+        for (int round = 0; round < 1_000; round++) {
+            int adds = 1 + round % 4;
+            for (int i = 0; i < adds; i++) {
+                if (queue.offer(next)) {
+                    next++;
+                }
+            }
+            int takes = 1 + (round * 7) % 4;
+            for (int i = 0; i < takes; i++) {
+                Integer value = queue.poll();
+                if (value != null) {
+                    assertThat(value).isEqualTo(expected++);
+                }
+            }
+        }
+        for (Integer value = queue.poll(); value != null; value = queue.poll()) {
+            assertThat(value).isEqualTo(expected++);
+        }
+        assertThat(expected).isEqualTo(next);
+    }
+
+    @Test
+    void deliversEveryItemInOrderBetweenTwoThreads() throws InterruptedException {
+        int items = 4_000_000;
+        SpscRingBuffer<Integer> queue = new SpscRingBuffer<>(64);
+        AtomicReference<String> error = new AtomicReference<>();
+        AtomicLong received = new AtomicLong();
+
+        // Beklerken yield: tek çekirdekli makinede karşı thread'in çalışabilmesi için
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < items; i++) {
+                Integer value = i;
+                while (!queue.offer(value)) {
+                    Thread.yield();
+                }
+            }
+        }, "spsc-producer");
+        Thread consumer = new Thread(() -> {
+            int expected = 0;
+            while (expected < items) {
+                Integer value = queue.poll();
+                if (value == null) {
+                    Thread.yield();
+                    continue;
+                }
+                if (value != expected) {
+                    error.compareAndSet(null, "expected " + expected + " but got " + value);
+                    return;
+                }
+                expected++;
+            }
+            received.set(expected);
+        }, "spsc-consumer");
+
+        producer.start();
+        consumer.start();
+        producer.join(60_000);
+        consumer.join(60_000);
+
+        assertThat(error.get()).isNull();
+        assertThat(received.get()).isEqualTo(items);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.getPeakOccupancy()).isLessThanOrEqualTo(queue.capacity());
+    }
+}
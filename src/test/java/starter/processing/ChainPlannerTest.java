@@ -0,0 +1,111 @@
+// src/test/java/starter/processing/ChainPlannerTest.java
+
+package starter.processing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import starter.filters.ContrastAdjustmentFilter;
+import starter.filters.EdgeDetectionFilter;
+import starter.filters.Filter;
+import starter.filters.FilterParams;
+import starter.filters.FilterRegistry;
+import starter.filters.FusedPointwiseFilter;
+import starter.filters.GaussianBlurFilter;
+import starter.filters.GrayscaleFilter;
+import starter.filters.SobelEdgeDetectionFilter;
+
+/**
+ * ChainPlanner'ın ardışık noktasal filtreleri birleştirdiğini, tek başına
+ * kalan noktasal filtreye dokunmadığını ve birleşik zincirin sonucunun
+ * filtrelerin tek tek uygulanmasıyla bit düzeyinde aynı olduğunu sınar.
+ */
+class ChainPlannerTest {
+
+    private static final int WIDTH = 67;
+    private static final int HEIGHT = 29;
+    private static final int[] CONTRASTS = {0, 37, 100, 163, 200};
+
+    private static final Filter GRAYSCALE = FilterRegistry.get(GrayscaleFilter.NAME);
+    private static final Filter CONTRAST = FilterRegistry.get(ContrastAdjustmentFilter.NAME);
+    private static final Filter EDGES = FilterRegistry.get(EdgeDetectionFilter.NAME);
+    private static final Filter GAUSSIAN = FilterRegistry.get(GaussianBlurFilter.NAME);
+    private static final Filter SOBEL = FilterRegistry.get(SobelEdgeDetectionFilter.NAME);
+
+    @Test
+    void fusesPointwiseOnlyChainsIntoOneStageWithTheSameOutput() {
+        for (List<Filter> chain : List.of(
+                List.of(GRAYSCALE, CONTRAST),
+                List.of(CONTRAST, GRAYSCALE, EDGES),
+                List.of(EDGES, CONTRAST, CONTRAST),
+                List.of(CONTRAST, EDGES, GRAYSCALE, CONTRAST))) {
+            List<Filter> plan = ChainPlanner.plan(chain);
+            assertThat(plan).hasSize(1);
+            assertThat(stages(plan.get(0))).containsExactlyElementsOf(chain);
+            assertSameOutput(chain, plan);
+        }
+    }
+
+    @Test
+    void fusesTheRunsOnEitherSideOfASpatialFilter() {
+        List<Filter> chain = List.of(GRAYSCALE, CONTRAST, GAUSSIAN, EDGES, CONTRAST);
+        List<Filter> plan = ChainPlanner.plan(chain);
+        assertThat(plan).hasSize(3);
+        assertThat(stages(plan.get(0))).containsExactly(GRAYSCALE, CONTRAST);
+        assertThat(plan.get(1)).isSameAs(GAUSSIAN);
+        assertThat(stages(plan.get(2))).containsExactly(EDGES, CONTRAST);
+        assertSameOutput(chain, plan);
+
+        List<Filter> mixed = List.of(CONTRAST, EDGES, SOBEL, GRAYSCALE, GAUSSIAN, CONTRAST, GRAYSCALE);
+        assertSameOutput(mixed, ChainPlanner.plan(mixed));
+    }
+
+    @Test
+    void leavesASinglePointwiseFilterUnfused() {
+        assertThat(ChainPlanner.plan(List.of(CONTRAST))).containsExactly(CONTRAST);
+        assertThat(ChainPlanner.plan(List.of(GRAYSCALE, SOBEL, EDGES)))
+                .containsExactly(GRAYSCALE, SOBEL, EDGES);
+        assertThat(ChainPlanner.plan(List.of())).isEmpty();
+    }
+
+    @Test
+    void returnsTheCachedPlanForAnEqualChain() {
+        List<Filter> plan = ChainPlanner.compile(List.of(GrayscaleFilter.NAME, ContrastAdjustmentFilter.NAME));
+        assertThat(ChainPlanner.plan(List.of(GRAYSCALE, CONTRAST))).isSameAs(plan);
+    }
+
+    // Birleşik plan, her kontrast değerinde filtrelerin tek tek uygulanmasıyla aynı çıktıyı vermeli
+    private static void assertSameOutput(List<Filter> chain, List<Filter> plan) {
+        int[] src = randomPixels(WIDTH * HEIGHT, new Random(chain.size()));
+        for (int contrast : CONTRASTS) {
+            FilterParams params = new FilterParams(contrast, 2);
+            assertThat(run(plan, params, src))
+                    .as("%s at contrast %d", plan, contrast)
+                    .isEqualTo(run(chain, params, src));
+        }
+    }
+
+    private static List<Filter> stages(Filter fused) {
+        assertThat(fused).isInstanceOf(FusedPointwiseFilter.class);
+        return List.copyOf(((FusedPointwiseFilter) fused).getStages());
+    }
+
+    private static int[] run(List<Filter> chain, FilterParams params, int[] src) {
+        int[] out = new int[src.length];
+        ImageProcessor.runChainSequentially(chain, params, src, out, new int[src.length], WIDTH, HEIGHT, null);
+        return out;
+    }
+
+    private static int[] randomPixels(int count, Random random) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            pixels[i] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+        // Kanal uçlarındaki değerler de bulunsun
+        pixels[0] = 0xFF000000;
+        pixels[1] = 0xFFFFFFFF;
+        return pixels;
+    }
+}
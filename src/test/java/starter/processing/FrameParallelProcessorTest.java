@@ -0,0 +1,142 @@
+// src/test/java/starter/processing/FrameParallelProcessorTest.java
+
+package starter.processing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FrameParallelProcessor'ın sıralama tamponunu sınar: kareler hangi sırayla
+ * biterse bitsin gönderim sırasıyla verilmeli, yoldaki kare sınırı
+ * aşılmamalı ve halka yuvaları turlar boyunca doğru yeniden kullanılmalıdır.
+ */
+class FrameParallelProcessorTest {
+
+    private ProcessingPool pool;
+
+    @BeforeEach
+    void createPool() {
+        pool = new ProcessingPool(4);
+    }
+
+    @AfterEach
+    void closePool() {
+        pool.close();
+    }
+
+    @Test
+    void emitsFramesInSubmissionOrderWhenTheyCompleteInReverse() throws InterruptedException {
+        FrameParallelProcessor<Integer> processor = new FrameParallelProcessor<>(pool, 4);
+        List<CountDownLatch> gates = new ArrayList<>();
+        CountDownLatch finished = new CountDownLatch(3);
+        for (int i = 0; i < 4; i++) {
+            CountDownLatch gate = new CountDownLatch(1);
+            gates.add(gate);
+            int frame = i;
+            assertThat(processor.trySubmit(frame, f -> {
+                await(gate);
+                if (frame > 0) {
+                    finished.countDown();
+                }
+            })).isTrue();
+        }
+
+        // Son üç kare önce biter; ilk kare bitmeden hiçbiri verilmez
+        for (int i = 3; i >= 1; i--) {
+            gates.get(i).countDown();
+        }
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processor.poll()).isNull();
+        assertThat(processor.getInFlight()).isEqualTo(4);
+
+        gates.get(0).countDown();
+        List<Integer> emitted = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            emitted.add(processor.take());
+        }
+        assertThat(emitted).containsExactly(0, 1, 2, 3);
+        assertThat(processor.getInFlight()).isZero();
+        assertThat(processor.poll()).isNull();
+        assertThat(processor.take()).isNull();
+    }
+
+    @Test
+    void rejectsSubmissionsAtTheInFlightLimitUntilAFrameIsTaken() {
+        FrameParallelProcessor<Integer> processor = new FrameParallelProcessor<>(pool, 3);
+        CountDownLatch gate = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            assertThat(processor.trySubmit(i, f -> await(gate))).isTrue();
+        }
+        assertThat(processor.trySubmit(3, f -> { })).isFalse();
+        assertThat(processor.getInFlight()).isEqualTo(processor.getMaxInFlight());
+
+        gate.countDown();
+        assertThat(processor.take()).isZero();
+        assertThat(processor.trySubmit(3, f -> { })).isTrue();
+        assertThat(processor.trySubmit(4, f -> { })).isFalse();
+
+        List<Integer> emitted = new ArrayList<>();
+        for (Integer frame = processor.take(); frame != null; frame = processor.take()) {
+            emitted.add(frame);
+        }
+        assertThat(emitted).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void keepsOrderAcrossManyRoundsOfSlotReuse() {
+        FrameParallelProcessor<Integer> processor = new FrameParallelProcessor<>(pool, 5);
+        int frames = 500;
+        List<Integer> emitted = new ArrayList<>();
+        int next = 0;
+        while (emitted.size() < frames) {
+            // Yuva sayısından farklı bir adımla gönderilir; halka her turda başka bir yuvadan devam eder
+            while (next < frames && processor.trySubmit(next, f -> sleepMicros(ThreadLocalRandom.current().nextInt(300)))) {
+                next++;
+            }
+            Integer frame = processor.poll();
+            if (frame == null) {
+                frame = processor.take();
+            }
+            emitted.add(frame);
+        }
+        for (int i = 0; i < frames; i++) {
+            assertThat(emitted.get(i)).isEqualTo(i);
+        }
+        assertThat(processor.getInFlight()).isZero();
+    }
+
+    @Test
+    void emitsAFrameWhoseWorkThrew() {
+        FrameParallelProcessor<Integer> processor = new FrameParallelProcessor<>(pool, 2);
+        processor.trySubmit(0, f -> {
+            throw new IllegalStateException("expected by the test");
+        });
+        processor.trySubmit(1, f -> { });
+        assertThat(processor.take()).isZero();
+        assertThat(processor.take()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch gate) {
+        try {
+            gate.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepMicros(int micros) {
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+// src/test/java/starter/processing/IncrementalProcessorTest.java
+
+package starter.processing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import starter.core.ImageUtils;
+import starter.filters.ASCIIArtFilter;
+import starter.filters.ContrastAdjustmentFilter;
+import starter.filters.Filter;
+import starter.filters.FilterParams;
+import starter.filters.FilterRegistry;
+import starter.filters.GaussianBlurFilter;
+import starter.filters.GrayscaleFilter;
+import starter.filters.SobelEdgeDetectionFilter;
+
+/**
+ * Eşik 0 iken artımlı işlemenin her karede tam işlemeyle bit düzeyinde
+ * aynı çıktıyı verdiğini sınar. Kare dizisi yerel değişimler içerir:
+ * karo ortasında, karo kenarında (komşu karonun halesinde), tek kanalda
+ * 1 birimlik, iki karoya yayılan ve kısmi kenar karosundaki değişimler,
+ * değişmeyen bir kare ve önceki içeriğe geri dönüş.
+ */
+class IncrementalProcessorTest {
+
+    private static final int WIDTH = 83;
+    private static final int HEIGHT = 61;
+    private static final int TILE_SIZE = 16;
+
+    private ProcessingPool pool;
+
+    @BeforeEach
+    void createPool() {
+        pool = new ProcessingPool(3);
+    }
+
+    @AfterEach
+    void closePool() {
+        pool.close();
+    }
+
+    @Test
+    void matchesFullProcessingOnEveryFrame() {
+        Filter gaussian = filter(GaussianBlurFilter.NAME);
+        Filter sobel = filter(SobelEdgeDetectionFilter.NAME);
+        Filter contrast = filter(ContrastAdjustmentFilter.NAME);
+        Filter grayscale = filter(GrayscaleFilter.NAME);
+        assertMatchesFullProcessing(List.of(gaussian, sobel, contrast), new FilterParams(130, 2));
+        // Toplam hale 16 piksellik karonun bütçesini aşar; değişim bölümler boyunca yayılır
+        assertMatchesFullProcessing(List.of(grayscale, gaussian, sobel), new FilterParams(100, 5));
+        assertMatchesFullProcessing(List.of(sobel, gaussian, sobel), new FilterParams(100, 1));
+        assertMatchesFullProcessing(List.of(contrast), new FilterParams(170, 2));
+        // Karolanamayan filtre içeren zincir her karede tümüyle işlenir
+        assertMatchesFullProcessing(List.of(gaussian, filter(ASCIIArtFilter.NAME)), FilterParams.DEFAULT);
+    }
+
+    @Test
+    void runFiltersIncrementallyMatchesRunFiltersSequentially() {
+        System.setProperty(ImageProcessor.INCREMENTAL_THRESHOLD_PROPERTY, "0");
+        System.setProperty(ImageProcessor.TILE_SIZE_PROPERTY, String.valueOf(TILE_SIZE));
+        // Yeni özelliklerle artımlı işlemci yeniden oluşturulsun
+        ImageProcessor.shutdownPool();
+        try {
+            List<String> operations = List.of(GrayscaleFilter.NAME, GaussianBlurFilter.NAME,
+                    SobelEdgeDetectionFilter.NAME, ContrastAdjustmentFilter.NAME);
+            int index = 0;
+            for (int[] frame : frames()) {
+                BufferedImage input = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+                ImageUtils.writeIntRgb(frame, input);
+                BufferedImage expected = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+                BufferedImage actual = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+                ImageProcessor.runFiltersSequentially(input, expected, operations, 120);
+                ImageProcessor.runFiltersIncrementally(input, actual, operations, 120);
+
+                assertThat(ImageUtils.intRgbData(actual))
+                        .as("frame %d", index++)
+                        .isEqualTo(ImageUtils.intRgbData(expected));
+            }
+        } finally {
+            System.clearProperty(ImageProcessor.INCREMENTAL_THRESHOLD_PROPERTY);
+            System.clearProperty(ImageProcessor.TILE_SIZE_PROPERTY);
+            ImageProcessor.shutdownPool();
+        }
+    }
+
+    private void assertMatchesFullProcessing(List<Filter> chain, FilterParams params) {
+        IncrementalProcessor processor = new IncrementalProcessor(new TileScheduler(pool, TILE_SIZE), 0);
+        int[] out = new int[WIDTH * HEIGHT];
+        int[] scratch = new int[WIDTH * HEIGHT];
+        int index = 0;
+        for (int[] frame : frames()) {
+            int[] expected = new int[WIDTH * HEIGHT];
+            ImageProcessor.runChainSequentially(chain, params, frame, expected, new int[WIDTH * HEIGHT],
+                    WIDTH, HEIGHT, null);
+            // out önceki karenin sonucunu taşır; yeniden kullanılmayan içerik sonucu bozmamalı
+            processor.run(chain, params, frame, out, scratch, WIDTH, HEIGHT);
+            assertThat(out).as("%s, frame %d", chain.stream().map(Filter::getName).toList(), index++)
+                    .isEqualTo(expected);
+        }
+    }
+
+    // Her kare bir öncekinden küçük, yerel farklarla türetilir
+    private static List<int[]> frames() {
+        Random random = new Random(23);
+        int[] base = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < base.length; i++) {
+            base[i] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+
+        List<int[]> frames = new ArrayList<>();
+        frames.add(base);
+        // Değişmeyen kare
+        frames.add(base.clone());
+        // Karo ortasında tek piksel
+        frames.add(change(frames.get(frames.size() - 1), 24, 24, 1, 1, 0xFFFFFFFF));
+        // Karo sağ kenarındaki sütun: yalnızca komşu karonun halesinde etkili
+        frames.add(change(frames.get(frames.size() - 1), 31, 40, 1, 3, 0xFF000000));
+        // Karo alt kenarının hemen altındaki satır: üstteki karonun halesinde
+        frames.add(change(frames.get(frames.size() - 1), 50, 32, 4, 1, 0xFF10E020));
+        // Tek kanalda 1 birimlik fark (eşik 0 bunu yakalamalı)
+        int[] nudged = frames.get(frames.size() - 1).clone();
+        nudged[10 * WIDTH + 70] ^= 0x00000001;
+        frames.add(nudged);
+        // İki karoya yayılan blok
+        frames.add(change(frames.get(frames.size() - 1), 12, 5, 9, 7, 0xFF808080));
+        // Sağ alttaki kısmi karo
+        frames.add(change(frames.get(frames.size() - 1), WIDTH - 1, HEIGHT - 1, 1, 1, 0xFF0000FF));
+        // İlk kareye geri dönüş
+        frames.add(base.clone());
+        return frames;
+    }
+
+    private static int[] change(int[] previous, int x0, int y0, int w, int h, int rgb) {
+        int[] frame = previous.clone();
+        for (int y = y0; y < y0 + h; y++) {
+            for (int x = x0; x < x0 + w; x++) {
+                frame[y * WIDTH + x] = rgb;
+            }
+        }
+        return frame;
+    }
+
+    private static Filter filter(String name) {
+        return FilterRegistry.get(name);
+    }
+}
@@ -0,0 +1,139 @@
+// src/test/java/starter/processing/ResamplerTest.java
+
+package starter.processing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import starter.core.ImageUtils;
+
+/**
+ * Resampler'ın aynı boyutta girdiyi değiştirmeden verdiğini, 14 bit
+ * ağırlıkların her çekirdekte ve her ölçekte toplamı 1 olduğu için sabit
+ * renkli bir görüntünün sabit kaldığını ve 1 piksellik ile aşırı en-boy
+ * oranlı hedeflerin doğru örneklendiğini sınar.
+ */
+class ResamplerTest {
+
+    // {kaynak genişlik, kaynak yükseklik, hedef genişlik, hedef yükseklik}
+    private static final int[][] SIZES = {
+            {97, 53, 31, 17}, {31, 17, 97, 53}, {64, 64, 1, 1}, {1, 1, 13, 7}, {400, 3, 5, 300},
+            {1, 200, 50, 1}, {7, 1, 1000, 1}, {1, 9, 1, 4}, {640, 480, 639, 481}, {3, 3, 2, 2}};
+
+    @Test
+    void returnsTheInputUnchangedAtTheSameSize() {
+        int[] src = randomPixels(45 * 23, new Random(1));
+        for (Resampler.Kernel kernel : Resampler.Kernel.values()) {
+            int[] dst = new int[src.length];
+            Resampler.resize(src, 45, 23, dst, 45, 23, kernel);
+            assertThat(dst).isEqualTo(src);
+        }
+
+        BufferedImage image = new BufferedImage(45, 23, BufferedImage.TYPE_INT_RGB);
+        ImageUtils.writeIntRgb(src, image);
+        BufferedImage reuse = new BufferedImage(45, 23, BufferedImage.TYPE_INT_RGB);
+        BufferedImage resized = Resampler.resize(image, 45, 23, Resampler.Kernel.LANCZOS, reuse);
+        assertThat(resized).isSameAs(reuse);
+        assertThat(ImageUtils.intRgbData(resized)).isEqualTo(src);
+    }
+
+    @Test
+    void keepsAConstantColourConstantWithEveryKernel() {
+        for (int colour : new int[] {0xFF000000, 0xFFFFFFFF, 0xFF3C80F0, 0xFFFF00C8}) {
+            for (Resampler.Kernel kernel : Resampler.Kernel.values()) {
+                for (int[] size : SIZES) {
+                    int[] src = new int[size[0] * size[1]];
+                    Arrays.fill(src, colour);
+                    int[] dst = new int[size[2] * size[3]];
+                    Resampler.resize(src, size[0], size[1], dst, size[2], size[3], kernel);
+                    assertThat(dst)
+                            .as("%s %dx%d -> %dx%d", kernel, size[0], size[1], size[2], size[3])
+                            .containsOnly(colour);
+                }
+            }
+        }
+    }
+
+    @Test
+    void averagesTheWholeFrameIntoASinglePixel() {
+        // Sol yarı siyah, sağ yarı beyaz; alan ortalaması orta gri olmalı
+        int[] src = new int[8 * 4];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = i % 8 < 4 ? 0xFF000000 : 0xFFFFFFFF;
+        }
+        int[] dst = new int[1];
+        Resampler.resize(src, 8, 4, dst, 1, 1, Resampler.Kernel.AREA);
+        assertThat(dst[0] & 0xFF).isBetween(127, 128);
+        assertThat(dst[0] >>> 24).isEqualTo(0xFF);
+    }
+
+    @Test
+    void keepsGradientsMonotonicAtExtremeAspectRatios() {
+        int[] row = new int[256];
+        for (int x = 0; x < row.length; x++) {
+            row[x] = 0xFF000000 | x * 0x010101;
+        }
+        for (Resampler.Kernel kernel : new Resampler.Kernel[] {Resampler.Kernel.AREA, Resampler.Kernel.BILINEAR}) {
+            for (int width : new int[] {1, 2, 37, 1024}) {
+                int[] dst = new int[width];
+                Resampler.resize(row, 256, 1, dst, width, 1, kernel);
+                for (int x = 1; x < width; x++) {
+                    assertThat(dst[x] & 0xFF)
+                            .as("%s to %d", kernel, width)
+                            .isGreaterThanOrEqualTo(dst[x - 1] & 0xFF);
+                }
+                assertThat(dst[0] & 0xFF).isLessThanOrEqualTo(128);
+            }
+            // Aynı gradyan sütun olarak: dikey geçiş yatayla aynı sonucu vermeli
+            int[] column = new int[37];
+            int[] across = new int[37];
+            Resampler.resize(row, 1, 256, column, 1, 37, kernel);
+            Resampler.resize(row, 256, 1, across, 37, 1, kernel);
+            assertThat(column).isEqualTo(across);
+        }
+    }
+
+    @Test
+    void resizesImagesOfOtherTypes() {
+        BufferedImage image = new BufferedImage(50, 30, BufferedImage.TYPE_3BYTE_BGR);
+        for (int y = 0; y < 30; y++) {
+            for (int x = 0; x < 50; x++) {
+                image.setRGB(x, y, 0x204060);
+            }
+        }
+        BufferedImage resized = Resampler.resize(image, 20, 12, Resampler.Kernel.BILINEAR, null);
+        try {
+            assertThat(resized.getWidth()).isEqualTo(20);
+            assertThat(resized.getHeight()).isEqualTo(12);
+            assertThat(ImageUtils.intRgbData(resized)).containsOnly(0xFF204060);
+        } finally {
+            FrameBufferPool.shared().releaseImage(resized);
+        }
+    }
+
+    @Test
+    void fitsInsideTheBoxWithoutUpscaling() {
+        assertThat(Resampler.fit(640, 480, 1920, 1080)).containsExactly(640, 480);
+        assertThat(Resampler.fit(3840, 2160, 1280, 1280)).containsExactly(1280, 720);
+        assertThat(Resampler.fit(10_000, 1, 100, 100)).containsExactly(100, 1);
+        assertThat(Resampler.fit(1, 10_000, 100, 100)).containsExactly(1, 100);
+    }
+
+    @Test
+    void parsesKernelNames() {
+        assertThat(Resampler.Kernel.parse(" Lanczos ")).isEqualTo(Resampler.Kernel.LANCZOS);
+        assertThatThrownBy(() -> Resampler.Kernel.parse("cubic")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int[] randomPixels(int count, Random random) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            pixels[i] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,177 @@
+// src/test/java/starter/processing/TileSchedulerTest.java
+
+package starter.processing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import starter.core.ImageUtils;
+import starter.filters.ASCIIArtFilter;
+import starter.filters.ContrastAdjustmentFilter;
+import starter.filters.Filter;
+import starter.filters.FilterParams;
+import starter.filters.FilterRegistry;
+import starter.filters.GaussianBlurFilter;
+import starter.filters.GrayscaleFilter;
+import starter.filters.SobelEdgeDetectionFilter;
+
+/**
+ * TileScheduler'ın hale bölgeli karo işlemesinin sıralı işlemeyle bit
+ * düzeyinde aynı sonucu verdiğini sınar. Kare boyutları karo boyutunun
+ * katı değildir; küçük karolarda hale bütçesi aşılır ve zincir bariyerle
+ * bölümlere ayrılır.
+ */
+class TileSchedulerTest {
+
+    private static final int[][] SIZES = {{101, 67}, {37, 150}, {130, 1}, {1, 45}, {17, 17}};
+    private static final int[] TILE_SIZES = {16, 24, 50, 128};
+
+    private ProcessingPool pool;
+
+    @BeforeEach
+    void createPool() {
+        pool = new ProcessingPool(3);
+    }
+
+    @AfterEach
+    void closePool() {
+        pool.close();
+    }
+
+    @Test
+    void matchesSequentialOutputForSingleHaloFilters() {
+        for (int blurRadius : new int[] {1, 2, 5}) {
+            FilterParams params = new FilterParams(100, blurRadius);
+            assertMatchesSequential(List.of(filter(GaussianBlurFilter.NAME)), params);
+        }
+        assertMatchesSequential(List.of(filter(SobelEdgeDetectionFilter.NAME)), FilterParams.DEFAULT);
+        assertMatchesSequential(List.of(new SharpenFilter()), FilterParams.DEFAULT);
+    }
+
+    @Test
+    void matchesSequentialOutputForChainsOfHaloFilters() {
+        List<Filter> chain = List.of(
+                filter(GrayscaleFilter.NAME),
+                filter(GaussianBlurFilter.NAME),
+                new SharpenFilter(),
+                filter(ContrastAdjustmentFilter.NAME),
+                filter(SobelEdgeDetectionFilter.NAME),
+                filter(GaussianBlurFilter.NAME));
+        // Yarıçap 2 ve 5: toplam hale küçük karolarda bütçeyi aşar ve bölümlere ayrılır
+        assertMatchesSequential(chain, new FilterParams(140, 2));
+        assertMatchesSequential(chain, new FilterParams(60, 5));
+        assertMatchesSequential(ChainPlanner.plan(chain), new FilterParams(140, 2));
+    }
+
+    @Test
+    void matchesSequentialOutputAroundAnUntileableFilter() {
+        List<Filter> chain = List.of(
+                filter(GaussianBlurFilter.NAME),
+                filter(ASCIIArtFilter.NAME),
+                new SharpenFilter(),
+                filter(SobelEdgeDetectionFilter.NAME));
+        assertMatchesSequential(chain, FilterParams.DEFAULT);
+    }
+
+    @Test
+    void parallelEntryPointMatchesSequentialEntryPoint() {
+        List<String> operations = List.of(GrayscaleFilter.NAME, GaussianBlurFilter.NAME,
+                SobelEdgeDetectionFilter.NAME, ContrastAdjustmentFilter.NAME);
+        BufferedImage input = new BufferedImage(173, 91, BufferedImage.TYPE_INT_RGB);
+        ImageUtils.writeIntRgb(randomPixels(173 * 91, new Random(3)), input);
+        BufferedImage sequential = new BufferedImage(173, 91, BufferedImage.TYPE_INT_RGB);
+        BufferedImage parallel = new BufferedImage(173, 91, BufferedImage.TYPE_INT_RGB);
+
+        ImageProcessor.runFiltersSequentially(input, sequential, operations, 120);
+        ImageProcessor.runFiltersInParallel(input, parallel, operations, 120);
+
+        assertThat(ImageUtils.intRgbData(parallel)).isEqualTo(ImageUtils.intRgbData(sequential));
+    }
+
+    private void assertMatchesSequential(List<Filter> chain, FilterParams params) {
+        Random random = new Random(11);
+        for (int[] size : SIZES) {
+            int width = size[0];
+            int height = size[1];
+            int[] src = randomPixels(width * height, random);
+            int[] expected = new int[width * height];
+            ImageProcessor.runChainSequentially(chain, params, src, expected, new int[width * height],
+                    width, height, null);
+
+            for (int tileSize : TILE_SIZES) {
+                int[] actual = new int[width * height];
+                new TileScheduler(pool, tileSize).run(chain, params, src, actual, new int[width * height],
+                        width, height);
+                assertThat(actual)
+                        .as("%s on %dx%d with %dpx tiles", names(chain), width, height, tileSize)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    private static Filter filter(String name) {
+        return FilterRegistry.get(name);
+    }
+
+    private static List<String> names(List<Filter> chain) {
+        List<String> names = new ArrayList<>();
+        chain.forEach(filter -> names.add(filter.getName()));
+        return names;
+    }
+
+    private static int[] randomPixels(int count, Random random) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            pixels[i] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+        return pixels;
+    }
+
+    /**
+     * Yarıçapı 1 olan 3x3 keskinleştirme çekirdeği (merkez 5, dört komşu -1);
+     * kenarlarda kenar pikseli tekrarlanır.
+     */
+    private static final class SharpenFilter implements Filter {
+
+        @Override
+        public String getName() {
+            return "Sharpen";
+        }
+
+        @Override
+        public int getRadius(FilterParams params) {
+            return 1;
+        }
+
+        @Override
+        public void apply(int[] src, int[] dst, int width, int height, int startY, int endY, FilterParams params) {
+            for (int y = startY; y < endY; y++) {
+                int up = Math.max(y - 1, 0) * width;
+                int row = y * width;
+                int down = Math.min(y + 1, height - 1) * width;
+                for (int x = 0; x < width; x++) {
+                    int left = Math.max(x - 1, 0);
+                    int right = Math.min(x + 1, width - 1);
+                    int pixel = 0xFF000000;
+                    for (int shift = 0; shift <= 16; shift += 8) {
+                        int value = 5 * channel(src[row + x], shift)
+                                - channel(src[up + x], shift) - channel(src[down + x], shift)
+                                - channel(src[row + left], shift) - channel(src[row + right], shift);
+                        pixel |= Math.min(255, Math.max(0, value)) << shift;
+                    }
+                    dst[row + x] = pixel;
+                }
+            }
+        }
+
+        private static int channel(int rgb, int shift) {
+            return (rgb >> shift) & 0xFF;
+        }
+    }
+}